@@ -0,0 +1,207 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#include "cache/admission_cache.h"
+
+#include <algorithm>
+#include <cassert>
+
+#include "util/hash.h"
+
+namespace rocksdb {
+
+// An entry which was not admitted to the target cache. Its handles are
+// tagged in the lowest bit, which is always clear for the handles of the
+// target cache as they point to aligned structures.
+struct AdmissionCache::BypassHandle {
+  std::string key;
+  void* value;
+  size_t charge;
+  void (*deleter)(const Slice& key, void* value);
+  std::atomic<uint32_t> refs;
+};
+
+namespace {
+const uintptr_t kBypassTag = 1;
+
+AdmissionCache::Handle* TagBypass(void* bypass) {
+  return reinterpret_cast<AdmissionCache::Handle*>(
+      reinterpret_cast<uintptr_t>(bypass) | kBypassTag);
+}
+
+bool IsBypass(AdmissionCache::Handle* handle) {
+  return (reinterpret_cast<uintptr_t>(handle) & kBypassTag) != 0;
+}
+
+template <typename T>
+T* UntagBypass(AdmissionCache::Handle* handle) {
+  return reinterpret_cast<T*>(reinterpret_cast<uintptr_t>(handle) &
+                              ~kBypassTag);
+}
+}  // namespace
+
+AdmissionCache::AdmissionCache(const std::shared_ptr<Cache>& target)
+    // share the memory allocator of the target cache, as the table
+    // readers allocate the blocks which they insert with it
+    : Cache(std::shared_ptr<MemoryAllocator>(target,
+                                             target->memory_allocator())),
+      target_(target) {}
+
+Status AdmissionCache::Insert(const Slice& key, void* value, size_t charge,
+                              void (*deleter)(const Slice& key, void* value),
+                              Handle** handle, Priority priority) {
+  if (priority == Priority::HIGH || value == nullptr ||
+      Admit(key, charge)) {
+    return target_->Insert(key, value, charge, deleter, handle, priority);
+  }
+
+  if (handle == nullptr) {
+    // as if the entry was inserted and released immediately
+    if (deleter != nullptr) {
+      (*deleter)(key, value);
+    }
+    return Status::OK();
+  }
+
+  auto* bypass = new BypassHandle();
+  bypass->key = key.ToString();
+  bypass->value = value;
+  bypass->charge = charge;
+  bypass->deleter = deleter;
+  bypass->refs.store(1, std::memory_order_relaxed);
+  assert(!IsBypass(reinterpret_cast<Handle*>(bypass)));
+  *handle = TagBypass(bypass);
+  return Status::OK();
+}
+
+Cache::Handle* AdmissionCache::Lookup(const Slice& key, Statistics* stats) {
+  Handle* handle = target_->Lookup(key, stats);
+  assert(!IsBypass(handle));
+  OnLookup(key, handle != nullptr);
+  return handle;
+}
+
+bool AdmissionCache::Ref(Handle* handle) {
+  if (IsBypass(handle)) {
+    UntagBypass<BypassHandle>(handle)->refs.fetch_add(
+        1, std::memory_order_relaxed);
+    return true;
+  }
+  return target_->Ref(handle);
+}
+
+bool AdmissionCache::Release(Handle* handle, bool force_erase) {
+  if (IsBypass(handle)) {
+    auto* bypass = UntagBypass<BypassHandle>(handle);
+    if (bypass->refs.fetch_sub(1, std::memory_order_acq_rel) != 1) {
+      return false;
+    }
+    if (bypass->deleter != nullptr) {
+      (*bypass->deleter)(bypass->key, bypass->value);
+    }
+    delete bypass;
+    return true;
+  }
+  return target_->Release(handle, force_erase);
+}
+
+void* AdmissionCache::Value(Handle* handle) {
+  if (IsBypass(handle)) {
+    return UntagBypass<BypassHandle>(handle)->value;
+  }
+  return target_->Value(handle);
+}
+
+size_t AdmissionCache::GetUsage(Handle* handle) const {
+  if (IsBypass(handle)) {
+    return UntagBypass<BypassHandle>(handle)->charge;
+  }
+  return target_->GetUsage(handle);
+}
+
+size_t AdmissionCache::GetCharge(Handle* handle) const {
+  if (IsBypass(handle)) {
+    return UntagBypass<BypassHandle>(handle)->charge;
+  }
+  return target_->GetCharge(handle);
+}
+
+FrequencyAdmissionCache::FrequencyAdmissionCache(
+    const std::shared_ptr<Cache>& target, uint32_t min_frequency)
+    : AdmissionCache(target),
+      min_frequency_(std::min<uint32_t>(min_frequency, kMaxCount)),
+      samples_(0) {
+  // size the sketch for the number of 4 KB blocks which fit into the
+  // target cache
+  const size_t expected_entries = target->GetCapacity() / 4096;
+  uint32_t width = 1024;
+  while (width < expected_entries && width < (1u << 24)) {
+    width <<= 1;
+  }
+  width_mask_ = width - 1;
+  sample_size_ = 10 * static_cast<uint64_t>(width);
+  counters_.reset(new std::atomic<uint8_t>[kDepth * width]);
+  for (uint32_t i = 0; i < kDepth * width; i++) {
+    counters_[i].store(0, std::memory_order_relaxed);
+  }
+}
+
+void FrequencyAdmissionCache::OnLookup(const Slice& key, bool /*hit*/) {
+  const uint32_t h1 = GetSliceHash(key);
+  const uint32_t h2 = BloomHash(key);
+  for (uint32_t i = 0; i < kDepth; i++) {
+    auto& counter =
+        counters_[i * (width_mask_ + 1) + ((h1 + i * h2) & width_mask_)];
+    const uint8_t count = counter.load(std::memory_order_relaxed);
+    if (count < kMaxCount) {
+      // races between concurrent lookups may lose an increment, which
+      // is fine for an estimate
+      counter.store(count + 1, std::memory_order_relaxed);
+    }
+  }
+
+  if (samples_.fetch_add(1, std::memory_order_relaxed) + 1 >= sample_size_) {
+    Age();
+  }
+}
+
+bool FrequencyAdmissionCache::Admit(const Slice& key, size_t /*charge*/) {
+  return Estimate(GetSliceHash(key), BloomHash(key)) >= min_frequency_;
+}
+
+uint32_t FrequencyAdmissionCache::Estimate(uint32_t h1, uint32_t h2) const {
+  uint32_t estimate = kMaxCount;
+  for (uint32_t i = 0; i < kDepth; i++) {
+    const uint8_t count =
+        counters_[i * (width_mask_ + 1) + ((h1 + i * h2) & width_mask_)].load(
+            std::memory_order_relaxed);
+    estimate = std::min<uint32_t>(estimate, count);
+  }
+  return estimate;
+}
+
+void FrequencyAdmissionCache::Age() {
+  std::unique_lock<std::mutex> lock(aging_mutex_, std::try_to_lock);
+  if (!lock.owns_lock() ||
+      samples_.load(std::memory_order_relaxed) < sample_size_) {
+    // another thread is already aging the counters
+    return;
+  }
+  for (uint32_t i = 0; i < kDepth * (width_mask_ + 1); i++) {
+    counters_[i].store(counters_[i].load(std::memory_order_relaxed) >> 1,
+                       std::memory_order_relaxed);
+  }
+  samples_.store(0, std::memory_order_relaxed);
+}
+
+std::shared_ptr<Cache> NewFrequencyAdmissionCache(
+    const std::shared_ptr<Cache>& target, uint32_t min_frequency) {
+  if (target == nullptr) {
+    return nullptr;
+  }
+  return std::make_shared<FrequencyAdmissionCache>(target, min_frequency);
+}
+
+}  // namespace rocksdb
@@ -0,0 +1,122 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+
+#pragma once
+
+#include <atomic>
+#include <cstdint>
+#include <memory>
+#include <mutex>
+#include <string>
+
+#include "rocksdb/cache.h"
+
+namespace rocksdb {
+
+// A Cache which passes all operations through to a target cache, except
+// that new entries are only inserted into the target cache when Admit()
+// accepts them. An entry which is not admitted is still returned to the
+// caller as a handle when one is requested, but it is owned by that handle
+// alone and is deleted as soon as the handle is released, so it never
+// evicts any entry from the target cache.
+//
+// Entries inserted with Priority::HIGH, such as index and filter blocks,
+// and the dummy entries that a WriteBufferManager uses to charge memtable
+// memory to the cache, are always admitted.
+class AdmissionCache : public Cache {
+ public:
+  explicit AdmissionCache(const std::shared_ptr<Cache>& target);
+  virtual ~AdmissionCache() {}
+
+  const char* Name() const override { return "AdmissionCache"; }
+  Status Insert(const Slice& key, void* value, size_t charge,
+                void (*deleter)(const Slice& key, void* value),
+                Handle** handle = nullptr,
+                Priority priority = Priority::LOW) override;
+  Handle* Lookup(const Slice& key, Statistics* stats = nullptr) override;
+  bool Ref(Handle* handle) override;
+  bool Release(Handle* handle, bool force_erase = false) override;
+  void* Value(Handle* handle) override;
+  void Erase(const Slice& key) override { target_->Erase(key); }
+  uint64_t NewId() override { return target_->NewId(); }
+  void SetCapacity(size_t capacity) override {
+    target_->SetCapacity(capacity);
+  }
+  void SetStrictCapacityLimit(bool strict_capacity_limit) override {
+    target_->SetStrictCapacityLimit(strict_capacity_limit);
+  }
+  bool HasStrictCapacityLimit() const override {
+    return target_->HasStrictCapacityLimit();
+  }
+  size_t GetCapacity() const override { return target_->GetCapacity(); }
+  size_t GetUsage() const override { return target_->GetUsage(); }
+  size_t GetUsage(Handle* handle) const override;
+  size_t GetPinnedUsage() const override { return target_->GetPinnedUsage(); }
+  size_t GetCharge(Handle* handle) const override;
+  void DisownData() override { target_->DisownData(); }
+  void ApplyToAllCacheEntries(void (*callback)(void*, size_t),
+                              bool thread_safe) override {
+    target_->ApplyToAllCacheEntries(callback, thread_safe);
+  }
+  void EraseUnRefEntries() override { target_->EraseUnRefEntries(); }
+  std::string GetPrintableOptions() const override {
+    return target_->GetPrintableOptions();
+  }
+
+ protected:
+  // Called after each lookup of the target cache with whether the key
+  // was found.
+  virtual void OnLookup(const Slice& key, bool hit) = 0;
+
+  // Returns true if a new entry with the given key and charge should
+  // be inserted into the target cache.
+  virtual bool Admit(const Slice& key, size_t charge) = 0;
+
+ private:
+  struct BypassHandle;
+
+  std::shared_ptr<Cache> target_;
+};
+
+// An AdmissionCache which estimates how often each key was looked up
+// recently, using a count-min sketch of small saturating counters, and only
+// admits entries whose key was looked up at least min_frequency times.
+// Since the block based table looks up a block before inserting it, the
+// default min_frequency of 2 admits a block on its second miss, so blocks
+// read only once by a scan do not displace the working set of the target
+// cache.
+//
+// The counters are halved each time that the number of lookups reaches
+// ten times the number of counters per row, so that the frequencies
+// reflect recent lookups.
+class FrequencyAdmissionCache : public AdmissionCache {
+ public:
+  FrequencyAdmissionCache(const std::shared_ptr<Cache>& target,
+                          uint32_t min_frequency = 2);
+  ~FrequencyAdmissionCache() override {}
+
+  const char* Name() const override { return "FrequencyAdmissionCache"; }
+
+ protected:
+  void OnLookup(const Slice& key, bool hit) override;
+  bool Admit(const Slice& key, size_t charge) override;
+
+ private:
+  static const uint32_t kDepth = 4;
+  static const uint8_t kMaxCount = 15;
+
+  uint32_t Estimate(uint32_t h1, uint32_t h2) const;
+  void Age();
+
+  const uint32_t min_frequency_;
+  uint32_t width_mask_;
+  uint64_t sample_size_;
+  std::unique_ptr<std::atomic<uint8_t>[]> counters_;
+  std::atomic<uint64_t> samples_;
+  std::mutex aging_mutex_;
+};
+
+}  // namespace rocksdb
@@ -14,6 +14,7 @@
 #include <iostream>
 #include <string>
 #include <vector>
+#include "cache/admission_cache.h"
 #include "cache/clock_cache.h"
 #include "cache/lru_cache.h"
 #include "test_util/testharness.h"
@@ -755,6 +756,106 @@ TEST_P(CacheTest, GetCharge) {
   cache_->Release(h1);
 }
 
+class FrequencyAdmissionCacheTest : public testing::Test {
+ public:
+  static std::vector<int> deleted_keys_;
+
+  static void Deleter(const Slice& key, void* /*value*/) {
+    deleted_keys_.push_back(DecodeKey(key));
+  }
+
+  FrequencyAdmissionCacheTest()
+      : target_(NewLRUCache(1000, 0 /*num_shard_bits*/,
+                            false /*strict_capacity_limit*/,
+                            0.0 /*high_pri_pool_ratio*/,
+                            nullptr /*memory_allocator*/,
+                            kDefaultToAdaptiveMutex,
+                            kDontChargeCacheMetadata)),
+        cache_(NewFrequencyAdmissionCache(target_)) {
+    deleted_keys_.clear();
+  }
+
+  bool Lookup(int key) {
+    Cache::Handle* handle = cache_->Lookup(EncodeKey(key));
+    if (handle == nullptr) {
+      return false;
+    }
+    cache_->Release(handle);
+    return true;
+  }
+
+  Status Insert(int key, int value, Cache::Handle** handle = nullptr,
+                Cache::Priority priority = Cache::Priority::LOW) {
+    return cache_->Insert(EncodeKey(key), EncodeValue(value), 10, &Deleter,
+                          handle, priority);
+  }
+
+  std::shared_ptr<Cache> target_;
+  std::shared_ptr<Cache> cache_;
+};
+
+std::vector<int> FrequencyAdmissionCacheTest::deleted_keys_;
+
+TEST_F(FrequencyAdmissionCacheTest, AdmitsOnSecondLookup) {
+  ASSERT_STREQ("FrequencyAdmissionCache", cache_->Name());
+  ASSERT_EQ(target_->GetCapacity(), cache_->GetCapacity());
+
+  // not looked up yet, so only owned by the caller
+  ASSERT_FALSE(Lookup(1));
+  ASSERT_OK(Insert(1, 101));
+  ASSERT_EQ(std::vector<int>({1}), deleted_keys_);
+  ASSERT_EQ(0, target_->GetUsage());
+
+  // looked up twice
+  ASSERT_FALSE(Lookup(1));
+  ASSERT_OK(Insert(1, 101));
+  ASSERT_EQ(std::vector<int>({1}), deleted_keys_);
+  ASSERT_EQ(10, target_->GetUsage());
+  ASSERT_EQ(10, cache_->GetUsage());
+  ASSERT_TRUE(Lookup(1));
+}
+
+TEST_F(FrequencyAdmissionCacheTest, BypassHandle) {
+  Cache::Handle* handle = nullptr;
+  ASSERT_OK(Insert(1, 101, &handle));
+  ASSERT_NE(nullptr, handle);
+  ASSERT_EQ(0, target_->GetUsage());
+  ASSERT_EQ(101, DecodeValue(cache_->Value(handle)));
+  ASSERT_EQ(10, cache_->GetCharge(handle));
+  ASSERT_EQ(10, cache_->GetUsage(handle));
+
+  // the entry is not visible to lookups, and is deleted by the last release
+  ASSERT_FALSE(Lookup(1));
+  ASSERT_TRUE(cache_->Ref(handle));
+  ASSERT_FALSE(cache_->Release(handle));
+  ASSERT_TRUE(deleted_keys_.empty());
+  ASSERT_TRUE(cache_->Release(handle));
+  ASSERT_EQ(std::vector<int>({1}), deleted_keys_);
+}
+
+TEST_F(FrequencyAdmissionCacheTest, AlwaysAdmitsHighPriority) {
+  Cache::Handle* handle = nullptr;
+  ASSERT_OK(Insert(1, 101, &handle, Cache::Priority::HIGH));
+  ASSERT_EQ(10, target_->GetUsage());
+  cache_->Release(handle);
+  ASSERT_TRUE(Lookup(1));
+  ASSERT_TRUE(deleted_keys_.empty());
+}
+
+TEST_F(FrequencyAdmissionCacheTest, MinFrequency) {
+  cache_ = NewFrequencyAdmissionCache(target_, 3);
+  for (int i = 0; i < 2; i++) {
+    ASSERT_FALSE(Lookup(1));
+    ASSERT_OK(Insert(1, 101));
+  }
+  ASSERT_EQ(0, target_->GetUsage());
+  ASSERT_FALSE(Lookup(1));
+  ASSERT_OK(Insert(1, 101));
+  ASSERT_EQ(10, target_->GetUsage());
+
+  ASSERT_EQ(nullptr, NewFrequencyAdmissionCache(nullptr));
+}
+
 #ifdef SUPPORT_CLOCK_CACHE
 std::shared_ptr<Cache> (*new_clock_cache_func)(
     size_t, int, bool, CacheMetadataChargePolicy) = NewClockCache;
@@ -15,7 +15,8 @@ namespace rocksdb {
 
 std::shared_ptr<Cache> NewClockCache(
     size_t /*capacity*/, int /*num_shard_bits*/, bool /*strict_capacity_limit*/,
-    CacheMetadataChargePolicy /*metadata_charge_policy*/) {
+    CacheMetadataChargePolicy /*metadata_charge_policy*/,
+    std::shared_ptr<MemoryAllocator> /*memory_allocator*/) {
   // Clock cache not supported.
   return nullptr;
 }
@@ -703,8 +704,10 @@ void ClockCacheShard::EraseUnRefEntries() {
 class ClockCache final : public ShardedCache {
  public:
   ClockCache(size_t capacity, int num_shard_bits, bool strict_capacity_limit,
-             CacheMetadataChargePolicy metadata_charge_policy)
-      : ShardedCache(capacity, num_shard_bits, strict_capacity_limit) {
+             CacheMetadataChargePolicy metadata_charge_policy,
+             std::shared_ptr<MemoryAllocator> memory_allocator)
+      : ShardedCache(capacity, num_shard_bits, strict_capacity_limit,
+                     std::move(memory_allocator)) {
     int num_shards = 1 << num_shard_bits;
     shards_ = new ClockCacheShard[num_shards];
     for (int i = 0; i < num_shards; i++) {
@@ -748,12 +751,14 @@ class ClockCache final : public ShardedCache {
 
 std::shared_ptr<Cache> NewClockCache(
     size_t capacity, int num_shard_bits, bool strict_capacity_limit,
-    CacheMetadataChargePolicy metadata_charge_policy) {
+    CacheMetadataChargePolicy metadata_charge_policy,
+    std::shared_ptr<MemoryAllocator> memory_allocator) {
   if (num_shard_bits < 0) {
     num_shard_bits = GetDefaultCacheShardBits(capacity);
   }
   return std::make_shared<ClockCache>(
-      capacity, num_shard_bits, strict_capacity_limit, metadata_charge_policy);
+      capacity, num_shard_bits, strict_capacity_limit, metadata_charge_policy,
+      std::move(memory_allocator));
 }
 
 }  // namespace rocksdb
@@ -60,6 +60,9 @@ class ArenaWrappedDBIter : public Iterator {
   virtual Slice key() const override { return db_iter_->key(); }
   virtual Slice value() const override { return db_iter_->value(); }
   virtual Status status() const override { return db_iter_->status(); }
+  virtual void Prefetch(const Slice& upper_bound) override {
+    db_iter_->Prefetch(upper_bound);
+  }
   bool IsBlob() const { return db_iter_->IsBlob(); }
 
   virtual Status GetProperty(std::string prop_name, std::string* prop) override;
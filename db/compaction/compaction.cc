@@ -12,7 +12,11 @@
 
 #include "db/column_family.h"
 #include "db/compaction/compaction.h"
+#include "db/table_cache.h"
 #include "rocksdb/compaction_filter.h"
+#include "rocksdb/filter_policy.h"
+#include "table/block_based/block_based_table_factory.h"
+#include "table/sst_file_writer_collectors.h"
 #include "test_util/sync_point.h"
 #include "util/string_util.h"
 
@@ -292,6 +296,71 @@ bool Compaction::InputCompressionMatchesOutput() const {
   return matches;
 }
 
+bool Compaction::InputFilterPolicyMatchesOutput() const {
+  if (immutable_cf_options_.table_factory->Name() !=
+      BlockBasedTableFactory::kName) {
+    return true;
+  }
+  const auto* table_options = static_cast<const BlockBasedTableOptions*>(
+      immutable_cf_options_.table_factory->GetOptions());
+  if (table_options->filter_policy == nullptr) {
+    return true;
+  }
+  // The filters of the input files were built for the level they were
+  // created at, which is at most their current level
+  FilterBuildingContext input_context(*table_options);
+  if (cfd_ != nullptr) {
+    input_context.column_family_name = cfd_->GetName();
+  }
+  input_context.compaction_style = immutable_cf_options_.compaction_style;
+  input_context.level_at_creation = start_level_;
+  FilterBuildingContext output_context(input_context);
+  output_context.level_at_creation = output_level_;
+  // The policies are compared by identity, as a policy returns one of the
+  // policies that it owns for each context
+  const FilterPolicy* output_policy =
+      table_options->filter_policy->GetPolicyForContext(output_context);
+  if (table_options->filter_policy->GetPolicyForContext(input_context) !=
+      output_policy) {
+    return false;
+  }
+
+  // Except for the files ingested from an SstFileWriter, which were built
+  // for an unknown level whichever level they were ingested at
+  FilterBuildingContext external_context(input_context);
+  external_context.level_at_creation = -1;
+  if (table_options->filter_policy->GetPolicyForContext(external_context) ==
+      output_policy) {
+    return true;
+  }
+  for (const auto& level_files : inputs_) {
+    for (const FileMetaData* f : level_files.files) {
+      if (IsExternalFile(f)) {
+        return false;
+      }
+    }
+  }
+  return true;
+}
+
+bool Compaction::IsExternalFile(const FileMetaData* f) const {
+  if (cfd_ == nullptr) {
+    return true;
+  }
+  // This runs under the DB mutex, so only tables which are already open are
+  // looked at
+  std::shared_ptr<const TableProperties> tp;
+  Status s = cfd_->table_cache()->GetTableProperties(
+      FileOptions(), cfd_->internal_comparator(), f->fd, &tp,
+      mutable_cf_options_.prefix_extractor.get(), true /* no_io */);
+  if (!s.ok()) {
+    // rather rewrite the file than keep a filter for another level
+    return true;
+  }
+  return tp->user_collected_properties.count(
+             ExternalSstFilePropertyNames::kVersion) > 0;
+}
+
 bool Compaction::IsTrivialMove() const {
   // Avoid a move if there is lots of overlapping grandparent data.
   // Otherwise, the move could create a parent file that will require
@@ -322,13 +391,23 @@ bool Compaction::IsTrivialMove() const {
 
   if (!(start_level_ != output_level_ && num_input_levels() == 1 &&
           input(0, 0)->fd.GetPathId() == output_path_id() &&
-          InputCompressionMatchesOutput())) {
+          InputCompressionMatchesOutput() &&
+          InputFilterPolicyMatchesOutput())) {
     return false;
   }
 
   // assert inputs_.size() == 1
 
+  std::unique_ptr<SstPartitioner> partitioner = CreateSstPartitioner();
+
   for (const auto& file : inputs_.front().files) {
+    // a file has to be rewritten if the partitioner would cut it
+    if (partitioner != nullptr &&
+        !partitioner->CanDoTrivialMove(file->smallest.user_key(),
+                                       file->largest.user_key())) {
+      return false;
+    }
+
     std::vector<FileMetaData*> file_grand_parents;
     if (output_level_ + 1 >= number_levels_) {
       continue;
@@ -525,6 +604,21 @@ std::unique_ptr<CompactionFilter> Compaction::CreateCompactionFilter() const {
       context);
 }
 
+std::unique_ptr<SstPartitioner> Compaction::CreateSstPartitioner() const {
+  if (!immutable_cf_options_.sst_partitioner_factory) {
+    return nullptr;
+  }
+
+  SstPartitioner::Context context;
+  context.is_full_compaction = is_full_compaction_;
+  context.is_manual_compaction = is_manual_compaction_;
+  context.output_level = output_level_;
+  context.smallest_user_key = smallest_user_key_;
+  context.largest_user_key = largest_user_key_;
+  return immutable_cf_options_.sst_partitioner_factory->CreatePartitioner(
+      context);
+}
+
 bool Compaction::IsOutputLevelEmpty() const {
   return inputs_.back().level != output_level_ || inputs_.back().empty();
 }
@@ -11,6 +11,7 @@
 #include "db/version_set.h"
 #include "memory/arena.h"
 #include "options/cf_options.h"
+#include "rocksdb/sst_partitioner.h"
 #include "util/autovector.h"
 
 namespace rocksdb {
@@ -255,6 +256,10 @@ class Compaction {
   // Create a CompactionFilter from compaction_filter_factory
   std::unique_ptr<CompactionFilter> CreateCompactionFilter() const;
 
+  // Create the SstPartitioner from sst_partitioner_factory, or return nullptr
+  // if no factory is configured
+  std::unique_ptr<SstPartitioner> CreateSstPartitioner() const;
+
   // Is the input level corresponding to output_level_ empty?
   bool IsOutputLevelEmpty() const;
 
@@ -365,6 +370,16 @@ class Compaction {
   // Does input compression match the output compression?
   bool InputCompressionMatchesOutput() const;
 
+  // Does the filter policy for the input level match the one for the
+  // output level, e.g. of NewLevelFilterPolicy()? The input files that were
+  // ingested must have been built by the policy for the output level too.
+  bool InputFilterPolicyMatchesOutput() const;
+
+  // Was the file created by an SstFileWriter and ingested? Also true if its
+  // table is not open in the table cache, as it is not read from the file
+  // whilst holding the DB mutex.
+  bool IsExternalFile(const FileMetaData* f) const;
+
   // table properties of output files
   TablePropertiesCollection output_table_properties_;
 
@@ -905,6 +905,14 @@ void CompactionJob::ProcessKeyValueCompaction(SubcompactionState* sub_compact) {
   }
   const auto& c_iter_stats = c_iter->iter_stats();
 
+  // the partitioner cuts the output files between the user keys it chooses,
+  // files at level 0 are never cut
+  std::unique_ptr<SstPartitioner> partitioner =
+      sub_compact->compaction->output_level() == 0
+          ? nullptr
+          : sub_compact->compaction->CreateSstPartitioner();
+  std::string last_key_for_partitioner;
+
   while (status.ok() && !cfd->IsDropped() && c_iter->Valid()) {
     // Invariant: c_iter.status() is guaranteed to be OK if c_iter->Valid()
     // returns true.
@@ -939,6 +947,10 @@ void CompactionJob::ProcessKeyValueCompaction(SubcompactionState* sub_compact) {
     sub_compact->current_output()->meta.UpdateBoundaries(
         key, value, ikey.sequence, ikey.type);
     sub_compact->num_output_records++;
+    if (partitioner != nullptr) {
+      last_key_for_partitioner.assign(c_iter->user_key().data(),
+                                      c_iter->user_key().size());
+    }
 
     // Close output file if it is big enough. Two possibilities determine it's
     // time to close it: (1) the current key should be this file's last key, (2)
@@ -977,6 +989,17 @@ void CompactionJob::ProcessKeyValueCompaction(SubcompactionState* sub_compact) {
       input_status = input->status();
       output_file_ended = true;
     }
+    if (!output_file_ended && c_iter->Valid() && partitioner != nullptr &&
+        sub_compact->builder != nullptr &&
+        cfd->user_comparator()->Compare(last_key_for_partitioner,
+                                        c_iter->user_key()) != 0 &&
+        partitioner->ShouldPartition(PartitionerRequest(
+            last_key_for_partitioner, c_iter->user_key(),
+            sub_compact->current_output_file_size)) == kRequired) {
+      // (3) the partitioner starts a new file with this key
+      input_status = input->status();
+      output_file_ended = true;
+    }
     if (output_file_ended) {
       const Slice* next_key = nullptr;
       if (c_iter->Valid()) {
@@ -1399,6 +1399,140 @@ TEST_F(DBBasicTest, MultiGetBatchedMultiLevel) {
   }
 }
 
+TEST_F(DBBasicTest, MultiGetBatchedParallelFiles) {
+  Options options = CurrentOptions();
+  options.disable_auto_compactions = true;
+  options.merge_operator.reset();
+  Reopen(options);
+
+  // 16 files of 8 keys on level 1
+  for (int i = 0; i < 128; ++i) {
+    ASSERT_OK(Put("key_" + std::to_string(1000 + i),
+                  "val_l1_" + std::to_string(i)));
+    if (i % 8 == 7) {
+      Flush();
+    }
+  }
+  MoveFilesToLevel(1);
+  ASSERT_EQ("0,16", FilesPerLevel());
+  for (int i = 0; i < 128; i += 5) {
+    ASSERT_OK(Put("key_" + std::to_string(1000 + i),
+                  "val_l0_" + std::to_string(i)));
+  }
+  for (int i = 0; i < 128; i += 7) {
+    ASSERT_OK(Delete("key_" + std::to_string(1000 + i)));
+  }
+  Flush();
+
+  std::vector<std::string> key_strs;
+  std::vector<std::string> expected;
+  // including the largest and smallest keys of the files, and missing keys
+  for (int i = 0; i < 136; i += 3) {
+    key_strs.push_back("key_" + std::to_string(1000 + i));
+    if (i >= 128 || i % 7 == 0) {
+      expected.push_back("NOT_FOUND");
+    } else if (i % 5 == 0) {
+      expected.push_back("val_l0_" + std::to_string(i));
+    } else {
+      expected.push_back("val_l1_" + std::to_string(i));
+    }
+  }
+  std::vector<Slice> keys(key_strs.begin(), key_strs.end());
+
+  std::atomic<int> num_parallel_lookups(0);
+  std::atomic<size_t> max_parallel_files(0);
+  SyncPoint::GetInstance()->SetCallBack(
+      "Version::MultiGet::ParallelFiles", [&](void* arg) {
+        size_t n = *reinterpret_cast<size_t*>(arg);
+        num_parallel_lookups++;
+        if (n > max_parallel_files) {
+          max_parallel_files = n;
+        }
+      });
+  // The calling thread waits for the USER pool threads to run a lookup before
+  // running its own ones
+  const std::thread::id caller_id = std::this_thread::get_id();
+  std::atomic<int> num_pool_lookups(0);
+  SyncPoint::GetInstance()->SetCallBack(
+      "Version::MultiGet::ParallelFiles:Lookup", [&](void* /*arg*/) {
+        if (std::this_thread::get_id() != caller_id) {
+          num_pool_lookups++;
+          return;
+        }
+        for (int i = 0; i < 1000 && num_pool_lookups == 0; ++i) {
+          env_->SleepForMicroseconds(1000);
+        }
+      });
+  SyncPoint::GetInstance()->EnableProcessing();
+
+  // The blocks read by the USER pool threads count in the perf context of the
+  // calling thread
+  SetPerfLevel(kEnableCount);
+  get_perf_context()->EnablePerLevelPerfContext();
+  uint64_t expected_block_reads = 0;
+
+  env_->SetBackgroundThreads(2, Env::Priority::USER);
+  for (size_t parallel_files : {1, 4, 64}) {
+    ReadOptions ro;
+    ro.multiget_parallel_files = parallel_files;
+    num_parallel_lookups = 0;
+    max_parallel_files = 0;
+    num_pool_lookups = 0;
+    std::vector<PinnableSlice> values(keys.size());
+    std::vector<Status> statuses(keys.size());
+    get_perf_context()->Reset();
+    db_->MultiGet(ro, dbfull()->DefaultColumnFamily(), keys.size(),
+                  keys.data(), values.data(), statuses.data(), false);
+    // Each data block read is either a block cache hit or a miss
+    uint64_t block_reads = 0;
+    for (auto& kv : *get_perf_context()->level_to_perf_context) {
+      block_reads +=
+          kv.second.block_cache_hit_count + kv.second.block_cache_miss_count;
+    }
+    if (parallel_files == 1) {
+      expected_block_reads = block_reads;
+      ASSERT_GT(expected_block_reads, 1);
+    } else {
+      ASSERT_EQ(expected_block_reads, block_reads);
+    }
+    for (size_t i = 0; i < keys.size(); ++i) {
+      if (expected[i] == "NOT_FOUND") {
+        ASSERT_TRUE(statuses[i].IsNotFound()) << keys[i].ToString();
+      } else {
+        ASSERT_OK(statuses[i]);
+        ASSERT_EQ(expected[i], values[i].ToString()) << keys[i].ToString();
+      }
+    }
+    if (parallel_files == 1) {
+      ASSERT_EQ(0, num_parallel_lookups);
+    } else {
+      ASSERT_GT(num_parallel_lookups, 0);
+      ASSERT_LE(max_parallel_files, parallel_files);
+      ASSERT_GT(max_parallel_files, 1);
+      ASSERT_GT(num_pool_lookups, 0);
+    }
+  }
+
+  // Without threads in the USER pool, the files are looked up one by one
+  env_->SetBackgroundThreads(0, Env::Priority::USER);
+  num_parallel_lookups = 0;
+  ReadOptions ro;
+  ro.multiget_parallel_files = 4;
+  std::vector<PinnableSlice> values(keys.size());
+  std::vector<Status> statuses(keys.size());
+  db_->MultiGet(ro, dbfull()->DefaultColumnFamily(), keys.size(), keys.data(),
+                values.data(), statuses.data(), false);
+  for (size_t i = 0; i < keys.size(); ++i) {
+    ASSERT_EQ(expected[i] == "NOT_FOUND", statuses[i].IsNotFound());
+  }
+  ASSERT_EQ(0, num_parallel_lookups);
+
+  get_perf_context()->ClearPerLevelPerfContext();
+  SetPerfLevel(kDisable);
+  SyncPoint::GetInstance()->DisableProcessing();
+  SyncPoint::GetInstance()->ClearAllCallBacks();
+}
+
 // Test class for batched MultiGet with prefix extractor
 // Param bool - If true, use partitioned filters
 //              If false, use full filter block
@@ -531,7 +531,9 @@ INSTANTIATE_TEST_CASE_P(
         std::make_tuple(BFP::kDeprecatedBlock, false,
                         test::kLatestFormatVersion),
         std::make_tuple(BFP::kAuto, true, test::kLatestFormatVersion),
-        std::make_tuple(BFP::kAuto, false, test::kLatestFormatVersion)));
+        std::make_tuple(BFP::kAuto, false, test::kLatestFormatVersion),
+        std::make_tuple(BFP::kRibbon, true, test::kLatestFormatVersion),
+        std::make_tuple(BFP::kRibbon, false, test::kLatestFormatVersion)));
 #endif  // ROCKSDB_VALGRIND_RUN
 
 TEST_F(DBBloomFilterTest, BloomFilterRate) {
@@ -881,6 +883,148 @@ TEST_F(DBBloomFilterTest, ContextCustomFilterPolicy) {
   }
 }
 
+TEST_F(DBBloomFilterTest, LevelFilterPolicy) {
+  Options options = CurrentOptions();
+  options.statistics = rocksdb::CreateDBStatistics();
+  options.num_levels = 3;
+  options.disable_auto_compactions = true;
+
+  BlockBasedTableOptions table_options;
+  // 16 bits per key at L0, 8 at L1 and no filter at L2
+  table_options.filter_policy.reset(NewLevelFilterPolicy(
+      {std::shared_ptr<const FilterPolicy>(NewBloomFilterPolicy(16)),
+       std::shared_ptr<const FilterPolicy>(NewBloomFilterPolicy(8)),
+       nullptr}));
+  table_options.format_version = 5;
+  options.table_factory.reset(NewBlockBasedTableFactory(table_options));
+  DestroyAndReopen(options);
+
+  const int maxKey = 10000;
+  for (int i = 0; i < maxKey; i++) {
+    ASSERT_OK(Put(Key(i), Key(i)));
+  }
+  // Add a large key to make the file contain wide range
+  ASSERT_OK(Put(Key(maxKey + 55555), Key(maxKey + 55555)));
+  Flush();
+
+  auto filter_bytes = [&](const std::string& level) {
+    std::map<std::string, std::string> filter_sizes;
+    EXPECT_TRUE(db_->GetMapProperty(DB::Properties::kFilterSizePerLevel,
+                                    &filter_sizes));
+    if (filter_sizes.count(level + ".FilterBytes") == 0) {
+      return -1.0;
+    }
+    EXPECT_EQ(filter_sizes["Sum.FilterBytes"],
+              filter_sizes[level + ".FilterBytes"]);
+    return std::stod(filter_sizes[level + ".FilterBytes"]);
+  };
+  auto useful_rate = [&]() {
+    for (int i = 0; i < maxKey; i++) {
+      EXPECT_EQ("NOT_FOUND", Get(Key(i + 33333)));
+    }
+    return 1.0 * TestGetAndResetTickerCount(options, BLOOM_FILTER_USEFUL) /
+           maxKey;
+  };
+
+  // About 16 bits per key, with a 0.07% FP rate
+  EXPECT_GE(filter_bytes("L0"), maxKey * 16 / 8);
+  EXPECT_LE(filter_bytes("L0"), maxKey * 17 / 8);
+  EXPECT_GE(useful_rate(), 0.998);
+
+  // About 8 bits per key, with a 2.3% FP rate
+  MoveFilesToLevel(1);
+  EXPECT_EQ(filter_bytes("L0"), -1.0);
+  EXPECT_GE(filter_bytes("L1"), maxKey * 8 / 8);
+  EXPECT_LE(filter_bytes("L1"), maxKey * 9 / 8);
+  EXPECT_GE(useful_rate(), 0.97);
+  EXPECT_LE(useful_rate(), 0.99);
+
+  // No filter on the last level
+  MoveFilesToLevel(2);
+  EXPECT_EQ(filter_bytes("L2"), 0.0);
+  EXPECT_EQ(useful_rate(), 0.0);
+  for (int i = 0; i < maxKey; i++) {
+    ASSERT_EQ(Key(i), Get(Key(i)));
+  }
+
+  std::string filter_sizes;
+  ASSERT_TRUE(
+      db_->GetProperty(DB::Properties::kFilterSizePerLevel, &filter_sizes));
+  ASSERT_NE(filter_sizes.find("L2"), std::string::npos);
+  ASSERT_NE(filter_sizes.find("Sum"), std::string::npos);
+}
+
+#ifndef ROCKSDB_LITE
+TEST_F(DBBloomFilterTest, LevelFilterPolicyIngestedFile) {
+  Options options = CurrentOptions();
+  options.num_levels = 4;
+  options.disable_auto_compactions = true;
+
+  BlockBasedTableOptions table_options;
+  // L1 and L2 share the same policy, and files of an unknown level, like
+  // those of an SstFileWriter, have no filter
+  std::shared_ptr<const FilterPolicy> bloom8(NewBloomFilterPolicy(8));
+  table_options.filter_policy.reset(NewLevelFilterPolicy(
+      {std::shared_ptr<const FilterPolicy>(NewBloomFilterPolicy(16)), bloom8,
+       bloom8, nullptr}));
+  table_options.format_version = 5;
+  options.table_factory.reset(NewBlockBasedTableFactory(table_options));
+  DestroyAndReopen(options);
+
+  const int maxKey = 1000;
+  ASSERT_OK(Put(Key(maxKey / 2), "old"));
+  Flush();
+  MoveFilesToLevel(2);
+
+  // the external file overlaps the L2 file, so it is ingested into L1
+  const std::string sst_files_dir = dbname_ + "/sst_files/";
+  ASSERT_OK(env_->CreateDirIfMissing(sst_files_dir));
+  const std::string file = sst_files_dir + "ingested.sst";
+  SstFileWriter writer(EnvOptions(), options);
+  ASSERT_OK(writer.Open(file));
+  for (int i = 0; i < maxKey; i++) {
+    ASSERT_OK(writer.Put(Key(i), Key(i)));
+  }
+  ASSERT_OK(writer.Finish());
+  ASSERT_OK(db_->IngestExternalFile({file}, IngestExternalFileOptions()));
+  ASSERT_EQ("0,1,1", FilesPerLevel());
+
+  // once the L2 file is gone, the ingested file could be trivially moved
+  // to L2, which has the policy of L1, but is rewritten with its filter
+  std::string begin = Key(maxKey / 2);
+  std::string end = Key(maxKey / 2);
+  Slice begin_slice(begin);
+  Slice end_slice(end);
+  ASSERT_OK(DeleteFilesInRange(db_, db_->DefaultColumnFamily(), &begin_slice,
+                               &end_slice));
+  ASSERT_EQ("0,1", FilesPerLevel());
+  // The file is not read under the DB mutex to find out whether it was
+  // ingested, so it is rewritten as well once its table is not open
+  std::vector<LiveFileMetaData> live_files;
+  db_->GetLiveFilesMetaData(&live_files);
+  ASSERT_EQ(1, live_files.size());
+  TableCache::Evict(dbfull()->TEST_table_cache(), live_files[0].file_number);
+  int trivial_moves = 0;
+  rocksdb::SyncPoint::GetInstance()->SetCallBack(
+      "DBImpl::BackgroundCompaction:TrivialMove",
+      [&](void* /*arg*/) { trivial_moves++; });
+  rocksdb::SyncPoint::GetInstance()->EnableProcessing();
+  MoveFilesToLevel(2);
+  rocksdb::SyncPoint::GetInstance()->DisableProcessing();
+  rocksdb::SyncPoint::GetInstance()->ClearAllCallBacks();
+  ASSERT_EQ("0,0,1", FilesPerLevel());
+  ASSERT_EQ(0, trivial_moves);
+
+  std::map<std::string, std::string> filter_sizes;
+  ASSERT_TRUE(
+      db_->GetMapProperty(DB::Properties::kFilterSizePerLevel, &filter_sizes));
+  EXPECT_GE(std::stod(filter_sizes["L2.FilterBytes"]), maxKey * 8 / 8);
+  for (int i = 0; i < maxKey; i++) {
+    ASSERT_EQ(Key(i), Get(Key(i)));
+  }
+}
+#endif  // ROCKSDB_LITE
+
 class SliceTransformLimitedDomain : public SliceTransform {
   const char* Name() const override { return "SliceTransformLimitedDomain"; }
 
@@ -1196,6 +1340,8 @@ INSTANTIATE_TEST_CASE_P(
                       std::make_tuple(BFP::kLegacyBloom, true),
                       std::make_tuple(BFP::kFastLocalBloom, false),
                       std::make_tuple(BFP::kFastLocalBloom, true),
+                      std::make_tuple(BFP::kRibbon, false),
+                      std::make_tuple(BFP::kRibbon, true),
                       std::make_tuple(BFP2::kPlainTable, false)));
 
 namespace {
@@ -178,6 +178,12 @@ class DBIter final : public Iterator {
 
   Status GetProperty(std::string prop_name, std::string* prop) override;
 
+  void Prefetch(const Slice& upper_bound) override {
+    if (iter_.iter() != nullptr) {
+      iter_.iter()->Prefetch(upper_bound);
+    }
+  }
+
   void Next() final override;
   void Prev() final override;
   void Seek(const Slice& target) final override;
@@ -2178,6 +2178,138 @@ TEST_P(DBIteratorTest, ReadAhead) {
   delete iter;
 }
 
+TEST_P(DBIteratorTest, AdaptiveReadahead) {
+  Options options = CurrentOptions();
+  options.env = env_;
+  options.disable_auto_compactions = true;
+  options.write_buffer_size = 4 << 20;
+  options.compression = kNoCompression;
+  BlockBasedTableOptions table_options;
+  table_options.block_size = 1024;
+  table_options.no_block_cache = true;
+  options.table_factory.reset(new BlockBasedTableFactory(table_options));
+  Reopen(options);
+
+  // 4 files of 100 data blocks on level 1
+  std::string value(1024, 'a');
+  for (int i = 0; i < 400; i++) {
+    ASSERT_OK(Put(Key(i), value));
+    if (i % 100 == 99) {
+      ASSERT_OK(Flush());
+    }
+  }
+  MoveFilesToLevel(1);
+#ifndef ROCKSDB_LITE
+  ASSERT_EQ("0,4", FilesPerLevel());
+#endif  // !ROCKSDB_LITE
+
+  std::vector<size_t> readahead_sizes;
+  SyncPoint::GetInstance()->SetCallBack(
+      "BlockBasedTableIterator::InitDataBlock:Readahead", [&](void* arg) {
+        readahead_sizes.push_back(*reinterpret_cast<size_t*>(arg));
+      });
+  SyncPoint::GetInstance()->EnableProcessing();
+  const size_t kInitReadahead = 8 * 1024;
+  const size_t kMaxReadahead = 256 * 1024;
+
+  // Without adaptive readahead, each file starts over at the initial size
+  ReadOptions read_options;
+  std::unique_ptr<Iterator> iter(NewIterator(read_options));
+  int count = 0;
+  for (iter->SeekToFirst(); iter->Valid(); iter->Next()) {
+    ASSERT_EQ(value, iter->value());
+    count++;
+  }
+  ASSERT_OK(iter->status());
+  ASSERT_EQ(400, count);
+  ASSERT_EQ(4, std::count(readahead_sizes.begin(), readahead_sizes.end(),
+                          kInitReadahead));
+
+  // With adaptive readahead, only the first file does
+  readahead_sizes.clear();
+  read_options.adaptive_readahead = true;
+  iter.reset(NewIterator(read_options));
+  count = 0;
+  for (iter->SeekToFirst(); iter->Valid(); iter->Next()) {
+    ASSERT_EQ(value, iter->value());
+    count++;
+  }
+  ASSERT_OK(iter->status());
+  ASSERT_EQ(400, count);
+  ASSERT_EQ(1, std::count(readahead_sizes.begin(), readahead_sizes.end(),
+                          kInitReadahead));
+  ASSERT_EQ(kInitReadahead, readahead_sizes[0]);
+
+  // and it starts over after a seek away from the data read ahead
+  iter->Seek(Key(40));
+  for (int i = 0; i < 50; i++) {
+    ASSERT_TRUE(iter->Valid());
+    iter->Next();
+  }
+  readahead_sizes.clear();
+  iter->Seek(Key(10));
+  for (int i = 0; i < 5; i++) {
+    ASSERT_TRUE(iter->Valid());
+    iter->Next();
+  }
+  ASSERT_EQ(1, readahead_sizes.size());
+  ASSERT_EQ(kInitReadahead, readahead_sizes[0]);
+
+  // A scan hinted by Prefetch() reads ahead from its next read on at the
+  // maximum size, and not past the block of the upper bound
+  readahead_sizes.clear();
+  read_options.adaptive_readahead = false;
+  iter.reset(NewIterator(read_options));
+  iter->Seek(Key(50));
+  iter->Prefetch(Key(250));
+  count = 0;
+  for (; iter->Valid() && iter->key().compare(Key(250)) < 0; iter->Next()) {
+    ASSERT_EQ(value, iter->value());
+    count++;
+  }
+  ASSERT_OK(iter->status());
+  ASSERT_EQ(200, count);
+  // in each of the 3 files of the range, from its first block read on, up to
+  // the block of Key(250) in the last one. The data blocks hold one key each.
+  ASSERT_EQ(3, readahead_sizes.size());
+  ASSERT_EQ(kMaxReadahead, readahead_sizes[0]);
+  ASSERT_EQ(kMaxReadahead, readahead_sizes[1]);
+  ASSERT_EQ(0, readahead_sizes[2] % 51);
+  const size_t block_size = readahead_sizes[2] / 51;
+  ASSERT_GT(block_size, value.size());
+
+  // The hint holds until the next seek
+  readahead_sizes.clear();
+  iter->Seek(Key(50));
+  for (int i = 0; i < 5; i++) {
+    ASSERT_TRUE(iter->Valid());
+    iter->Next();
+  }
+  ASSERT_EQ(std::vector<size_t>(1, kInitReadahead), readahead_sizes);
+  iter.reset();
+
+  // nor past the block of ReadOptions::iterate_upper_bound, if smaller
+  readahead_sizes.clear();
+  std::string upper_bound = Key(120);
+  Slice upper_bound_slice(upper_bound);
+  read_options.iterate_upper_bound = &upper_bound_slice;
+  iter.reset(NewIterator(read_options));
+  iter->Seek(Key(100));
+  iter->Prefetch(Key(250));
+  count = 0;
+  for (; iter->Valid(); iter->Next()) {
+    count++;
+  }
+  ASSERT_OK(iter->status());
+  ASSERT_EQ(20, count);
+  // from the block after that of Key(100), read by the seek
+  ASSERT_EQ(std::vector<size_t>(1, 20 * block_size), readahead_sizes);
+  iter.reset();
+
+  SyncPoint::GetInstance()->DisableProcessing();
+  SyncPoint::GetInstance()->ClearAllCallBacks();
+}
+
 // Insert a key, create a snapshot iterator, overwrite key lots of times,
 // seek to a smaller key. Expect DBIter to fall back to a seek instead of
 // going through all the overwrites linearly.
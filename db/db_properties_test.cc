@@ -1701,6 +1701,81 @@ TEST_F(DBPropertiesTest, BlockCacheProperties) {
   ASSERT_EQ(0, value);
 }
 
+TEST_F(DBPropertiesTest, NumFilesPendingTtlAndPeriodicCompaction) {
+  std::unique_ptr<MockTimeEnv> mock_env(new MockTimeEnv(Env::Default()));
+  mock_env->set_current_time(10000);
+  uint64_t value = 0;
+
+  Options options = CurrentOptions();
+  options.env = mock_env.get();
+  options.max_open_files = -1;
+  options.disable_auto_compactions = true;
+  options.compaction_style = kCompactionStyleFIFO;
+  options.compaction_options_fifo.allow_compaction = false;
+  options.ttl = 1000;
+  DestroyAndReopen(options);
+  for (int i = 0; i < 3; i++) {
+    ASSERT_OK(Put(Key(i), "value"));
+    ASSERT_OK(Flush());
+  }
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingTtlCompaction, &value));
+  ASSERT_EQ(0, value);
+
+  // the expired files are found once the version is recomputed, e.g. when
+  // the ttl is changed
+  mock_env->set_current_time(20000);
+  ASSERT_OK(dbfull()->SetOptions({{"ttl", "500"}}));
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingTtlCompaction, &value));
+  ASSERT_EQ(3, value);
+
+  // and forgotten when the ttl is disabled
+  ASSERT_OK(dbfull()->SetOptions({{"ttl", "0"}}));
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingTtlCompaction, &value));
+  ASSERT_EQ(0, value);
+  ASSERT_OK(dbfull()->SetOptions({{"ttl", "500"}}));
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingTtlCompaction, &value));
+  ASSERT_EQ(3, value);
+
+  // and dropped by the next compaction
+  ASSERT_OK(dbfull()->SetOptions({{"disable_auto_compactions", "false"}}));
+  ASSERT_OK(dbfull()->TEST_WaitForCompact());
+  ASSERT_EQ(0, NumTableFilesAtLevel(0));
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingTtlCompaction, &value));
+  ASSERT_EQ(0, value);
+
+  mock_env->set_current_time(30000);
+  options.compaction_style = kCompactionStyleLevel;
+  options.ttl = 0;
+  options.periodic_compaction_seconds = 1000;
+  DestroyAndReopen(options);
+  for (int i = 0; i < 2; i++) {
+    ASSERT_OK(Put(Key(i), "value"));
+    ASSERT_OK(Flush());
+  }
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingPeriodicCompaction, &value));
+  ASSERT_EQ(0, value);
+
+  mock_env->set_current_time(40000);
+  ASSERT_OK(dbfull()->SetOptions({{"periodic_compaction_seconds", "500"}}));
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingPeriodicCompaction, &value));
+  ASSERT_EQ(2, value);
+
+  ASSERT_OK(dbfull()->SetOptions({{"periodic_compaction_seconds", "0"}}));
+  ASSERT_TRUE(dbfull()->GetIntProperty(
+      DB::Properties::kNumFilesPendingPeriodicCompaction, &value));
+  ASSERT_EQ(0, value);
+
+  // Close before mock_env destructs.
+  Close();
+}
+
 #endif  // ROCKSDB_LITE
 }  // namespace rocksdb
 
@@ -17,6 +17,7 @@
 #include "rocksdb/persistent_cache.h"
 #include "rocksdb/wal_filter.h"
 #include "test_util/fault_injection_test_env.h"
+#include "util/aligned_buffer_pool.h"
 
 namespace rocksdb {
 
@@ -2732,6 +2733,49 @@ TEST_F(DBTest2, DirectIO) {
   Reopen(options);
 }
 
+TEST_F(DBTest2, DirectIOAlignedBufferPool) {
+  for (bool use_direct_io : {false, true}) {
+    if (use_direct_io && !IsDirectIOSupported()) {
+      continue;
+    }
+    Options options = CurrentOptions();
+    options.statistics = CreateDBStatistics();
+    options.use_direct_reads = options.use_direct_io_for_flush_and_compaction =
+        use_direct_io;
+    options.allow_mmap_reads = options.allow_mmap_writes = false;
+    options.compaction_readahead_size = 64 << 10;
+    BlockBasedTableOptions table_options;
+    table_options.no_block_cache = true;
+    options.table_factory.reset(NewBlockBasedTableFactory(table_options));
+    DestroyAndReopen(options);
+
+    for (int i = 0; i < 4; ++i) {
+      for (int j = 0; j < 100; ++j) {
+        ASSERT_OK(Put(Key(j), DummyString(100, static_cast<char>('a' + i))));
+      }
+      ASSERT_OK(Flush());
+    }
+    ASSERT_OK(db_->CompactRange(CompactRangeOptions(), nullptr, nullptr));
+    for (int j = 0; j < 100; ++j) {
+      ASSERT_EQ(DummyString(100, 'd'), Get(Key(j)));
+    }
+
+    uint64_t reused = TestGetTickerCount(options, ALIGNED_BUFFER_REUSED);
+    uint64_t allocated = TestGetTickerCount(options, ALIGNED_BUFFER_ALLOCATED);
+    if (use_direct_io) {
+      // The buffers of the reads, the files written and the compaction
+      // readahead come from the pool, which reuses most of them
+      ASSERT_GT(reused, 0);
+      ASSERT_GT(reused, allocated);
+      ASSERT_GE(TestGetTickerCount(options, ALIGNED_BUFFER_ALLOCATED_BYTES),
+                allocated * AlignedBufferPool::kMinPooledSize);
+    } else {
+      ASSERT_EQ(0, reused);
+      ASSERT_EQ(0, allocated);
+    }
+  }
+}
+
 TEST_F(DBTest2, MemtableOnlyIterator) {
   Options options = CurrentOptions();
   CreateAndReopenWithCF({"pikachu"}, options);
@@ -211,6 +211,10 @@ static const std::string num_immutable_mem_table_flushed =
     "num-immutable-mem-table-flushed";
 static const std::string mem_table_flush_pending = "mem-table-flush-pending";
 static const std::string compaction_pending = "compaction-pending";
+static const std::string num_files_pending_ttl_compaction =
+    "num-files-pending-ttl-compaction";
+static const std::string num_files_pending_periodic_compaction =
+    "num-files-pending-periodic-compaction";
 static const std::string background_errors = "background-errors";
 static const std::string cur_size_active_mem_table =
     "cur-size-active-mem-table";
@@ -247,6 +251,7 @@ static const std::string aggregated_table_properties =
     "aggregated-table-properties";
 static const std::string aggregated_table_properties_at_level =
     aggregated_table_properties + "-at-level";
+static const std::string filter_size_per_level = "filter-size-per-level";
 static const std::string num_running_compactions = "num-running-compactions";
 static const std::string num_running_flushes = "num-running-flushes";
 static const std::string actual_delayed_write_rate =
@@ -279,6 +284,10 @@ const std::string DB::Properties::kMemTableFlushPending =
     rocksdb_prefix + mem_table_flush_pending;
 const std::string DB::Properties::kCompactionPending =
     rocksdb_prefix + compaction_pending;
+const std::string DB::Properties::kNumFilesPendingTtlCompaction =
+    rocksdb_prefix + num_files_pending_ttl_compaction;
+const std::string DB::Properties::kNumFilesPendingPeriodicCompaction =
+    rocksdb_prefix + num_files_pending_periodic_compaction;
 const std::string DB::Properties::kNumRunningCompactions =
     rocksdb_prefix + num_running_compactions;
 const std::string DB::Properties::kNumRunningFlushes =
@@ -330,6 +339,8 @@ const std::string DB::Properties::kAggregatedTableProperties =
     rocksdb_prefix + aggregated_table_properties;
 const std::string DB::Properties::kAggregatedTablePropertiesAtLevel =
     rocksdb_prefix + aggregated_table_properties_at_level;
+const std::string DB::Properties::kFilterSizePerLevel =
+    rocksdb_prefix + filter_size_per_level;
 const std::string DB::Properties::kActualDelayedWriteRate =
     rocksdb_prefix + actual_delayed_write_rate;
 const std::string DB::Properties::kIsWriteStopped =
@@ -376,6 +387,9 @@ const std::unordered_map<std::string, DBPropertyInfo>
         {DB::Properties::kAggregatedTablePropertiesAtLevel,
          {false, &InternalStats::HandleAggregatedTablePropertiesAtLevel,
           nullptr, nullptr, nullptr}},
+        {DB::Properties::kFilterSizePerLevel,
+         {false, &InternalStats::HandleFilterSizePerLevel, nullptr,
+          &InternalStats::HandleFilterSizePerLevelMap, nullptr}},
         {DB::Properties::kNumImmutableMemTable,
          {false, nullptr, &InternalStats::HandleNumImmutableMemTable, nullptr,
           nullptr}},
@@ -388,6 +402,13 @@ const std::unordered_map<std::string, DBPropertyInfo>
         {DB::Properties::kCompactionPending,
          {false, nullptr, &InternalStats::HandleCompactionPending, nullptr,
           nullptr}},
+        {DB::Properties::kNumFilesPendingTtlCompaction,
+         {false, nullptr, &InternalStats::HandleNumFilesPendingTtlCompaction,
+          nullptr, nullptr}},
+        {DB::Properties::kNumFilesPendingPeriodicCompaction,
+         {false, nullptr,
+          &InternalStats::HandleNumFilesPendingPeriodicCompaction, nullptr,
+          nullptr}},
         {DB::Properties::kBackgroundErrors,
          {false, nullptr, &InternalStats::HandleBackgroundErrors, nullptr,
           nullptr}},
@@ -642,6 +663,92 @@ bool InternalStats::HandleAggregatedTablePropertiesAtLevel(std::string* value,
   return true;
 }
 
+namespace {
+struct LevelFilterSize {
+  uint64_t num_files = 0;
+  uint64_t filter_size = 0;
+  uint64_t num_entries = 0;
+};
+
+// Collects the filter sizes of the non-empty levels of a version from the
+// table properties, with their sum at level -1
+Status GetFilterSizePerLevel(Version* version, int num_levels,
+                             std::map<int, LevelFilterSize>* sizes) {
+  LevelFilterSize& sum = (*sizes)[-1];
+  for (int level = 0; level < num_levels; level++) {
+    int num_files = version->storage_info()->NumLevelFiles(level);
+    if (num_files == 0) {
+      continue;
+    }
+    std::shared_ptr<const TableProperties> tp;
+    Status s = version->GetAggregatedTableProperties(&tp, level);
+    if (!s.ok()) {
+      return s;
+    }
+    LevelFilterSize& size = (*sizes)[level];
+    size.num_files = num_files;
+    size.filter_size = tp->filter_size;
+    size.num_entries = tp->num_entries;
+    sum.num_files += size.num_files;
+    sum.filter_size += size.filter_size;
+    sum.num_entries += size.num_entries;
+  }
+  return Status::OK();
+}
+}  // namespace
+
+bool InternalStats::HandleFilterSizePerLevel(std::string* value,
+                                             Slice /*suffix*/) {
+  std::map<int, LevelFilterSize> sizes;
+  if (!GetFilterSizePerLevel(cfd_->current(), number_levels_, &sizes).ok()) {
+    return false;
+  }
+  char buf[200];
+  snprintf(buf, sizeof(buf), "%5s %8s %14s %14s %8s\n", "Level", "Files",
+           "FilterBytes", "Entries", "Bits/Key");
+  value->append(buf);
+  // The levels in order, followed by their sum
+  std::vector<int> levels;
+  for (const auto& level_size : sizes) {
+    if (level_size.first >= 0) {
+      levels.push_back(level_size.first);
+    }
+  }
+  levels.push_back(-1);
+  for (int level : levels) {
+    const LevelFilterSize& size = sizes[level];
+    snprintf(buf, sizeof(buf), "%5s %8" PRIu64 " %14" PRIu64 " %14" PRIu64
+             " %8.2f\n",
+             level < 0 ? "Sum" : ("L" + ToString(level)).c_str(),
+             size.num_files, size.filter_size, size.num_entries,
+             size.num_entries > 0
+                 ? 8.0 * size.filter_size / size.num_entries
+                 : 0.0);
+    value->append(buf);
+  }
+  return true;
+}
+
+bool InternalStats::HandleFilterSizePerLevelMap(
+    std::map<std::string, std::string>* filter_sizes) {
+  std::map<int, LevelFilterSize> sizes;
+  if (!GetFilterSizePerLevel(cfd_->current(), number_levels_, &sizes).ok()) {
+    return false;
+  }
+  for (const auto& level_size : sizes) {
+    std::string level_str = level_size.first < 0
+                                ? "Sum"
+                                : "L" + ToString(level_size.first);
+    (*filter_sizes)[level_str + ".NumFiles"] =
+        ToString(level_size.second.num_files);
+    (*filter_sizes)[level_str + ".FilterBytes"] =
+        ToString(level_size.second.filter_size);
+    (*filter_sizes)[level_str + ".NumEntries"] =
+        ToString(level_size.second.num_entries);
+  }
+  return true;
+}
+
 bool InternalStats::HandleNumImmutableMemTable(uint64_t* value, DBImpl* /*db*/,
                                                Version* /*version*/) {
   *value = cfd_->imm()->NumNotFlushed();
@@ -677,6 +784,21 @@ bool InternalStats::HandleCompactionPending(uint64_t* value, DBImpl* /*db*/,
   return true;
 }
 
+bool InternalStats::HandleNumFilesPendingTtlCompaction(uint64_t* value,
+                                                       DBImpl* /*db*/,
+                                                       Version* /*version*/) {
+  const auto* vstorage = cfd_->current()->storage_info();
+  *value = vstorage->ExpiredTtlFiles().size();
+  return true;
+}
+
+bool InternalStats::HandleNumFilesPendingPeriodicCompaction(
+    uint64_t* value, DBImpl* /*db*/, Version* /*version*/) {
+  const auto* vstorage = cfd_->current()->storage_info();
+  *value = vstorage->FilesMarkedForPeriodicCompaction().size();
+  return true;
+}
+
 bool InternalStats::HandleNumRunningCompactions(uint64_t* value, DBImpl* db,
                                                 Version* /*version*/) {
   *value = db->num_running_compactions_;
@@ -527,6 +527,9 @@ class InternalStats {
   bool HandleSsTables(std::string* value, Slice suffix);
   bool HandleAggregatedTableProperties(std::string* value, Slice suffix);
   bool HandleAggregatedTablePropertiesAtLevel(std::string* value, Slice suffix);
+  bool HandleFilterSizePerLevel(std::string* value, Slice suffix);
+  bool HandleFilterSizePerLevelMap(
+      std::map<std::string, std::string>* filter_sizes);
   bool HandleNumImmutableMemTable(uint64_t* value, DBImpl* db,
                                   Version* version);
   bool HandleNumImmutableMemTableFlushed(uint64_t* value, DBImpl* db,
@@ -535,6 +538,10 @@ class InternalStats {
                                   Version* version);
   bool HandleNumRunningFlushes(uint64_t* value, DBImpl* db, Version* version);
   bool HandleCompactionPending(uint64_t* value, DBImpl* db, Version* version);
+  bool HandleNumFilesPendingTtlCompaction(uint64_t* value, DBImpl* db,
+                                          Version* version);
+  bool HandleNumFilesPendingPeriodicCompaction(uint64_t* value, DBImpl* db,
+                                               Version* version);
   bool HandleNumRunningCompactions(uint64_t* value, DBImpl* db,
                                    Version* version);
   bool HandleBackgroundErrors(uint64_t* value, DBImpl* db, Version* version);
@@ -13,8 +13,10 @@
 #include <algorithm>
 #include <array>
 #include <cinttypes>
+#include <functional>
 #include <list>
 #include <map>
+#include <memory>
 #include <set>
 #include <string>
 #include <unordered_map>
@@ -34,6 +36,7 @@
 #include "file/read_write_util.h"
 #include "file/writable_file_writer.h"
 #include "monitoring/file_read_sample.h"
+#include "monitoring/iostats_context_imp.h"
 #include "monitoring/perf_context_imp.h"
 #include "monitoring/persistent_stats_history.h"
 #include "rocksdb/env.h"
@@ -50,6 +53,7 @@
 #include "table/two_level_iterator.h"
 #include "test_util/sync_point.h"
 #include "util/coding.h"
+#include "util/mutexlock.h"
 #include "util/stop_watch.h"
 #include "util/string_util.h"
 #include "util/user_comparator_wrapper.h"
@@ -505,10 +509,40 @@ class FilePickerMultiGet {
     return file_hit;
   }
 
-  FdWithKeyRange* GetNextFile() {
+  FdWithKeyRange* GetNextFile() { return GetNextFile(false /* in_level */); }
+
+  // Like GetNextFile(), but returns nullptr rather than moving on to the next
+  // level once no more files of the current level contain keys of the batch.
+  // REQUIRES: !MayRepeatKey()
+  FdWithKeyRange* GetNextFileInLevel() {
+    assert(!maybe_repeat_key_);
+    return GetNextFile(true /* in_level */);
+  }
+
+  // Returns true if the last key of the batch which falls in the file last
+  // returned may also have to be looked up in the next file of its level, in
+  // which case the next file may only be looked up once the lookup of that
+  // key in the file last returned is done.
+  bool MayRepeatKey() const { return maybe_repeat_key_; }
+
+  // getter for current file level
+  // for GET_HIT_L0, GET_HIT_L1 & GET_HIT_L2_AND_UP counts
+  unsigned int GetHitFileLevel() { return hit_file_level_; }
+
+  // Returns true if the most recent "hit file" (i.e., one returned by
+  // GetNextFile()) is at the last index in its level.
+  bool IsHitFileLastInLevel() { return is_hit_file_last_in_level_; }
+
+  const MultiGetRange& CurrentFileRange() { return current_file_range_; }
+
+ private:
+  FdWithKeyRange* GetNextFile(bool in_level) {
     while (!search_ended_) {
       // Start searching next level.
       if (batch_iter_ == current_level_range_.end()) {
+        if (in_level) {
+          return nullptr;
+        }
         search_ended_ = !PrepareNextLevel();
         continue;
       } else {
@@ -541,6 +575,11 @@ class FilePickerMultiGet {
       bool is_last_key_in_file;
       if (!GetNextFileInLevelWithKeys(&next_file_range, &curr_file_index, &f,
                                       &is_last_key_in_file)) {
+        // No more keys of the batch in this level
+        assert(batch_iter_ == current_level_range_.end());
+        if (in_level) {
+          return nullptr;
+        }
         search_ended_ = !PrepareNextLevel();
       } else {
         MultiGetRange::Iterator upper_key = batch_iter_;
@@ -567,17 +606,6 @@ class FilePickerMultiGet {
     return nullptr;
   }
 
-  // getter for current file level
-  // for GET_HIT_L0, GET_HIT_L1 & GET_HIT_L2_AND_UP counts
-  unsigned int GetHitFileLevel() { return hit_file_level_; }
-
-  // Returns true if the most recent "hit file" (i.e., one returned by
-  // GetNextFile()) is at the last index in its level.
-  bool IsHitFileLastInLevel() { return is_hit_file_last_in_level_; }
-
-  const MultiGetRange& CurrentFileRange() { return current_file_range_; }
-
- private:
   unsigned int num_levels_;
   unsigned int curr_level_;
   unsigned int returned_file_level_;
@@ -729,6 +757,154 @@ class FilePickerMultiGet {
     return false;
   }
 };
+
+// The lookup of the keys of a MultiGet batch in one table file
+struct MultiGetFileLookup {
+  MultiGetFileLookup(FdWithKeyRange* _f, const MultiGetRange& _file_range,
+                     unsigned int _hit_file_level,
+                     bool _is_hit_file_last_in_level, int _level)
+      : f(_f),
+        file_range(_file_range),
+        hit_file_level(_hit_file_level),
+        is_hit_file_last_in_level(_is_hit_file_last_in_level),
+        level(_level),
+        elapsed_nanos(0) {}
+
+  FdWithKeyRange* f;
+  MultiGetRange file_range;
+  unsigned int hit_file_level;
+  bool is_hit_file_last_in_level;
+  int level;
+  Status s;
+  uint64_t elapsed_nanos;
+};
+
+// Runs lookup(i) for i in [0, n) on the calling thread and on up to n - 1
+// threads of the Env::Priority::USER pool, and returns when all are done.
+// The calling thread runs the lookups which no pool thread has started yet,
+// so that it never waits for the pool threads to be available. The jobs
+// scheduled on the pool may thus only run after the function has returned,
+// and share its state by reference counting. The perf and IO stats contexts
+// being thread local, the pool threads record their lookups at the perf level
+// of the calling thread in contexts of their own, which are added to those of
+// the calling thread before the function returns.
+class ParallelMultiGetLookups {
+ public:
+  static void Run(Env* env, size_t n,
+                  const std::function<void(size_t)>& lookup) {
+    TEST_SYNC_POINT_CALLBACK("Version::MultiGet::ParallelFiles", &n);
+    std::shared_ptr<ParallelMultiGetLookups> state(
+        new ParallelMultiGetLookups(n, &lookup));
+    for (size_t i = 1; i < n; ++i) {
+      env->Schedule(&ParallelMultiGetLookups::BGWork,
+                    new std::shared_ptr<ParallelMultiGetLookups>(state),
+                    Env::Priority::USER);
+    }
+    state->RunLookups(false /* merge_contexts */);
+    MutexLock l(&state->mu_);
+    while (state->pending_ > 0) {
+      state->cv_.Wait();
+    }
+    if (state->perf_level_ >= PerfLevel::kEnableCount) {
+      AddPerfContext(state->perf_context_, get_perf_context());
+      IOStatsContext* iostats = get_iostats_context();
+      if (iostats != nullptr) {
+        AddIOStatsContext(state->iostats_context_, iostats);
+      }
+    }
+  }
+
+ private:
+  ParallelMultiGetLookups(size_t n, const std::function<void(size_t)>* lookup)
+      : n_(n),
+        next_(0),
+        lookup_(lookup),
+        perf_level_(GetPerfLevel()),
+        cv_(&mu_),
+        pending_(n),
+        iostats_context_() {
+    perf_context_.Reset();
+    if (get_perf_context()->per_level_perf_context_enabled) {
+      perf_context_.EnablePerLevelPerfContext();
+    }
+  }
+
+  static void BGWork(void* arg) {
+    std::shared_ptr<ParallelMultiGetLookups>* state =
+        reinterpret_cast<std::shared_ptr<ParallelMultiGetLookups>*>(arg);
+    (*state)->RunLookupsWithContexts();
+    delete state;
+  }
+
+  // Runs the lookups on a pool thread with reset perf and IO stats contexts,
+  // and restores those of the thread afterwards
+  void RunLookupsWithContexts() {
+    if (perf_level_ < PerfLevel::kEnableCount) {
+      RunLookups(false /* merge_contexts */);
+      return;
+    }
+    const PerfLevel saved_perf_level = GetPerfLevel();
+    PerfContext* perf = get_perf_context();
+    PerfContext saved_perf_context(*perf);
+    perf->Reset();
+    if (perf_context_.per_level_perf_context_enabled) {
+      perf->EnablePerLevelPerfContext();
+      perf->level_to_perf_context->clear();
+    }
+    IOStatsContext* iostats = get_iostats_context();
+    IOStatsContext saved_iostats_context;
+    if (iostats != nullptr) {
+      saved_iostats_context = *iostats;
+      *iostats = IOStatsContext();
+      iostats->thread_pool_id = saved_iostats_context.thread_pool_id;
+    }
+    SetPerfLevel(perf_level_);
+    RunLookups(true /* merge_contexts */);
+    SetPerfLevel(saved_perf_level);
+    *perf = saved_perf_context;
+    if (iostats != nullptr) {
+      *iostats = saved_iostats_context;
+    }
+  }
+
+  void RunLookups(bool merge_contexts) {
+    size_t done = 0;
+    for (size_t i = next_.fetch_add(1); i < n_; i = next_.fetch_add(1)) {
+      TEST_SYNC_POINT("Version::MultiGet::ParallelFiles:Lookup");
+      (*lookup_)(i);
+      ++done;
+    }
+    if (done > 0) {
+      MutexLock l(&mu_);
+      if (merge_contexts) {
+        AddPerfContext(*get_perf_context(), &perf_context_);
+        IOStatsContext* iostats = get_iostats_context();
+        if (iostats != nullptr) {
+          AddIOStatsContext(*iostats, &iostats_context_);
+        }
+      }
+      pending_ -= done;
+      if (pending_ == 0) {
+        cv_.SignalAll();
+      }
+    }
+  }
+
+  const size_t n_;
+  // The next lookup to run
+  std::atomic<size_t> next_;
+  // Only valid while some lookups are pending
+  const std::function<void(size_t)>* lookup_;
+  // The perf level of the calling thread
+  const PerfLevel perf_level_;
+  port::Mutex mu_;
+  port::CondVar cv_;
+  // The number of lookups not done yet, protected by mu_
+  size_t pending_;
+  // The counters recorded by the pool threads, protected by mu_
+  PerfContext perf_context_;
+  IOStatsContext iostats_context_;
+};
 }  // anonymous namespace
 
 VersionStorageInfo::~VersionStorageInfo() { delete[] files_; }
@@ -934,6 +1110,14 @@ class LevelIterator final : public InternalIterator {
            file_iter_.iter() && file_iter_.IsValuePinned();
   }
 
+  void Prefetch(const Slice& upper_bound) override {
+    prefetch_ = true;
+    prefetch_upper_bound_.assign(upper_bound.data(), upper_bound.size());
+    if (file_iter_.iter() != nullptr) {
+      file_iter_.iter()->Prefetch(upper_bound);
+    }
+  }
+
  private:
   // Return true if at least one invalid file is seen and skipped.
   bool SkipEmptyFileForward();
@@ -1015,6 +1199,10 @@ class LevelIterator final : public InternalIterator {
   RangeDelAggregator* range_del_agg_;
   IteratorWrapper file_iter_;  // May be nullptr
   PinnedIteratorsManager* pinned_iters_mgr_;
+  // Whether a scan up to prefetch_upper_bound_ was hinted by Prefetch() since
+  // the last seek, which is passed on to the iterators of the next files
+  bool prefetch_ = false;
+  std::string prefetch_upper_bound_;
 
   // To be propagated to RangeDelAggregator in order to safely truncate range
   // tombstones.
@@ -1022,6 +1210,7 @@ class LevelIterator final : public InternalIterator {
 };
 
 void LevelIterator::Seek(const Slice& target) {
+  prefetch_ = false;
   // Check whether the seek key fall under the same file
   bool need_to_reseek = true;
   if (file_iter_.iter() != nullptr && file_index_ < flevel_->num_files) {
@@ -1074,6 +1263,7 @@ void LevelIterator::Seek(const Slice& target) {
 }
 
 void LevelIterator::SeekForPrev(const Slice& target) {
+  prefetch_ = false;
   size_t new_file_index = FindFile(icomparator_, *flevel_, target);
   if (new_file_index >= flevel_->num_files) {
     new_file_index = flevel_->num_files - 1;
@@ -1088,6 +1278,7 @@ void LevelIterator::SeekForPrev(const Slice& target) {
 }
 
 void LevelIterator::SeekToFirst() {
+  prefetch_ = false;
   InitFileIterator(0);
   if (file_iter_.iter() != nullptr) {
     file_iter_.SeekToFirst();
@@ -1097,6 +1288,7 @@ void LevelIterator::SeekToFirst() {
 }
 
 void LevelIterator::SeekToLast() {
+  prefetch_ = false;
   InitFileIterator(flevel_->num_files - 1);
   if (file_iter_.iter() != nullptr) {
     file_iter_.SeekToLast();
@@ -1139,8 +1331,30 @@ bool LevelIterator::SkipEmptyFileForward() {
       SetFileIterator(nullptr);
       break;
     }
+    if (prefetch_ &&
+        user_comparator_.Compare(ExtractUserKey(file_smallest_key(
+                                     file_index_ + 1)),
+                                 prefetch_upper_bound_) >= 0) {
+      // The hinted scan ends before the next file
+      prefetch_ = false;
+    }
+    // Carry the readahead of the current file over to the next one
+    ReadaheadFileInfo readahead_file_info;
+    bool carry_readahead = (read_options_.adaptive_readahead || prefetch_) &&
+                           file_iter_.iter() != nullptr;
+    if (carry_readahead) {
+      file_iter_.iter()->GetReadaheadState(&readahead_file_info);
+    }
+    // and the hinted scan, which then holds from the first read of the file
+    Slice prefetch_upper_bound(prefetch_upper_bound_);
+    if (prefetch_) {
+      readahead_file_info.prefetch_upper_bound = &prefetch_upper_bound;
+    }
     InitFileIterator(file_index_ + 1);
     if (file_iter_.iter() != nullptr) {
+      if (carry_readahead || prefetch_) {
+        file_iter_.iter()->SetReadaheadState(&readahead_file_info);
+      }
       file_iter_.SeekToFirst();
     }
   }
@@ -1932,92 +2146,134 @@ void Version::MultiGet(const ReadOptions& read_options, MultiGetRange* range,
       &storage_info_.file_indexer_, user_comparator(), internal_comparator());
   FdWithKeyRange* f = fp.GetNextFile();
 
-  while (f != nullptr) {
-    MultiGetRange file_range = fp.CurrentFileRange();
-    bool timer_enabled =
-        GetPerfLevel() >= PerfLevel::kEnableTimeExceptForMutex &&
-        get_perf_context()->per_level_perf_context_enabled;
+  // The keys which fall in different files of a level other than L0 may be
+  // looked up concurrently, except for pinned merge operands
+  size_t parallel_files = 1;
+  if (read_options.multiget_parallel_files > 1 && !merge_operator_ &&
+      env_->GetBackgroundThreads(Env::Priority::USER) > 0) {
+    parallel_files = read_options.multiget_parallel_files;
+  }
+  bool timer_enabled =
+      GetPerfLevel() >= PerfLevel::kEnableTimeExceptForMutex &&
+      get_perf_context()->per_level_perf_context_enabled;
+  std::vector<MultiGetFileLookup> lookups;
+  lookups.reserve(parallel_files);
+  auto lookup = [&](size_t i) {
+    MultiGetFileLookup& l = lookups[i];
     StopWatchNano timer(env_, timer_enabled /* auto_start */);
-    Status s = table_cache_->MultiGet(
-        read_options, *internal_comparator(), *f->file_metadata, &file_range,
-        mutable_cf_options_.prefix_extractor.get(),
-        cfd_->internal_stats()->GetFileReadHist(fp.GetHitFileLevel()),
-        IsFilterSkipped(static_cast<int>(fp.GetHitFileLevel()),
-                        fp.IsHitFileLastInLevel()),
-        fp.GetCurrentLevel());
-    // TODO: examine the behavior for corrupted key
+    l.s = table_cache_->MultiGet(
+        read_options, *internal_comparator(), *l.f->file_metadata,
+        &l.file_range, mutable_cf_options_.prefix_extractor.get(),
+        cfd_->internal_stats()->GetFileReadHist(l.hit_file_level),
+        IsFilterSkipped(static_cast<int>(l.hit_file_level),
+                        l.is_hit_file_last_in_level),
+        l.level);
     if (timer_enabled) {
-      PERF_COUNTER_BY_LEVEL_ADD(get_from_table_nanos, timer.ElapsedNanos(),
-                                fp.GetCurrentLevel());
+      l.elapsed_nanos = timer.ElapsedNanos();
     }
-    if (!s.ok()) {
-      // TODO: Set status for individual keys appropriately
-      for (auto iter = file_range.begin(); iter != file_range.end(); ++iter) {
-        *iter->s = s;
-        file_range.MarkKeyDone(iter);
+  };
+
+  while (f != nullptr) {
+    lookups.clear();
+    lookups.emplace_back(f, fp.CurrentFileRange(), fp.GetHitFileLevel(),
+                         fp.IsHitFileLastInLevel(), fp.GetCurrentLevel());
+    // A key may only be looked up in the next file of the level once its
+    // lookup in the previous one is done, and the results of a level decide
+    // which keys are looked up in the next levels
+    if (parallel_files > 1 && fp.GetCurrentLevel() > 0) {
+      while (lookups.size() < parallel_files && !fp.MayRepeatKey()) {
+        f = fp.GetNextFileInLevel();
+        if (f == nullptr) {
+          break;
+        }
+        lookups.emplace_back(f, fp.CurrentFileRange(), fp.GetHitFileLevel(),
+                             fp.IsHitFileLastInLevel(), fp.GetCurrentLevel());
       }
-      return;
     }
-    uint64_t batch_size = 0;
-    for (auto iter = file_range.begin(); iter != file_range.end(); ++iter) {
-      GetContext& get_context = *iter->get_context;
-      Status* status = iter->s;
+    if (lookups.size() > 1) {
+      ParallelMultiGetLookups::Run(env_, lookups.size(), lookup);
+    } else {
+      lookup(0);
+    }
 
-      if (get_context.sample()) {
-        sample_file_read_inc(f->file_metadata);
+    for (MultiGetFileLookup& l : lookups) {
+      MultiGetRange& file_range = l.file_range;
+      // TODO: examine the behavior for corrupted key
+      if (timer_enabled) {
+        PERF_COUNTER_BY_LEVEL_ADD(get_from_table_nanos, l.elapsed_nanos,
+                                  l.level);
       }
-      batch_size++;
-      // report the counters before returning
-      if (get_context.State() != GetContext::kNotFound &&
-          get_context.State() != GetContext::kMerge &&
-          db_statistics_ != nullptr) {
-        get_context.ReportCounters();
-      } else {
-        if (iter->max_covering_tombstone_seq > 0) {
-          // The remaining files we look at will only contain covered keys, so
-          // we stop here for this key
-          file_picker_range.SkipKey(iter);
+      if (!l.s.ok()) {
+        // TODO: Set status for individual keys appropriately
+        for (auto iter = file_range.begin(); iter != file_range.end();
+             ++iter) {
+          *iter->s = l.s;
+          file_range.MarkKeyDone(iter);
         }
+        return;
       }
-      switch (get_context.State()) {
-        case GetContext::kNotFound:
-          // Keep searching in other files
-          break;
-        case GetContext::kMerge:
-          // TODO: update per-level perfcontext user_key_return_count for kMerge
-          break;
-        case GetContext::kFound:
-          if (fp.GetHitFileLevel() == 0) {
-            RecordTick(db_statistics_, GET_HIT_L0);
-          } else if (fp.GetHitFileLevel() == 1) {
-            RecordTick(db_statistics_, GET_HIT_L1);
-          } else if (fp.GetHitFileLevel() >= 2) {
-            RecordTick(db_statistics_, GET_HIT_L2_AND_UP);
+      uint64_t batch_size = 0;
+      for (auto iter = file_range.begin(); iter != file_range.end(); ++iter) {
+        GetContext& get_context = *iter->get_context;
+        Status* status = iter->s;
+
+        if (get_context.sample()) {
+          sample_file_read_inc(l.f->file_metadata);
+        }
+        batch_size++;
+        // report the counters before returning
+        if (get_context.State() != GetContext::kNotFound &&
+            get_context.State() != GetContext::kMerge &&
+            db_statistics_ != nullptr) {
+          get_context.ReportCounters();
+        } else {
+          if (iter->max_covering_tombstone_seq > 0) {
+            // The remaining files we look at will only contain covered keys,
+            // so we stop here for this key
+            file_picker_range.SkipKey(iter);
           }
-          PERF_COUNTER_BY_LEVEL_ADD(user_key_return_count, 1,
-                                    fp.GetHitFileLevel());
-          file_range.MarkKeyDone(iter);
-          continue;
-        case GetContext::kDeleted:
-          // Use empty error message for speed
-          *status = Status::NotFound();
-          file_range.MarkKeyDone(iter);
-          continue;
-        case GetContext::kCorrupt:
-          *status =
-              Status::Corruption("corrupted key for ", iter->lkey->user_key());
-          file_range.MarkKeyDone(iter);
-          continue;
-        case GetContext::kBlobIndex:
-          ROCKS_LOG_ERROR(info_log_, "Encounter unexpected blob index.");
-          *status = Status::NotSupported(
-              "Encounter unexpected blob index. Please open DB with "
-              "rocksdb::blob_db::BlobDB instead.");
-          file_range.MarkKeyDone(iter);
-          continue;
+        }
+        switch (get_context.State()) {
+          case GetContext::kNotFound:
+            // Keep searching in other files
+            break;
+          case GetContext::kMerge:
+            // TODO: update per-level perfcontext user_key_return_count for
+            // kMerge
+            break;
+          case GetContext::kFound:
+            if (l.hit_file_level == 0) {
+              RecordTick(db_statistics_, GET_HIT_L0);
+            } else if (l.hit_file_level == 1) {
+              RecordTick(db_statistics_, GET_HIT_L1);
+            } else if (l.hit_file_level >= 2) {
+              RecordTick(db_statistics_, GET_HIT_L2_AND_UP);
+            }
+            PERF_COUNTER_BY_LEVEL_ADD(user_key_return_count, 1,
+                                      l.hit_file_level);
+            file_range.MarkKeyDone(iter);
+            continue;
+          case GetContext::kDeleted:
+            // Use empty error message for speed
+            *status = Status::NotFound();
+            file_range.MarkKeyDone(iter);
+            continue;
+          case GetContext::kCorrupt:
+            *status = Status::Corruption("corrupted key for ",
+                                         iter->lkey->user_key());
+            file_range.MarkKeyDone(iter);
+            continue;
+          case GetContext::kBlobIndex:
+            ROCKS_LOG_ERROR(info_log_, "Encounter unexpected blob index.");
+            *status = Status::NotSupported(
+                "Encounter unexpected blob index. Please open DB with "
+                "rocksdb::blob_db::BlobDB instead.");
+            file_range.MarkKeyDone(iter);
+            continue;
+        }
       }
+      RecordInHistogram(db_statistics_, SST_BATCH_SIZE, batch_size);
     }
-    RecordInHistogram(db_statistics_, SST_BATCH_SIZE, batch_size);
     if (file_picker_range.empty()) {
       break;
     }
@@ -2442,10 +2698,15 @@ void VersionStorageInfo::ComputeCompactionScore(
   ComputeBottommostFilesMarkedForCompaction();
   if (mutable_cf_options.ttl > 0) {
     ComputeExpiredTtlFiles(immutable_cf_options, mutable_cf_options.ttl);
+  } else {
+    // the files found whilst the option was set are not due anymore
+    expired_ttl_files_.clear();
   }
   if (mutable_cf_options.periodic_compaction_seconds > 0) {
     ComputeFilesMarkedForPeriodicCompaction(
         immutable_cf_options, mutable_cf_options.periodic_compaction_seconds);
+  } else {
+    files_marked_for_periodic_compaction_.clear();
   }
   EstimateCompactionBytesNeeded(mutable_cf_options);
 }
@@ -2486,7 +2747,12 @@ void VersionStorageInfo::ComputeExpiredTtlFiles(
   }
   const uint64_t current_time = static_cast<uint64_t>(_current_time);
 
-  for (int level = 0; level < num_levels() - 1; level++) {
+  // FIFO compaction deletes the expired files of its single level, the
+  // other compaction styles compact them down to the next level
+  const int end_level = compaction_style_ == kCompactionStyleFIFO
+                            ? num_levels()
+                            : num_levels() - 1;
+  for (int level = 0; level < end_level; level++) {
     for (FileMetaData* f : files_[level]) {
       if (!f->being_compacted) {
         uint64_t oldest_ancester_time = f->TryGetOldestAncesterTime();
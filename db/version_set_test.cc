@@ -375,6 +375,35 @@ TEST_F(VersionStorageInfoTest, EstimateLiveDataSize2) {
   ASSERT_EQ(4U, vstorage_.EstimateLiveDataSize());
 }
 
+TEST_F(VersionStorageInfoTest, ExpiredFilesClearedWhenDisabled) {
+  // a file of the very beginning of the epoch, so that it is due for both
+  // the ttl and the periodic compaction
+  FileMetaData* f = new FileMetaData(
+      1U, 0, 1U, GetInternalKey("1", 0), GetInternalKey("2", 0),
+      /* smallest_seq */ 0, /* largest_seq */ 0,
+      /* marked_for_compact */ false, kInvalidBlobFileNumber,
+      /* oldest_ancester_time */ 1, /* file_creation_time */ 1);
+  f->compensated_file_size = 1U;
+  vstorage_.AddFile(0, f);
+  vstorage_.UpdateNumNonEmptyLevels();
+  vstorage_.CalculateBaseBytes(ioptions_, mutable_cf_options_);
+  vstorage_.GenerateLevelFilesBrief();
+  vstorage_.SetFinalized();
+
+  mutable_cf_options_.ttl = 1000;
+  mutable_cf_options_.periodic_compaction_seconds = 1000;
+  vstorage_.ComputeCompactionScore(ioptions_, mutable_cf_options_);
+  ASSERT_EQ(1U, vstorage_.ExpiredTtlFiles().size());
+  ASSERT_EQ(1U, vstorage_.FilesMarkedForPeriodicCompaction().size());
+
+  // the same version is scored again after the options are disabled
+  mutable_cf_options_.ttl = 0;
+  mutable_cf_options_.periodic_compaction_seconds = 0;
+  vstorage_.ComputeCompactionScore(ioptions_, mutable_cf_options_);
+  ASSERT_TRUE(vstorage_.ExpiredTtlFiles().empty());
+  ASSERT_TRUE(vstorage_.FilesMarkedForPeriodicCompaction().empty());
+}
+
 TEST_F(VersionStorageInfoTest, GetOverlappingInputs) {
   // Two files that overlap at the range deletion tombstone sentinel.
   Add(1, 1U, {"a", 0, kTypeValue}, {"b", kMaxSequenceNumber, kTypeRangeDeletion}, 1);
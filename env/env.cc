@@ -475,6 +475,23 @@ EnvOptions::EnvOptions() {
   AssignEnvOptions(this, options);
 }
 
+namespace {
+// A CompositeEnvWrapper which keeps its FileSystem alive
+class SharedFileSystemCompositeEnv : public CompositeEnvWrapper {
+ public:
+  SharedFileSystemCompositeEnv(Env* base_env,
+                               const std::shared_ptr<FileSystem>& fs)
+      : CompositeEnvWrapper(base_env, fs.get()), fs_(fs) {}
+
+ private:
+  std::shared_ptr<FileSystem> fs_;
+};
+}  // namespace
+
+Env* NewCompositeEnv(Env* base_env, const std::shared_ptr<FileSystem>& fs) {
+  return new SharedFileSystemCompositeEnv(base_env, fs);
+}
+
 Status NewEnvLogger(const std::string& fname, Env* env,
                     std::shared_ptr<Logger>* result) {
   EnvOptions options;
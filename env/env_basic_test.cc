@@ -11,6 +11,7 @@
 
 #include "env/mock_env.h"
 #include "rocksdb/env.h"
+#include "rocksdb/file_system.h"
 #include "test_util/testharness.h"
 
 namespace rocksdb {
@@ -94,6 +95,15 @@ static std::unique_ptr<Env> mem_env(NewMemEnv(Env::Default()));
 INSTANTIATE_TEST_CASE_P(MemEnv, EnvBasicTestWithParam,
                         ::testing::Values(mem_env.get()));
 
+static std::unique_ptr<Env> composite_env(
+    NewCompositeEnv(Env::Default(), FileSystem::Default()));
+static std::unique_ptr<Env> normalized_composite_env(
+    new NormalizingEnvWrapper(composite_env.get()));
+INSTANTIATE_TEST_CASE_P(CompositeEnv, EnvBasicTestWithParam,
+                        ::testing::Values(normalized_composite_env.get()));
+INSTANTIATE_TEST_CASE_P(CompositeEnv, EnvMoreTestWithParam,
+                        ::testing::Values(normalized_composite_env.get()));
+
 namespace {
 
 // Returns a vector of 0 or 1 Env*, depending whether an Env is registered for
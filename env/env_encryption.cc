@@ -5,15 +5,30 @@
 
 #ifndef ROCKSDB_LITE
 
+#ifdef OS_WIN
+// declares rand_s
+#define _CRT_RAND_S
+#include <stdlib.h>
+#else
+#include <fcntl.h>
+#include <unistd.h>
+#endif
+
 #include <algorithm>
 #include <cassert>
 #include <cctype>
+#include <cerrno>
+#include <cstring>
 #include <iostream>
 
 #include "rocksdb/env_encryption.h"
+
+#if defined(__GNUC__) && (defined(__x86_64__) || defined(__i386__))
+#include <wmmintrin.h>
+#endif
+
 #include "util/aligned_buffer.h"
 #include "util/coding.h"
-#include "util/random.h"
 
 #endif
 
@@ -477,7 +492,11 @@ class EncryptedEnv : public EnvWrapper {
       // Initialize prefix
       prefixBuf.Alignment(underlying->GetRequiredBufferAlignment());
       prefixBuf.AllocateNewBuffer(prefixLength);
-      provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(), prefixLength);
+      status = provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(),
+                                          prefixLength);
+      if (!status.ok()) {
+        return status;
+      }
       prefixBuf.Size(prefixLength);
       prefixSlice = Slice(prefixBuf.BufferStart(), prefixBuf.CurrentSize());
       // Write prefix
@@ -524,7 +543,11 @@ class EncryptedEnv : public EnvWrapper {
       // Initialize prefix
       prefixBuf.Alignment(underlying->GetRequiredBufferAlignment());
       prefixBuf.AllocateNewBuffer(prefixLength);
-      provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(), prefixLength);
+      status = provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(),
+                                          prefixLength);
+      if (!status.ok()) {
+        return status;
+      }
       prefixBuf.Size(prefixLength);
       prefixSlice = Slice(prefixBuf.BufferStart(), prefixBuf.CurrentSize());
       // Write prefix
@@ -566,7 +589,11 @@ class EncryptedEnv : public EnvWrapper {
       // Initialize prefix
       prefixBuf.Alignment(underlying->GetRequiredBufferAlignment());
       prefixBuf.AllocateNewBuffer(prefixLength);
-      provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(), prefixLength);
+      status = provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(),
+                                          prefixLength);
+      if (!status.ok()) {
+        return status;
+      }
       prefixBuf.Size(prefixLength);
       prefixSlice = Slice(prefixBuf.BufferStart(), prefixBuf.CurrentSize());
       // Write prefix
@@ -622,7 +649,11 @@ class EncryptedEnv : public EnvWrapper {
         prefixBuf.Size(prefixLength);
       } else {
         // File is new, initialize & write prefix
-        provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(), prefixLength);
+        status = provider_->CreateNewPrefix(fname, prefixBuf.BufferStart(),
+                                            prefixLength);
+        if (!status.ok()) {
+          return status;
+        }
         prefixBuf.Size(prefixLength);
         prefixSlice = Slice(prefixBuf.BufferStart(), prefixBuf.CurrentSize());
         // Write prefix
@@ -801,6 +832,158 @@ Status ROT13BlockCipher::Decrypt(char *data) {
   return Encrypt(data);
 }
 
+#if defined(__GNUC__) && (defined(__x86_64__) || defined(__i386__))
+namespace {
+#define AESNI_TARGET __attribute__((__target__("aes,sse2")))
+
+// Expands the previous round key of an AES-128 key schedule, or the even
+// round keys of an AES-256 key schedule
+AESNI_TARGET inline __m128i AESKeyExpand(__m128i key, __m128i keygened) {
+  keygened = _mm_shuffle_epi32(keygened, 0xff);
+  key = _mm_xor_si128(key, _mm_slli_si128(key, 4));
+  key = _mm_xor_si128(key, _mm_slli_si128(key, 4));
+  key = _mm_xor_si128(key, _mm_slli_si128(key, 4));
+  return _mm_xor_si128(key, keygened);
+}
+
+// Expands the odd round keys of an AES-256 key schedule
+AESNI_TARGET inline __m128i AES256KeyExpandOdd(__m128i key, __m128i prev) {
+  __m128i keygened =
+      _mm_shuffle_epi32(_mm_aeskeygenassist_si128(prev, 0x00), 0xaa);
+  key = _mm_xor_si128(key, _mm_slli_si128(key, 4));
+  key = _mm_xor_si128(key, _mm_slli_si128(key, 4));
+  key = _mm_xor_si128(key, _mm_slli_si128(key, 4));
+  return _mm_xor_si128(key, keygened);
+}
+
+// Overwrites key material with zeros, through a volatile pointer so that
+// the stores are not removed as dead by the compiler
+inline void WipeKey(void* key, size_t size) {
+  volatile char* p = static_cast<volatile char*>(key);
+  for (size_t i = 0; i < size; i++) {
+    p[i] = 0;
+  }
+}
+
+#define AES128_ROUND_KEY(i, rcon)                                       \
+  keys[i] = AESKeyExpand(keys[(i)-1],                                   \
+                         _mm_aeskeygenassist_si128(keys[(i)-1], (rcon)))
+#define AES256_ROUND_KEYS(i, rcon)                                      \
+  keys[i] = AESKeyExpand(keys[(i)-2],                                   \
+                         _mm_aeskeygenassist_si128(keys[(i)-1], (rcon))); \
+  keys[(i) + 1] = AES256KeyExpandOdd(keys[(i)-1], keys[i])
+
+// Implements a BlockCipher using AES with the AES-NI instructions
+class AESNIBlockCipher : public BlockCipher {
+ public:
+  AESNI_TARGET explicit AESNIBlockCipher(const std::string& key)
+      : rounds_(key.size() == 16 ? 10 : 14) {
+    __m128i keys[15];
+    keys[0] = _mm_loadu_si128(reinterpret_cast<const __m128i*>(key.data()));
+    if (rounds_ == 10) {
+      AES128_ROUND_KEY(1, 0x01);
+      AES128_ROUND_KEY(2, 0x02);
+      AES128_ROUND_KEY(3, 0x04);
+      AES128_ROUND_KEY(4, 0x08);
+      AES128_ROUND_KEY(5, 0x10);
+      AES128_ROUND_KEY(6, 0x20);
+      AES128_ROUND_KEY(7, 0x40);
+      AES128_ROUND_KEY(8, 0x80);
+      AES128_ROUND_KEY(9, 0x1b);
+      AES128_ROUND_KEY(10, 0x36);
+    } else {
+      keys[1] =
+          _mm_loadu_si128(reinterpret_cast<const __m128i*>(key.data() + 16));
+      AES256_ROUND_KEYS(2, 0x01);
+      AES256_ROUND_KEYS(4, 0x02);
+      AES256_ROUND_KEYS(6, 0x04);
+      AES256_ROUND_KEYS(8, 0x08);
+      AES256_ROUND_KEYS(10, 0x10);
+      AES256_ROUND_KEYS(12, 0x20);
+      keys[14] =
+          AESKeyExpand(keys[12], _mm_aeskeygenassist_si128(keys[13], 0x40));
+    }
+
+    // the decryption round keys are the encryption round keys in reverse
+    // order, passed through InvMixColumns
+    for (int i = 0; i <= rounds_; i++) {
+      StoreRoundKey(enc_keys_, i, keys[i]);
+      const __m128i dec_key = (i == 0 || i == rounds_)
+                                  ? keys[rounds_ - i]
+                                  : _mm_aesimc_si128(keys[rounds_ - i]);
+      StoreRoundKey(dec_keys_, i, dec_key);
+    }
+    WipeKey(keys, sizeof(keys));
+  }
+
+  ~AESNIBlockCipher() override {
+    WipeKey(enc_keys_, sizeof(enc_keys_));
+    WipeKey(dec_keys_, sizeof(dec_keys_));
+  }
+
+  size_t BlockSize() override { return 16; }
+
+  AESNI_TARGET Status Encrypt(char* data) override {
+    __m128i block = _mm_loadu_si128(reinterpret_cast<__m128i*>(data));
+    block = _mm_xor_si128(block, LoadRoundKey(enc_keys_, 0));
+    for (int i = 1; i < rounds_; i++) {
+      block = _mm_aesenc_si128(block, LoadRoundKey(enc_keys_, i));
+    }
+    block = _mm_aesenclast_si128(block, LoadRoundKey(enc_keys_, rounds_));
+    _mm_storeu_si128(reinterpret_cast<__m128i*>(data), block);
+    return Status::OK();
+  }
+
+  AESNI_TARGET Status Decrypt(char* data) override {
+    __m128i block = _mm_loadu_si128(reinterpret_cast<__m128i*>(data));
+    block = _mm_xor_si128(block, LoadRoundKey(dec_keys_, 0));
+    for (int i = 1; i < rounds_; i++) {
+      block = _mm_aesdec_si128(block, LoadRoundKey(dec_keys_, i));
+    }
+    block = _mm_aesdeclast_si128(block, LoadRoundKey(dec_keys_, rounds_));
+    _mm_storeu_si128(reinterpret_cast<__m128i*>(data), block);
+    return Status::OK();
+  }
+
+ private:
+  // the round keys are stored unaligned, so that the cipher does not
+  // require an aligned allocation
+  AESNI_TARGET static void StoreRoundKey(char* keys, int i, __m128i key) {
+    _mm_storeu_si128(reinterpret_cast<__m128i*>(keys + 16 * i), key);
+  }
+
+  AESNI_TARGET static __m128i LoadRoundKey(const char* keys, int i) {
+    return _mm_loadu_si128(reinterpret_cast<const __m128i*>(keys + 16 * i));
+  }
+
+  const int rounds_;
+  char enc_keys_[15 * 16];
+  char dec_keys_[15 * 16];
+};
+
+#undef AES256_ROUND_KEYS
+#undef AES128_ROUND_KEY
+#undef AESNI_TARGET
+}  // namespace
+
+Status NewAESBlockCipher(const std::string& key,
+                         std::unique_ptr<BlockCipher>* result) {
+  if (key.size() != 16 && key.size() != 32) {
+    return Status::InvalidArgument("AES key must be 16 or 32 bytes");
+  }
+  if (!__builtin_cpu_supports("aes")) {
+    return Status::NotSupported("AES-NI is not supported by the CPU");
+  }
+  result->reset(new AESNIBlockCipher(key));
+  return Status::OK();
+}
+#else
+Status NewAESBlockCipher(const std::string& /*key*/,
+                         std::unique_ptr<BlockCipher>* /*result*/) {
+  return Status::NotSupported("AES-NI is not supported on this platform");
+}
+#endif
+
 // Allocate scratch space which is passed to EncryptBlock/DecryptBlock.
 void CTRCipherStream::AllocateScratch(std::string& scratch) {
   auto blockSize = cipher_.BlockSize();
@@ -853,16 +1036,55 @@ static void decodeCTRParameters(const char *prefix, size_t blockSize, uint64_t &
   iv = Slice(prefix + blockSize, blockSize);
 }
 
+// fillCryptographicallyRandom fills the given buffer from the random number
+// generator of the operating system, so that no two files share an initial
+// counter & IV.
+static Status fillCryptographicallyRandom(char *data, size_t size) {
+#ifdef OS_WIN
+  for (size_t i = 0; i < size; i += sizeof(unsigned int)) {
+    unsigned int value;
+    if (rand_s(&value) != 0) {
+      return Status::IOError("Unable to generate random prefix");
+    }
+    memcpy(data + i, &value, std::min(sizeof(value), size - i));
+  }
+  return Status::OK();
+#else
+  int fd;
+  do {
+    fd = open("/dev/urandom", O_RDONLY | O_CLOEXEC);
+  } while (fd < 0 && errno == EINTR);
+  if (fd < 0) {
+    return Status::IOError("While opening /dev/urandom", strerror(errno));
+  }
+  Status s;
+  size_t done = 0;
+  while (done < size) {
+    ssize_t r = read(fd, data + done, size - done);
+    if (r < 0 && errno == EINTR) {
+      continue;
+    }
+    if (r <= 0) {
+      s = Status::IOError("While reading /dev/urandom",
+                          r < 0 ? strerror(errno) : "end of file");
+      break;
+    }
+    done += static_cast<size_t>(r);
+  }
+  close(fd);
+  return s;
+#endif
+}
+
 // CreateNewPrefix initialized an allocated block of prefix memory
 // for a new file.
 Status CTREncryptionProvider::CreateNewPrefix(const std::string& /*fname*/,
                                               char* prefix,
                                               size_t prefixLength) {
-  // Create & seed rnd.
-  Random rnd((uint32_t)Env::Default()->NowMicros());
   // Fill entire prefix block with random values.
-  for (size_t i = 0; i < prefixLength; i++) {
-    prefix[i] = rnd.Uniform(256) & 0xFF;
+  Status s = fillCryptographicallyRandom(prefix, prefixLength);
+  if (!s.ok()) {
+    return s;
   }
   // Take random data to extract initial counter & IV
   auto blockSize = cipher_.BlockSize();
@@ -35,6 +35,7 @@
 #include "port/malloc.h"
 #include "port/port.h"
 #include "rocksdb/env.h"
+#include "rocksdb/env_encryption.h"
 #include "test_util/sync_point.h"
 #include "test_util/testharness.h"
 #include "test_util/testutil.h"
@@ -1846,6 +1847,48 @@ TEST_F(EnvTest, Close) {
   delete env;
 }
 
+#ifndef ROCKSDB_LITE
+TEST_F(EnvTest, AESBlockCipher) {
+  // the example vectors of FIPS-197, appendix C
+  struct {
+    size_t key_size;
+    const char* ciphertext;
+  } vectors[] = {
+      {16, "\x69\xc4\xe0\xd8\x6a\x7b\x04\x30"
+           "\xd8\xcd\xb7\x80\x70\xb4\xc5\x5a"},
+      {32, "\x8e\xa2\xb7\xca\x51\x67\x45\xbf"
+           "\xea\xfc\x49\x90\x4b\x49\x60\x89"},
+  };
+  const std::string plaintext(
+      "\x00\x11\x22\x33\x44\x55\x66\x77"
+      "\x88\x99\xaa\xbb\xcc\xdd\xee\xff",
+      16);
+
+  std::unique_ptr<BlockCipher> cipher;
+  ASSERT_TRUE(NewAESBlockCipher("too short", &cipher).IsInvalidArgument());
+
+  for (const auto& vector : vectors) {
+    std::string key;
+    for (size_t i = 0; i < vector.key_size; i++) {
+      key.push_back(static_cast<char>(i));
+    }
+    Status s = NewAESBlockCipher(key, &cipher);
+    if (s.IsNotSupported()) {
+      fprintf(stderr, "skipping, %s\n", s.ToString().c_str());
+      return;
+    }
+    ASSERT_OK(s);
+    ASSERT_EQ(16U, cipher->BlockSize());
+
+    std::string block = plaintext;
+    ASSERT_OK(cipher->Encrypt(&block[0]));
+    ASSERT_EQ(std::string(vector.ciphertext, 16), block);
+    ASSERT_OK(cipher->Decrypt(&block[0]));
+    ASSERT_EQ(plaintext, block);
+  }
+}
+#endif  // ROCKSDB_LITE
+
 INSTANTIATE_TEST_CASE_P(DefaultEnvWithoutDirectIO, EnvPosixTestWithParam,
                         ::testing::Values(std::pair<Env*, bool>(Env::Default(),
                                                                 false)));
@@ -75,6 +75,10 @@ Status FilePrefetchBuffer::Prefetch(RandomAccessFileReader* reader,
   // bytes from old buffer if needed (i.e., if chunk_len is greater than 0).
   if (buffer_.Capacity() < roundup_len) {
     buffer_.Alignment(alignment);
+    if (reader->use_direct_io()) {
+      // The readahead buffers of compaction inputs are allocated per file
+      buffer_.Pool(AlignedBufferPool::Default(), reader->stats());
+    }
     buffer_.AllocateNewBuffer(static_cast<size_t>(roundup_len),
                               copy_data_to_new_buffer, chunk_offset_in_buffer,
                               static_cast<size_t>(chunk_len));
@@ -79,6 +79,9 @@ class FilePrefetchBuffer {
   // tracked if track_min_offset = true.
   size_t min_offset_read() const { return min_offset_read_; }
 
+  // The size of the next readahead, see the constructor.
+  size_t readahead_size() const { return readahead_size_; }
+
  private:
   AlignedBuffer buffer_;
   uint64_t buffer_offset_;
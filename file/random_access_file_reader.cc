@@ -40,6 +40,7 @@ Status RandomAccessFileReader::Read(uint64_t offset, size_t n, Slice* result,
           Roundup(static_cast<size_t>(offset + n), alignment) - aligned_offset;
       AlignedBuffer buf;
       buf.Alignment(alignment);
+      buf.Pool(AlignedBufferPool::Default(), stats_);
       buf.AllocateNewBuffer(read_size);
       while (buf.CurrentSize() < read_size) {
         size_t allowed;
@@ -115,6 +115,8 @@ class RandomAccessFileReader {
 
   std::string file_name() const { return file_name_; }
 
+  Statistics* stats() const { return stats_; }
+
   bool use_direct_io() const { return file_->use_direct_io(); }
 };
 }  // namespace rocksdb
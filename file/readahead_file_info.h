@@ -0,0 +1,27 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#pragma once
+#include <stddef.h>
+#include <stdint.h>
+
+#include "rocksdb/slice.h"
+
+namespace rocksdb {
+
+// The state of the implicit auto readahead of a table file iterator, which
+// ReadOptions::adaptive_readahead carries over to the iterator of the next
+// file of a level.
+struct ReadaheadFileInfo {
+  // The size of the next readahead
+  size_t readahead_size = 0;
+  // The number of sequential data block reads so far
+  int64_t num_file_reads = 0;
+  // The upper bound of the scan hinted by Iterator::Prefetch(), if any, which
+  // holds for the next file from its first seek on
+  const Slice* prefetch_upper_bound = nullptr;
+};
+
+}  // namespace rocksdb
@@ -129,7 +129,21 @@ extern std::shared_ptr<Cache> NewClockCache(
     size_t capacity, int num_shard_bits = -1,
     bool strict_capacity_limit = false,
     CacheMetadataChargePolicy metadata_charge_policy =
-        kDefaultCacheMetadataChargePolicy);
+        kDefaultCacheMetadataChargePolicy,
+    std::shared_ptr<MemoryAllocator> memory_allocator = nullptr);
+
+// Create a cache which only inserts a new entry into the target cache when
+// its key was looked up at least min_frequency times recently, as estimated
+// by a count-min sketch, so that the blocks read once by a scan do not
+// evict the working set of the target cache. An entry which is not
+// admitted is only kept until its handle is released. Entries inserted with
+// Priority::HIGH, such as index and filter blocks, are always admitted.
+// See cache/admission_cache.h for more detail.
+//
+// Return nullptr if target is nullptr.
+extern std::shared_ptr<Cache> NewFrequencyAdmissionCache(
+    const std::shared_ptr<Cache>& target, uint32_t min_frequency = 2);
+
 class Cache {
  public:
   // Depending on implementation, cache entries with high priority could be less
@@ -659,6 +659,16 @@ class DB {
     //      pending; otherwise, returns 0.
     static const std::string kCompactionPending;
 
+    //  "rocksdb.num-files-pending-ttl-compaction" - returns the number of
+    //      files whose data is older than the ttl option, and which are
+    //      waiting to be compacted, or deleted by FIFO compaction.
+    static const std::string kNumFilesPendingTtlCompaction;
+
+    //  "rocksdb.num-files-pending-periodic-compaction" - returns the number
+    //      of files which are older than periodic_compaction_seconds, and
+    //      which are waiting to be compacted.
+    static const std::string kNumFilesPendingPeriodicCompaction;
+
     //  "rocksdb.num-running-compactions" - returns the number of currently
     //      running compactions.
     static const std::string kNumRunningCompactions;
@@ -769,6 +779,16 @@ class DB {
     //      specified level "N" at the target column family.
     static const std::string kAggregatedTablePropertiesAtLevel;
 
+    //  "rocksdb.filter-size-per-level" - returns a multi-line string with
+    //      the number of files, the total size of the filters and the number
+    //      of entries of the table files at each non-empty level, and their
+    //      sum, from the table properties. As the filters are cached like
+    //      the data blocks, this shows how much of the block cache the
+    //      filters of each level can take. As a map property, the keys
+    //      are "L<N>.NumFiles", "L<N>.FilterBytes" and "L<N>.NumEntries",
+    //      and "Sum.*" for the sum.
+    static const std::string kFilterSizePerLevel;
+
     //  "rocksdb.actual-delayed-write-rate" - returns the current actual delayed
     //      write rate. 0 means no delay.
     static const std::string kActualDelayedWriteRate;
@@ -822,6 +842,8 @@ class DB {
   //  "rocksdb.num-immutable-mem-table"
   //  "rocksdb.mem-table-flush-pending"
   //  "rocksdb.compaction-pending"
+  //  "rocksdb.num-files-pending-ttl-compaction"
+  //  "rocksdb.num-files-pending-periodic-compaction"
   //  "rocksdb.background-errors"
   //  "rocksdb.cur-size-active-mem-table"
   //  "rocksdb.cur-size-all-mem-tables"
@@ -43,6 +43,7 @@ namespace rocksdb {
 
 class DynamicLibrary;
 class FileLock;
+class FileSystem;
 class Logger;
 class RandomAccessFile;
 class SequentialFile;
@@ -1578,6 +1579,13 @@ Status NewHdfsEnv(Env** hdfs_env, const std::string& fsname);
 // This is a factory method for TimedEnv defined in utilities/env_timed.cc.
 Env* NewTimedEnv(Env* base_env);
 
+// Returns a new environment which performs all of its file-storage tasks
+// with the specified FileSystem, and delegates all non-file-storage tasks
+// to base_env. The result shares the ownership of fs. The caller must
+// delete the result when it is no longer needed.
+// *base_env must remain live while the result is in use.
+Env* NewCompositeEnv(Env* base_env, const std::shared_ptr<FileSystem>& fs);
+
 // Returns an instance of logger that can be used for storing informational
 // messages.
 // This is a factory method for EnvLogger declared in logging/env_logging.h
@@ -93,6 +93,15 @@ class ROT13BlockCipher : public BlockCipher {
   virtual Status Decrypt(char* data) override;
 };
 
+// Creates a BlockCipher implementing AES, with a key of 16 bytes (AES-128)
+// or 32 bytes (AES-256). The cipher uses the AES-NI instructions of the CPU,
+// NotSupported is returned if these are not available.
+//
+// Note: The cipher is only as secure as the EncryptionProvider using it,
+// and the key management of the application.
+Status NewAESBlockCipher(const std::string& key,
+                         std::unique_ptr<BlockCipher>* result);
+
 // CTRCipherStream implements BlockAccessCipherStream using an
 // Counter operations mode.
 // See https://en.wikipedia.org/wiki/Block_cipher_mode_of_operation
@@ -174,7 +183,9 @@ class CTREncryptionProvider : public EncryptionProvider {
   virtual size_t GetPrefixLength() override;
 
   // CreateNewPrefix initialized an allocated block of prefix memory
-  // for a new file.
+  // for a new file. The initial counter & IV are taken from the random
+  // number generator of the operating system, and an error is returned
+  // when it is unavailable.
   virtual Status CreateNewPrefix(const std::string& fname, char* prefix,
                                  size_t prefixLength) override;
 
@@ -160,6 +160,19 @@ class FilterPolicy {
     return GetFilterBitsBuilder();
   }
 
+  // Return the policy whose filters are built for a table file with the
+  // given context, or nullptr if no filters are built for it. The policy
+  // returned must remain valid as long as this one. By default this policy
+  // is used for all table files; see NewLevelFilterPolicy().
+  //
+  // The results are compared by pointer identity, e.g. to decide whether a
+  // table file can be trivially moved to another level, so the same policy
+  // object must be returned for the contexts whose filters are the same.
+  virtual const FilterPolicy* GetPolicyForContext(
+      const FilterBuildingContext&) const {
+    return this;
+  }
+
   // Return a new FilterBitsReader for full or partitioned filter blocks, or
   // nullptr if using block-based filter.
   // As here, the input slice should NOT be deleted by FilterPolicy.
@@ -193,4 +206,53 @@ class FilterPolicy {
 // trailing spaces in keys.
 extern const FilterPolicy* NewBloomFilterPolicy(
     double bits_per_key, bool use_block_based_builder = false);
+
+// Return a new filter policy that uses a Ribbon filter, a static filter
+// which takes about 25-30% less memory than the Bloom filter of
+// NewBloomFilterPolicy() for a similar false positive rate, in exchange for
+// about twice the CPU time for building the filters, and more for queries
+// of filters in the CPU cache (queries of other filters are dominated by
+// the same cache misses). The filters are used as full or partitioned
+// filters, and the filters of small numbers of keys, for which a Ribbon
+// filter would not be smaller, are built as Bloom filters.
+//
+// bloom_equivalent_bits_per_key: the bits per key of the Bloom filter
+// whose false positive rate the Ribbon filter approximates, e.g. 10 for a
+// ~1% false positive rate, which takes about 7.5-8 bits per key. The false
+// positive rate is a power of two, closest to the one of the Bloom filter.
+//
+// The filters cannot be read by releases which do not support them: they
+// are ignored, as if the table files had no filters. The same notes as
+// for NewBloomFilterPolicy() apply.
+extern const FilterPolicy* NewRibbonFilterPolicy(
+    double bloom_equivalent_bits_per_key);
+
+// Return a new filter policy which builds the filters of each table file
+// with the policy for the level at which the file is created, for example
+// to spend more bits per key on the filters of the upper levels, which are
+// read most often, and none on the last level, where a filter mostly saves
+// I/O for keys which do not exist. This is a finer grained alternative to
+// ColumnFamilyOptions::optimize_filters_for_hits. Compactions do not
+// trivially move table files to a level with another policy, but rewrite
+// them with the filters of the new level. Two levels have the same policy
+// when they share the same element, a pointer to the same object, not
+// merely an equivalent policy. The same goes for the files ingested from
+// an SstFileWriter, which have the filters of the last element whatever
+// their level, and are rewritten before moving to a level with another
+// policy.
+//
+// policies_by_level[i] is used for the table files created at level i, and
+// the last element for the levels beyond as well as for the files created
+// at an unknown level, e.g. by SstFileWriter. A nullptr element means that
+// no filters are built for that level.
+//
+// The filters of all the policies are read, and the deprecated block-based
+// filters built, by the first non-null policy, so the policies must be
+// compatible, like the policies of NewBloomFilterPolicy() with different
+// numbers of bits per key, which all have the same name.
+//
+// Callers must delete the result after any database that is using the
+// result has been closed.
+extern const FilterPolicy* NewLevelFilterPolicy(
+    const std::vector<std::shared_ptr<const FilterPolicy>>& policies_by_level);
 }  // namespace rocksdb
@@ -94,6 +94,19 @@ class Iterator : public Cleanable {
     return Status::NotSupported("Refresh() is not supported");
   }
 
+  // A hint that the iterator is about to scan forward from its current
+  // position up to upper_bound, exclusive, e.g. after a Seek() to the start
+  // of a range scan whose end is known but which should not bound the
+  // iterator like ReadOptions::iterate_upper_bound. The table files of the
+  // range are then read ahead from the next read on, at the maximum size of
+  // the implicit auto readahead, rather than only after a few sequential
+  // reads of each file. With buffered I/O, the readahead stops at the end of
+  // the data block of upper_bound, or of ReadOptions::iterate_upper_bound if
+  // smaller. The hint holds until the next seek, and is ignored if
+  // ReadOptions::readahead_size is set or by iterators which do not read
+  // ahead.
+  virtual void Prefetch(const Slice& /*upper_bound*/) {}
+
   // Property "rocksdb.iterator.is-key-pinned":
   //   If returning "1", this means that the Slice returned by key() is valid
   //   as long as the iterator is not deleted.
@@ -74,4 +74,13 @@ extern Status NewJemallocNodumpAllocator(
     JemallocAllocatorOptions& options,
     std::shared_ptr<MemoryAllocator>* memory_allocator);
 
+// Generate a memory allocator which counts the bytes currently allocated,
+// the peak of the allocated bytes and the number of live allocations, for
+// diagnosing the memory usage of the block cache. The allocations are
+// passed on to target, or to the system allocator if target is nullptr.
+// Each allocation takes 16 more bytes from the underlying allocator to
+// record its size. See memory/counting_memory_allocator.h for the counters.
+extern std::shared_ptr<MemoryAllocator> NewCountingMemoryAllocator(
+    std::shared_ptr<MemoryAllocator> target = nullptr);
+
 }  // namespace rocksdb
@@ -38,6 +38,7 @@ class ConcurrentTaskLimiter;
 class Env;
 enum InfoLogLevel : unsigned char;
 class SstFileManager;
+class SstPartitionerFactory;
 class FilterPolicy;
 class Logger;
 class MergeOperator;
@@ -307,6 +308,15 @@ struct ColumnFamilyOptions : public AdvancedColumnFamilyOptions {
   // Default: nullptr
   std::shared_ptr<ConcurrentTaskLimiter> compaction_thread_limiter = nullptr;
 
+  // If non-nullptr, use the specified factory to create an SstPartitioner
+  // for each compaction, which can cut the output SST files at key
+  // boundaries of its choice, in addition to cutting them by size. E.g.
+  // NewSstPartitionerFixedPrefixFactory() keeps the keys of each fixed
+  // length prefix in separate files.
+  //
+  // Default: nullptr
+  std::shared_ptr<SstPartitionerFactory> sst_partitioner_factory = nullptr;
+
   // Create ColumnFamilyOptions with default values for all fields
   ColumnFamilyOptions();
   // Create ColumnFamilyOptions from Options
@@ -1302,6 +1312,34 @@ struct ReadOptions {
   // and the API is subject to change.
   const Slice* timestamp;
 
+  // If greater than 1, the batched MultiGet looks up the keys of a batch
+  // which fall in different table files of the same level, other than L0,
+  // concurrently, up to this many files at a time. The files are read by
+  // the calling thread and by the threads of the Env::Priority::USER pool of
+  // the Env, of which there are none by default (see
+  // Env::SetBackgroundThreads()), so that the latency of a batch whose keys
+  // miss the block cache is about that of the slowest file rather than the
+  // sum of the files of a level. The blocks of the keys of one file are read
+  // by one thread, together with RandomAccessFile::MultiRead(). Files of
+  // different levels are still looked up one level after the other, as the
+  // keys found in a level need not be looked up in the next ones. The perf
+  // and IO stats context counters of the lookups run by the pool threads are
+  // added to those of the calling thread, so their times are summed over the
+  // threads. Not used with a merge operator.
+  // Default: 1
+  size_t multiget_parallel_files;
+
+  // If true, the auto-readahead of iterators (see readahead_size) adapts to
+  // the access pattern. The readahead size reached in a table file carries
+  // over to the next file of the same level, so that a scan does not start
+  // over with small synchronous reads at every file boundary, and the
+  // readahead starts over at 8KB when the iterator reads a block which does
+  // not follow the previous one, e.g. after a Seek() elsewhere or while
+  // iterating backward, rather than still reading ahead up to 256KB.
+  // Not used if readahead_size is set.
+  // Default: false
+  bool adaptive_readahead;
+
   ReadOptions();
   ReadOptions(bool cksum, bool cache);
 };
@@ -340,6 +340,20 @@ enum Tickers : uint32_t {
   BLOCK_CACHE_COMPRESSION_DICT_ADD,
   BLOCK_CACHE_COMPRESSION_DICT_BYTES_INSERT,
   BLOCK_CACHE_COMPRESSION_DICT_BYTES_EVICT,
+
+  // # of entries evicted from the commit cache of WritePrepared transactions.
+  TXN_COMMIT_CACHE_EVICTIONS,
+  // # of prepared transactions moved out of the prepared heap, because the max
+  // evicted sequence number of the commit cache advanced beyond them.
+  TXN_PREPARED_EVICTIONS,
+
+  // # of aligned buffers for direct I/O taken from the aligned buffer pool
+  // instead of being allocated.
+  ALIGNED_BUFFER_REUSED,
+  // # of aligned buffers for direct I/O allocated, and the bytes allocated
+  // for them.
+  ALIGNED_BUFFER_ALLOCATED,
+  ALIGNED_BUFFER_ALLOCATED_BYTES,
   TICKER_ENUM_MAX
 };
 
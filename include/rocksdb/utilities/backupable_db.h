@@ -242,8 +242,13 @@ class BackupEngineReadOnly {
   // Otherwise, it compares the files' current sizes against their sizes when
   // the BackupEngine was opened.
   //
+  // If verify_with_checksum is true, the files are also read back and their
+  // crc32c checksums are compared with the checksums which were calculated
+  // when the backup was created.
+  //
   // Returns Status::OK() if all checks are good
-  virtual Status VerifyBackup(BackupID backup_id) = 0;
+  virtual Status VerifyBackup(BackupID backup_id,
+                              bool verify_with_checksum = false) = 0;
 };
 
 // A backup engine for creating new backups.
@@ -323,9 +328,12 @@ class BackupEngine {
       const RestoreOptions& restore_options = RestoreOptions()) = 0;
 
   // checks that each file exists and that the size of the file matches our
-  // expectations. it does not check file checksum.
+  // expectations. If verify_with_checksum is true, it also reads back each
+  // file and checks that its crc32c checksum matches the one calculated when
+  // the backup was created.
   // Returns Status::OK() if all checks are good
-  virtual Status VerifyBackup(BackupID backup_id) = 0;
+  virtual Status VerifyBackup(BackupID backup_id,
+                              bool verify_with_checksum = false) = 0;
 
   // Will delete any files left over from incomplete creation or deletion of
   // a backup. This is not normally needed as those operations also clean up
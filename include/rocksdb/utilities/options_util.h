@@ -78,6 +78,20 @@ Status LoadOptionsFromFile(const std::string& options_file_name, Env* env,
                            bool ignore_unknown_options = false,
                            std::shared_ptr<Cache>* cache = {});
 
+// Writes the specified DBOptions and ColumnFamilyDescriptors to the
+// specified options file, in the same format as the OPTIONS files which
+// RocksDB writes to its db path.  The written file can be loaded again
+// with LoadOptionsFromFile.
+//
+// Note that the pointer options, such as comparator, merge_operator,
+// block_cache and filter_policy, are only written by name, and will not be
+// fully reconstructed when loading the file.
+//
+// @see LoadOptionsFromFile
+Status SaveOptionsToFile(const std::string& options_file_name, Env* env,
+                         const DBOptions& db_options,
+                         const std::vector<ColumnFamilyDescriptor>& cf_descs);
+
 // Returns the latest options file name under the specified db path.
 Status GetLatestOptionsFileName(const std::string& dbpath, Env* env,
                                 std::string* options_file_name);
@@ -104,12 +104,23 @@ struct TransactionDBOptions {
   // pending writes into the database. A value of 0 or less means no limit.
   int64_t default_write_batch_flush_threshold = 0;
 
- private:
-  // 128 entries
+  // This option is only valid for write prepared and write unprepared. It is
+  // log2 of the number of entries in the cache of the live snapshots, which
+  // is consulted before the (slower) list of snapshots beyond the cache.
+  // Default: 7, i.e. 128 entries
   size_t wp_snapshot_cache_bits = static_cast<size_t>(7);
-  // 8m entry, 64MB size
+
+  // This option is only valid for write prepared and write unprepared. It is
+  // log2 of the number of entries in the commit cache, which maps the
+  // sequence numbers of recently committed transactions to their commit
+  // sequence numbers. Each entry takes 8 bytes. If the commit cache is too
+  // small for the rate of commits, entries are evicted whilst they are still
+  // needed by live snapshots, and reads have to fall back to slower
+  // structures; see the TXN_COMMIT_CACHE_EVICTIONS ticker.
+  // Default: 23, i.e. 8m entries, 64MB
   size_t wp_commit_cache_bits = static_cast<size_t>(23);
 
+ private:
   // For testing, whether transaction name should be auto-generated or not. This
   // is useful for write unprepared which requires named transactions.
   bool autogenerate_name = false;
@@ -409,6 +409,33 @@ public class DbBenchmark {
     }
   }
 
+  class ReadMissingTask extends BenchmarkTask {
+    public ReadMissingTask(
+        int tid, long randSeed, long numEntries, long keyRange) {
+      super(tid, randSeed, numEntries, keyRange);
+    }
+    @Override public void runTask() throws RocksDBException {
+      // an existing key followed by '.', which sorts between two existing
+      // keys, so that only the filters can avoid reading the data blocks
+      byte[] key = new byte[keySize_];
+      byte[] missingKey = new byte[keySize_ + 1];
+      missingKey[keySize_] = '.';
+      byte[] value = new byte[valueSize_];
+      for (long i = 0; i < numEntries_; i++) {
+        getRandomKey(key, keyRange_);
+        System.arraycopy(key, 0, missingKey, 0, keySize_);
+        int len = db_.get(missingKey, value);
+        if (len != RocksDB.NOT_FOUND) {
+          stats_.found_++;
+        }
+        stats_.finishedSingleOp(keySize_ + 1);
+        if (isFinished()) {
+          return;
+        }
+      }
+    }
+  }
+
   class ReadSequentialTask extends BenchmarkTask {
     public ReadSequentialTask(
         int tid, long randSeed, long numEntries, long keyRange) {
@@ -431,6 +458,29 @@ public class DbBenchmark {
     }
   }
 
+  class ScanTask extends BenchmarkTask {
+    public ScanTask(int tid, long randSeed, ReadOptions readOpt) {
+      super(tid, randSeed, Long.MAX_VALUE, Long.MAX_VALUE);
+      readOpt_ = readOpt;
+    }
+    @Override public void runTask() throws RocksDBException {
+      // scan the whole DB over and over, until the foreground tasks finish
+      while (!isFinished()) {
+        try (final RocksIterator iter = db_.newIterator(readOpt_)) {
+          for (iter.seekToFirst(); iter.isValid(); iter.next()) {
+            stats_.found_++;
+            stats_.finishedSingleOp(iter.key().length + iter.value().length);
+            if (isFinished()) {
+              return;
+            }
+          }
+        }
+      }
+    }
+
+    private final ReadOptions readOpt_;
+  }
+
   public DbBenchmark(Map<Flag, Object> flags) throws Exception {
     benchmarks_ = (List<String>) flags.get(Flag.benchmarks);
     num_ = (Integer) flags.get(Flag.num);
@@ -451,6 +501,7 @@ public class DbBenchmark {
     hashBucketCount_ = (Long) flags.get(Flag.hash_bucket_count);
     usePlainTable_ = (Boolean) flags.get(Flag.use_plain_table);
     useMemenv_ = (Boolean) flags.get(Flag.use_mem_env);
+    encryptionKey_ = (byte[]) flags.get(Flag.encryption_key);
     flags_ = flags;
     finishLock_ = new Object();
     // options.setPrefixSize((Integer)flags_.get(Flag.prefix_size));
@@ -495,6 +546,12 @@ public class DbBenchmark {
     if (useMemenv_) {
       options.setEnv(new RocksMemEnv(Env.getDefault()));
     }
+    if (encryptionKey_ != null) {
+      encryptionCipher_ = new AESBlockCipher(encryptionKey_);
+      encryptionProvider_ = new CTREncryptionProvider(encryptionCipher_);
+      encryptedEnv_ = new EncryptedEnv(options.getEnv(), encryptionProvider_);
+      options.setEnv(encryptedEnv_);
+    }
     switch (memtable_) {
       case "skip_list":
         options.setMemTableConfig(new SkipListMemTableConfig());
@@ -531,6 +588,19 @@ public class DbBenchmark {
                    .setBlockCacheSize((Long)flags_.get(Flag.cache_size))
                    .setCacheNumShardBits(
                       (Integer)flags_.get(Flag.cache_numshardbits));
+      if ((Integer)flags_.get(Flag.format_version) >= 0) {
+        table_options.setFormatVersion(
+            (Integer)flags_.get(Flag.format_version));
+      }
+      if ((Double)flags_.get(Flag.bloom_bits) >= 0) {
+        bloomFilter_ = new BloomFilter((Double)flags_.get(Flag.bloom_bits),
+            filterImplementation());
+        table_options.setFilterPolicy(bloomFilter_);
+      }
+      if ((Long)flags_.get(Flag.cache_size) >= 0) {
+        blockCache_ = newBlockCache();
+        table_options.setBlockCache(blockCache_);
+      }
       options.setTableFormatConfig(table_options);
     }
     options.setWriteBufferSize(
@@ -591,6 +661,10 @@ public class DbBenchmark {
         (Integer)flags_.get(Flag.max_successive_merges));
     options.setWalTtlSeconds((Long)flags_.get(Flag.wal_ttl_seconds));
     options.setWalSizeLimitMB((Long)flags_.get(Flag.wal_size_limit_MB));
+    if ((Boolean)flags_.get(Flag.statistics)) {
+      statistics_ = new Statistics();
+      options.setStatistics(statistics_);
+    }
     if(flags_.get(Flag.java_comparator) != null) {
       options.setComparator(
           (AbstractComparator)flags_.get(Flag.java_comparator));
@@ -601,7 +675,6 @@ public class DbBenchmark {
     options.setCompressionLevel((Integer)flags_.get(Flag.compression_level));
     options.setMinLevelToCompress((Integer)flags_.get(Flag.min_level_to_compress));
     options.setHdfs((String)flags_.get(Flag.hdfs)); // env
-    options.setStatistics((Boolean)flags_.get(Flag.statistics));
     options.setUniversalSizeRatio(
         (Integer)flags_.get(Flag.universal_size_ratio));
     options.setUniversalMinMergeWidth(
@@ -620,6 +693,28 @@ public class DbBenchmark {
     */
   }
 
+  private Cache newBlockCache() {
+    final long cacheSize = (Long)flags_.get(Flag.cache_size);
+    final int numShardBits = (Integer)flags_.get(Flag.cache_numshardbits);
+    final String cacheType = (String)flags_.get(Flag.cache_type);
+    switch (cacheType) {
+      case "lru":
+        return new LRUCache(cacheSize, numShardBits, false,
+            (Double)flags_.get(Flag.cache_high_pri_pool_ratio));
+      case "clock":
+        return new ClockCache(cacheSize, numShardBits);
+      case "frequency_admission":
+        admittedCache_ = new LRUCache(cacheSize, numShardBits, false,
+            (Double)flags_.get(Flag.cache_high_pri_pool_ratio));
+        return new FrequencyAdmissionCache(admittedCache_);
+      default:
+        System.err.format(
+            "unable to detect the specified cache type %s, " +
+                "use the default LRU cache%n", cacheType);
+        return new LRUCache(cacheSize, numShardBits);
+    }
+  }
+
   private void run() throws RocksDBException {
     if (!useExisting_) {
       destroyDb();
@@ -675,6 +770,12 @@ public class DbBenchmark {
                 currentTaskId++, randSeed_, reads_ / threadNum_, num_));
           }
           break;
+        case "readmissing":
+          for (int t = 0; t < threadNum_; ++t) {
+            tasks.add(new ReadMissingTask(
+                currentTaskId++, randSeed_, reads_ / threadNum_, num_));
+          }
+          break;
         case "readwhilewriting":
           WriteTask writeTask = new WriteRandomTask(
               -1, randSeed_, Long.MAX_VALUE, num_, writeOpt, 1, writesPerSeconds_);
@@ -691,6 +792,15 @@ public class DbBenchmark {
                 currentTaskId++, randSeed_, reads_ / threadNum_, num_ / 100));
           }
           break;
+        case "readhotwhilescanning":
+          BenchmarkTask scanTask = new ScanTask(-1, randSeed_, readOpt);
+          scanTask.stats_.setExcludeFromMerge();
+          bgTasks.add(scanTask);
+          for (int t = 0; t < threadNum_; ++t) {
+            tasks.add(new ReadRandomTask(
+                currentTaskId++, randSeed_, reads_ / threadNum_, num_ / 100));
+          }
+          break;
         case "delete":
           destroyDb();
           open(options);
@@ -739,6 +849,23 @@ public class DbBenchmark {
     }
     options.dispose();
     db_.close();
+    if (statistics_ != null) {
+      statistics_.close();
+    }
+    if (blockCache_ != null) {
+      blockCache_.close();
+    }
+    if (bloomFilter_ != null) {
+      bloomFilter_.close();
+    }
+    if (admittedCache_ != null) {
+      admittedCache_.close();
+    }
+    if (encryptedEnv_ != null) {
+      encryptedEnv_.close();
+      encryptionProvider_.close();
+      encryptionCipher_.close();
+    }
   }
 
   private void printHeader(Options options) {
@@ -811,6 +938,57 @@ public class DbBenchmark {
         benchmark, elapsedSeconds / stats.done_ * 1e6,
         (stats.bytes_ / 1048576.0) / elapsedSeconds, extra,
         taskFinishedCount, concurrentThreads);
+    if (statistics_ != null) {
+      // the hit rate of the data blocks since the previous benchmark
+      final long hits =
+          statistics_.getAndResetTickerCount(TickerType.BLOCK_CACHE_DATA_HIT);
+      final long misses =
+          statistics_.getAndResetTickerCount(TickerType.BLOCK_CACHE_DATA_MISS);
+      if (hits + misses > 0) {
+        System.out.printf("%-16s : block cache data hit rate %.2f%%\n",
+            benchmark, 100.0 * hits / (hits + misses));
+      }
+      // the false positive rate of the full filters since the previous
+      // benchmark, and the rate expected from the filter configuration
+      final long useful =
+          statistics_.getAndResetTickerCount(TickerType.BLOOM_FILTER_USEFUL);
+      final long positives = statistics_.getAndResetTickerCount(
+          TickerType.BLOOM_FILTER_FULL_POSITIVE);
+      final long truePositives = statistics_.getAndResetTickerCount(
+          TickerType.BLOOM_FILTER_FULL_TRUE_POSITIVE);
+      final long falsePositives = positives - truePositives;
+      if (bloomFilter_ != null && useful + falsePositives > 0) {
+        System.out.printf(
+            "%-16s : filter FP rate %.4f%% (estimated %.4f%%)\n",
+            benchmark, 100.0 * falsePositives / (useful + falsePositives),
+            100.0 * bloomFilter_.estimatedFalsePositiveRate(num_,
+                formatVersion()));
+      }
+    }
+  }
+
+  private BloomFilterImplementation filterImplementation() {
+    switch ((String)flags_.get(Flag.filter_impl)) {
+      case "legacy_bloom":
+        return BloomFilterImplementation.LEGACY_BLOOM;
+      case "fast_local_bloom":
+        return BloomFilterImplementation.FAST_LOCAL_BLOOM;
+      case "deprecated_block":
+        return BloomFilterImplementation.DEPRECATED_BLOCK;
+      case "auto":
+        return BloomFilterImplementation.AUTO;
+      default:
+        System.err.format(
+            "unable to detect the specified filter implementation %s, " +
+                "use auto%n", flags_.get(Flag.filter_impl));
+        return BloomFilterImplementation.AUTO;
+    }
+  }
+
+  private int formatVersion() {
+    final int formatVersion = (Integer)flags_.get(Flag.format_version);
+    return formatVersion >= 0 ? formatVersion :
+        new BlockBasedTableConfig().formatVersion();
   }
 
   public void generateKeyFromLong(byte[] slice, long n) {
@@ -912,7 +1090,10 @@ public class DbBenchmark {
             + "\t\tfill100K         -- write N/1000 100K values in random order in async mode.\n"
             + "\t\treadseq          -- read N times sequentially.\n"
             + "\t\treadrandom       -- read N times in random order.\n"
+            + "\t\treadmissing      -- read N missing keys in random order.\n"
             + "\t\treadhot          -- read N times in random order from 1% section of DB.\n"
+            + "\t\treadhotwhilescanning -- like readhot, with a bg thread which\n"
+            + "\t\t                   repeatedly scans the whole DB.\n"
             + "\t\treadwhilewriting -- measure the read performance of multiple readers\n"
             + "\t\t                   with a bg single writer.  The write rate of the bg\n"
             + "\t\t                   is capped by --writes_per_second.\n"
@@ -1179,8 +1360,23 @@ public class DbBenchmark {
         return Integer.parseInt(value);
       }
     },
-    bloom_bits(-1,"Bloom filter bits per key. Negative means\n" +
-        "\tuse default settings.") {
+    bloom_bits(-1.0d,"Bloom filter bits per key, which may be fractional.\n" +
+        "\tNegative means no filter.") {
+      @Override public Object parseValue(String value) {
+        return Double.parseDouble(value);
+      }
+    },
+    filter_impl("auto",
+        "The implementation of the Bloom filter, one of auto,\n" +
+        "\tlegacy_bloom, fast_local_bloom or deprecated_block. auto selects\n" +
+        "\tfast_local_bloom when format_version is at least 5. This is\n" +
+        "\tapplied only if FLAGS_bloom_bits is non-negative.") {
+      @Override public Object parseValue(String value) {
+        return value;
+      }
+    },
+    format_version(-1,"The format version of the block based tables.\n" +
+        "\tNegative means use default settings.") {
       @Override public Object parseValue(String value) {
         return Integer.parseInt(value);
       }
@@ -1191,6 +1387,23 @@ public class DbBenchmark {
         return Double.parseDouble(value);
       }
     },
+    cache_type("lru",
+        "The type of the block cache, one of lru, clock or\n" +
+        "\tfrequency_admission, which only admits blocks to an LRU cache\n" +
+        "\ton their second lookup. This is applied only if\n" +
+        "\tFLAGS_cache_size is non-negative.") {
+      @Override public Object parseValue(String value) {
+        return value;
+      }
+    },
+    cache_high_pri_pool_ratio(0.0d,
+        "Ratio of the LRU block cache reserved for high priority entries\n" +
+        "\tand entries which were hit, i.e. the protected segment of a\n" +
+        "\tsegmented LRU.") {
+      @Override public Object parseValue(String value) {
+        return Double.parseDouble(value);
+      }
+    },
     cache_numshardbits(-1,"Number of shards for the block cache\n" +
         "\tis 2 ** cache_numshardbits. Negative means use default settings.\n" +
         "\tThis is applied only if FLAGS_cache_size is non-negative.") {
@@ -1479,6 +1692,22 @@ public class DbBenchmark {
         return parseBoolean(value);
       }
     },
+    encryption_key(null, "Encrypt the files of the database with AES in CTR\n" +
+        "\tmode, using the given hex encoded key of 32 or 64 digits for\n" +
+        "\tAES-128 or AES-256. Requires a CPU supporting AES-NI.") {
+      @Override public Object parseValue(String value) {
+        if (value.length() != 32 && value.length() != 64) {
+          throw new IllegalArgumentException(
+              "encryption_key must have 32 or 64 hex digits");
+        }
+        final byte[] key = new byte[value.length() / 2];
+        for (int i = 0; i < key.length; i++) {
+          key[i] = (byte) Integer.parseInt(
+              value.substring(2 * i, 2 * i + 2), 16);
+        }
+        return key;
+      }
+    },
     java_comparator(null, "Class name of a Java Comparator to use instead\n" +
         "\tof the default C++ ByteWiseComparatorImpl. Must be available on\n" +
         "\tthe classpath") {
@@ -1629,6 +1858,10 @@ public class DbBenchmark {
 
   // env
   boolean useMemenv_;
+  byte[] encryptionKey_;
+  BlockCipher encryptionCipher_;
+  EncryptionProvider encryptionProvider_;
+  Env encryptedEnv_;
 
   // memtable related
   final int maxWriteBufferNumber_;
@@ -1650,4 +1883,8 @@ public class DbBenchmark {
     new BlockBasedTableConfig();
   String compressionType_;
   CompressionType compression_;
+  Statistics statistics_;
+  Cache blockCache_;
+  BloomFilter bloomFilter_;
+  Cache admittedCache_;
 }
@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractBackupProgressCallback */
+
+#ifndef _Included_org_rocksdb_AbstractBackupProgressCallback
+#define _Included_org_rocksdb_AbstractBackupProgressCallback
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_AbstractBackupProgressCallback
+ * Method:    createNewBackupProgressCallback
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractBackupProgressCallback_createNewBackupProgressCallback
+  (JNIEnv *, jobject);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
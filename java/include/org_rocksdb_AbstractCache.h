@@ -0,0 +1,37 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractCache */
+
+#ifndef _Included_org_rocksdb_AbstractCache
+#define _Included_org_rocksdb_AbstractCache
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_AbstractCache
+ * Method:    newCacheHandle
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractCache_newCacheHandle
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_rocksdb_AbstractCache
+ * Method:    initializeNative
+ * Signature: (JJZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractCache_initializeNative
+  (JNIEnv *, jobject, jlong, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_AbstractCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractCache_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
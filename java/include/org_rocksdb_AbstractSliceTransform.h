@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractSliceTransform */
+
+#ifndef _Included_org_rocksdb_AbstractSliceTransform
+#define _Included_org_rocksdb_AbstractSliceTransform
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_AbstractSliceTransform
+ * Method:    createNewSliceTransform
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractSliceTransform_createNewSliceTransform
+  (JNIEnv *, jobject);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractTablePropertiesCollectorFactory */
+
+#ifndef _Included_org_rocksdb_AbstractTablePropertiesCollectorFactory
+#define _Included_org_rocksdb_AbstractTablePropertiesCollectorFactory
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_AbstractTablePropertiesCollectorFactory
+ * Method:    newTablePropertiesCollectorFactory
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractTablePropertiesCollectorFactory_newTablePropertiesCollectorFactory
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_rocksdb_AbstractTablePropertiesCollectorFactory
+ * Method:    initializeNative
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractTablePropertiesCollectorFactory_initializeNative
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
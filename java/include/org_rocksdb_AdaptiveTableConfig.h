@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AdaptiveTableConfig */
+
+#ifndef _Included_org_rocksdb_AdaptiveTableConfig
+#define _Included_org_rocksdb_AdaptiveTableConfig
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_AdaptiveTableConfig
+ * Method:    newTableFactoryHandle
+ * Signature: (JJJJ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AdaptiveTableConfig_newTableFactoryHandle
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,125 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_BackupEngine */
+
+#ifndef _Included_org_rocksdb_BackupEngine
+#define _Included_org_rocksdb_BackupEngine
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    open
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BackupEngine_open
+  (JNIEnv *, jclass, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    createNewBackup
+ * Signature: (JJZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_createNewBackup
+  (JNIEnv *, jobject, jlong, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    createNewBackupWithMetadata
+ * Signature: (JJLjava/lang/String;Z)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_createNewBackupWithMetadata
+  (JNIEnv *, jobject, jlong, jlong, jstring, jboolean);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    createNewBackupWithProgressCallback
+ * Signature: (JJLjava/lang/String;ZJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_createNewBackupWithProgressCallback
+  (JNIEnv *, jobject, jlong, jlong, jstring, jboolean, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    stopBackup
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_stopBackup
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    getBackupInfo
+ * Signature: (J)Ljava/util/List;
+ */
+JNIEXPORT jobject JNICALL Java_org_rocksdb_BackupEngine_getBackupInfo
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    verifyBackup
+ * Signature: (JIZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_verifyBackup
+  (JNIEnv *, jobject, jlong, jint, jboolean);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    getCorruptedBackups
+ * Signature: (J)[I
+ */
+JNIEXPORT jintArray JNICALL Java_org_rocksdb_BackupEngine_getCorruptedBackups
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    garbageCollect
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_garbageCollect
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    purgeOldBackups
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_purgeOldBackups
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    deleteBackup
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_deleteBackup
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    restoreDbFromBackup
+ * Signature: (JILjava/lang/String;Ljava/lang/String;J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_restoreDbFromBackup
+  (JNIEnv *, jobject, jlong, jint, jstring, jstring, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    restoreDbFromLatestBackup
+ * Signature: (JLjava/lang/String;Ljava/lang/String;J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_restoreDbFromLatestBackup
+  (JNIEnv *, jobject, jlong, jstring, jstring, jlong);
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BackupEngine_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,63 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_BlobDB */
+
+#ifndef _Included_org_rocksdb_BlobDB
+#define _Included_org_rocksdb_BlobDB
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_BlobDB_NOT_FOUND
+#define org_rocksdb_BlobDB_NOT_FOUND -1L
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDB_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    open
+ * Signature: (JJLjava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDB_open
+  (JNIEnv *, jclass, jlong, jlong, jstring);
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    putWithTTL
+ * Signature: (JJ[B[BJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDB_putWithTTL
+  (JNIEnv *, jobject, jlong, jlong, jbyteArray, jbyteArray, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    putUntil
+ * Signature: (JJ[B[BJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDB_putUntil
+  (JNIEnv *, jobject, jlong, jlong, jbyteArray, jbyteArray, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    getBlobDBOptions
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDB_getBlobDBOptions
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    syncBlobFiles
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDB_syncBlobFiles
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,205 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_BlobDBOptions */
+
+#ifndef _Included_org_rocksdb_BlobDBOptions
+#define _Included_org_rocksdb_BlobDBOptions
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    newBlobDBOptions
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDBOptions_newBlobDBOptions
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setBlobDir
+ * Signature: (JLjava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setBlobDir
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    blobDir
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_rocksdb_BlobDBOptions_blobDir
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setPathRelative
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setPathRelative
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    pathRelative
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_BlobDBOptions_pathRelative
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setIsFifo
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setIsFifo
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    isFifo
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_BlobDBOptions_isFifo
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setMaxDbSize
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setMaxDbSize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    maxDbSize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDBOptions_maxDbSize
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setTtlRangeSecs
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setTtlRangeSecs
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    ttlRangeSecs
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDBOptions_ttlRangeSecs
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setMinBlobSize
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setMinBlobSize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    minBlobSize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDBOptions_minBlobSize
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setBytesPerSync
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setBytesPerSync
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    bytesPerSync
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDBOptions_bytesPerSync
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setBlobFileSize
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setBlobFileSize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    blobFileSize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_BlobDBOptions_blobFileSize
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setCompressionType
+ * Signature: (JB)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setCompressionType
+  (JNIEnv *, jobject, jlong, jbyte);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    compressionType
+ * Signature: (J)B
+ */
+JNIEXPORT jbyte JNICALL Java_org_rocksdb_BlobDBOptions_compressionType
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setEnableGarbageCollection
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setEnableGarbageCollection
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    enableGarbageCollection
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_BlobDBOptions_enableGarbageCollection
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setGarbageCollectionCutoff
+ * Signature: (JD)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_BlobDBOptions_setGarbageCollectionCutoff
+  (JNIEnv *, jobject, jlong, jdouble);
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    garbageCollectionCutoff
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_org_rocksdb_BlobDBOptions_garbageCollectionCutoff
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
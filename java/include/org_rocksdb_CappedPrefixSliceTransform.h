@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_CappedPrefixSliceTransform */
+
+#ifndef _Included_org_rocksdb_CappedPrefixSliceTransform
+#define _Included_org_rocksdb_CappedPrefixSliceTransform
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_CappedPrefixSliceTransform
+ * Method:    newCappedPrefixSliceTransform
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_CappedPrefixSliceTransform_newCappedPrefixSliceTransform
+  (JNIEnv *, jclass, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
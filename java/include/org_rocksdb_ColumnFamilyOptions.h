@@ -0,0 +1,877 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_ColumnFamilyOptions */
+
+#ifndef _Included_org_rocksdb_ColumnFamilyOptions
+#define _Included_org_rocksdb_ColumnFamilyOptions
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    getColumnFamilyOptionsFromProps
+ * Signature: (Ljava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_getColumnFamilyOptionsFromProps
+  (JNIEnv *, jclass, jstring);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    newColumnFamilyOptions
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_newColumnFamilyOptions
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    copyColumnFamilyOptions
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_copyColumnFamilyOptions
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    newColumnFamilyOptionsFromOptions
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_newColumnFamilyOptionsFromOptions
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    optimizeForSmallDb
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_optimizeForSmallDb
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    optimizeForPointLookup
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_optimizeForPointLookup
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    optimizeLevelStyleCompaction
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_optimizeLevelStyleCompaction
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    optimizeUniversalStyleCompaction
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_optimizeUniversalStyleCompaction
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setComparatorHandle
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setComparatorHandle__JI
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setComparatorHandle
+ * Signature: (JJB)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setComparatorHandle__JJB
+  (JNIEnv *, jobject, jlong, jlong, jbyte);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMergeOperatorName
+ * Signature: (JLjava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMergeOperatorName
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMergeOperator
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMergeOperator
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompactionFilterHandle
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompactionFilterHandle
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompactionFilterFactoryHandle
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompactionFilterFactoryHandle
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setWriteBufferSize
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setWriteBufferSize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    writeBufferSize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_writeBufferSize
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxWriteBufferNumber
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxWriteBufferNumber
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxWriteBufferNumber
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxWriteBufferNumber
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMinWriteBufferNumberToMerge
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMinWriteBufferNumberToMerge
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    minWriteBufferNumberToMerge
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_minWriteBufferNumberToMerge
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompressionType
+ * Signature: (JB)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompressionType
+  (JNIEnv *, jobject, jlong, jbyte);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    compressionType
+ * Signature: (J)B
+ */
+JNIEXPORT jbyte JNICALL Java_org_rocksdb_ColumnFamilyOptions_compressionType
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompressionPerLevel
+ * Signature: (J[B)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompressionPerLevel
+  (JNIEnv *, jobject, jlong, jbyteArray);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    compressionPerLevel
+ * Signature: (J)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_org_rocksdb_ColumnFamilyOptions_compressionPerLevel
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setBottommostCompressionType
+ * Signature: (JB)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setBottommostCompressionType
+  (JNIEnv *, jobject, jlong, jbyte);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    bottommostCompressionType
+ * Signature: (J)B
+ */
+JNIEXPORT jbyte JNICALL Java_org_rocksdb_ColumnFamilyOptions_bottommostCompressionType
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setBottommostCompressionOptions
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setBottommostCompressionOptions
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompressionOptions
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompressionOptions
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    useFixedLengthPrefixExtractor
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_useFixedLengthPrefixExtractor
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    useCappedPrefixExtractor
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_useCappedPrefixExtractor
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setPrefixExtractorHandle
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setPrefixExtractorHandle
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setJavaPrefixExtractorHandle
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setJavaPrefixExtractorHandle
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setTablePropertiesCollectorFactories
+ * Signature: (J[J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setTablePropertiesCollectorFactories
+  (JNIEnv *, jobject, jlong, jlongArray);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setNumLevels
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setNumLevels
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    numLevels
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_numLevels
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setLevelZeroFileNumCompactionTrigger
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setLevelZeroFileNumCompactionTrigger
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    levelZeroFileNumCompactionTrigger
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_levelZeroFileNumCompactionTrigger
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setLevelZeroSlowdownWritesTrigger
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setLevelZeroSlowdownWritesTrigger
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    levelZeroSlowdownWritesTrigger
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_levelZeroSlowdownWritesTrigger
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setLevelZeroStopWritesTrigger
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setLevelZeroStopWritesTrigger
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    levelZeroStopWritesTrigger
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_levelZeroStopWritesTrigger
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setTargetFileSizeBase
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setTargetFileSizeBase
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    targetFileSizeBase
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_targetFileSizeBase
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setTargetFileSizeMultiplier
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setTargetFileSizeMultiplier
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    targetFileSizeMultiplier
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_targetFileSizeMultiplier
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxBytesForLevelBase
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxBytesForLevelBase
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxBytesForLevelBase
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxBytesForLevelBase
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setLevelCompactionDynamicLevelBytes
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setLevelCompactionDynamicLevelBytes
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    levelCompactionDynamicLevelBytes
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_ColumnFamilyOptions_levelCompactionDynamicLevelBytes
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxBytesForLevelMultiplier
+ * Signature: (JD)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxBytesForLevelMultiplier
+  (JNIEnv *, jobject, jlong, jdouble);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxBytesForLevelMultiplier
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxBytesForLevelMultiplier
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxCompactionBytes
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxCompactionBytes
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxCompactionBytes
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxCompactionBytes
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setArenaBlockSize
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setArenaBlockSize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    arenaBlockSize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_arenaBlockSize
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setDisableAutoCompactions
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setDisableAutoCompactions
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    disableAutoCompactions
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_ColumnFamilyOptions_disableAutoCompactions
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompactionStyle
+ * Signature: (JB)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompactionStyle
+  (JNIEnv *, jobject, jlong, jbyte);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    compactionStyle
+ * Signature: (J)B
+ */
+JNIEXPORT jbyte JNICALL Java_org_rocksdb_ColumnFamilyOptions_compactionStyle
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxTableFilesSizeFIFO
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxTableFilesSizeFIFO
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxTableFilesSizeFIFO
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxTableFilesSizeFIFO
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxSequentialSkipInIterations
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxSequentialSkipInIterations
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxSequentialSkipInIterations
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxSequentialSkipInIterations
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMemTableFactory
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMemTableFactory
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    memTableFactoryName
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_rocksdb_ColumnFamilyOptions_memTableFactoryName
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setTableFactory
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setTableFactory
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    tableFactoryName
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_rocksdb_ColumnFamilyOptions_tableFactoryName
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setInplaceUpdateSupport
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setInplaceUpdateSupport
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    inplaceUpdateSupport
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_ColumnFamilyOptions_inplaceUpdateSupport
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setInplaceUpdateNumLocks
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setInplaceUpdateNumLocks
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    inplaceUpdateNumLocks
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_inplaceUpdateNumLocks
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMemtablePrefixBloomSizeRatio
+ * Signature: (JD)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMemtablePrefixBloomSizeRatio
+  (JNIEnv *, jobject, jlong, jdouble);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    memtablePrefixBloomSizeRatio
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_org_rocksdb_ColumnFamilyOptions_memtablePrefixBloomSizeRatio
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setBloomLocality
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setBloomLocality
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    bloomLocality
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_bloomLocality
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxSuccessiveMerges
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxSuccessiveMerges
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxSuccessiveMerges
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxSuccessiveMerges
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setOptimizeFiltersForHits
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setOptimizeFiltersForHits
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    optimizeFiltersForHits
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_ColumnFamilyOptions_optimizeFiltersForHits
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMemtableHugePageSize
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMemtableHugePageSize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    memtableHugePageSize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_memtableHugePageSize
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setSoftPendingCompactionBytesLimit
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setSoftPendingCompactionBytesLimit
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    softPendingCompactionBytesLimit
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_softPendingCompactionBytesLimit
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setHardPendingCompactionBytesLimit
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setHardPendingCompactionBytesLimit
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    hardPendingCompactionBytesLimit
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_hardPendingCompactionBytesLimit
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setLevel0FileNumCompactionTrigger
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setLevel0FileNumCompactionTrigger
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    level0FileNumCompactionTrigger
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_level0FileNumCompactionTrigger
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setLevel0SlowdownWritesTrigger
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setLevel0SlowdownWritesTrigger
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    level0SlowdownWritesTrigger
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_level0SlowdownWritesTrigger
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setLevel0StopWritesTrigger
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setLevel0StopWritesTrigger
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    level0StopWritesTrigger
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_level0StopWritesTrigger
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxBytesForLevelMultiplierAdditional
+ * Signature: (J[I)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxBytesForLevelMultiplierAdditional
+  (JNIEnv *, jobject, jlong, jintArray);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxBytesForLevelMultiplierAdditional
+ * Signature: (J)[I
+ */
+JNIEXPORT jintArray JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxBytesForLevelMultiplierAdditional
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setParanoidFileChecks
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setParanoidFileChecks
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    paranoidFileChecks
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_ColumnFamilyOptions_paranoidFileChecks
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setMaxWriteBufferNumberToMaintain
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setMaxWriteBufferNumberToMaintain
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    maxWriteBufferNumberToMaintain
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_ColumnFamilyOptions_maxWriteBufferNumberToMaintain
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompactionPriority
+ * Signature: (JB)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompactionPriority
+  (JNIEnv *, jobject, jlong, jbyte);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    compactionPriority
+ * Signature: (J)B
+ */
+JNIEXPORT jbyte JNICALL Java_org_rocksdb_ColumnFamilyOptions_compactionPriority
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setReportBgIoStats
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setReportBgIoStats
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    reportBgIoStats
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_ColumnFamilyOptions_reportBgIoStats
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setTtl
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setTtl
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    ttl
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_ttl
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompactionOptionsUniversal
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompactionOptionsUniversal
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompactionOptionsFIFO
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setCompactionOptionsFIFO
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setForceConsistencyChecks
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ColumnFamilyOptions_setForceConsistencyChecks
+  (JNIEnv *, jobject, jlong, jboolean);
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    forceConsistencyChecks
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_ColumnFamilyOptions_forceConsistencyChecks
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
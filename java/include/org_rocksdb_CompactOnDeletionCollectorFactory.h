@@ -0,0 +1,37 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_CompactOnDeletionCollectorFactory */
+
+#ifndef _Included_org_rocksdb_CompactOnDeletionCollectorFactory
+#define _Included_org_rocksdb_CompactOnDeletionCollectorFactory
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_CompactOnDeletionCollectorFactory
+ * Method:    newCompactOnDeletionCollectorFactory
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_CompactOnDeletionCollectorFactory_newCompactOnDeletionCollectorFactory
+  (JNIEnv *, jclass, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_CompactOnDeletionCollectorFactory
+ * Method:    setWindowSize
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_CompactOnDeletionCollectorFactory_setWindowSize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_CompactOnDeletionCollectorFactory
+ * Method:    setDeletionTrigger
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_CompactOnDeletionCollectorFactory_setDeletionTrigger
+  (JNIEnv *, jobject, jlong, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
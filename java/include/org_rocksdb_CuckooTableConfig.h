@@ -0,0 +1,31 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_CuckooTableConfig */
+
+#ifndef _Included_org_rocksdb_CuckooTableConfig
+#define _Included_org_rocksdb_CuckooTableConfig
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_CuckooTableConfig_DEFAULT_HASH_TABLE_RATIO
+#define org_rocksdb_CuckooTableConfig_DEFAULT_HASH_TABLE_RATIO 0.9
+#undef org_rocksdb_CuckooTableConfig_DEFAULT_MAX_SEARCH_DEPTH
+#define org_rocksdb_CuckooTableConfig_DEFAULT_MAX_SEARCH_DEPTH 100L
+#undef org_rocksdb_CuckooTableConfig_DEFAULT_CUCKOO_BLOCK_SIZE
+#define org_rocksdb_CuckooTableConfig_DEFAULT_CUCKOO_BLOCK_SIZE 5L
+#undef org_rocksdb_CuckooTableConfig_DEFAULT_IDENTITY_AS_FIRST_HASH
+#define org_rocksdb_CuckooTableConfig_DEFAULT_IDENTITY_AS_FIRST_HASH 0L
+#undef org_rocksdb_CuckooTableConfig_DEFAULT_USE_MODULE_HASH
+#define org_rocksdb_CuckooTableConfig_DEFAULT_USE_MODULE_HASH 1L
+/*
+ * Class:     org_rocksdb_CuckooTableConfig
+ * Method:    newTableFactoryHandle
+ * Signature: (DIIZZ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_CuckooTableConfig_newTableFactoryHandle
+  (JNIEnv *, jobject, jdouble, jint, jint, jboolean, jboolean);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
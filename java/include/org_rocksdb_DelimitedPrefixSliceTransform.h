@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_DelimitedPrefixSliceTransform */
+
+#ifndef _Included_org_rocksdb_DelimitedPrefixSliceTransform
+#define _Included_org_rocksdb_DelimitedPrefixSliceTransform
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_DelimitedPrefixSliceTransform
+ * Method:    newDelimitedPrefixSliceTransform
+ * Signature: (B)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_DelimitedPrefixSliceTransform_newDelimitedPrefixSliceTransform
+  (JNIEnv *, jclass, jbyte);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
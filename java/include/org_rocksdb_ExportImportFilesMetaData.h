@@ -0,0 +1,37 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_ExportImportFilesMetaData */
+
+#ifndef _Included_org_rocksdb_ExportImportFilesMetaData
+#define _Included_org_rocksdb_ExportImportFilesMetaData
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_ExportImportFilesMetaData
+ * Method:    dbComparatorName
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_rocksdb_ExportImportFilesMetaData_dbComparatorName
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ExportImportFilesMetaData
+ * Method:    files
+ * Signature: (J)[Lorg/rocksdb/LiveFileMetaData;
+ */
+JNIEXPORT jobjectArray JNICALL Java_org_rocksdb_ExportImportFilesMetaData_files
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_ExportImportFilesMetaData
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_ExportImportFilesMetaData_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_FixedPrefixSliceTransform */
+
+#ifndef _Included_org_rocksdb_FixedPrefixSliceTransform
+#define _Included_org_rocksdb_FixedPrefixSliceTransform
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_FixedPrefixSliceTransform
+ * Method:    newFixedPrefixSliceTransform
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_FixedPrefixSliceTransform_newFixedPrefixSliceTransform
+  (JNIEnv *, jclass, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_FrequencyAdmissionCache */
+
+#ifndef _Included_org_rocksdb_FrequencyAdmissionCache
+#define _Included_org_rocksdb_FrequencyAdmissionCache
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_FrequencyAdmissionCache
+ * Method:    newFrequencyAdmissionCache
+ * Signature: (JI)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_FrequencyAdmissionCache_newFrequencyAdmissionCache
+  (JNIEnv *, jclass, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_FrequencyAdmissionCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_FrequencyAdmissionCache_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
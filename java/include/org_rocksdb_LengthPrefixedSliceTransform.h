@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_LengthPrefixedSliceTransform */
+
+#ifndef _Included_org_rocksdb_LengthPrefixedSliceTransform
+#define _Included_org_rocksdb_LengthPrefixedSliceTransform
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_LengthPrefixedSliceTransform
+ * Method:    newLengthPrefixedSliceTransform
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_LengthPrefixedSliceTransform_newLengthPrefixedSliceTransform
+  (JNIEnv *, jclass, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
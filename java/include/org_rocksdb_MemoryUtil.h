@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_MemoryUtil */
+
+#ifndef _Included_org_rocksdb_MemoryUtil
+#define _Included_org_rocksdb_MemoryUtil
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_MemoryUtil
+ * Method:    getApproximateMemoryUsageByType
+ * Signature: ([J[J)Ljava/util/Map;
+ */
+JNIEXPORT jobject JNICALL Java_org_rocksdb_MemoryUtil_getApproximateMemoryUsageByType
+  (JNIEnv *, jclass, jlongArray, jlongArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,37 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_OptionsUtil */
+
+#ifndef _Included_org_rocksdb_OptionsUtil
+#define _Included_org_rocksdb_OptionsUtil
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_OptionsUtil
+ * Method:    loadLatestOptions
+ * Signature: (Ljava/lang/String;JJLjava/util/List;Z)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_OptionsUtil_loadLatestOptions
+  (JNIEnv *, jclass, jstring, jlong, jlong, jobject, jboolean);
+
+/*
+ * Class:     org_rocksdb_OptionsUtil
+ * Method:    loadOptionsFromFile
+ * Signature: (Ljava/lang/String;JJLjava/util/List;Z)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_OptionsUtil_loadOptionsFromFile
+  (JNIEnv *, jclass, jstring, jlong, jlong, jobject, jboolean);
+
+/*
+ * Class:     org_rocksdb_OptionsUtil
+ * Method:    getLatestOptionsFileName
+ * Signature: (Ljava/lang/String;J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_rocksdb_OptionsUtil_getLatestOptionsFileName
+  (JNIEnv *, jclass, jstring, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
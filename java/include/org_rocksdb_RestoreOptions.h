@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_RestoreOptions */
+
+#ifndef _Included_org_rocksdb_RestoreOptions
+#define _Included_org_rocksdb_RestoreOptions
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_RestoreOptions
+ * Method:    newRestoreOptions
+ * Signature: (Z)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_RestoreOptions_newRestoreOptions
+  (JNIEnv *, jclass, jboolean);
+
+/*
+ * Class:     org_rocksdb_RestoreOptions
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_RestoreOptions_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
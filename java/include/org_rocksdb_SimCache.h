@@ -0,0 +1,85 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_SimCache */
+
+#ifndef _Included_org_rocksdb_SimCache
+#define _Included_org_rocksdb_SimCache
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    newSimCache
+ * Signature: (JJI)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_SimCache_newSimCache
+  (JNIEnv *, jclass, jlong, jlong, jint);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    simCapacity
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_SimCache_simCapacity
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    setSimCapacity
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_SimCache_setSimCapacity
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    simUsage
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_SimCache_simUsage
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    hitCount
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_SimCache_hitCount
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    missCount
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_SimCache_missCount
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    resetCounters
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_SimCache_resetCounters
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    getStatistics
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_org_rocksdb_SimCache_getStatistics
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_SimCache_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_TablePropertiesCollectorFactory */
+
+#ifndef _Included_org_rocksdb_TablePropertiesCollectorFactory
+#define _Included_org_rocksdb_TablePropertiesCollectorFactory
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_TablePropertiesCollectorFactory
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_TablePropertiesCollectorFactory_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,51 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::CacheJniCallback.
+
+#include <jni.h>
+#include <memory>
+
+#include "include/org_rocksdb_AbstractCache.h"
+#include "rocksjni/cache_jnicallback.h"
+
+/*
+ * Class:     org_rocksdb_AbstractCache
+ * Method:    newCacheHandle
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_AbstractCache_newCacheHandle(JNIEnv*, jclass) {
+  // the cache is created by initializeNative, as the callback needs
+  // a reference to the constructed Java object
+  auto* sptr_cache = new std::shared_ptr<rocksdb::Cache>();
+  return reinterpret_cast<jlong>(sptr_cache);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractCache
+ * Method:    initializeNative
+ * Signature: (JJZ)V
+ */
+void Java_org_rocksdb_AbstractCache_initializeNative(
+    JNIEnv* env, jobject jobj, jlong jhandle, jlong jcache_handle,
+    jboolean jnotify_lookups) {
+  auto* sptr_cache = reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jhandle);
+  auto* sptr_target =
+      reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jcache_handle);
+  sptr_cache->reset(new rocksdb::CacheJniCallback(
+      env, jobj, *sptr_target, static_cast<bool>(jnotify_lookups)));
+}
+
+/*
+ * Class:     org_rocksdb_AbstractCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractCache_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_cache = reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jhandle);
+  delete sptr_cache;  // delete std::shared_ptr
+}
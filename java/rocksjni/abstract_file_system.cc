@@ -0,0 +1,50 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::FileSystemJniCallback.
+
+#include <jni.h>
+#include <memory>
+
+#include "include/org_rocksdb_AbstractFileSystem.h"
+#include "rocksjni/file_system_jnicallback.h"
+
+/*
+ * Class:     org_rocksdb_AbstractFileSystem
+ * Method:    newFileSystemHandle
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_AbstractFileSystem_newFileSystemHandle(JNIEnv*,
+                                                              jclass) {
+  // the file system is created by initializeNative, as the callback needs
+  // a reference to the constructed Java object
+  auto* sptr_fs = new std::shared_ptr<rocksdb::FileSystem>();
+  return reinterpret_cast<jlong>(sptr_fs);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractFileSystem
+ * Method:    initializeNative
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractFileSystem_initializeNative(
+    JNIEnv* env, jobject jobj, jlong jhandle) {
+  auto* sptr_fs =
+      reinterpret_cast<std::shared_ptr<rocksdb::FileSystem>*>(jhandle);
+  sptr_fs->reset(new rocksdb::FileSystemJniCallback(env, jobj));
+}
+
+/*
+ * Class:     org_rocksdb_AbstractFileSystem
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractFileSystem_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_fs =
+      reinterpret_cast<std::shared_ptr<rocksdb::FileSystem>*>(jhandle);
+  delete sptr_fs;  // delete std::shared_ptr
+}
@@ -0,0 +1,23 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// the progress callback of rocksdb::BackupEngine::CreateNewBackup.
+
+#include <jni.h>
+
+#include "include/org_rocksdb_AbstractBackupProgressCallback.h"
+#include "rocksjni/backup_progress_callback_jnicallback.h"
+
+/*
+ * Class:     org_rocksdb_AbstractBackupProgressCallback
+ * Method:    createNewBackupProgressCallback
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_AbstractBackupProgressCallback_createNewBackupProgressCallback(
+    JNIEnv* env, jobject jobj) {
+  auto* callback = new rocksdb::BackupProgressCallbackJniCallback(env, jobj);
+  return reinterpret_cast<jlong>(callback);
+}
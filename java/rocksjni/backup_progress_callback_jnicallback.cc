@@ -0,0 +1,42 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// the progress callback of rocksdb::BackupEngine::CreateNewBackup.
+
+#include "rocksjni/backup_progress_callback_jnicallback.h"
+#include "rocksjni/portal.h"
+
+namespace rocksdb {
+
+BackupProgressCallbackJniCallback::BackupProgressCallbackJniCallback(
+    JNIEnv* env, jobject jbackup_progress_callback)
+    : JniCallback(env, jbackup_progress_callback) {
+  m_jon_progress_methodid =
+      AbstractBackupProgressCallbackJni::getOnProgressMethodId(env);
+  if (m_jon_progress_methodid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+void BackupProgressCallbackJniCallback::OnProgress() const {
+  // called from the threads of the BackupEngine which copy the files
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return;
+  }
+
+  env->CallVoidMethod(m_jcallback_obj, m_jon_progress_methodid);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+  }
+
+  releaseJniEnv(attached_thread);
+}
+
+}  // namespace rocksdb
@@ -0,0 +1,30 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// the progress callback of rocksdb::BackupEngine::CreateNewBackup.
+
+#ifndef JAVA_ROCKSJNI_BACKUP_PROGRESS_CALLBACK_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_BACKUP_PROGRESS_CALLBACK_JNICALLBACK_H_
+
+#include <jni.h>
+
+#include "rocksjni/jnicallback.h"
+
+namespace rocksdb {
+
+class BackupProgressCallbackJniCallback : public JniCallback {
+ public:
+  BackupProgressCallbackJniCallback(JNIEnv* env,
+                                    jobject jbackup_progress_callback);
+  void OnProgress() const;
+
+ private:
+  jmethodID m_jon_progress_methodid;
+};
+
+}  // namespace rocksdb
+
+#endif  // JAVA_ROCKSJNI_BACKUP_PROGRESS_CALLBACK_JNICALLBACK_H_
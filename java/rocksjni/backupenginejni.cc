@@ -86,6 +86,74 @@ void Java_org_rocksdb_BackupEngine_createNewBackupWithMetadata(
   rocksdb::RocksDBExceptionJni::ThrowNew(env, status);
 }
 
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    createNewBackupWithProgressCallback
+ * Signature: (JJLjava/lang/String;ZJ)V
+ */
+void Java_org_rocksdb_BackupEngine_createNewBackupWithProgressCallback(
+    JNIEnv* env, jobject /*jbe*/, jlong jbe_handle, jlong db_handle,
+    jstring japp_metadata, jboolean jflush_before_backup,
+    jlong jprogress_callback_handle) {
+  auto* db = reinterpret_cast<rocksdb::DB*>(db_handle);
+  auto* backup_engine = reinterpret_cast<rocksdb::BackupEngine*>(jbe_handle);
+  auto* progress_callback =
+      reinterpret_cast<rocksdb::BackupProgressCallbackJniCallback*>(
+          jprogress_callback_handle);
+
+  jboolean has_exception = JNI_FALSE;
+  std::string app_metadata =
+      rocksdb::JniUtil::copyStdString(env, japp_metadata, &has_exception);
+  if (has_exception == JNI_TRUE) {
+    rocksdb::RocksDBExceptionJni::ThrowNew(
+        env, "Could not copy jstring to std::string");
+    return;
+  }
+
+  auto status = backup_engine->CreateNewBackupWithMetadata(
+      db, app_metadata, static_cast<bool>(jflush_before_backup),
+      [progress_callback]() { progress_callback->OnProgress(); });
+
+  if (status.ok()) {
+    return;
+  }
+
+  rocksdb::RocksDBExceptionJni::ThrowNew(env, status);
+}
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    stopBackup
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_BackupEngine_stopBackup(JNIEnv* /*env*/,
+                                              jobject /*jbe*/,
+                                              jlong jbe_handle) {
+  auto* backup_engine = reinterpret_cast<rocksdb::BackupEngine*>(jbe_handle);
+  backup_engine->StopBackup();
+}
+
+/*
+ * Class:     org_rocksdb_BackupEngine
+ * Method:    verifyBackup
+ * Signature: (JIZ)V
+ */
+void Java_org_rocksdb_BackupEngine_verifyBackup(JNIEnv* env, jobject /*jbe*/,
+                                                jlong jbe_handle,
+                                                jint jbackup_id,
+                                                jboolean jverify_with_checksum) {
+  auto* backup_engine = reinterpret_cast<rocksdb::BackupEngine*>(jbe_handle);
+  auto status = backup_engine->VerifyBackup(
+      static_cast<rocksdb::BackupID>(jbackup_id),
+      static_cast<bool>(jverify_with_checksum));
+
+  if (status.ok()) {
+    return;
+  }
+
+  rocksdb::RocksDBExceptionJni::ThrowNew(env, status);
+}
+
 /*
  * Class:     org_rocksdb_BackupEngine
  * Method:    getBackupInfo
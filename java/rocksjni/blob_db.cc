@@ -0,0 +1,406 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ and enables
+// calling c++ rocksdb::blob_db::BlobDB methods.
+// from Java side.
+
+#include <jni.h>
+#include <functional>
+#include <memory>
+#include <string>
+
+#include "include/org_rocksdb_BlobDB.h"
+#include "include/org_rocksdb_BlobDBOptions.h"
+#include "rocksjni/portal.h"
+#include "utilities/blob_db/blob_db.h"
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    open
+ * Signature: (JJLjava/lang/String;)J
+ */
+jlong Java_org_rocksdb_BlobDB_open(
+    JNIEnv* env, jclass, jlong joptions_handle, jlong jblob_db_options_handle,
+    jstring jdb_path) {
+  const char* db_path = env->GetStringUTFChars(jdb_path, nullptr);
+  if (db_path == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return 0;
+  }
+
+  auto* opt = reinterpret_cast<rocksdb::Options*>(joptions_handle);
+  auto* blob_db_opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(
+      jblob_db_options_handle);
+  rocksdb::blob_db::BlobDB* db = nullptr;
+  rocksdb::Status s =
+      rocksdb::blob_db::BlobDB::Open(*opt, *blob_db_opt, db_path, &db);
+  env->ReleaseStringUTFChars(jdb_path, db_path);
+
+  // as BlobDB extends RocksDB on the java side, we can reuse
+  // the RocksDB portal here.
+  if (s.ok()) {
+    return reinterpret_cast<jlong>(db);
+  } else {
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+}
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    putWithTTL
+ * Signature: (JJ[B[BJ)V
+ */
+void Java_org_rocksdb_BlobDB_putWithTTL(
+    JNIEnv* env, jobject jobj, jlong jhandle, jlong jwrite_options_handle,
+    jbyteArray jkey, jbyteArray jval, jlong jttl) {
+  auto* db = reinterpret_cast<rocksdb::blob_db::BlobDB*>(jhandle);
+  auto* write_options =
+      reinterpret_cast<rocksdb::WriteOptions*>(jwrite_options_handle);
+  auto put = [&db, &write_options, &jttl](
+      rocksdb::Slice key, rocksdb::Slice value) {
+    return db->PutWithTTL(*write_options, key, value,
+        static_cast<uint64_t>(jttl));
+  };
+  std::unique_ptr<rocksdb::Status> status =
+      rocksdb::JniUtil::kv_op(put, env, jobj, jkey, env->GetArrayLength(jkey),
+          jval, env->GetArrayLength(jval));
+  if (status != nullptr && !status->ok()) {
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, *status);
+  }
+}
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    putUntil
+ * Signature: (JJ[B[BJ)V
+ */
+void Java_org_rocksdb_BlobDB_putUntil(
+    JNIEnv* env, jobject jobj, jlong jhandle, jlong jwrite_options_handle,
+    jbyteArray jkey, jbyteArray jval, jlong jexpiration) {
+  auto* db = reinterpret_cast<rocksdb::blob_db::BlobDB*>(jhandle);
+  auto* write_options =
+      reinterpret_cast<rocksdb::WriteOptions*>(jwrite_options_handle);
+  auto put = [&db, &write_options, &jexpiration](
+      rocksdb::Slice key, rocksdb::Slice value) {
+    return db->PutUntil(*write_options, key, value,
+        static_cast<uint64_t>(jexpiration));
+  };
+  std::unique_ptr<rocksdb::Status> status =
+      rocksdb::JniUtil::kv_op(put, env, jobj, jkey, env->GetArrayLength(jkey),
+          jval, env->GetArrayLength(jval));
+  if (status != nullptr && !status->ok()) {
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, *status);
+  }
+}
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    getBlobDBOptions
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_BlobDB_getBlobDBOptions(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* db = reinterpret_cast<rocksdb::blob_db::BlobDB*>(jhandle);
+  auto* opt = new rocksdb::blob_db::BlobDBOptions(db->GetBlobDBOptions());
+  return reinterpret_cast<jlong>(opt);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    syncBlobFiles
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_BlobDB_syncBlobFiles(
+    JNIEnv* env, jobject, jlong jhandle) {
+  auto* db = reinterpret_cast<rocksdb::blob_db::BlobDB*>(jhandle);
+  rocksdb::Status s = db->SyncBlobFiles();
+  if (!s.ok()) {
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
+  }
+}
+
+/*
+ * Class:     org_rocksdb_BlobDB
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_BlobDB_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* blob_db = reinterpret_cast<rocksdb::blob_db::BlobDB*>(jhandle);
+  assert(blob_db != nullptr);
+  delete blob_db;
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    newBlobDBOptions
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_BlobDBOptions_newBlobDBOptions(
+    JNIEnv*, jclass) {
+  auto* opt = new rocksdb::blob_db::BlobDBOptions();
+  return reinterpret_cast<jlong>(opt);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_BlobDBOptions_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  delete reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setBlobDir
+ * Signature: (JLjava/lang/String;)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setBlobDir(
+    JNIEnv* env, jobject, jlong jhandle, jstring jblob_dir) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  const char* blob_dir = env->GetStringUTFChars(jblob_dir, nullptr);
+  if (blob_dir == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return;
+  }
+  opt->blob_dir = blob_dir;
+  env->ReleaseStringUTFChars(jblob_dir, blob_dir);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    blobDir
+ * Signature: (J)Ljava/lang/String;
+ */
+jstring Java_org_rocksdb_BlobDBOptions_blobDir(
+    JNIEnv* env, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return env->NewStringUTF(opt->blob_dir.c_str());
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setPathRelative
+ * Signature: (JZ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setPathRelative(
+    JNIEnv*, jobject, jlong jhandle, jboolean jpath_relative) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->path_relative = static_cast<bool>(jpath_relative);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    pathRelative
+ * Signature: (J)Z
+ */
+jboolean Java_org_rocksdb_BlobDBOptions_pathRelative(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jboolean>(opt->path_relative);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setIsFifo
+ * Signature: (JZ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setIsFifo(
+    JNIEnv*, jobject, jlong jhandle, jboolean jis_fifo) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->is_fifo = static_cast<bool>(jis_fifo);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    isFifo
+ * Signature: (J)Z
+ */
+jboolean Java_org_rocksdb_BlobDBOptions_isFifo(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jboolean>(opt->is_fifo);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setMaxDbSize
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setMaxDbSize(
+    JNIEnv*, jobject, jlong jhandle, jlong jmax_db_size) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->max_db_size = static_cast<uint64_t>(jmax_db_size);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    maxDbSize
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_BlobDBOptions_maxDbSize(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jlong>(opt->max_db_size);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setTtlRangeSecs
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setTtlRangeSecs(
+    JNIEnv*, jobject, jlong jhandle, jlong jttl_range_secs) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->ttl_range_secs = static_cast<uint64_t>(jttl_range_secs);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    ttlRangeSecs
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_BlobDBOptions_ttlRangeSecs(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jlong>(opt->ttl_range_secs);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setMinBlobSize
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setMinBlobSize(
+    JNIEnv*, jobject, jlong jhandle, jlong jmin_blob_size) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->min_blob_size = static_cast<uint64_t>(jmin_blob_size);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    minBlobSize
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_BlobDBOptions_minBlobSize(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jlong>(opt->min_blob_size);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setBytesPerSync
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setBytesPerSync(
+    JNIEnv*, jobject, jlong jhandle, jlong jbytes_per_sync) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->bytes_per_sync = static_cast<uint64_t>(jbytes_per_sync);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    bytesPerSync
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_BlobDBOptions_bytesPerSync(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jlong>(opt->bytes_per_sync);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setBlobFileSize
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setBlobFileSize(
+    JNIEnv*, jobject, jlong jhandle, jlong jblob_file_size) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->blob_file_size = static_cast<uint64_t>(jblob_file_size);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    blobFileSize
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_BlobDBOptions_blobFileSize(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jlong>(opt->blob_file_size);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setCompressionType
+ * Signature: (JB)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setCompressionType(
+    JNIEnv*, jobject, jlong jhandle, jbyte jcompression) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->compression =
+      rocksdb::CompressionTypeJni::toCppCompressionType(jcompression);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    compressionType
+ * Signature: (J)B
+ */
+jbyte Java_org_rocksdb_BlobDBOptions_compressionType(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return rocksdb::CompressionTypeJni::toJavaCompressionType(opt->compression);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setEnableGarbageCollection
+ * Signature: (JZ)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setEnableGarbageCollection(
+    JNIEnv*, jobject, jlong jhandle, jboolean jenable_garbage_collection) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->enable_garbage_collection = static_cast<bool>(jenable_garbage_collection);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    enableGarbageCollection
+ * Signature: (J)Z
+ */
+jboolean Java_org_rocksdb_BlobDBOptions_enableGarbageCollection(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jboolean>(opt->enable_garbage_collection);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    setGarbageCollectionCutoff
+ * Signature: (JD)V
+ */
+void Java_org_rocksdb_BlobDBOptions_setGarbageCollectionCutoff(
+    JNIEnv*, jobject, jlong jhandle, jdouble jgarbage_collection_cutoff) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  opt->garbage_collection_cutoff = static_cast<double>(jgarbage_collection_cutoff);
+}
+
+/*
+ * Class:     org_rocksdb_BlobDBOptions
+ * Method:    garbageCollectionCutoff
+ * Signature: (J)D
+ */
+jdouble Java_org_rocksdb_BlobDBOptions_garbageCollectionCutoff(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::blob_db::BlobDBOptions*>(jhandle);
+  return static_cast<jdouble>(opt->garbage_collection_cutoff);
+}
@@ -0,0 +1,97 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// the admission policy of a rocksdb::Cache.
+
+#include "rocksjni/cache_jnicallback.h"
+#include "rocksjni/portal.h"
+
+namespace rocksdb {
+CacheJniCallback::CacheJniCallback(JNIEnv* env, jobject jcache,
+                                   const std::shared_ptr<Cache>& target,
+                                   bool notify_lookups)
+    : JniCallback(env, jcache),
+      AdmissionCache(target),
+      m_notify_lookups(notify_lookups) {
+  m_on_lookup_mid = AbstractCacheJni::getOnLookupMethodId(env);
+  if (m_on_lookup_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_admit_mid = AbstractCacheJni::getAdmitMethodId(env);
+  if (m_admit_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+void CacheJniCallback::OnLookup(const Slice& key, bool hit) {
+  if (!m_notify_lookups) {
+    return;
+  }
+
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return;
+  }
+
+  // the Java ByteBuffer refers directly to the key, no copy is made
+  jobject jkey = env->NewDirectByteBuffer(
+      const_cast<char*>(key.data()), static_cast<jlong>(key.size()));
+  if (jkey == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return;
+  }
+
+  env->CallVoidMethod(m_jcallback_obj, m_on_lookup_mid, jkey,
+                      static_cast<jboolean>(hit));
+  env->DeleteLocalRef(jkey);
+
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+  }
+
+  releaseJniEnv(attached_thread);
+}
+
+bool CacheJniCallback::Admit(const Slice& key, size_t charge) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return true;
+  }
+
+  jobject jkey = env->NewDirectByteBuffer(
+      const_cast<char*>(key.data()), static_cast<jlong>(key.size()));
+  if (jkey == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return true;
+  }
+
+  const jboolean jadmit = env->CallBooleanMethod(
+      m_jcallback_obj, m_admit_mid, jkey, static_cast<jlong>(charge));
+  env->DeleteLocalRef(jkey);
+
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallBooleanMethod, admit the entry
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return true;
+  }
+
+  releaseJniEnv(attached_thread);
+
+  return jadmit == JNI_TRUE;
+}
+
+}  // namespace rocksdb
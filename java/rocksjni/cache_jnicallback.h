@@ -0,0 +1,40 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// the admission policy of a rocksdb::Cache.
+
+#ifndef JAVA_ROCKSJNI_CACHE_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_CACHE_JNICALLBACK_H_
+
+#include <jni.h>
+#include <memory>
+
+#include "rocksdb/cache.h"
+#include "cache/admission_cache.h"
+#include "rocksjni/jnicallback.h"
+
+namespace rocksdb {
+
+class CacheJniCallback : public JniCallback, public AdmissionCache {
+ public:
+  CacheJniCallback(JNIEnv* env, jobject jcache,
+                   const std::shared_ptr<Cache>& target,
+                   bool notify_lookups);
+  const char* Name() const override { return "CacheJniCallback"; }
+
+ protected:
+  void OnLookup(const Slice& key, bool hit) override;
+  bool Admit(const Slice& key, size_t charge) override;
+
+ private:
+  const bool m_notify_lookups;
+  jmethodID m_on_lookup_mid;
+  jmethodID m_admit_mid;
+};
+
+}  // namespace rocksdb
+
+#endif  // JAVA_ROCKSJNI_CACHE_JNICALLBACK_H_
@@ -13,6 +13,7 @@
 
 #include "include/org_rocksdb_Checkpoint.h"
 #include "rocksdb/db.h"
+#include "rocksdb/metadata.h"
 #include "rocksdb/utilities/checkpoint.h"
 #include "rocksjni/portal.h"
 /*
@@ -65,3 +66,32 @@ void Java_org_rocksdb_Checkpoint_createCheckpoint(JNIEnv* env, jobject /*jobj*/,
     rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
   }
 }
+
+/*
+ * Class:     org_rocksdb_Checkpoint
+ * Method:    exportColumnFamily
+ * Signature: (JJLjava/lang/String;)J
+ */
+jlong Java_org_rocksdb_Checkpoint_exportColumnFamily(
+    JNIEnv* env, jobject /*jobj*/, jlong jcheckpoint_handle,
+    jlong jcf_handle, jstring jexport_path) {
+  const char* export_path = env->GetStringUTFChars(jexport_path, 0);
+  if (export_path == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return 0;
+  }
+
+  auto* checkpoint = reinterpret_cast<rocksdb::Checkpoint*>(jcheckpoint_handle);
+  auto* cf_handle = reinterpret_cast<rocksdb::ColumnFamilyHandle*>(jcf_handle);
+  rocksdb::ExportImportFilesMetaData* metadata = nullptr;
+  rocksdb::Status s =
+      checkpoint->ExportColumnFamily(cf_handle, export_path, &metadata);
+
+  env->ReleaseStringUTFChars(jexport_path, export_path);
+
+  if (!s.ok()) {
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+  return reinterpret_cast<jlong>(metadata);
+}
@@ -14,15 +14,22 @@
 /*
  * Class:     org_rocksdb_ClockCache
  * Method:    newClockCache
- * Signature: (JIZ)J
+ * Signature: (JIZJ)J
  */
 jlong Java_org_rocksdb_ClockCache_newClockCache(
     JNIEnv* /*env*/, jclass /*jcls*/, jlong jcapacity, jint jnum_shard_bits,
-    jboolean jstrict_capacity_limit) {
+    jboolean jstrict_capacity_limit, jlong jmemory_allocator_handle) {
+  std::shared_ptr<rocksdb::MemoryAllocator> memory_allocator;
+  if (jmemory_allocator_handle != 0) {
+    memory_allocator =
+        *reinterpret_cast<std::shared_ptr<rocksdb::MemoryAllocator>*>(
+            jmemory_allocator_handle);
+  }
   auto* sptr_clock_cache =
       new std::shared_ptr<rocksdb::Cache>(rocksdb::NewClockCache(
           static_cast<size_t>(jcapacity), static_cast<int>(jnum_shard_bits),
-          static_cast<bool>(jstrict_capacity_limit)));
+          static_cast<bool>(jstrict_capacity_limit),
+          rocksdb::kDefaultCacheMetadataChargePolicy, memory_allocator));
   return reinterpret_cast<jlong>(sptr_clock_cache);
 }
 
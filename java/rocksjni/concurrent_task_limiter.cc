@@ -0,0 +1,99 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::ConcurrentTaskLimiter.
+
+#include <jni.h>
+#include <memory>
+#include <string>
+
+#include "include/org_rocksdb_ConcurrentTaskLimiterImpl.h"
+#include "rocksdb/concurrent_task_limiter.h"
+#include "rocksjni/portal.h"
+
+/*
+ * Class:     org_rocksdb_ConcurrentTaskLimiterImpl
+ * Method:    newConcurrentTaskLimiterImpl
+ * Signature: (Ljava/lang/String;I)J
+ */
+jlong Java_org_rocksdb_ConcurrentTaskLimiterImpl_newConcurrentTaskLimiterImpl(
+    JNIEnv* env, jclass, jstring jname, jint jlimit) {
+  jboolean has_exception = JNI_FALSE;
+  const std::string name =
+      rocksdb::JniUtil::copyStdString(env, jname, &has_exception);
+  if (has_exception == JNI_TRUE) {
+    // exception thrown: OutOfMemoryError
+    return 0;
+  }
+  auto* sptr_limiter = new std::shared_ptr<rocksdb::ConcurrentTaskLimiter>(
+      rocksdb::NewConcurrentTaskLimiter(name, static_cast<int32_t>(jlimit)));
+  return reinterpret_cast<jlong>(sptr_limiter);
+}
+
+/*
+ * Class:     org_rocksdb_ConcurrentTaskLimiterImpl
+ * Method:    name
+ * Signature: (J)Ljava/lang/String;
+ */
+jstring Java_org_rocksdb_ConcurrentTaskLimiterImpl_name(
+    JNIEnv* env, jobject, jlong jhandle) {
+  const auto& limiter =
+      *reinterpret_cast<std::shared_ptr<rocksdb::ConcurrentTaskLimiter>*>(
+          jhandle);
+  return rocksdb::JniUtil::toJavaString(env, &limiter->GetName(), false);
+}
+
+/*
+ * Class:     org_rocksdb_ConcurrentTaskLimiterImpl
+ * Method:    setMaxOutstandingTask
+ * Signature: (JI)V
+ */
+void Java_org_rocksdb_ConcurrentTaskLimiterImpl_setMaxOutstandingTask(
+    JNIEnv*, jobject, jlong jhandle, jint jlimit) {
+  const auto& limiter =
+      *reinterpret_cast<std::shared_ptr<rocksdb::ConcurrentTaskLimiter>*>(
+          jhandle);
+  limiter->SetMaxOutstandingTask(static_cast<int32_t>(jlimit));
+}
+
+/*
+ * Class:     org_rocksdb_ConcurrentTaskLimiterImpl
+ * Method:    resetMaxOutstandingTask
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_ConcurrentTaskLimiterImpl_resetMaxOutstandingTask(
+    JNIEnv*, jobject, jlong jhandle) {
+  const auto& limiter =
+      *reinterpret_cast<std::shared_ptr<rocksdb::ConcurrentTaskLimiter>*>(
+          jhandle);
+  limiter->ResetMaxOutstandingTask();
+}
+
+/*
+ * Class:     org_rocksdb_ConcurrentTaskLimiterImpl
+ * Method:    outstandingTask
+ * Signature: (J)I
+ */
+jint Java_org_rocksdb_ConcurrentTaskLimiterImpl_outstandingTask(
+    JNIEnv*, jobject, jlong jhandle) {
+  const auto& limiter =
+      *reinterpret_cast<std::shared_ptr<rocksdb::ConcurrentTaskLimiter>*>(
+          jhandle);
+  return static_cast<jint>(limiter->GetOutstandingTask());
+}
+
+/*
+ * Class:     org_rocksdb_ConcurrentTaskLimiterImpl
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_ConcurrentTaskLimiterImpl_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_limiter =
+      reinterpret_cast<std::shared_ptr<rocksdb::ConcurrentTaskLimiter>*>(
+          jhandle);
+  delete sptr_limiter;  // delete std::shared_ptr
+}
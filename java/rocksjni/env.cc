@@ -11,6 +11,10 @@
 
 #include "portal.h"
 #include "rocksdb/env.h"
+#include "rocksdb/env_encryption.h"
+#include "rocksdb/file_system.h"
+#include "include/org_rocksdb_CompositeEnv.h"
+#include "include/org_rocksdb_EncryptedEnv.h"
 #include "include/org_rocksdb_Env.h"
 #include "include/org_rocksdb_HdfsEnv.h"
 #include "include/org_rocksdb_RocksEnv.h"
@@ -232,3 +236,53 @@ void Java_org_rocksdb_TimedEnv_disposeInternal(
   delete e;
 }
 
+
+/*
+ * Class:     org_rocksdb_CompositeEnv
+ * Method:    createCompositeEnv
+ * Signature: (JJ)J
+ */
+jlong Java_org_rocksdb_CompositeEnv_createCompositeEnv(
+    JNIEnv*, jclass, jlong jbase_env_handle, jlong jfile_system_handle) {
+  auto* base_env = reinterpret_cast<rocksdb::Env*>(jbase_env_handle);
+  auto* sptr_fs = reinterpret_cast<std::shared_ptr<rocksdb::FileSystem>*>(
+      jfile_system_handle);
+  return reinterpret_cast<jlong>(rocksdb::NewCompositeEnv(base_env, *sptr_fs));
+}
+
+/*
+ * Class:     org_rocksdb_CompositeEnv
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_CompositeEnv_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* e = reinterpret_cast<rocksdb::Env*>(jhandle);
+  assert(e != nullptr);
+  delete e;
+}
+
+/*
+ * Class:     org_rocksdb_EncryptedEnv
+ * Method:    createEncryptedEnv
+ * Signature: (JJ)J
+ */
+jlong Java_org_rocksdb_EncryptedEnv_createEncryptedEnv(
+    JNIEnv*, jclass, jlong jbase_env_handle, jlong jprovider_handle) {
+  auto* base_env = reinterpret_cast<rocksdb::Env*>(jbase_env_handle);
+  auto* provider =
+      reinterpret_cast<rocksdb::EncryptionProvider*>(jprovider_handle);
+  return reinterpret_cast<jlong>(rocksdb::NewEncryptedEnv(base_env, provider));
+}
+
+/*
+ * Class:     org_rocksdb_EncryptedEnv
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_EncryptedEnv_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* e = reinterpret_cast<rocksdb::Env*>(jhandle);
+  assert(e != nullptr);
+  delete e;
+}
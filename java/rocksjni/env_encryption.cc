@@ -0,0 +1,111 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::BlockCipher and rocksdb::EncryptionProvider, and their
+// subclasses.
+
+#include <jni.h>
+#include <memory>
+#include <string>
+
+#include "include/org_rocksdb_AESBlockCipher.h"
+#include "include/org_rocksdb_BlockCipher.h"
+#include "include/org_rocksdb_CTREncryptionProvider.h"
+#include "include/org_rocksdb_EncryptionProvider.h"
+#include "include/org_rocksdb_ROT13BlockCipher.h"
+#include "rocksdb/env_encryption.h"
+#include "rocksjni/portal.h"
+
+/*
+ * Class:     org_rocksdb_BlockCipher
+ * Method:    blockSize
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_BlockCipher_blockSize(
+    JNIEnv*, jclass, jlong jhandle) {
+  auto* cipher = reinterpret_cast<rocksdb::BlockCipher*>(jhandle);
+  return static_cast<jlong>(cipher->BlockSize());
+}
+
+/*
+ * Class:     org_rocksdb_BlockCipher
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_BlockCipher_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* cipher = reinterpret_cast<rocksdb::BlockCipher*>(jhandle);
+  assert(cipher != nullptr);
+  delete cipher;
+}
+
+/*
+ * Class:     org_rocksdb_ROT13BlockCipher
+ * Method:    newROT13BlockCipher
+ * Signature: (I)J
+ */
+jlong Java_org_rocksdb_ROT13BlockCipher_newROT13BlockCipher(
+    JNIEnv*, jclass, jint jblock_size) {
+  auto* cipher =
+      new rocksdb::ROT13BlockCipher(static_cast<size_t>(jblock_size));
+  return reinterpret_cast<jlong>(static_cast<rocksdb::BlockCipher*>(cipher));
+}
+
+/*
+ * Class:     org_rocksdb_AESBlockCipher
+ * Method:    newAESBlockCipher
+ * Signature: ([B)J
+ */
+jlong Java_org_rocksdb_AESBlockCipher_newAESBlockCipher(
+    JNIEnv* env, jclass, jbyteArray jkey) {
+  // the key is copied straight into a buffer of our own, so that it can
+  // be wiped once the cipher has expanded it
+  const jsize jkey_len = env->GetArrayLength(jkey);
+  std::string key(static_cast<size_t>(jkey_len), '\0');
+  env->GetByteArrayRegion(jkey, 0, jkey_len,
+                          reinterpret_cast<jbyte*>(&key[0]));
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    return 0;
+  }
+
+  std::unique_ptr<rocksdb::BlockCipher> cipher;
+  rocksdb::Status s = rocksdb::NewAESBlockCipher(key, &cipher);
+  volatile char* key_data = &key[0];
+  for (size_t i = 0; i < key.size(); i++) {
+    key_data[i] = 0;
+  }
+  if (!s.ok()) {
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+  return reinterpret_cast<jlong>(cipher.release());
+}
+
+/*
+ * Class:     org_rocksdb_EncryptionProvider
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_EncryptionProvider_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* provider = reinterpret_cast<rocksdb::EncryptionProvider*>(jhandle);
+  assert(provider != nullptr);
+  delete provider;
+}
+
+/*
+ * Class:     org_rocksdb_CTREncryptionProvider
+ * Method:    newCTREncryptionProvider
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_CTREncryptionProvider_newCTREncryptionProvider(
+    JNIEnv*, jclass, jlong jcipher_handle) {
+  auto* cipher = reinterpret_cast<rocksdb::BlockCipher*>(jcipher_handle);
+  auto* provider = new rocksdb::CTREncryptionProvider(*cipher);
+  return reinterpret_cast<jlong>(
+      static_cast<rocksdb::EncryptionProvider*>(provider));
+}
@@ -0,0 +1,78 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::ExportImportFilesMetaData.
+
+#include <jni.h>
+
+#include "include/org_rocksdb_ExportImportFilesMetaData.h"
+#include "rocksdb/metadata.h"
+#include "rocksjni/portal.h"
+
+/*
+ * Class:     org_rocksdb_ExportImportFilesMetaData
+ * Method:    dbComparatorName
+ * Signature: (J)Ljava/lang/String;
+ */
+jstring Java_org_rocksdb_ExportImportFilesMetaData_dbComparatorName(
+    JNIEnv* env, jobject, jlong jhandle) {
+  auto* metadata =
+      reinterpret_cast<rocksdb::ExportImportFilesMetaData*>(jhandle);
+  return rocksdb::JniUtil::toJavaString(env, &metadata->db_comparator_name,
+                                        false);
+}
+
+/*
+ * Class:     org_rocksdb_ExportImportFilesMetaData
+ * Method:    files
+ * Signature: (J)[Lorg/rocksdb/LiveFileMetaData;
+ */
+jobjectArray Java_org_rocksdb_ExportImportFilesMetaData_files(
+    JNIEnv* env, jobject, jlong jhandle) {
+  auto* metadata =
+      reinterpret_cast<rocksdb::ExportImportFilesMetaData*>(jhandle);
+
+  const jsize jlen = static_cast<jsize>(metadata->files.size());
+  jobjectArray jfiles = env->NewObjectArray(
+      jlen, rocksdb::LiveFileMetaDataJni::getJClass(env), nullptr);
+  if (jfiles == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+
+  jsize i = 0;
+  for (auto it = metadata->files.begin(); it != metadata->files.end(); ++it) {
+    jobject jfile =
+        rocksdb::LiveFileMetaDataJni::fromCppLiveFileMetaData(env, &(*it));
+    if (jfile == nullptr) {
+      // exception occurred
+      env->DeleteLocalRef(jfiles);
+      return nullptr;
+    }
+
+    env->SetObjectArrayElement(jfiles, i++, jfile);
+    if (env->ExceptionCheck()) {
+      // exception occurred
+      env->DeleteLocalRef(jfile);
+      env->DeleteLocalRef(jfiles);
+      return nullptr;
+    }
+
+    env->DeleteLocalRef(jfile);
+  }
+
+  return jfiles;
+}
+
+/*
+ * Class:     org_rocksdb_ExportImportFilesMetaData
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_ExportImportFilesMetaData_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  delete reinterpret_cast<rocksdb::ExportImportFilesMetaData*>(jhandle);
+}
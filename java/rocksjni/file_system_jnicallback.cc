@@ -0,0 +1,817 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::FileSystem.
+
+#include "rocksjni/file_system_jnicallback.h"
+
+#include <algorithm>
+
+#include "rocksjni/portal.h"
+
+namespace rocksdb {
+namespace {
+// Converts the exception thrown by a Java method to an IOStatus, the status
+// of a RocksDBException is preserved, otherwise its message is kept
+IOStatus ExceptionToIOStatus(JNIEnv* env, const char* method_name) {
+  jthrowable jexception = env->ExceptionOccurred();
+  env->ExceptionClear();
+
+  const bool is_rocksdb_exception =
+      env->IsInstanceOf(jexception, RocksDBExceptionJni::getJClass(env));
+  if (is_rocksdb_exception) {
+    std::unique_ptr<Status> s =
+        RocksDBExceptionJni::toCppStatus(env, jexception);
+    env->ExceptionClear();
+    if (s != nullptr) {
+      env->DeleteLocalRef(jexception);
+      const Slice msg = s->getState() == nullptr ? Slice() : s->getState();
+      if (s->IsNotFound()) {
+        return IOStatus::NotFound(msg);
+      } else if (s->IsNotSupported()) {
+        return IOStatus::NotSupported(msg);
+      } else if (s->IsInvalidArgument()) {
+        return IOStatus::InvalidArgument(msg);
+      } else if (s->IsCorruption()) {
+        return IOStatus::Corruption(msg);
+      }
+      return IOStatus::IOError(msg);
+    }
+  } else {
+    env->Throw(jexception);
+    env->ExceptionDescribe();  // print out exception to stderr
+    env->ExceptionClear();
+  }
+
+  // no status is available, use the message of the exception
+  std::string msg = method_name;
+  jclass jthrowable_clazz = env->FindClass("java/lang/Throwable");
+  jmethodID mid = jthrowable_clazz == nullptr
+                      ? nullptr
+                      : env->GetMethodID(jthrowable_clazz, "getMessage",
+                                         "()Ljava/lang/String;");
+  if (mid != nullptr) {
+    auto jmsg =
+        static_cast<jstring>(env->CallObjectMethod(jexception, mid));
+    if (jmsg != nullptr && !env->ExceptionCheck()) {
+      jboolean has_exception = JNI_FALSE;
+      msg = JniUtil::copyStdString(env, jmsg, &has_exception);
+      env->DeleteLocalRef(jmsg);
+    }
+  }
+  if (jthrowable_clazz != nullptr) {
+    env->DeleteLocalRef(jthrowable_clazz);
+  }
+  env->ExceptionClear();
+  env->DeleteLocalRef(jexception);
+  return IOStatus::IOError(msg);
+}
+
+// Wraps a buffer of native memory, without copying it
+jobject NewDirectByteBuffer(JNIEnv* env, const char* data, size_t size) {
+  return env->NewDirectByteBuffer(const_cast<char*>(data),
+                                  static_cast<jlong>(size));
+}
+
+// The number of bytes read by a Java file into a buffer of n bytes, where
+// a negative count, such as the -1 of a ReadableByteChannel, means the end
+// of the file, and so no bytes
+size_t ReadLength(jint jread, size_t n) {
+  if (jread < 0) {
+    return 0;
+  }
+  return std::min(n, static_cast<size_t>(jread));
+}
+}  // namespace
+
+FileSystemJniCallback::FileSystemJniCallback(JNIEnv* env, jobject jfile_system)
+    : JniCallback(env, jfile_system),
+      FileSystemWrapper(FileSystem::Default().get()) {
+  m_new_sequential_file_mid =
+      AbstractFileSystemJni::getNewSequentialFileMethodId(env);
+  if (m_new_sequential_file_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_new_random_access_file_mid =
+      AbstractFileSystemJni::getNewRandomAccessFileMethodId(env);
+  if (m_new_random_access_file_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_new_writable_file_mid =
+      AbstractFileSystemJni::getNewWritableFileMethodId(env);
+  if (m_new_writable_file_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_file_exists_mid = AbstractFileSystemJni::getFileExistsMethodId(env);
+  if (m_file_exists_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_get_file_size_mid = AbstractFileSystemJni::getGetFileSizeMethodId(env);
+  if (m_get_file_size_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_delete_file_mid = AbstractFileSystemJni::getDeleteFileMethodId(env);
+  if (m_delete_file_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_rename_file_mid = AbstractFileSystemJni::getRenameFileMethodId(env);
+  if (m_rename_file_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_link_file_mid = AbstractFileSystemJni::getLinkFileMethodId(env);
+  if (m_link_file_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_get_children_mid = AbstractFileSystemJni::getGetChildrenMethodId(env);
+  if (m_get_children_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+jobject FileSystemJniCallback::CallObjectMethod(JNIEnv* env, jmethodID mid,
+                                                const std::string& fname,
+                                                IOStatus* s) const {
+  jstring jfname = JniUtil::toJavaString(env, &fname);
+  if (jfname == nullptr) {
+    // exception thrown: OutOfMemoryError
+    *s = ExceptionToIOStatus(env, "AbstractFileSystem");
+    return nullptr;
+  }
+  jobject jresult = env->CallObjectMethod(m_jcallback_obj, mid, jfname);
+  env->DeleteLocalRef(jfname);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallObjectMethod
+    *s = ExceptionToIOStatus(env, "AbstractFileSystem");
+    return nullptr;
+  }
+  return jresult;
+}
+
+IOStatus FileSystemJniCallback::CallBooleanMethod(jmethodID mid,
+                                                  const char* method_name,
+                                                  const std::string& fname,
+                                                  const std::string* target,
+                                                  bool* handled) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  jstring jfname = JniUtil::toJavaString(env, &fname);
+  if (jfname == nullptr) {
+    // exception thrown: OutOfMemoryError
+    IOStatus s = ExceptionToIOStatus(env, method_name);
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  jstring jtarget = nullptr;
+  if (target != nullptr) {
+    jtarget = JniUtil::toJavaString(env, target);
+    if (jtarget == nullptr) {
+      // exception thrown: OutOfMemoryError
+      env->DeleteLocalRef(jfname);
+      IOStatus s = ExceptionToIOStatus(env, method_name);
+      releaseJniEnv(attached_thread);
+      return s;
+    }
+  }
+  const jboolean jhandled =
+      jtarget == nullptr
+          ? env->CallBooleanMethod(m_jcallback_obj, mid, jfname)
+          : env->CallBooleanMethod(m_jcallback_obj, mid, jfname, jtarget);
+  env->DeleteLocalRef(jfname);
+  if (jtarget != nullptr) {
+    env->DeleteLocalRef(jtarget);
+  }
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallBooleanMethod
+    IOStatus s = ExceptionToIOStatus(env, method_name);
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  releaseJniEnv(attached_thread);
+
+  *handled = jhandled == JNI_TRUE;
+  return IOStatus::OK();
+}
+
+IOStatus FileSystemJniCallback::NewSequentialFile(
+    const std::string& fname, const FileOptions& file_opts,
+    std::unique_ptr<FSSequentialFile>* result, IODebugContext* dbg) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  IOStatus s;
+  jobject jfile =
+      CallObjectMethod(env, m_new_sequential_file_mid, fname, &s);
+  if (jfile != nullptr) {
+    result->reset(new FSSequentialFileJniCallback(env, jfile));
+    env->DeleteLocalRef(jfile);
+  }
+  releaseJniEnv(attached_thread);
+
+  if (s.ok() && *result == nullptr) {
+    // not handled by the Java file system
+    return target()->NewSequentialFile(fname, file_opts, result, dbg);
+  }
+  return s;
+}
+
+IOStatus FileSystemJniCallback::NewRandomAccessFile(
+    const std::string& fname, const FileOptions& file_opts,
+    std::unique_ptr<FSRandomAccessFile>* result, IODebugContext* dbg) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  IOStatus s;
+  jobject jfile =
+      CallObjectMethod(env, m_new_random_access_file_mid, fname, &s);
+  if (jfile != nullptr) {
+    result->reset(new FSRandomAccessFileJniCallback(env, jfile));
+    env->DeleteLocalRef(jfile);
+  }
+  releaseJniEnv(attached_thread);
+
+  if (s.ok() && *result == nullptr) {
+    // not handled by the Java file system
+    return target()->NewRandomAccessFile(fname, file_opts, result, dbg);
+  }
+  return s;
+}
+
+IOStatus FileSystemJniCallback::NewWritableFile(
+    const std::string& fname, const FileOptions& file_opts,
+    std::unique_ptr<FSWritableFile>* result, IODebugContext* dbg) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  IOStatus s;
+  jobject jfile = CallObjectMethod(env, m_new_writable_file_mid, fname, &s);
+  if (jfile != nullptr) {
+    result->reset(new FSWritableFileJniCallback(env, jfile));
+    env->DeleteLocalRef(jfile);
+  }
+  releaseJniEnv(attached_thread);
+
+  if (s.ok() && *result == nullptr) {
+    // not handled by the Java file system
+    return target()->NewWritableFile(fname, file_opts, result, dbg);
+  }
+  return s;
+}
+
+IOStatus FileSystemJniCallback::ReopenWritableFile(
+    const std::string& fname, const FileOptions& file_opts,
+    std::unique_ptr<FSWritableFile>* result, IODebugContext* dbg) {
+  bool exists = false;
+  IOStatus s = CallBooleanMethod(m_file_exists_mid,
+                                 "AbstractFileSystem#fileExists", fname,
+                                 nullptr, &exists);
+  if (!s.ok()) {
+    return s;
+  }
+  if (exists) {
+    // the Java files are only written from their start
+    return IOStatus::NotSupported(
+        "Files of a Java file system cannot be reopened", fname);
+  }
+  return target()->ReopenWritableFile(fname, file_opts, result, dbg);
+}
+
+IOStatus FileSystemJniCallback::ReuseWritableFile(
+    const std::string& fname, const std::string& old_fname,
+    const FileOptions& file_opts, std::unique_ptr<FSWritableFile>* result,
+    IODebugContext* dbg) {
+  bool exists = false;
+  IOStatus s = CallBooleanMethod(m_file_exists_mid,
+                                 "AbstractFileSystem#fileExists", old_fname,
+                                 nullptr, &exists);
+  if (!s.ok()) {
+    return s;
+  }
+  if (exists) {
+    // renamed by the Java file system, and created again
+    s = RenameFile(old_fname, fname, IOOptions(), dbg);
+    if (!s.ok()) {
+      return s;
+    }
+    return NewWritableFile(fname, file_opts, result, dbg);
+  }
+  return target()->ReuseWritableFile(fname, old_fname, file_opts, result, dbg);
+}
+
+IOStatus FileSystemJniCallback::FileExists(const std::string& fname,
+                                           const IOOptions& options,
+                                           IODebugContext* dbg) {
+  bool exists = false;
+  IOStatus s = CallBooleanMethod(m_file_exists_mid,
+                                 "AbstractFileSystem#fileExists", fname,
+                                 nullptr, &exists);
+  if (!s.ok() || exists) {
+    return s;
+  }
+  return target()->FileExists(fname, options, dbg);
+}
+
+IOStatus FileSystemJniCallback::GetFileSize(const std::string& fname,
+                                            const IOOptions& options,
+                                            uint64_t* file_size,
+                                            IODebugContext* dbg) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  jstring jfname = JniUtil::toJavaString(env, &fname);
+  if (jfname == nullptr) {
+    // exception thrown: OutOfMemoryError
+    IOStatus s = ExceptionToIOStatus(env, "AbstractFileSystem#getFileSize");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  const jlong jfile_size =
+      env->CallLongMethod(m_jcallback_obj, m_get_file_size_mid, jfname);
+  env->DeleteLocalRef(jfname);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallLongMethod
+    IOStatus s = ExceptionToIOStatus(env, "AbstractFileSystem#getFileSize");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  releaseJniEnv(attached_thread);
+
+  if (jfile_size >= 0) {
+    *file_size = static_cast<uint64_t>(jfile_size);
+    return IOStatus::OK();
+  }
+  return target()->GetFileSize(fname, options, file_size, dbg);
+}
+
+IOStatus FileSystemJniCallback::DeleteFile(const std::string& fname,
+                                           const IOOptions& options,
+                                           IODebugContext* dbg) {
+  bool deleted = false;
+  IOStatus s = CallBooleanMethod(m_delete_file_mid,
+                                 "AbstractFileSystem#deleteFile", fname,
+                                 nullptr, &deleted);
+  if (!s.ok() || deleted) {
+    return s;
+  }
+  return target()->DeleteFile(fname, options, dbg);
+}
+
+IOStatus FileSystemJniCallback::RenameFile(const std::string& src,
+                                           const std::string& target,
+                                           const IOOptions& options,
+                                           IODebugContext* dbg) {
+  bool renamed = false;
+  IOStatus s = CallBooleanMethod(m_rename_file_mid,
+                                 "AbstractFileSystem#renameFile", src,
+                                 &target, &renamed);
+  if (!s.ok() || renamed) {
+    return s;
+  }
+  return this->target()->RenameFile(src, target, options, dbg);
+}
+
+IOStatus FileSystemJniCallback::LinkFile(const std::string& src,
+                                         const std::string& target,
+                                         const IOOptions& options,
+                                         IODebugContext* dbg) {
+  bool linked = false;
+  IOStatus s = CallBooleanMethod(m_link_file_mid,
+                                 "AbstractFileSystem#linkFile", src, &target,
+                                 &linked);
+  if (!s.ok() || linked) {
+    return s;
+  }
+  return this->target()->LinkFile(src, target, options, dbg);
+}
+
+IOStatus FileSystemJniCallback::GetChildren(const std::string& dir,
+                                            const IOOptions& options,
+                                            std::vector<std::string>* result,
+                                            IODebugContext* dbg) {
+  IOStatus s = target()->GetChildren(dir, options, result, dbg);
+  if (!s.ok() && !s.IsNotFound()) {
+    return s;
+  }
+
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  IOStatus js;
+  auto jchildren = static_cast<jobjectArray>(
+      CallObjectMethod(env, m_get_children_mid, dir, &js));
+  if (jchildren == nullptr) {
+    releaseJniEnv(attached_thread);
+    return js.ok() ? s : js;
+  }
+
+  jboolean has_exception = JNI_FALSE;
+  std::vector<std::string> children =
+      JniUtil::copyStrings(env, jchildren, &has_exception);
+  env->DeleteLocalRef(jchildren);
+  if (has_exception == JNI_TRUE) {
+    js = ExceptionToIOStatus(env, "AbstractFileSystem#getChildren");
+    releaseJniEnv(attached_thread);
+    return js;
+  }
+  releaseJniEnv(attached_thread);
+
+  if (s.IsNotFound()) {
+    // the directory only exists in the Java file system
+    result->clear();
+  }
+  for (auto& child : children) {
+    if (std::find(result->begin(), result->end(), child) == result->end()) {
+      result->push_back(std::move(child));
+    }
+  }
+  return IOStatus::OK();
+}
+
+IOStatus FileSystemJniCallback::GetChildrenFileAttributes(
+    const std::string& dir, const IOOptions& options,
+    std::vector<FileAttributes>* result, IODebugContext* dbg) {
+  // the sizes of the files of the Java file system are only known to it
+  return FileSystem::GetChildrenFileAttributes(dir, options, result, dbg);
+}
+
+FSSequentialFileJniCallback::FSSequentialFileJniCallback(JNIEnv* env,
+                                                         jobject jfile)
+    : JniCallback(env, jfile) {
+  m_read_mid = FSSequentialFileJni::getReadMethodId(env);
+  if (m_read_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_skip_mid = FSSequentialFileJni::getSkipMethodId(env);
+  if (m_skip_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_close_mid = FSSequentialFileJni::getCloseMethodId(env);
+  if (m_close_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+FSSequentialFileJniCallback::~FSSequentialFileJniCallback() {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return;
+  }
+
+  env->CallVoidMethod(m_jcallback_obj, m_close_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    env->ExceptionClear();
+  }
+
+  releaseJniEnv(attached_thread);
+}
+
+IOStatus FSSequentialFileJniCallback::Read(size_t n,
+                                           const IOOptions& /*options*/,
+                                           Slice* result, char* scratch,
+                                           IODebugContext* /*dbg*/) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  jobject jbuffer = NewDirectByteBuffer(env, scratch, n);
+  if (jbuffer == nullptr) {
+    // exception thrown: OutOfMemoryError
+    IOStatus s = ExceptionToIOStatus(env, "FSSequentialFile#read");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  const jint jread = env->CallIntMethod(m_jcallback_obj, m_read_mid, jbuffer);
+  env->DeleteLocalRef(jbuffer);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallIntMethod
+    IOStatus s = ExceptionToIOStatus(env, "FSSequentialFile#read");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  releaseJniEnv(attached_thread);
+
+  *result = Slice(scratch, ReadLength(jread, n));
+  return IOStatus::OK();
+}
+
+IOStatus FSSequentialFileJniCallback::Skip(uint64_t n) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  env->CallVoidMethod(m_jcallback_obj, m_skip_mid, static_cast<jlong>(n));
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    IOStatus s = ExceptionToIOStatus(env, "FSSequentialFile#skip");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  releaseJniEnv(attached_thread);
+
+  return IOStatus::OK();
+}
+
+FSRandomAccessFileJniCallback::FSRandomAccessFileJniCallback(JNIEnv* env,
+                                                             jobject jfile)
+    : JniCallback(env, jfile) {
+  m_read_mid = FSRandomAccessFileJni::getReadMethodId(env);
+  if (m_read_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_multi_read_mid = FSRandomAccessFileJni::getMultiReadMethodId(env);
+  if (m_multi_read_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_close_mid = FSRandomAccessFileJni::getCloseMethodId(env);
+  if (m_close_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+FSRandomAccessFileJniCallback::~FSRandomAccessFileJniCallback() {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return;
+  }
+
+  env->CallVoidMethod(m_jcallback_obj, m_close_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    env->ExceptionClear();
+  }
+
+  releaseJniEnv(attached_thread);
+}
+
+IOStatus FSRandomAccessFileJniCallback::Read(uint64_t offset, size_t n,
+                                             const IOOptions& /*options*/,
+                                             Slice* result, char* scratch,
+                                             IODebugContext* /*dbg*/) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  jobject jbuffer = NewDirectByteBuffer(env, scratch, n);
+  if (jbuffer == nullptr) {
+    // exception thrown: OutOfMemoryError
+    IOStatus s = ExceptionToIOStatus(env, "FSRandomAccessFile#read");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  const jint jread = env->CallIntMethod(m_jcallback_obj, m_read_mid,
+                                        static_cast<jlong>(offset), jbuffer);
+  env->DeleteLocalRef(jbuffer);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallIntMethod
+    IOStatus s = ExceptionToIOStatus(env, "FSRandomAccessFile#read");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  releaseJniEnv(attached_thread);
+
+  *result = Slice(scratch, ReadLength(jread, n));
+  return IOStatus::OK();
+}
+
+IOStatus FSRandomAccessFileJniCallback::MultiRead(FSReadRequest* reqs,
+                                                  size_t num_reqs,
+                                                  const IOOptions& /*options*/,
+                                                  IODebugContext* /*dbg*/) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  const jsize jnum_reqs = static_cast<jsize>(num_reqs);
+  jlongArray joffsets = env->NewLongArray(jnum_reqs);
+  if (joffsets == nullptr) {
+    // exception thrown: OutOfMemoryError
+    IOStatus s = ExceptionToIOStatus(env, "FSRandomAccessFile#multiRead");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  jobjectArray jbuffers =
+      env->NewObjectArray(jnum_reqs, ByteBufferJni::getJClass(env), nullptr);
+  if (jbuffers == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->DeleteLocalRef(joffsets);
+    IOStatus s = ExceptionToIOStatus(env, "FSRandomAccessFile#multiRead");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+
+  std::unique_ptr<jlong[]> offsets(new jlong[num_reqs]);
+  for (size_t i = 0; i < num_reqs; i++) {
+    offsets[i] = static_cast<jlong>(reqs[i].offset);
+    jobject jbuffer = NewDirectByteBuffer(env, reqs[i].scratch, reqs[i].len);
+    if (jbuffer == nullptr) {
+      // exception thrown: OutOfMemoryError
+      env->DeleteLocalRef(jbuffers);
+      env->DeleteLocalRef(joffsets);
+      IOStatus s = ExceptionToIOStatus(env, "FSRandomAccessFile#multiRead");
+      releaseJniEnv(attached_thread);
+      return s;
+    }
+    env->SetObjectArrayElement(jbuffers, static_cast<jsize>(i), jbuffer);
+    env->DeleteLocalRef(jbuffer);
+  }
+  env->SetLongArrayRegion(joffsets, 0, jnum_reqs, offsets.get());
+
+  // all of the ranges are read with a single call into Java
+  auto jread = static_cast<jintArray>(env->CallObjectMethod(
+      m_jcallback_obj, m_multi_read_mid, joffsets, jbuffers));
+  env->DeleteLocalRef(jbuffers);
+  env->DeleteLocalRef(joffsets);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallObjectMethod
+    IOStatus s = ExceptionToIOStatus(env, "FSRandomAccessFile#multiRead");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  if (jread == nullptr || env->GetArrayLength(jread) != jnum_reqs) {
+    if (jread != nullptr) {
+      env->DeleteLocalRef(jread);
+    }
+    releaseJniEnv(attached_thread);
+    return IOStatus::IOError(
+        "FSRandomAccessFile#multiRead returned an invalid result");
+  }
+
+  std::unique_ptr<jint[]> read(new jint[num_reqs]);
+  env->GetIntArrayRegion(jread, 0, jnum_reqs, read.get());
+  env->DeleteLocalRef(jread);
+  releaseJniEnv(attached_thread);
+
+  for (size_t i = 0; i < num_reqs; i++) {
+    reqs[i].result = Slice(reqs[i].scratch, ReadLength(read[i], reqs[i].len));
+    reqs[i].status = IOStatus::OK();
+  }
+  return IOStatus::OK();
+}
+
+FSWritableFileJniCallback::FSWritableFileJniCallback(JNIEnv* env,
+                                                     jobject jfile)
+    : JniCallback(env, jfile), m_file_size(0), m_closed(false) {
+  m_append_mid = FSWritableFileJni::getAppendMethodId(env);
+  if (m_append_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_flush_mid = FSWritableFileJni::getFlushMethodId(env);
+  if (m_flush_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_sync_mid = FSWritableFileJni::getSyncMethodId(env);
+  if (m_sync_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_close_mid = FSWritableFileJni::getCloseMethodId(env);
+  if (m_close_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+FSWritableFileJniCallback::~FSWritableFileJniCallback() {
+  if (!m_closed) {
+    Close(IOOptions(), nullptr);
+  }
+}
+
+IOStatus FSWritableFileJniCallback::CallVoidMethod(jmethodID mid,
+                                                   const char* method_name) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  env->CallVoidMethod(m_jcallback_obj, mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    IOStatus s = ExceptionToIOStatus(env, method_name);
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  releaseJniEnv(attached_thread);
+
+  return IOStatus::OK();
+}
+
+IOStatus FSWritableFileJniCallback::Append(const Slice& data,
+                                           const IOOptions& /*options*/,
+                                           IODebugContext* /*dbg*/) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return IOStatus::IOError("Unable to attach JNI Environment");
+  }
+
+  jobject jdata = NewDirectByteBuffer(env, data.data(), data.size());
+  if (jdata == nullptr) {
+    // exception thrown: OutOfMemoryError
+    IOStatus s = ExceptionToIOStatus(env, "FSWritableFile#append");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  env->CallVoidMethod(m_jcallback_obj, m_append_mid, jdata);
+  env->DeleteLocalRef(jdata);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    IOStatus s = ExceptionToIOStatus(env, "FSWritableFile#append");
+    releaseJniEnv(attached_thread);
+    return s;
+  }
+  releaseJniEnv(attached_thread);
+
+  m_file_size += data.size();
+  return IOStatus::OK();
+}
+
+IOStatus FSWritableFileJniCallback::Close(const IOOptions& /*options*/,
+                                          IODebugContext* /*dbg*/) {
+  m_closed = true;
+  return CallVoidMethod(m_close_mid, "FSWritableFile#close");
+}
+
+IOStatus FSWritableFileJniCallback::Flush(const IOOptions& /*options*/,
+                                          IODebugContext* /*dbg*/) {
+  return CallVoidMethod(m_flush_mid, "FSWritableFile#flush");
+}
+
+IOStatus FSWritableFileJniCallback::Sync(const IOOptions& /*options*/,
+                                         IODebugContext* /*dbg*/) {
+  return CallVoidMethod(m_sync_mid, "FSWritableFile#sync");
+}
+
+uint64_t FSWritableFileJniCallback::GetFileSize(const IOOptions& /*options*/,
+                                                IODebugContext* /*dbg*/) {
+  return m_file_size;
+}
+
+}  // namespace rocksdb
@@ -0,0 +1,157 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::FileSystem.
+
+#ifndef JAVA_ROCKSJNI_FILE_SYSTEM_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_FILE_SYSTEM_JNICALLBACK_H_
+
+#include <jni.h>
+#include <memory>
+#include <string>
+#include <vector>
+
+#include "rocksdb/file_system.h"
+#include "rocksjni/jnicallback.h"
+
+namespace rocksdb {
+
+// A FileSystem which calls an org.rocksdb.AbstractFileSystem before
+// delegating each operation to the default FileSystem. Files which are not
+// opened by the Java file system are read and written by the default
+// FileSystem, without calling into Java. The files of the Java file system
+// are renamed and linked by it, reused by renaming them and creating them
+// again, and cannot be reopened.
+class FileSystemJniCallback : public JniCallback, public FileSystemWrapper {
+ public:
+  FileSystemJniCallback(JNIEnv* env, jobject jfile_system);
+  const char* Name() const override { return "FileSystemJniCallback"; }
+
+  IOStatus NewSequentialFile(const std::string& fname,
+                             const FileOptions& file_opts,
+                             std::unique_ptr<FSSequentialFile>* result,
+                             IODebugContext* dbg) override;
+  IOStatus NewRandomAccessFile(const std::string& fname,
+                               const FileOptions& file_opts,
+                               std::unique_ptr<FSRandomAccessFile>* result,
+                               IODebugContext* dbg) override;
+  IOStatus NewWritableFile(const std::string& fname,
+                           const FileOptions& file_opts,
+                           std::unique_ptr<FSWritableFile>* result,
+                           IODebugContext* dbg) override;
+  IOStatus ReopenWritableFile(const std::string& fname,
+                              const FileOptions& file_opts,
+                              std::unique_ptr<FSWritableFile>* result,
+                              IODebugContext* dbg) override;
+  IOStatus ReuseWritableFile(const std::string& fname,
+                             const std::string& old_fname,
+                             const FileOptions& file_opts,
+                             std::unique_ptr<FSWritableFile>* result,
+                             IODebugContext* dbg) override;
+  IOStatus FileExists(const std::string& fname, const IOOptions& options,
+                      IODebugContext* dbg) override;
+  IOStatus GetFileSize(const std::string& fname, const IOOptions& options,
+                       uint64_t* file_size, IODebugContext* dbg) override;
+  IOStatus DeleteFile(const std::string& fname, const IOOptions& options,
+                      IODebugContext* dbg) override;
+  IOStatus RenameFile(const std::string& src, const std::string& target,
+                      const IOOptions& options, IODebugContext* dbg) override;
+  IOStatus LinkFile(const std::string& src, const std::string& target,
+                    const IOOptions& options, IODebugContext* dbg) override;
+  IOStatus GetChildren(const std::string& dir, const IOOptions& options,
+                       std::vector<std::string>* result,
+                       IODebugContext* dbg) override;
+  IOStatus GetChildrenFileAttributes(const std::string& dir,
+                                     const IOOptions& options,
+                                     std::vector<FileAttributes>* result,
+                                     IODebugContext* dbg) override;
+
+ private:
+  // Calls a method of the Java file system which takes the name of a file
+  jobject CallObjectMethod(JNIEnv* env, jmethodID mid,
+                           const std::string& fname, IOStatus* s) const;
+  // Calls a method of the Java file system which returns whether it handled
+  // the operation
+  IOStatus CallBooleanMethod(jmethodID mid, const char* method_name,
+                             const std::string& fname,
+                             const std::string* target, bool* handled) const;
+
+  jmethodID m_new_sequential_file_mid;
+  jmethodID m_new_random_access_file_mid;
+  jmethodID m_new_writable_file_mid;
+  jmethodID m_file_exists_mid;
+  jmethodID m_get_file_size_mid;
+  jmethodID m_delete_file_mid;
+  jmethodID m_rename_file_mid;
+  jmethodID m_link_file_mid;
+  jmethodID m_get_children_mid;
+};
+
+// An FSSequentialFile which calls an org.rocksdb.FSSequentialFile
+class FSSequentialFileJniCallback : public JniCallback,
+                                    public FSSequentialFile {
+ public:
+  FSSequentialFileJniCallback(JNIEnv* env, jobject jfile);
+  ~FSSequentialFileJniCallback() override;
+
+  IOStatus Read(size_t n, const IOOptions& options, Slice* result,
+                char* scratch, IODebugContext* dbg) override;
+  IOStatus Skip(uint64_t n) override;
+
+ private:
+  jmethodID m_read_mid;
+  jmethodID m_skip_mid;
+  jmethodID m_close_mid;
+};
+
+// An FSRandomAccessFile which calls an org.rocksdb.FSRandomAccessFile,
+// the ranges of a MultiRead are passed to Java with a single call.
+class FSRandomAccessFileJniCallback : public JniCallback,
+                                      public FSRandomAccessFile {
+ public:
+  FSRandomAccessFileJniCallback(JNIEnv* env, jobject jfile);
+  ~FSRandomAccessFileJniCallback() override;
+
+  IOStatus Read(uint64_t offset, size_t n, const IOOptions& options,
+                Slice* result, char* scratch,
+                IODebugContext* dbg) const override;
+  IOStatus MultiRead(FSReadRequest* reqs, size_t num_reqs,
+                     const IOOptions& options, IODebugContext* dbg) override;
+
+ private:
+  jmethodID m_read_mid;
+  jmethodID m_multi_read_mid;
+  jmethodID m_close_mid;
+};
+
+// An FSWritableFile which calls an org.rocksdb.FSWritableFile
+class FSWritableFileJniCallback : public JniCallback, public FSWritableFile {
+ public:
+  FSWritableFileJniCallback(JNIEnv* env, jobject jfile);
+  ~FSWritableFileJniCallback() override;
+
+  IOStatus Append(const Slice& data, const IOOptions& options,
+                  IODebugContext* dbg) override;
+  IOStatus Close(const IOOptions& options, IODebugContext* dbg) override;
+  IOStatus Flush(const IOOptions& options, IODebugContext* dbg) override;
+  IOStatus Sync(const IOOptions& options, IODebugContext* dbg) override;
+  uint64_t GetFileSize(const IOOptions& options,
+                       IODebugContext* dbg) override;
+
+ private:
+  IOStatus CallVoidMethod(jmethodID mid, const char* method_name);
+
+  jmethodID m_append_mid;
+  jmethodID m_flush_mid;
+  jmethodID m_sync_mid;
+  jmethodID m_close_mid;
+  uint64_t m_file_size;
+  bool m_closed;
+};
+
+}  // namespace rocksdb
+
+#endif  // JAVA_ROCKSJNI_FILE_SYSTEM_JNICALLBACK_H_
@@ -10,22 +10,137 @@
 #include <stdio.h>
 #include <stdlib.h>
 #include <string>
+#include <vector>
 
 #include "include/org_rocksdb_BloomFilter.h"
 #include "include/org_rocksdb_Filter.h"
+#include "include/org_rocksdb_LevelFilter.h"
 #include "rocksdb/filter_policy.h"
 #include "rocksjni/portal.h"
+#include "table/block_based/filter_policy_internal.h"
+
+namespace {
+// Returns the equivalent C++ rocksdb::BloomFilterPolicy::Mode for the
+// provided Java org.rocksdb.BloomFilterImplementation
+rocksdb::BloomFilterPolicy::Mode toCppBloomFilterMode(jbyte jimplementation) {
+  switch (jimplementation) {
+    case 0x0:
+      return rocksdb::BloomFilterPolicy::kLegacyBloom;
+    case 0x1:
+      return rocksdb::BloomFilterPolicy::kDeprecatedBlock;
+    case 0x2:
+      return rocksdb::BloomFilterPolicy::kFastLocalBloom;
+    case 0x3:
+      return rocksdb::BloomFilterPolicy::kRibbon;
+    default:
+      // undefined/default
+      return rocksdb::BloomFilterPolicy::kAuto;
+  }
+}
+
+// Returns the equivalent org.rocksdb.BloomFilterImplementation for the
+// provided C++ rocksdb::BloomFilterPolicy::Mode
+jbyte toJavaBloomFilterImplementation(rocksdb::BloomFilterPolicy::Mode mode) {
+  switch (mode) {
+    case rocksdb::BloomFilterPolicy::kLegacyBloom:
+      return 0x0;
+    case rocksdb::BloomFilterPolicy::kDeprecatedBlock:
+      return 0x1;
+    case rocksdb::BloomFilterPolicy::kFastLocalBloom:
+      return 0x2;
+    case rocksdb::BloomFilterPolicy::kRibbon:
+      return 0x3;
+    default:
+      return 0x64;  // AUTO
+  }
+}
+
+// The handle of an org.rocksdb.BloomFilter is a
+// std::shared_ptr<const FilterPolicy>* holding a BloomFilterPolicy
+const rocksdb::BloomFilterPolicy* GetBloomFilterPolicy(jlong jhandle) {
+  auto* sptr_filter =
+      reinterpret_cast<std::shared_ptr<const rocksdb::FilterPolicy>*>(jhandle);
+  return static_cast<const rocksdb::BloomFilterPolicy*>(sptr_filter->get());
+}
+}  // namespace
 
 /*
  * Class:     org_rocksdb_BloomFilter
- * Method:    createBloomFilter
- * Signature: (DZ)J
+ * Method:    createNewBloomFilter
+ * Signature: (DB)J
  */
 jlong Java_org_rocksdb_BloomFilter_createNewBloomFilter(
     JNIEnv* /*env*/, jclass /*jcls*/, jdouble bits_per_key,
-    jboolean use_block_base_builder) {
+    jbyte jimplementation) {
+  auto* sptr_filter = new std::shared_ptr<const rocksdb::FilterPolicy>(
+      new rocksdb::BloomFilterPolicy(bits_per_key,
+                                     toCppBloomFilterMode(jimplementation)));
+  return reinterpret_cast<jlong>(sptr_filter);
+}
+
+/*
+ * Class:     org_rocksdb_BloomFilter
+ * Method:    implementation
+ * Signature: (J)B
+ */
+jbyte Java_org_rocksdb_BloomFilter_implementation(
+    JNIEnv*, jclass, jlong jhandle) {
+  return toJavaBloomFilterImplementation(
+      GetBloomFilterPolicy(jhandle)->GetMode());
+}
+
+/*
+ * Class:     org_rocksdb_BloomFilter
+ * Method:    bitsPerKey
+ * Signature: (J)D
+ */
+jdouble Java_org_rocksdb_BloomFilter_bitsPerKey(
+    JNIEnv*, jclass, jlong jhandle) {
+  return static_cast<jdouble>(
+      GetBloomFilterPolicy(jhandle)->GetMillibitsPerKey() / 1000.0);
+}
+
+/*
+ * Class:     org_rocksdb_BloomFilter
+ * Method:    estimatedFalsePositiveRate
+ * Signature: (JJI)D
+ */
+jdouble Java_org_rocksdb_BloomFilter_estimatedFalsePositiveRate(
+    JNIEnv*, jclass, jlong jhandle, jlong jnum_keys, jint jformat_version) {
+  return static_cast<jdouble>(
+      GetBloomFilterPolicy(jhandle)->EstimatedFpRate(
+          static_cast<size_t>(jnum_keys),
+          static_cast<uint32_t>(jformat_version)));
+}
+
+/*
+ * Class:     org_rocksdb_LevelFilter
+ * Method:    createNewLevelFilter
+ * Signature: ([J)J
+ */
+jlong Java_org_rocksdb_LevelFilter_createNewLevelFilter(
+    JNIEnv* env, jclass, jlongArray jfilter_handles) {
+  const jsize len = env->GetArrayLength(jfilter_handles);
+  jlong* filter_handles = env->GetLongArrayElements(jfilter_handles, nullptr);
+  if (filter_handles == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return 0;
+  }
+  std::vector<std::shared_ptr<const rocksdb::FilterPolicy>> policies_by_level;
+  for (jsize i = 0; i < len; i++) {
+    if (filter_handles[i] == 0) {
+      // no filters at this level
+      policies_by_level.push_back(nullptr);
+    } else {
+      policies_by_level.push_back(
+          *reinterpret_cast<std::shared_ptr<const rocksdb::FilterPolicy>*>(
+              filter_handles[i]));
+    }
+  }
+  env->ReleaseLongArrayElements(jfilter_handles, filter_handles, JNI_ABORT);
+
   auto* sptr_filter = new std::shared_ptr<const rocksdb::FilterPolicy>(
-      rocksdb::NewBloomFilterPolicy(bits_per_key, use_block_base_builder));
+      rocksdb::NewLevelFilterPolicy(policies_by_level));
   return reinterpret_cast<jlong>(sptr_filter);
 }
 
@@ -0,0 +1,39 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::FrequencyAdmissionCache.
+
+#include <jni.h>
+#include <memory>
+
+#include "include/org_rocksdb_FrequencyAdmissionCache.h"
+#include "rocksdb/cache.h"
+
+/*
+ * Class:     org_rocksdb_FrequencyAdmissionCache
+ * Method:    newFrequencyAdmissionCache
+ * Signature: (JI)J
+ */
+jlong Java_org_rocksdb_FrequencyAdmissionCache_newFrequencyAdmissionCache(
+    JNIEnv*, jclass, jlong jcache_handle, jint jmin_frequency) {
+  auto* sptr_target =
+      reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jcache_handle);
+  auto* sptr_cache = new std::shared_ptr<rocksdb::Cache>(
+      rocksdb::NewFrequencyAdmissionCache(
+          *sptr_target, static_cast<uint32_t>(jmin_frequency)));
+  return reinterpret_cast<jlong>(sptr_cache);
+}
+
+/*
+ * Class:     org_rocksdb_FrequencyAdmissionCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_FrequencyAdmissionCache_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_cache = reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jhandle);
+  delete sptr_cache;  // delete std::shared_ptr
+}
@@ -125,6 +125,30 @@ void Java_org_rocksdb_RocksIterator_seekForPrev0(JNIEnv* env, jobject /*jobj*/,
   env->ReleaseByteArrayElements(jtarget, target, JNI_ABORT);
 }
 
+/*
+ * Class:     org_rocksdb_RocksIterator
+ * Method:    prefetch0
+ * Signature: (J[BI)V
+ */
+void Java_org_rocksdb_RocksIterator_prefetch0(JNIEnv* env, jobject /*jobj*/,
+                                              jlong handle,
+                                              jbyteArray jupper_bound,
+                                              jint jupper_bound_len) {
+  jbyte* upper_bound = env->GetByteArrayElements(jupper_bound, nullptr);
+  if (upper_bound == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return;
+  }
+
+  rocksdb::Slice upper_bound_slice(reinterpret_cast<char*>(upper_bound),
+                                   jupper_bound_len);
+
+  auto* it = reinterpret_cast<rocksdb::Iterator*>(handle);
+  it->Prefetch(upper_bound_slice);
+
+  env->ReleaseByteArrayElements(jupper_bound, upper_bound, JNI_ABORT);
+}
+
 /*
  * Class:     org_rocksdb_RocksIterator
  * Method:    status0
@@ -14,18 +14,25 @@
 /*
  * Class:     org_rocksdb_LRUCache
  * Method:    newLRUCache
- * Signature: (JIZD)J
+ * Signature: (JIZDJ)J
  */
 jlong Java_org_rocksdb_LRUCache_newLRUCache(JNIEnv* /*env*/, jclass /*jcls*/,
                                             jlong jcapacity,
                                             jint jnum_shard_bits,
                                             jboolean jstrict_capacity_limit,
-                                            jdouble jhigh_pri_pool_ratio) {
+                                            jdouble jhigh_pri_pool_ratio,
+                                            jlong jmemory_allocator_handle) {
+  std::shared_ptr<rocksdb::MemoryAllocator> memory_allocator;
+  if (jmemory_allocator_handle != 0) {
+    memory_allocator =
+        *reinterpret_cast<std::shared_ptr<rocksdb::MemoryAllocator>*>(
+            jmemory_allocator_handle);
+  }
   auto* sptr_lru_cache =
       new std::shared_ptr<rocksdb::Cache>(rocksdb::NewLRUCache(
           static_cast<size_t>(jcapacity), static_cast<int>(jnum_shard_bits),
           static_cast<bool>(jstrict_capacity_limit),
-          static_cast<double>(jhigh_pri_pool_ratio)));
+          static_cast<double>(jhigh_pri_pool_ratio), memory_allocator));
   return reinterpret_cast<jlong>(sptr_lru_cache);
 }
 
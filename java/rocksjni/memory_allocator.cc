@@ -0,0 +1,115 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::MemoryAllocator, and its subclasses.
+
+#include <jni.h>
+#include <memory>
+
+#include "include/org_rocksdb_CountingMemoryAllocator.h"
+#include "include/org_rocksdb_JemallocNodumpAllocator.h"
+#include "include/org_rocksdb_MemoryAllocator.h"
+#include "memory/counting_memory_allocator.h"
+#include "rocksdb/memory_allocator.h"
+#include "rocksjni/portal.h"
+
+namespace {
+// The handle of every org.rocksdb.MemoryAllocator is a
+// std::shared_ptr<MemoryAllocator>*, so that it can be shared with the
+// caches, the CountingMemoryAllocator is recovered from it here.
+rocksdb::CountingMemoryAllocator* GetCountingMemoryAllocator(jlong jhandle) {
+  auto* sptr_allocator =
+      reinterpret_cast<std::shared_ptr<rocksdb::MemoryAllocator>*>(jhandle);
+  return static_cast<rocksdb::CountingMemoryAllocator*>(sptr_allocator->get());
+}
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_MemoryAllocator
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_MemoryAllocator_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_allocator =
+      reinterpret_cast<std::shared_ptr<rocksdb::MemoryAllocator>*>(jhandle);
+  delete sptr_allocator;  // delete std::shared_ptr
+}
+
+/*
+ * Class:     org_rocksdb_JemallocNodumpAllocator
+ * Method:    newJemallocNodumpAllocator
+ * Signature: (ZJJ)J
+ */
+jlong Java_org_rocksdb_JemallocNodumpAllocator_newJemallocNodumpAllocator(
+    JNIEnv* env, jclass, jboolean jlimit_tcache_size,
+    jlong jtcache_size_lower_bound, jlong jtcache_size_upper_bound) {
+  rocksdb::JemallocAllocatorOptions options;
+  options.limit_tcache_size = static_cast<bool>(jlimit_tcache_size);
+  options.tcache_size_lower_bound =
+      static_cast<size_t>(jtcache_size_lower_bound);
+  options.tcache_size_upper_bound =
+      static_cast<size_t>(jtcache_size_upper_bound);
+  std::shared_ptr<rocksdb::MemoryAllocator> allocator;
+  rocksdb::Status s = rocksdb::NewJemallocNodumpAllocator(options, &allocator);
+  if (!s.ok()) {
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+  auto* sptr_allocator =
+      new std::shared_ptr<rocksdb::MemoryAllocator>(allocator);
+  return reinterpret_cast<jlong>(sptr_allocator);
+}
+
+/*
+ * Class:     org_rocksdb_CountingMemoryAllocator
+ * Method:    newCountingMemoryAllocator
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_CountingMemoryAllocator_newCountingMemoryAllocator(
+    JNIEnv*, jclass, jlong jtarget_handle) {
+  std::shared_ptr<rocksdb::MemoryAllocator> target;
+  if (jtarget_handle != 0) {
+    target = *reinterpret_cast<std::shared_ptr<rocksdb::MemoryAllocator>*>(
+        jtarget_handle);
+  }
+  auto* sptr_allocator = new std::shared_ptr<rocksdb::MemoryAllocator>(
+      rocksdb::NewCountingMemoryAllocator(target));
+  return reinterpret_cast<jlong>(sptr_allocator);
+}
+
+/*
+ * Class:     org_rocksdb_CountingMemoryAllocator
+ * Method:    allocatedBytes
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_CountingMemoryAllocator_allocatedBytes(
+    JNIEnv*, jobject, jlong jhandle) {
+  return static_cast<jlong>(
+      GetCountingMemoryAllocator(jhandle)->GetAllocatedBytes());
+}
+
+/*
+ * Class:     org_rocksdb_CountingMemoryAllocator
+ * Method:    peakAllocatedBytes
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_CountingMemoryAllocator_peakAllocatedBytes(
+    JNIEnv*, jobject, jlong jhandle) {
+  return static_cast<jlong>(
+      GetCountingMemoryAllocator(jhandle)->GetPeakAllocatedBytes());
+}
+
+/*
+ * Class:     org_rocksdb_CountingMemoryAllocator
+ * Method:    numAllocations
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_CountingMemoryAllocator_numAllocations(
+    JNIEnv*, jobject, jlong jhandle) {
+  return static_cast<jlong>(
+      GetCountingMemoryAllocator(jhandle)->GetNumAllocations());
+}
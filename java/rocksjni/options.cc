@@ -21,10 +21,12 @@
 
 #include "rocksjni/comparatorjnicallback.h"
 #include "rocksjni/portal.h"
+#include "rocksjni/slice_transform_jnicallback.h"
 #include "rocksjni/statisticsjni.h"
 #include "rocksjni/table_filter_jnicallback.h"
 
 #include "rocksdb/comparator.h"
+#include "rocksdb/concurrent_task_limiter.h"
 #include "rocksdb/convenience.h"
 #include "rocksdb/db.h"
 #include "rocksdb/memtablerep.h"
@@ -32,8 +34,10 @@
 #include "rocksdb/options.h"
 #include "rocksdb/rate_limiter.h"
 #include "rocksdb/slice_transform.h"
+#include "rocksdb/sst_partitioner.h"
 #include "rocksdb/statistics.h"
 #include "rocksdb/table.h"
+#include "rocksdb/table_properties.h"
 #include "utilities/merge_operators.h"
 
 /*
@@ -248,6 +252,62 @@ void JNICALL Java_org_rocksdb_Options_setCompactionFilterFactoryHandle(
       compaction_filter_factory = *cff_factory;
 }
 
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setTablePropertiesCollectorFactories
+ * Signature: (J[J)V
+ */
+void Java_org_rocksdb_Options_setTablePropertiesCollectorFactories(
+    JNIEnv* env, jobject, jlong jhandle, jlongArray jfactory_handles) {
+  auto* opt = reinterpret_cast<rocksdb::Options*>(jhandle);
+  const jsize len = env->GetArrayLength(jfactory_handles);
+  jlong* factory_handles =
+      env->GetLongArrayElements(jfactory_handles, nullptr);
+  if (factory_handles == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return;
+  }
+
+  opt->table_properties_collector_factories.clear();
+  opt->table_properties_collector_factories.reserve(len);
+  for (jsize i = 0; i < len; i++) {
+    auto* sptr_factory = reinterpret_cast<
+        std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>*>(
+            factory_handles[i]);
+    opt->table_properties_collector_factories.push_back(*sptr_factory);
+  }
+
+  env->ReleaseLongArrayElements(jfactory_handles, factory_handles, JNI_ABORT);
+}
+
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setCompactionThreadLimiter
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_Options_setCompactionThreadLimiter(
+    JNIEnv*, jobject, jlong jhandle, jlong jlimiter_handle) {
+  auto* opt = reinterpret_cast<rocksdb::Options*>(jhandle);
+  auto* sptr_limiter =
+      reinterpret_cast<std::shared_ptr<rocksdb::ConcurrentTaskLimiter>*>(
+          jlimiter_handle);
+  opt->compaction_thread_limiter = *sptr_limiter;
+}
+
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setSstPartitionerFactory
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_Options_setSstPartitionerFactory(
+    JNIEnv*, jobject, jlong jhandle, jlong jfactory_handle) {
+  auto* opt = reinterpret_cast<rocksdb::Options*>(jhandle);
+  auto* sptr_factory =
+      reinterpret_cast<std::shared_ptr<rocksdb::SstPartitionerFactory>*>(
+          jfactory_handle);
+  opt->sst_partitioner_factory = *sptr_factory;
+}
+
 /*
  * Class:     org_rocksdb_Options
  * Method:    setWriteBufferSize
@@ -1019,6 +1079,34 @@ void Java_org_rocksdb_Options_useCappedPrefixExtractor(
       rocksdb::NewCappedPrefixTransform(static_cast<int>(jprefix_length)));
 }
 
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setPrefixExtractorHandle
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_Options_setPrefixExtractorHandle(
+    JNIEnv*, jobject, jlong jhandle, jlong jslice_transform_handle) {
+  auto* sptr_slice_transform =
+      reinterpret_cast<std::shared_ptr<const rocksdb::SliceTransform>*>(
+          jslice_transform_handle);
+  reinterpret_cast<rocksdb::Options*>(jhandle)->prefix_extractor =
+      *sptr_slice_transform;
+}
+
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setJavaPrefixExtractorHandle
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_Options_setJavaPrefixExtractorHandle(
+    JNIEnv*, jobject, jlong jhandle, jlong jslice_transform_handle) {
+  // the lifetime of the callback is managed by the Java object
+  auto* slice_transform = reinterpret_cast<rocksdb::SliceTransformJniCallback*>(
+      jslice_transform_handle);
+  reinterpret_cast<rocksdb::Options*>(jhandle)->prefix_extractor.reset(
+      slice_transform, [](const rocksdb::SliceTransform*) {});
+}
+
 /*
  * Class:     org_rocksdb_Options
  * Method:    walTtlSeconds
@@ -3092,6 +3180,29 @@ jlong Java_org_rocksdb_Options_ttl(
   return static_cast<jlong>(opts->ttl);
 }
 
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setPeriodicCompactionSeconds
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_Options_setPeriodicCompactionSeconds(
+    JNIEnv*, jobject, jlong jhandle, jlong jperiodic_compaction_seconds) {
+  auto* opts = reinterpret_cast<rocksdb::Options*>(jhandle);
+  opts->periodic_compaction_seconds =
+      static_cast<uint64_t>(jperiodic_compaction_seconds);
+}
+
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    periodicCompactionSeconds
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_Options_periodicCompactionSeconds(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opts = reinterpret_cast<rocksdb::Options*>(jhandle);
+  return static_cast<jlong>(opts->periodic_compaction_seconds);
+}
+
 /*
  * Class:     org_rocksdb_Options
  * Method:    setCompactionOptionsUniversal
@@ -3374,6 +3485,62 @@ void Java_org_rocksdb_ColumnFamilyOptions_setCompactionFilterFactoryHandle(
       ->compaction_filter_factory = *cff_factory;
 }
 
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setTablePropertiesCollectorFactories
+ * Signature: (J[J)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setTablePropertiesCollectorFactories(
+    JNIEnv* env, jobject, jlong jhandle, jlongArray jfactory_handles) {
+  auto* opt = reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jhandle);
+  const jsize len = env->GetArrayLength(jfactory_handles);
+  jlong* factory_handles =
+      env->GetLongArrayElements(jfactory_handles, nullptr);
+  if (factory_handles == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return;
+  }
+
+  opt->table_properties_collector_factories.clear();
+  opt->table_properties_collector_factories.reserve(len);
+  for (jsize i = 0; i < len; i++) {
+    auto* sptr_factory = reinterpret_cast<
+        std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>*>(
+            factory_handles[i]);
+    opt->table_properties_collector_factories.push_back(*sptr_factory);
+  }
+
+  env->ReleaseLongArrayElements(jfactory_handles, factory_handles, JNI_ABORT);
+}
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setCompactionThreadLimiter
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setCompactionThreadLimiter(
+    JNIEnv*, jobject, jlong jhandle, jlong jlimiter_handle) {
+  auto* opt = reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jhandle);
+  auto* sptr_limiter =
+      reinterpret_cast<std::shared_ptr<rocksdb::ConcurrentTaskLimiter>*>(
+          jlimiter_handle);
+  opt->compaction_thread_limiter = *sptr_limiter;
+}
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setSstPartitionerFactory
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setSstPartitionerFactory(
+    JNIEnv*, jobject, jlong jhandle, jlong jfactory_handle) {
+  auto* opt = reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jhandle);
+  auto* sptr_factory =
+      reinterpret_cast<std::shared_ptr<rocksdb::SstPartitionerFactory>*>(
+          jfactory_handle);
+  opt->sst_partitioner_factory = *sptr_factory;
+}
+
 /*
  * Class:     org_rocksdb_ColumnFamilyOptions
  * Method:    setWriteBufferSize
@@ -3478,6 +3645,34 @@ void Java_org_rocksdb_ColumnFamilyOptions_useCappedPrefixExtractor(
           rocksdb::NewCappedPrefixTransform(static_cast<int>(jprefix_length)));
 }
 
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setPrefixExtractorHandle
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setPrefixExtractorHandle(
+    JNIEnv*, jobject, jlong jhandle, jlong jslice_transform_handle) {
+  auto* sptr_slice_transform =
+      reinterpret_cast<std::shared_ptr<const rocksdb::SliceTransform>*>(
+          jslice_transform_handle);
+  reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jhandle)->prefix_extractor =
+      *sptr_slice_transform;
+}
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setJavaPrefixExtractorHandle
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setJavaPrefixExtractorHandle(
+    JNIEnv*, jobject, jlong jhandle, jlong jslice_transform_handle) {
+  // the lifetime of the callback is managed by the Java object
+  auto* slice_transform = reinterpret_cast<rocksdb::SliceTransformJniCallback*>(
+      jslice_transform_handle);
+  reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jhandle)->prefix_extractor.reset(
+      slice_transform, [](const rocksdb::SliceTransform*) {});
+}
+
 /*
  * Method:    setTableFactory
  * Signature: (JJ)V
@@ -4451,6 +4646,29 @@ JNIEXPORT jlong JNICALL Java_org_rocksdb_ColumnFamilyOptions_ttl(
   return static_cast<jlong>(cf_opts->ttl);
 }
 
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setPeriodicCompactionSeconds
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setPeriodicCompactionSeconds(
+    JNIEnv*, jobject, jlong jhandle, jlong jperiodic_compaction_seconds) {
+  auto* cf_opts = reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jhandle);
+  cf_opts->periodic_compaction_seconds =
+      static_cast<uint64_t>(jperiodic_compaction_seconds);
+}
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    periodicCompactionSeconds
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_ColumnFamilyOptions_periodicCompactionSeconds(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* cf_opts = reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jhandle);
+  return static_cast<jlong>(cf_opts->periodic_compaction_seconds);
+}
+
 /*
  * Class:     org_rocksdb_ColumnFamilyOptions
  * Method:    setCompactionOptionsUniversal
@@ -6321,6 +6539,17 @@ jlong Java_org_rocksdb_WriteOptions_copyWriteOptions(
   return reinterpret_cast<jlong>(new_opt);
 }
 
+/*
+ * Class:     org_rocksdb_WriteOptions
+ * Method:    reset
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_WriteOptions_reset(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* write_options = reinterpret_cast<rocksdb::WriteOptions*>(jhandle);
+  *write_options = rocksdb::WriteOptions();
+}
+
 /*
  * Class:     org_rocksdb_WriteOptions
  * Method:    disposeInternal
@@ -6478,6 +6707,17 @@ jlong Java_org_rocksdb_ReadOptions_copyReadOptions(
   return reinterpret_cast<jlong>(new_opt);
 }
 
+/*
+ * Class:     org_rocksdb_ReadOptions
+ * Method:    reset
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_ReadOptions_reset(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* read_options = reinterpret_cast<rocksdb::ReadOptions*>(jhandle);
+  *read_options = rocksdb::ReadOptions();
+}
+
 /*
  * Class:     org_rocksdb_ReadOptions
  * Method:    disposeInternal
@@ -6683,6 +6923,28 @@ void Java_org_rocksdb_ReadOptions_setReadaheadSize(
   opt->readahead_size = static_cast<size_t>(jreadahead_size);
 }
 
+/*
+ * Class:     org_rocksdb_ReadOptions
+ * Method:    adaptiveReadahead
+ * Signature: (J)Z
+ */
+jboolean Java_org_rocksdb_ReadOptions_adaptiveReadahead(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<rocksdb::ReadOptions*>(jhandle);
+  return static_cast<jboolean>(opt->adaptive_readahead);
+}
+
+/*
+ * Class:     org_rocksdb_ReadOptions
+ * Method:    setAdaptiveReadahead
+ * Signature: (JZ)V
+ */
+void Java_org_rocksdb_ReadOptions_setAdaptiveReadahead(
+    JNIEnv*, jobject, jlong jhandle, jboolean jadaptive_readahead) {
+  auto* opt = reinterpret_cast<rocksdb::ReadOptions*>(jhandle);
+  opt->adaptive_readahead = static_cast<bool>(jadaptive_readahead);
+}
+
 /*
  * Class:     org_rocksdb_ReadOptions
  * Method:    maxSkippableInternalKeys
@@ -7,12 +7,15 @@
 // calling C++ rocksdb::OptionsUtil methods from Java side.
 
 #include <jni.h>
+#include <cstring>
 #include <string>
 
 #include "include/org_rocksdb_OptionsUtil.h"
 
 #include "rocksdb/db.h"
 #include "rocksdb/env.h"
+#include "rocksdb/filter_policy.h"
+#include "rocksdb/table.h"
 #include "rocksdb/utilities/options_util.h"
 #include "rocksjni/portal.h"
 
@@ -49,14 +52,37 @@ void build_column_family_descriptor_list(
   }
 }
 
+// Sets the filter policy of the block based tables of the loaded column
+// families, as the options file only records the name of the filter policy.
+void set_filter_policy(
+    std::vector<rocksdb::ColumnFamilyDescriptor>& cf_descs,
+    jlong jfilter_handle) {
+  if (jfilter_handle == 0) {
+    return;
+  }
+  auto* filter_policy =
+      reinterpret_cast<std::shared_ptr<const rocksdb::FilterPolicy>*>(
+          jfilter_handle);
+  for (rocksdb::ColumnFamilyDescriptor& cfd : cf_descs) {
+    rocksdb::TableFactory* tf = cfd.options.table_factory.get();
+    if (tf != nullptr && tf->GetOptions() != nullptr &&
+        strcmp(tf->Name(), "BlockBasedTable") == 0) {
+      auto* table_options =
+          reinterpret_cast<rocksdb::BlockBasedTableOptions*>(tf->GetOptions());
+      table_options->filter_policy = *filter_policy;
+    }
+  }
+}
+
 /*
  * Class:     org_rocksdb_OptionsUtil
  * Method:    loadLatestOptions
- * Signature: (Ljava/lang/String;JLjava/util/List;Z)V
+ * Signature: (Ljava/lang/String;JJLjava/util/List;ZJJ)V
  */
 void Java_org_rocksdb_OptionsUtil_loadLatestOptions(
     JNIEnv* env, jclass /*jcls*/, jstring jdbpath, jlong jenv_handle,
-    jlong jdb_opts_handle, jobject jcfds, jboolean ignore_unknown_options) {
+    jlong jdb_opts_handle, jobject jcfds, jboolean ignore_unknown_options,
+    jlong jcache_handle, jlong jfilter_handle) {
   jboolean has_exception = JNI_FALSE;
   auto db_path = rocksdb::JniUtil::copyStdString(env, jdbpath, &has_exception);
   if (has_exception == JNI_TRUE) {
@@ -67,11 +93,13 @@ void Java_org_rocksdb_OptionsUtil_loadLatestOptions(
   rocksdb::Status s = rocksdb::LoadLatestOptions(
       db_path, reinterpret_cast<rocksdb::Env*>(jenv_handle),
       reinterpret_cast<rocksdb::DBOptions*>(jdb_opts_handle), &cf_descs,
-      ignore_unknown_options);
+      ignore_unknown_options,
+      reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jcache_handle));
   if (!s.ok()) {
     // error, raise an exception
     rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
   } else {
+    set_filter_policy(cf_descs, jfilter_handle);
     build_column_family_descriptor_list(env, jcfds, cf_descs);
   }
 }
@@ -79,11 +107,12 @@ void Java_org_rocksdb_OptionsUtil_loadLatestOptions(
 /*
  * Class:     org_rocksdb_OptionsUtil
  * Method:    loadOptionsFromFile
- * Signature: (Ljava/lang/String;JJLjava/util/List;Z)V
+ * Signature: (Ljava/lang/String;JJLjava/util/List;ZJJ)V
  */
 void Java_org_rocksdb_OptionsUtil_loadOptionsFromFile(
     JNIEnv* env, jclass /*jcls*/, jstring jopts_file_name, jlong jenv_handle,
-    jlong jdb_opts_handle, jobject jcfds, jboolean ignore_unknown_options) {
+    jlong jdb_opts_handle, jobject jcfds, jboolean ignore_unknown_options,
+    jlong jcache_handle, jlong jfilter_handle) {
   jboolean has_exception = JNI_FALSE;
   auto opts_file_name = rocksdb::JniUtil::copyStdString(env, jopts_file_name, &has_exception);
   if (has_exception == JNI_TRUE) {
@@ -94,11 +123,13 @@ void Java_org_rocksdb_OptionsUtil_loadOptionsFromFile(
   rocksdb::Status s = rocksdb::LoadOptionsFromFile(
       opts_file_name, reinterpret_cast<rocksdb::Env*>(jenv_handle),
       reinterpret_cast<rocksdb::DBOptions*>(jdb_opts_handle), &cf_descs,
-      ignore_unknown_options);
+      ignore_unknown_options,
+      reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jcache_handle));
   if (!s.ok()) {
     // error, raise an exception
     rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
   } else {
+    set_filter_policy(cf_descs, jfilter_handle);
     build_column_family_descriptor_list(env, jcfds, cf_descs);
   }
 }
@@ -128,3 +159,51 @@ jstring Java_org_rocksdb_OptionsUtil_getLatestOptionsFileName(
     return env->NewStringUTF(options_file_name.c_str());
   }
 }
+
+/*
+ * Class:     org_rocksdb_OptionsUtil
+ * Method:    saveOptionsToFile
+ * Signature: (Ljava/lang/String;JJ[[B[J)V
+ */
+void Java_org_rocksdb_OptionsUtil_saveOptionsToFile(
+    JNIEnv* env, jclass /*jcls*/, jstring jopts_file_name, jlong jenv_handle,
+    jlong jdb_opts_handle, jobjectArray jcf_names, jlongArray jcf_opts_handles) {
+  jboolean has_exception = JNI_FALSE;
+  auto opts_file_name =
+      rocksdb::JniUtil::copyStdString(env, jopts_file_name, &has_exception);
+  if (has_exception == JNI_TRUE) {
+    // exception occurred
+    return;
+  }
+
+  jlong* jcf_opts = env->GetLongArrayElements(jcf_opts_handles, nullptr);
+  if (jcf_opts == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return;
+  }
+  std::vector<rocksdb::ColumnFamilyDescriptor> cf_descs;
+  rocksdb::JniUtil::byteStrings<std::string>(
+      env, jcf_names,
+      [](const char* str_data, const size_t str_len) {
+        return std::string(str_data, str_len);
+      },
+      [&jcf_opts, &cf_descs](size_t idx, std::string cf_name) {
+        auto* cf_options =
+            reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jcf_opts[idx]);
+        cf_descs.push_back(rocksdb::ColumnFamilyDescriptor(cf_name, *cf_options));
+      },
+      &has_exception);
+  env->ReleaseLongArrayElements(jcf_opts_handles, jcf_opts, JNI_ABORT);
+  if (has_exception == JNI_TRUE) {
+    // exception occurred
+    return;
+  }
+
+  rocksdb::Status s = rocksdb::SaveOptionsToFile(
+      opts_file_name, reinterpret_cast<rocksdb::Env*>(jenv_handle),
+      *reinterpret_cast<rocksdb::DBOptions*>(jdb_opts_handle), cf_descs);
+  if (!s.ok()) {
+    // error, raise an exception
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
+  }
+}
@@ -282,6 +282,44 @@ jlong Java_org_rocksdb_RocksDB_createColumnFamily(
   return reinterpret_cast<jlong>(cf_handle);
 }
 
+/*
+ * Class:     org_rocksdb_RocksDB
+ * Method:    createColumnFamilyWithImport
+ * Signature: (J[BIJJJ)J
+ */
+jlong Java_org_rocksdb_RocksDB_createColumnFamilyWithImport(
+    JNIEnv* env, jobject, jlong jhandle, jbyteArray jcf_name,
+    jint jcf_name_len, jlong jcf_options_handle, jlong jimport_options_handle,
+    jlong jmetadata_handle) {
+  auto* db = reinterpret_cast<rocksdb::DB*>(jhandle);
+  jboolean has_exception = JNI_FALSE;
+  const std::string cf_name =
+      rocksdb::JniUtil::byteString<std::string>(env, jcf_name, jcf_name_len,
+          [](const char* str, const size_t len) {
+              return std::string(str, len);
+          }, &has_exception);
+  if (has_exception == JNI_TRUE) {
+    // exception occurred
+    return 0;
+  }
+  auto* cf_options =
+      reinterpret_cast<rocksdb::ColumnFamilyOptions*>(jcf_options_handle);
+  auto* import_options =
+      reinterpret_cast<rocksdb::ImportColumnFamilyOptions*>(
+          jimport_options_handle);
+  auto* metadata =
+      reinterpret_cast<rocksdb::ExportImportFilesMetaData*>(jmetadata_handle);
+  rocksdb::ColumnFamilyHandle* cf_handle = nullptr;
+  rocksdb::Status s = db->CreateColumnFamilyWithImport(
+      *cf_options, cf_name, *import_options, *metadata, &cf_handle);
+  if (!s.ok()) {
+    // error occurred
+    rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+  return reinterpret_cast<jlong>(cf_handle);
+}
+
 /*
  * Class:     org_rocksdb_RocksDB
  * Method:    createColumnFamilies
@@ -2132,6 +2170,53 @@ jlongArray Java_org_rocksdb_RocksDB_getApproximateMemTableStats(
   return jsizes;
 }
 
+/*
+ * Class:     org_rocksdb_RocksDB
+ * Method:    getMemTableUsage
+ * Signature: (J[J)[J
+ */
+jlongArray Java_org_rocksdb_RocksDB_getMemTableUsage(
+    JNIEnv* env, jobject, jlong jdb_handle, jlongArray jcf_handles) {
+  auto* db = reinterpret_cast<rocksdb::DB*>(jdb_handle);
+  const jsize len = env->GetArrayLength(jcf_handles);
+  jlong* cf_handles = env->GetLongArrayElements(jcf_handles, nullptr);
+  if (cf_handles == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+
+  std::vector<jlong> usages(len);
+  for (jsize i = 0; i < len; i++) {
+    auto* cf_handle =
+        reinterpret_cast<rocksdb::ColumnFamilyHandle*>(cf_handles[i]);
+    uint64_t usage = 0;
+    if (!db->GetIntProperty(cf_handle,
+                            rocksdb::DB::Properties::kSizeAllMemTables,
+                            &usage)) {
+      env->ReleaseLongArrayElements(jcf_handles, cf_handles, JNI_ABORT);
+      rocksdb::RocksDBExceptionJni::ThrowNew(env,
+          rocksdb::Status::NotFound("Unable to get the memtable usage of "
+              "column family " + cf_handle->GetName()));
+      return nullptr;
+    }
+    usages[i] = static_cast<jlong>(usage);
+  }
+  env->ReleaseLongArrayElements(jcf_handles, cf_handles, JNI_ABORT);
+
+  jlongArray jusages = env->NewLongArray(len);
+  if (jusages == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+  env->SetLongArrayRegion(jusages, 0, len, usages.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    env->DeleteLocalRef(jusages);
+    return nullptr;
+  }
+  return jusages;
+}
+
 /*
  * Class:     org_rocksdb_RocksDB
  * Method:    compactRange
@@ -2261,6 +2346,9 @@ void Java_org_rocksdb_RocksDB_setOptions(
 
   auto* db = reinterpret_cast<rocksdb::DB*>(jdb_handle);
   auto* cf_handle = reinterpret_cast<rocksdb::ColumnFamilyHandle*>(jcf_handle);
+  if (cf_handle == nullptr) {
+    cf_handle = db->DefaultColumnFamily();
+  }
   auto s = db->SetOptions(cf_handle, options_map);
   if (!s.ok()) {
     rocksdb::RocksDBExceptionJni::ThrowNew(env, s);
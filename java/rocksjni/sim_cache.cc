@@ -0,0 +1,124 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::SimCache.
+
+#include <jni.h>
+#include <memory>
+#include <string>
+
+#include "include/org_rocksdb_SimCache.h"
+#include "rocksdb/utilities/sim_cache.h"
+#include "rocksjni/portal.h"
+
+namespace {
+// The handle of every org.rocksdb.Cache is a std::shared_ptr<Cache>*, so
+// that it can be passed to the table factories, the SimCache is
+// recovered from it here.
+rocksdb::SimCache* GetSimCache(jlong jhandle) {
+  auto* sptr_cache = reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jhandle);
+  return static_cast<rocksdb::SimCache*>(sptr_cache->get());
+}
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    newSimCache
+ * Signature: (JJI)J
+ */
+jlong Java_org_rocksdb_SimCache_newSimCache(
+    JNIEnv*, jclass, jlong jcache_handle, jlong jsim_capacity,
+    jint jnum_shard_bits) {
+  auto* sptr_cache =
+      reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jcache_handle);
+  auto* sptr_sim_cache = new std::shared_ptr<rocksdb::Cache>(
+      rocksdb::NewSimCache(*sptr_cache, static_cast<size_t>(jsim_capacity),
+                           static_cast<int>(jnum_shard_bits)));
+  return reinterpret_cast<jlong>(sptr_sim_cache);
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    simCapacity
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_SimCache_simCapacity(
+    JNIEnv*, jobject, jlong jhandle) {
+  return static_cast<jlong>(GetSimCache(jhandle)->GetSimCapacity());
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    setSimCapacity
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_SimCache_setSimCapacity(
+    JNIEnv*, jobject, jlong jhandle, jlong jsim_capacity) {
+  GetSimCache(jhandle)->SetSimCapacity(static_cast<size_t>(jsim_capacity));
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    simUsage
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_SimCache_simUsage(
+    JNIEnv*, jobject, jlong jhandle) {
+  return static_cast<jlong>(GetSimCache(jhandle)->GetSimUsage());
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    hitCount
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_SimCache_hitCount(
+    JNIEnv*, jobject, jlong jhandle) {
+  return static_cast<jlong>(GetSimCache(jhandle)->get_hit_counter());
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    missCount
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_SimCache_missCount(
+    JNIEnv*, jobject, jlong jhandle) {
+  return static_cast<jlong>(GetSimCache(jhandle)->get_miss_counter());
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    resetCounters
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_SimCache_resetCounters(
+    JNIEnv*, jobject, jlong jhandle) {
+  GetSimCache(jhandle)->reset_counter();
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    getStatistics
+ * Signature: (J)Ljava/lang/String;
+ */
+jstring Java_org_rocksdb_SimCache_getStatistics(
+    JNIEnv* env, jobject, jlong jhandle) {
+  const std::string stats = GetSimCache(jhandle)->ToString();
+  return rocksdb::JniUtil::toJavaString(env, &stats, false);
+}
+
+/*
+ * Class:     org_rocksdb_SimCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_SimCache_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_sim_cache =
+      reinterpret_cast<std::shared_ptr<rocksdb::Cache>*>(jhandle);
+  delete sptr_sim_cache;  // delete std::shared_ptr
+}
@@ -226,6 +226,45 @@ void Java_org_rocksdb_Slice_removePrefix0(JNIEnv* /*env*/, jobject /*jobj*/,
   slice->remove_prefix(length);
 }
 
+/*
+ * Class:     org_rocksdb_Slice
+ * Method:    setData0
+ * Signature: (J[BIIZJJ)J
+ */
+jlong Java_org_rocksdb_Slice_setData0(JNIEnv* env, jobject /*jobj*/,
+                                      jlong handle, jbyteArray data,
+                                      jint offset, jint length,
+                                      jboolean internalBuffer,
+                                      jlong internalBufferOffset,
+                                      jlong internalBufferCapacity) {
+  auto* slice = reinterpret_cast<rocksdb::Slice*>(handle);
+  char* buf = nullptr;
+  if (internalBuffer == JNI_TRUE && length <= internalBufferCapacity) {
+    // reuse the existing buffer
+    buf = const_cast<char*>(slice->data_ - internalBufferOffset);
+  } else {
+    if (internalBuffer == JNI_TRUE) {
+      const char* old_buf = slice->data_ - internalBufferOffset;
+      delete[] old_buf;
+    }
+
+    // NOTE: buf will be deleted in the
+    // Java_org_rocksdb_Slice_disposeInternalBuf method
+    buf = new char[length];
+    internalBufferCapacity = length;
+  }
+
+  env->GetByteArrayRegion(data, offset, length, reinterpret_cast<jbyte*>(buf));
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    length = 0;
+  }
+
+  slice->data_ = buf;
+  slice->size_ = static_cast<size_t>(length);
+  return internalBufferCapacity;
+}
+
 /*
  * Class:     org_rocksdb_Slice
  * Method:    disposeInternalBuf
@@ -340,6 +379,34 @@ void Java_org_rocksdb_DirectSlice_removePrefix0(JNIEnv* /*env*/,
   slice->remove_prefix(length);
 }
 
+/*
+ * Class:     org_rocksdb_DirectSlice
+ * Method:    setData0
+ * Signature: (JLjava/nio/ByteBuffer;IZJ)V
+ */
+void Java_org_rocksdb_DirectSlice_setData0(JNIEnv* env, jobject /*jobj*/,
+                                           jlong handle, jobject data,
+                                           jint length, jboolean shouldRelease,
+                                           jlong internalBufferOffset) {
+  void* data_addr = env->GetDirectBufferAddress(data);
+  if (data_addr == nullptr) {
+    // error: memory region is undefined, given object is not a direct
+    // java.nio.Buffer, or JNI access to direct buffers is not supported by JVM
+    rocksdb::IllegalArgumentExceptionJni::ThrowNew(
+        env, rocksdb::Status::InvalidArgument("Could not access DirectBuffer"));
+    return;
+  }
+
+  auto* slice = reinterpret_cast<rocksdb::Slice*>(handle);
+  if (shouldRelease == JNI_TRUE) {
+    const char* buf = slice->data_ - internalBufferOffset;
+    delete[] buf;
+  }
+
+  slice->data_ = reinterpret_cast<char*>(data_addr);
+  slice->size_ = static_cast<size_t>(length);
+}
+
 /*
  * Class:     org_rocksdb_DirectSlice
  * Method:    disposeInternalBuf
@@ -0,0 +1,205 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::SliceTransform.
+
+#include <jni.h>
+#include <string.h>
+#include <string>
+
+#include "include/org_rocksdb_AbstractSliceTransform.h"
+#include "include/org_rocksdb_CappedPrefixSliceTransform.h"
+#include "include/org_rocksdb_DelimitedPrefixSliceTransform.h"
+#include "include/org_rocksdb_FixedPrefixSliceTransform.h"
+#include "include/org_rocksdb_LengthPrefixedSliceTransform.h"
+#include "include/org_rocksdb_SliceTransform.h"
+#include "rocksdb/slice_transform.h"
+#include "rocksjni/portal.h"
+#include "rocksjni/slice_transform_jnicallback.h"
+#include "util/string_util.h"
+
+namespace rocksdb {
+namespace {
+
+// Uses the bytes of the key up to and including the first occurrence
+// of the delimiter as the prefix.
+class DelimitedPrefixTransform : public SliceTransform {
+ public:
+  explicit DelimitedPrefixTransform(char delimiter)
+      : delimiter_(delimiter),
+        name_("rocksdb.java.DelimitedPrefix." +
+              ToString(static_cast<unsigned char>(delimiter))) {}
+
+  const char* Name() const override { return name_.c_str(); }
+
+  Slice Transform(const Slice& src) const override {
+    assert(InDomain(src));
+    return Slice(src.data(), PrefixLength(src));
+  }
+
+  bool InDomain(const Slice& src) const override {
+    return PrefixLength(src) > 0;
+  }
+
+  bool InRange(const Slice& dst) const override {
+    return SameResultWhenAppended(dst);
+  }
+
+  bool SameResultWhenAppended(const Slice& prefix) const override {
+    // true only for a complete prefix, i.e. one whose only delimiter
+    // is its last byte
+    return prefix.size() > 0 && PrefixLength(prefix) == prefix.size();
+  }
+
+ private:
+  // returns 0 if the key does not contain the delimiter
+  size_t PrefixLength(const Slice& src) const {
+    const void* pos = memchr(src.data(), delimiter_, src.size());
+    if (pos == nullptr) {
+      return 0;
+    }
+    return static_cast<const char*>(pos) - src.data() + 1;
+  }
+
+  const char delimiter_;
+  const std::string name_;
+};
+
+// Uses a fixed width big-endian length header followed by that many
+// bytes of data as the prefix.
+class LengthPrefixedTransform : public SliceTransform {
+ public:
+  explicit LengthPrefixedTransform(size_t length_bytes)
+      : length_bytes_(length_bytes),
+        name_("rocksdb.java.LengthPrefixed." + ToString(length_bytes)) {}
+
+  const char* Name() const override { return name_.c_str(); }
+
+  Slice Transform(const Slice& src) const override {
+    assert(InDomain(src));
+    return Slice(src.data(), PrefixLength(src));
+  }
+
+  bool InDomain(const Slice& src) const override {
+    return src.size() >= length_bytes_ && src.size() >= PrefixLength(src);
+  }
+
+  bool InRange(const Slice& dst) const override {
+    return SameResultWhenAppended(dst);
+  }
+
+  bool SameResultWhenAppended(const Slice& prefix) const override {
+    return prefix.size() >= length_bytes_ &&
+           prefix.size() >= PrefixLength(prefix);
+  }
+
+ private:
+  // requires src.size() >= length_bytes_
+  uint64_t PrefixLength(const Slice& src) const {
+    uint64_t len = 0;
+    for (size_t i = 0; i < length_bytes_ && i < src.size(); i++) {
+      len = (len << 8) | static_cast<unsigned char>(src[i]);
+    }
+    return length_bytes_ + len;
+  }
+
+  const size_t length_bytes_;
+  const std::string name_;
+};
+
+}  // namespace
+}  // namespace rocksdb
+
+/*
+ * Class:     org_rocksdb_FixedPrefixSliceTransform
+ * Method:    newFixedPrefixSliceTransform
+ * Signature: (I)J
+ */
+jlong Java_org_rocksdb_FixedPrefixSliceTransform_newFixedPrefixSliceTransform(
+    JNIEnv* /*env*/, jclass /*jcls*/, jint jprefix_length) {
+  auto* sptr_slice_transform =
+      new std::shared_ptr<const rocksdb::SliceTransform>(
+          rocksdb::NewFixedPrefixTransform(
+              static_cast<size_t>(jprefix_length)));
+  return reinterpret_cast<jlong>(sptr_slice_transform);
+}
+
+/*
+ * Class:     org_rocksdb_CappedPrefixSliceTransform
+ * Method:    newCappedPrefixSliceTransform
+ * Signature: (I)J
+ */
+jlong Java_org_rocksdb_CappedPrefixSliceTransform_newCappedPrefixSliceTransform(
+    JNIEnv* /*env*/, jclass /*jcls*/, jint jcap_length) {
+  auto* sptr_slice_transform =
+      new std::shared_ptr<const rocksdb::SliceTransform>(
+          rocksdb::NewCappedPrefixTransform(static_cast<size_t>(jcap_length)));
+  return reinterpret_cast<jlong>(sptr_slice_transform);
+}
+
+/*
+ * Class:     org_rocksdb_DelimitedPrefixSliceTransform
+ * Method:    newDelimitedPrefixSliceTransform
+ * Signature: (B)J
+ */
+jlong Java_org_rocksdb_DelimitedPrefixSliceTransform_newDelimitedPrefixSliceTransform(
+    JNIEnv* /*env*/, jclass /*jcls*/, jbyte jdelimiter) {
+  auto* sptr_slice_transform =
+      new std::shared_ptr<const rocksdb::SliceTransform>(
+          new rocksdb::DelimitedPrefixTransform(static_cast<char>(jdelimiter)));
+  return reinterpret_cast<jlong>(sptr_slice_transform);
+}
+
+/*
+ * Class:     org_rocksdb_LengthPrefixedSliceTransform
+ * Method:    newLengthPrefixedSliceTransform
+ * Signature: (I)J
+ */
+jlong Java_org_rocksdb_LengthPrefixedSliceTransform_newLengthPrefixedSliceTransform(
+    JNIEnv* /*env*/, jclass /*jcls*/, jint jlength_bytes) {
+  auto* sptr_slice_transform =
+      new std::shared_ptr<const rocksdb::SliceTransform>(
+          new rocksdb::LengthPrefixedTransform(
+              static_cast<size_t>(jlength_bytes)));
+  return reinterpret_cast<jlong>(sptr_slice_transform);
+}
+
+/*
+ * Class:     org_rocksdb_SliceTransform
+ * Method:    name
+ * Signature: (J)Ljava/lang/String;
+ */
+jstring Java_org_rocksdb_SliceTransform_name(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle) {
+  auto* sptr_slice_transform =
+      reinterpret_cast<std::shared_ptr<const rocksdb::SliceTransform>*>(
+          jhandle);
+  return env->NewStringUTF((*sptr_slice_transform)->Name());
+}
+
+/*
+ * Class:     org_rocksdb_SliceTransform
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_SliceTransform_disposeInternal(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+  auto* handle =
+      reinterpret_cast<std::shared_ptr<const rocksdb::SliceTransform>*>(
+          jhandle);
+  delete handle;  // delete std::shared_ptr
+}
+
+/*
+ * Class:     org_rocksdb_AbstractSliceTransform
+ * Method:    createNewSliceTransform
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_AbstractSliceTransform_createNewSliceTransform(
+    JNIEnv* env, jobject jobj) {
+  auto* slice_transform = new rocksdb::SliceTransformJniCallback(env, jobj);
+  return reinterpret_cast<jlong>(slice_transform);
+}
@@ -0,0 +1,132 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::SliceTransform.
+
+#include "rocksjni/slice_transform_jnicallback.h"
+#include "rocksjni/portal.h"
+
+namespace rocksdb {
+SliceTransformJniCallback::SliceTransformJniCallback(
+    JNIEnv* env, jobject jslice_transform)
+    : JniCallback(env, jslice_transform) {
+  // Note: The name of a SliceTransform will not change during it's lifetime,
+  // so we cache it in a global var
+  jmethodID jname_mid = AbstractSliceTransformJni::getNameMethodId(env);
+  if (jname_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+  jstring jname = (jstring)env->CallObjectMethod(m_jcallback_obj, jname_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown
+    return;
+  }
+  jboolean has_exception = JNI_FALSE;
+  m_name = JniUtil::copyString(env, jname,
+      &has_exception);  // also releases jname
+  if (has_exception == JNI_TRUE) {
+    // exception thrown
+    return;
+  }
+
+  m_transform_mid = AbstractSliceTransformJni::getTransformMethodId(env);
+  if (m_transform_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_in_domain_mid = AbstractSliceTransformJni::getInDomainMethodId(env);
+  if (m_in_domain_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+const char* SliceTransformJniCallback::Name() const {
+  return m_name.get();
+}
+
+Slice SliceTransformJniCallback::Transform(const Slice& key) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return key;
+  }
+
+  // the Java ByteBuffer refers directly to the key, no copy is made
+  jobject jkey = env->NewDirectByteBuffer(
+      const_cast<char*>(key.data()), static_cast<jlong>(key.size()));
+  if (jkey == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return key;
+  }
+
+  const jint jprefix_len =
+      env->CallIntMethod(m_jcallback_obj, m_transform_mid, jkey);
+  env->DeleteLocalRef(jkey);
+
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallIntMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return key;
+  }
+
+  if (jprefix_len < 0 || static_cast<size_t>(jprefix_len) > key.size()) {
+    // A bug in the Java slice transform, which cannot be reported to the
+    // caller of the prefix extractor, so print it out and use the whole key
+    // as the prefix.
+    IllegalArgumentExceptionJni::ThrowNew(
+        env, Status::InvalidArgument(
+                 "AbstractSliceTransform#transform returned the prefix "
+                 "length " + std::to_string(jprefix_len) + " for a key of " +
+                 std::to_string(key.size()) + " bytes"));
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return key;
+  }
+
+  releaseJniEnv(attached_thread);
+
+  return Slice(key.data(), static_cast<size_t>(jprefix_len));
+}
+
+bool SliceTransformJniCallback::InDomain(const Slice& key) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return false;
+  }
+
+  jobject jkey = env->NewDirectByteBuffer(
+      const_cast<char*>(key.data()), static_cast<jlong>(key.size()));
+  if (jkey == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return false;
+  }
+
+  const jboolean jin_domain =
+      env->CallBooleanMethod(m_jcallback_obj, m_in_domain_mid, jkey);
+  env->DeleteLocalRef(jkey);
+
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallBooleanMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return false;
+  }
+
+  releaseJniEnv(attached_thread);
+
+  return jin_domain == JNI_TRUE;
+}
+
+}  // namespace rocksdb
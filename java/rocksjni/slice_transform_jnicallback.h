@@ -0,0 +1,36 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::SliceTransform.
+
+#ifndef JAVA_ROCKSJNI_SLICE_TRANSFORM_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_SLICE_TRANSFORM_JNICALLBACK_H_
+
+#include <jni.h>
+#include <memory>
+
+#include "rocksdb/slice.h"
+#include "rocksdb/slice_transform.h"
+#include "rocksjni/jnicallback.h"
+
+namespace rocksdb {
+
+class SliceTransformJniCallback : public JniCallback, public SliceTransform {
+ public:
+  SliceTransformJniCallback(JNIEnv* env, jobject jslice_transform);
+  virtual const char* Name() const;
+  virtual Slice Transform(const Slice& key) const;
+  virtual bool InDomain(const Slice& key) const;
+
+ private:
+  std::unique_ptr<const char[]> m_name;
+  jmethodID m_transform_mid;
+  jmethodID m_in_domain_mid;
+};
+
+}  // namespace rocksdb
+
+#endif  // JAVA_ROCKSJNI_SLICE_TRANSFORM_JNICALLBACK_H_
@@ -0,0 +1,67 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::SstPartitionerFactory.
+
+#include <jni.h>
+#include <memory>
+
+#include "include/org_rocksdb_AbstractSstPartitionerFactory.h"
+#include "include/org_rocksdb_SstPartitionerFactory.h"
+#include "include/org_rocksdb_SstPartitionerFixedPrefixFactory.h"
+#include "rocksdb/sst_partitioner.h"
+#include "rocksjni/sst_partitioner_jnicallback.h"
+
+/*
+ * Class:     org_rocksdb_SstPartitionerFactory
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_SstPartitionerFactory_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_factory =
+      reinterpret_cast<std::shared_ptr<rocksdb::SstPartitionerFactory>*>(
+          jhandle);
+  delete sptr_factory;  // delete std::shared_ptr
+}
+
+/*
+ * Class:     org_rocksdb_SstPartitionerFixedPrefixFactory
+ * Method:    newSstPartitionerFixedPrefixFactory
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_SstPartitionerFixedPrefixFactory_newSstPartitionerFixedPrefixFactory(
+    JNIEnv*, jclass, jlong jprefix_length) {
+  auto* sptr_factory = new std::shared_ptr<rocksdb::SstPartitionerFactory>(
+      rocksdb::NewSstPartitionerFixedPrefixFactory(
+          static_cast<size_t>(jprefix_length)));
+  return reinterpret_cast<jlong>(sptr_factory);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractSstPartitionerFactory
+ * Method:    createNewSstPartitionerFactory
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_AbstractSstPartitionerFactory_createNewSstPartitionerFactory(
+    JNIEnv* env, jobject jobj) {
+  auto* sptr_factory = new std::shared_ptr<rocksdb::SstPartitionerFactory>(
+      new rocksdb::SstPartitionerFactoryJniCallback(env, jobj));
+  return reinterpret_cast<jlong>(sptr_factory);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractSstPartitionerFactory
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractSstPartitionerFactory_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_factory =
+      reinterpret_cast<std::shared_ptr<rocksdb::SstPartitionerFactory>*>(
+          jhandle);
+  delete sptr_factory;  // delete std::shared_ptr
+}
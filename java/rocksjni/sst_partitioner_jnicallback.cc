@@ -0,0 +1,166 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::SstPartitionerFactory.
+
+#include "rocksjni/sst_partitioner_jnicallback.h"
+#include "rocksjni/portal.h"
+
+namespace rocksdb {
+
+namespace {
+// The partitioner of a compaction, all of the decisions are made by the
+// Java AbstractSstPartitionerFactory
+class SstPartitionerJniCallback : public SstPartitioner {
+ public:
+  explicit SstPartitionerJniCallback(
+      const SstPartitionerFactoryJniCallback* factory)
+      : factory_(factory) {}
+
+  const char* Name() const override { return factory_->Name(); }
+
+  PartitionerResult ShouldPartition(
+      const PartitionerRequest& request) override {
+    return factory_->ShouldPartition(request);
+  }
+
+  bool CanDoTrivialMove(const Slice& smallest_user_key,
+                        const Slice& largest_user_key) override {
+    return factory_->CanDoTrivialMove(smallest_user_key, largest_user_key);
+  }
+
+ private:
+  const SstPartitionerFactoryJniCallback* factory_;
+};
+}  // namespace
+
+SstPartitionerFactoryJniCallback::SstPartitionerFactoryJniCallback(
+    JNIEnv* env, jobject jsst_partitioner_factory)
+    : JniCallback(env, jsst_partitioner_factory) {
+  // Note: The name of an SstPartitionerFactory will not change during
+  // it's lifetime, so we cache it in a global var
+  jmethodID jname_method_id =
+      AbstractSstPartitionerFactoryJni::getNameMethodId(env);
+  if(jname_method_id == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  jstring jname =
+      (jstring)env->CallObjectMethod(m_jcallback_obj, jname_method_id);
+  if(env->ExceptionCheck()) {
+    // exception thrown
+    return;
+  }
+  jboolean has_exception = JNI_FALSE;
+  m_name = JniUtil::copyString(env, jname, &has_exception);  // also releases jname
+  if (has_exception == JNI_TRUE) {
+    // exception thrown
+    return;
+  }
+
+  m_jshould_partition_methodid =
+      AbstractSstPartitionerFactoryJni::getShouldPartitionMethodId(env);
+  if(m_jshould_partition_methodid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_jcan_do_trivial_move_methodid =
+      AbstractSstPartitionerFactoryJni::getCanDoTrivialMoveMethodId(env);
+  if(m_jcan_do_trivial_move_methodid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+const char* SstPartitionerFactoryJniCallback::Name() const {
+  return m_name.get();
+}
+
+std::unique_ptr<SstPartitioner>
+SstPartitionerFactoryJniCallback::CreatePartitioner(
+    const SstPartitioner::Context& /*context*/) const {
+  return std::unique_ptr<SstPartitioner>(new SstPartitionerJniCallback(this));
+}
+
+PartitionerResult SstPartitionerFactoryJniCallback::ShouldPartition(
+    const PartitionerRequest& request) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  assert(env != nullptr);
+
+  jbyteArray jprev_key = JniUtil::copyBytes(env, *request.prev_user_key);
+  if (jprev_key == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return kNotRequired;
+  }
+  jbyteArray jcurrent_key = JniUtil::copyBytes(env, *request.current_user_key);
+  if (jcurrent_key == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->DeleteLocalRef(jprev_key);
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return kNotRequired;
+  }
+
+  jboolean jresult = env->CallBooleanMethod(
+      m_jcallback_obj, m_jshould_partition_methodid, jprev_key, jcurrent_key,
+      static_cast<jlong>(request.current_output_file_size));
+  env->DeleteLocalRef(jprev_key);
+  env->DeleteLocalRef(jcurrent_key);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallBooleanMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return kNotRequired;
+  }
+
+  releaseJniEnv(attached_thread);
+  return jresult == JNI_TRUE ? kRequired : kNotRequired;
+}
+
+bool SstPartitionerFactoryJniCallback::CanDoTrivialMove(
+    const Slice& smallest_user_key, const Slice& largest_user_key) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  assert(env != nullptr);
+
+  jbyteArray jsmallest_key = JniUtil::copyBytes(env, smallest_user_key);
+  if (jsmallest_key == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return false;
+  }
+  jbyteArray jlargest_key = JniUtil::copyBytes(env, largest_user_key);
+  if (jlargest_key == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->DeleteLocalRef(jsmallest_key);
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return false;
+  }
+
+  jboolean jresult =
+      env->CallBooleanMethod(m_jcallback_obj, m_jcan_do_trivial_move_methodid,
+                             jsmallest_key, jlargest_key);
+  env->DeleteLocalRef(jsmallest_key);
+  env->DeleteLocalRef(jlargest_key);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallBooleanMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return false;
+  }
+
+  releaseJniEnv(attached_thread);
+  return jresult == JNI_TRUE;
+}
+
+}  // namespace rocksdb
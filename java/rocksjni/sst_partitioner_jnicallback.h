@@ -0,0 +1,41 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::SstPartitionerFactory.
+
+#ifndef JAVA_ROCKSJNI_SST_PARTITIONER_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_SST_PARTITIONER_JNICALLBACK_H_
+
+#include <jni.h>
+#include <memory>
+
+#include "rocksdb/sst_partitioner.h"
+#include "rocksjni/jnicallback.h"
+
+namespace rocksdb {
+
+class SstPartitionerFactoryJniCallback : public JniCallback,
+                                         public SstPartitionerFactory {
+ public:
+  SstPartitionerFactoryJniCallback(JNIEnv* env,
+                                   jobject jsst_partitioner_factory);
+  std::unique_ptr<SstPartitioner> CreatePartitioner(
+      const SstPartitioner::Context& context) const override;
+  const char* Name() const override;
+
+  PartitionerResult ShouldPartition(const PartitionerRequest& request) const;
+  bool CanDoTrivialMove(const Slice& smallest_user_key,
+                        const Slice& largest_user_key) const;
+
+ private:
+  std::unique_ptr<const char[]> m_name;
+  jmethodID m_jshould_partition_methodid;
+  jmethodID m_jcan_do_trivial_move_methodid;
+};
+
+}  // namespace rocksdb
+
+#endif  // JAVA_ROCKSJNI_SST_PARTITIONER_JNICALLBACK_H_
@@ -7,7 +7,9 @@
 
 #include "rocksdb/table.h"
 #include <jni.h>
+#include "include/org_rocksdb_AdaptiveTableConfig.h"
 #include "include/org_rocksdb_BlockBasedTableConfig.h"
+#include "include/org_rocksdb_CuckooTableConfig.h"
 #include "include/org_rocksdb_PlainTableConfig.h"
 #include "portal.h"
 #include "rocksdb/cache.h"
@@ -140,3 +142,43 @@ jlong Java_org_rocksdb_BlockBasedTableConfig_newTableFactoryHandle(
 
   return reinterpret_cast<jlong>(rocksdb::NewBlockBasedTableFactory(options));
 }
+
+/*
+ * Class:     org_rocksdb_CuckooTableConfig
+ * Method:    newTableFactoryHandle
+ * Signature: (DIIZZ)J
+ */
+jlong Java_org_rocksdb_CuckooTableConfig_newTableFactoryHandle(
+    JNIEnv*, jobject, jdouble jhash_table_ratio, jint jmax_search_depth,
+    jint jcuckoo_block_size, jboolean jidentity_as_first_hash,
+    jboolean juse_module_hash) {
+  rocksdb::CuckooTableOptions options;
+  options.hash_table_ratio = static_cast<double>(jhash_table_ratio);
+  options.max_search_depth = static_cast<uint32_t>(jmax_search_depth);
+  options.cuckoo_block_size = static_cast<uint32_t>(jcuckoo_block_size);
+  options.identity_as_first_hash = static_cast<bool>(jidentity_as_first_hash);
+  options.use_module_hash = static_cast<bool>(juse_module_hash);
+  return reinterpret_cast<jlong>(rocksdb::NewCuckooTableFactory(options));
+}
+
+/*
+ * Class:     org_rocksdb_AdaptiveTableConfig
+ * Method:    newTableFactoryHandle
+ * Signature: (JJJJ)J
+ */
+jlong Java_org_rocksdb_AdaptiveTableConfig_newTableFactoryHandle(
+    JNIEnv*, jobject, jlong jtable_factory_to_write_handle,
+    jlong jblock_based_table_factory_handle, jlong jplain_table_factory_handle,
+    jlong jcuckoo_table_factory_handle) {
+  // NOTE: the adaptive table factory takes ownership of the
+  // individual table factories
+  auto to_shared_ptr = [](jlong jtable_factory_handle) {
+    return std::shared_ptr<rocksdb::TableFactory>(
+        reinterpret_cast<rocksdb::TableFactory*>(jtable_factory_handle));
+  };
+  return reinterpret_cast<jlong>(rocksdb::NewAdaptiveTableFactory(
+      to_shared_ptr(jtable_factory_to_write_handle),
+      to_shared_ptr(jblock_based_table_factory_handle),
+      to_shared_ptr(jplain_table_factory_handle),
+      to_shared_ptr(jcuckoo_table_factory_handle)));
+}
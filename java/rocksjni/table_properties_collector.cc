@@ -0,0 +1,97 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// rocksdb::TablePropertiesCollectorFactory.
+
+#include <jni.h>
+#include <memory>
+
+#include "include/org_rocksdb_AbstractTablePropertiesCollectorFactory.h"
+#include "include/org_rocksdb_CompactOnDeletionCollectorFactory.h"
+#include "include/org_rocksdb_TablePropertiesCollectorFactory.h"
+#include "rocksdb/table_properties.h"
+#include "rocksdb/utilities/table_properties_collectors.h"
+#include "rocksjni/table_properties_collector_jnicallback.h"
+
+/*
+ * Class:     org_rocksdb_TablePropertiesCollectorFactory
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_TablePropertiesCollectorFactory_disposeInternal(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* handle = reinterpret_cast<
+      std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>*>(jhandle);
+  delete handle;  // delete std::shared_ptr
+}
+
+/*
+ * Class:     org_rocksdb_CompactOnDeletionCollectorFactory
+ * Method:    newCompactOnDeletionCollectorFactory
+ * Signature: (JJ)J
+ */
+jlong Java_org_rocksdb_CompactOnDeletionCollectorFactory_newCompactOnDeletionCollectorFactory(
+    JNIEnv*, jclass, jlong jsliding_window_size, jlong jdeletion_trigger) {
+  auto* sptr_factory =
+      new std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>(
+          rocksdb::NewCompactOnDeletionCollectorFactory(
+              static_cast<size_t>(jsliding_window_size),
+              static_cast<size_t>(jdeletion_trigger)));
+  return reinterpret_cast<jlong>(sptr_factory);
+}
+
+/*
+ * Class:     org_rocksdb_CompactOnDeletionCollectorFactory
+ * Method:    setWindowSize
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_CompactOnDeletionCollectorFactory_setWindowSize(
+    JNIEnv*, jobject, jlong jhandle, jlong jsliding_window_size) {
+  auto* sptr_factory = reinterpret_cast<
+      std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>*>(jhandle);
+  static_cast<rocksdb::CompactOnDeletionCollectorFactory*>(sptr_factory->get())
+      ->SetWindowSize(static_cast<size_t>(jsliding_window_size));
+}
+
+/*
+ * Class:     org_rocksdb_CompactOnDeletionCollectorFactory
+ * Method:    setDeletionTrigger
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_CompactOnDeletionCollectorFactory_setDeletionTrigger(
+    JNIEnv*, jobject, jlong jhandle, jlong jdeletion_trigger) {
+  auto* sptr_factory = reinterpret_cast<
+      std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>*>(jhandle);
+  static_cast<rocksdb::CompactOnDeletionCollectorFactory*>(sptr_factory->get())
+      ->SetDeletionTrigger(static_cast<size_t>(jdeletion_trigger));
+}
+
+/*
+ * Class:     org_rocksdb_AbstractTablePropertiesCollectorFactory
+ * Method:    newTablePropertiesCollectorFactory
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_AbstractTablePropertiesCollectorFactory_newTablePropertiesCollectorFactory(
+    JNIEnv*, jclass) {
+  // the callback is created by initializeNative, once the Java object
+  // has been constructed
+  auto* sptr_factory =
+      new std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>();
+  return reinterpret_cast<jlong>(sptr_factory);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractTablePropertiesCollectorFactory
+ * Method:    initializeNative
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractTablePropertiesCollectorFactory_initializeNative(
+    JNIEnv* env, jobject jobj, jlong jhandle) {
+  auto* sptr_factory = reinterpret_cast<
+      std::shared_ptr<rocksdb::TablePropertiesCollectorFactory>*>(jhandle);
+  sptr_factory->reset(
+      new rocksdb::TablePropertiesCollectorFactoryJniCallback(env, jobj));
+}
@@ -0,0 +1,291 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::TablePropertiesCollectorFactory and
+// rocksdb::TablePropertiesCollector.
+
+#include "rocksjni/table_properties_collector_jnicallback.h"
+#include "rocksjni/portal.h"
+
+namespace rocksdb {
+
+namespace {
+// Used in place of a Java collector when one could not be created, as
+// the table builder requires a collector from each factory
+class NoopTablePropertiesCollector : public TablePropertiesCollector {
+ public:
+  explicit NoopTablePropertiesCollector(const char* name) : name_(name) {}
+
+  Status AddUserKey(const Slice& /*key*/, const Slice& /*value*/,
+                    EntryType /*type*/, SequenceNumber /*seq*/,
+                    uint64_t /*file_size*/) override {
+    return Status::OK();
+  }
+
+  Status Finish(UserCollectedProperties* /*properties*/) override {
+    return Status::OK();
+  }
+
+  UserCollectedProperties GetReadableProperties() const override {
+    return UserCollectedProperties();
+  }
+
+  const char* Name() const override { return name_; }
+
+ private:
+  const char* name_;
+};
+}  // namespace
+
+TablePropertiesCollectorJniCallback::TablePropertiesCollectorJniCallback(
+    JNIEnv* env, jobject jcollector)
+    : JniCallback(env, jcollector) {
+  // Note: The name of a TablePropertiesCollector will not change during
+  // it's lifetime, so we cache it in a global var
+  jmethodID jname_mid = AbstractTablePropertiesCollectorJni::getNameMethodId(env);
+  if (jname_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+  jstring jname = (jstring)env->CallObjectMethod(m_jcallback_obj, jname_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown
+    return;
+  }
+  jboolean has_exception = JNI_FALSE;
+  m_name = JniUtil::copyString(env, jname,
+      &has_exception);  // also releases jname
+  if (has_exception == JNI_TRUE) {
+    // exception thrown
+    return;
+  }
+
+  m_add_user_key_proxy_mid =
+      AbstractTablePropertiesCollectorJni::getAddUserKeyProxyMethodId(env);
+  if (m_add_user_key_proxy_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_finish_proxy_mid =
+      AbstractTablePropertiesCollectorJni::getFinishProxyMethodId(env);
+  if (m_finish_proxy_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_readable_properties_proxy_mid =
+      AbstractTablePropertiesCollectorJni::getReadablePropertiesProxyMethodId(
+          env);
+  if (m_readable_properties_proxy_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_need_compact_mid =
+      AbstractTablePropertiesCollectorJni::getNeedCompactMethodId(env);
+  if (m_need_compact_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+Status TablePropertiesCollectorJniCallback::AddUserKey(
+    const Slice& key, const Slice& value, EntryType type, SequenceNumber seq,
+    uint64_t file_size) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return Status::Aborted("Unable to attach JNI environment");
+  }
+
+  // the Java ByteBuffers refer directly to the key and value, no copies
+  // are made
+  jobject jkey = env->NewDirectByteBuffer(
+      const_cast<char*>(key.data()), static_cast<jlong>(key.size()));
+  if (jkey == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return Status::MemoryLimit("Unable to allocate key ByteBuffer");
+  }
+  jobject jvalue = env->NewDirectByteBuffer(
+      const_cast<char*>(value.data()), static_cast<jlong>(value.size()));
+  if (jvalue == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ExceptionDescribe();  // print out exception to stderr
+    env->DeleteLocalRef(jkey);
+    releaseJniEnv(attached_thread);
+    return Status::MemoryLimit("Unable to allocate value ByteBuffer");
+  }
+
+  env->CallVoidMethod(m_jcallback_obj, m_add_user_key_proxy_mid, jkey, jvalue,
+                      EntryTypeJni::toJavaEntryType(type),
+                      static_cast<jlong>(seq), static_cast<jlong>(file_size));
+
+  env->DeleteLocalRef(jkey);
+  env->DeleteLocalRef(jvalue);
+
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallVoidMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return Status::Aborted("Exception in Java TablePropertiesCollector");
+  }
+
+  releaseJniEnv(attached_thread);
+  return Status::OK();
+}
+
+Status TablePropertiesCollectorJniCallback::Finish(
+    UserCollectedProperties* properties) {
+  return CallPropertiesMethod(m_finish_proxy_mid, properties);
+}
+
+UserCollectedProperties
+TablePropertiesCollectorJniCallback::GetReadableProperties() const {
+  UserCollectedProperties properties;
+  CallPropertiesMethod(m_readable_properties_proxy_mid, &properties);
+  return properties;
+}
+
+Status TablePropertiesCollectorJniCallback::CallPropertiesMethod(
+    jmethodID mid, UserCollectedProperties* properties) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return Status::Aborted("Unable to attach JNI environment");
+  }
+
+  jobjectArray jkeys_values =
+      static_cast<jobjectArray>(env->CallObjectMethod(m_jcallback_obj, mid));
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallObjectMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return Status::Aborted("Exception in Java TablePropertiesCollector");
+  }
+
+  jboolean has_exception = JNI_FALSE;
+  const std::vector<std::string> keys_values =
+      JniUtil::copyStrings(env, jkeys_values, &has_exception);
+  env->DeleteLocalRef(jkeys_values);
+  if (has_exception == JNI_TRUE) {
+    // exception thrown: OutOfMemoryError or ArrayIndexOutOfBoundsException
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return Status::Aborted("Unable to copy collected properties");
+  }
+
+  releaseJniEnv(attached_thread);
+
+  // the keys and values are interleaved
+  for (size_t i = 0; i + 1 < keys_values.size(); i += 2) {
+    (*properties)[keys_values[i]] = keys_values[i + 1];
+  }
+  return Status::OK();
+}
+
+const char* TablePropertiesCollectorJniCallback::Name() const {
+  return m_name.get();
+}
+
+bool TablePropertiesCollectorJniCallback::NeedCompact() const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return false;
+  }
+
+  const jboolean jneed_compact =
+      env->CallBooleanMethod(m_jcallback_obj, m_need_compact_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallBooleanMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return false;
+  }
+
+  releaseJniEnv(attached_thread);
+  return jneed_compact == JNI_TRUE;
+}
+
+TablePropertiesCollectorFactoryJniCallback::
+    TablePropertiesCollectorFactoryJniCallback(JNIEnv* env, jobject jfactory)
+    : JniCallback(env, jfactory) {
+  // Note: The name of a TablePropertiesCollectorFactory will not change
+  // during it's lifetime, so we cache it in a global var
+  jmethodID jname_mid =
+      AbstractTablePropertiesCollectorFactoryJni::getNameMethodId(env);
+  if (jname_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+  jstring jname = (jstring)env->CallObjectMethod(m_jcallback_obj, jname_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown
+    return;
+  }
+  jboolean has_exception = JNI_FALSE;
+  m_name = JniUtil::copyString(env, jname,
+      &has_exception);  // also releases jname
+  if (has_exception == JNI_TRUE) {
+    // exception thrown
+    return;
+  }
+
+  m_create_table_properties_collector_mid =
+      AbstractTablePropertiesCollectorFactoryJni::
+          getCreateTablePropertiesCollectorMethodId(env);
+  if (m_create_table_properties_collector_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+}
+
+TablePropertiesCollector*
+TablePropertiesCollectorFactoryJniCallback::CreateTablePropertiesCollector(
+    TablePropertiesCollectorFactory::Context context) {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  if (env == nullptr) {
+    return new NoopTablePropertiesCollector(Name());
+  }
+
+  jobject jcollector = env->CallObjectMethod(
+      m_jcallback_obj, m_create_table_properties_collector_mid,
+      static_cast<jint>(context.column_family_id));
+  if (env->ExceptionCheck()) {
+    // exception thrown from CallObjectMethod
+    env->ExceptionDescribe();  // print out exception to stderr
+    releaseJniEnv(attached_thread);
+    return new NoopTablePropertiesCollector(Name());
+  }
+  if (jcollector == nullptr) {
+    // no collector was returned for this table
+    releaseJniEnv(attached_thread);
+    return new NoopTablePropertiesCollector(Name());
+  }
+
+  auto* collector = new TablePropertiesCollectorJniCallback(env, jcollector);
+  env->DeleteLocalRef(jcollector);
+  if (env->ExceptionCheck()) {
+    // exception thrown whilst initializing the collector
+    env->ExceptionDescribe();  // print out exception to stderr
+    delete collector;
+    releaseJniEnv(attached_thread);
+    return new NoopTablePropertiesCollector(Name());
+  }
+
+  releaseJniEnv(attached_thread);
+  return collector;
+}
+
+const char* TablePropertiesCollectorFactoryJniCallback::Name() const {
+  return m_name.get();
+}
+
+}  // namespace rocksdb
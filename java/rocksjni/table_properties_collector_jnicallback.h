@@ -0,0 +1,59 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// rocksdb::TablePropertiesCollectorFactory and
+// rocksdb::TablePropertiesCollector.
+
+#ifndef JAVA_ROCKSJNI_TABLE_PROPERTIES_COLLECTOR_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_TABLE_PROPERTIES_COLLECTOR_JNICALLBACK_H_
+
+#include <jni.h>
+#include <memory>
+
+#include "rocksdb/table_properties.h"
+#include "rocksjni/jnicallback.h"
+
+namespace rocksdb {
+
+class TablePropertiesCollectorJniCallback : public JniCallback,
+                                            public TablePropertiesCollector {
+ public:
+  TablePropertiesCollectorJniCallback(JNIEnv* env, jobject jcollector);
+  virtual Status AddUserKey(const Slice& key, const Slice& value,
+                            EntryType type, SequenceNumber seq,
+                            uint64_t file_size);
+  virtual Status Finish(UserCollectedProperties* properties);
+  virtual UserCollectedProperties GetReadableProperties() const;
+  virtual const char* Name() const;
+  virtual bool NeedCompact() const;
+
+ private:
+  Status CallPropertiesMethod(jmethodID mid,
+                              UserCollectedProperties* properties) const;
+
+  std::unique_ptr<const char[]> m_name;
+  jmethodID m_add_user_key_proxy_mid;
+  jmethodID m_finish_proxy_mid;
+  jmethodID m_readable_properties_proxy_mid;
+  jmethodID m_need_compact_mid;
+};
+
+class TablePropertiesCollectorFactoryJniCallback
+    : public JniCallback, public TablePropertiesCollectorFactory {
+ public:
+  TablePropertiesCollectorFactoryJniCallback(JNIEnv* env, jobject jfactory);
+  virtual TablePropertiesCollector* CreateTablePropertiesCollector(
+      TablePropertiesCollectorFactory::Context context);
+  virtual const char* Name() const;
+
+ private:
+  std::unique_ptr<const char[]> m_name;
+  jmethodID m_create_table_properties_collector_mid;
+};
+
+}  // namespace rocksdb
+
+#endif  // JAVA_ROCKSJNI_TABLE_PROPERTIES_COLLECTOR_JNICALLBACK_H_
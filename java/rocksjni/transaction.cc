@@ -7,6 +7,8 @@
 // for rocksdb::Transaction.
 
 #include <jni.h>
+#include <algorithm>
+#include <cstring>
 #include <functional>
 
 #include "include/org_rocksdb_Transaction.h"
@@ -499,6 +501,161 @@ jobjectArray Java_org_rocksdb_Transaction_multiGetForUpdate__JJ_3_3B(
                               jread_options_handle, jkey_parts);
 }
 
+// used by Transaction#multiGetForUpdate with direct ByteBuffers below
+static bool txn_direct_buffers_helper(JNIEnv* env, jobjectArray jbuffers,
+                                      jintArray joffsets, jintArray jlengths,
+                                      std::vector<rocksdb::Slice>* slices) {
+  const jsize len = env->GetArrayLength(jbuffers);
+  jint* offsets = env->GetIntArrayElements(joffsets, nullptr);
+  if (offsets == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return false;
+  }
+  jint* lengths = env->GetIntArrayElements(jlengths, nullptr);
+  if (lengths == nullptr) {
+    // exception thrown: OutOfMemoryError
+    env->ReleaseIntArrayElements(joffsets, offsets, JNI_ABORT);
+    return false;
+  }
+
+  bool ok = true;
+  slices->reserve(len);
+  for (jsize i = 0; i < len; i++) {
+    jobject jbuffer = env->GetObjectArrayElement(jbuffers, i);
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      ok = false;
+      break;
+    }
+    char* data = static_cast<char*>(env->GetDirectBufferAddress(jbuffer));
+    env->DeleteLocalRef(jbuffer);
+    if (data == nullptr) {
+      rocksdb::IllegalArgumentExceptionJni::ThrowNew(
+          env, rocksdb::Status::InvalidArgument(
+                   "Invalid ByteBuffer, must be a direct buffer"));
+      ok = false;
+      break;
+    }
+    slices->emplace_back(data + offsets[i], static_cast<size_t>(lengths[i]));
+  }
+
+  env->ReleaseIntArrayElements(jlengths, lengths, JNI_ABORT);
+  env->ReleaseIntArrayElements(joffsets, offsets, JNI_ABORT);
+  return ok;
+}
+
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    multiGetForUpdate
+ * Signature: (JJ[J[Ljava/nio/ByteBuffer;[I[I[Ljava/nio/ByteBuffer;[I[I[I)[Lorg/rocksdb/Status;
+ */
+jobjectArray
+Java_org_rocksdb_Transaction_multiGetForUpdate__JJ_3J_3Ljava_nio_ByteBuffer_2_3I_3I_3Ljava_nio_ByteBuffer_2_3I_3I_3I(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle, jlong jread_options_handle,
+    jlongArray jcolumn_family_handles, jobjectArray jkeys,
+    jintArray jkey_offsets, jintArray jkey_lengths, jobjectArray jvalues,
+    jintArray jvalue_offsets, jintArray jvalue_lengths,
+    jintArray jvalue_sizes) {
+  bool has_exception = false;
+  const std::vector<rocksdb::ColumnFamilyHandle*> column_family_handles =
+      txn_column_families_helper(env, jcolumn_family_handles, &has_exception);
+  if (has_exception) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+
+  std::vector<rocksdb::Slice> keys;
+  if (!txn_direct_buffers_helper(env, jkeys, jkey_offsets, jkey_lengths,
+                                 &keys)) {
+    // exception thrown
+    return nullptr;
+  }
+  std::vector<rocksdb::Slice> value_buffers;
+  if (!txn_direct_buffers_helper(env, jvalues, jvalue_offsets, jvalue_lengths,
+                                 &value_buffers)) {
+    // exception thrown
+    return nullptr;
+  }
+  const size_t num_keys = keys.size();
+
+  // Lock the keys in a well defined order, by column family and then by key,
+  // so that concurrent transactions which lock overlapping keys cannot
+  // deadlock each other
+  std::vector<size_t> order(num_keys);
+  for (size_t i = 0; i < num_keys; i++) {
+    order[i] = i;
+  }
+  std::stable_sort(
+      order.begin(), order.end(), [&](const size_t a, const size_t b) {
+        const uint32_t cf_a = column_family_handles[a]->GetID();
+        const uint32_t cf_b = column_family_handles[b]->GetID();
+        if (cf_a != cf_b) {
+          return cf_a < cf_b;
+        }
+        return column_family_handles[a]->GetComparator()->Compare(
+                   keys[a], keys[b]) < 0;
+      });
+  std::vector<rocksdb::ColumnFamilyHandle*> sorted_column_family_handles;
+  std::vector<rocksdb::Slice> sorted_keys;
+  sorted_column_family_handles.reserve(num_keys);
+  sorted_keys.reserve(num_keys);
+  for (const size_t i : order) {
+    sorted_column_family_handles.push_back(column_family_handles[i]);
+    sorted_keys.push_back(keys[i]);
+  }
+
+  auto* txn = reinterpret_cast<rocksdb::Transaction*>(jhandle);
+  auto* read_options =
+      reinterpret_cast<rocksdb::ReadOptions*>(jread_options_handle);
+  std::vector<std::string> values;
+  const std::vector<rocksdb::Status> statuses = txn->MultiGetForUpdate(
+      *read_options, sorted_column_family_handles, sorted_keys, &values);
+
+  const jsize jnum_keys = static_cast<jsize>(num_keys);
+  jobjectArray jstatuses = env->NewObjectArray(
+      jnum_keys, rocksdb::StatusJni::getJClass(env), nullptr);
+  if (jstatuses == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+  std::vector<jint> value_sizes(num_keys, 0);
+  for (size_t sorted_idx = 0; sorted_idx < num_keys; sorted_idx++) {
+    const size_t i = order[sorted_idx];
+    const rocksdb::Status& s = statuses[sorted_idx];
+    if (s.ok()) {
+      const std::string& value = values[sorted_idx];
+      // copy as much of the value as fits into the caller supplied buffer
+      const size_t copy_len = std::min(value.size(), value_buffers[i].size());
+      memcpy(const_cast<char*>(value_buffers[i].data()), value.data(),
+             copy_len);
+      value_sizes[i] = static_cast<jint>(value.size());
+    }
+
+    jobject jstatus = rocksdb::StatusJni::construct(env, s);
+    if (jstatus == nullptr) {
+      // exception thrown: OutOfMemoryError
+      env->DeleteLocalRef(jstatuses);
+      return nullptr;
+    }
+    env->SetObjectArrayElement(jstatuses, static_cast<jsize>(i), jstatus);
+    env->DeleteLocalRef(jstatus);
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      env->DeleteLocalRef(jstatuses);
+      return nullptr;
+    }
+  }
+
+  env->SetIntArrayRegion(jvalue_sizes, 0, jnum_keys, value_sizes.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    env->DeleteLocalRef(jstatuses);
+    return nullptr;
+  }
+
+  return jstatuses;
+}
+
 /*
  * Class:     org_rocksdb_Transaction
  * Method:    getIterator
@@ -146,6 +146,76 @@ void Java_org_rocksdb_TransactionDBOptions_setWritePolicy(JNIEnv* /*env*/,
       rocksdb::TxnDBWritePolicyJni::toCppTxnDBWritePolicy(jwrite_policy);
 }
 
+/*
+ * Class:     org_rocksdb_TransactionDBOptions
+ * Method:    getDefaultWriteBatchFlushThreshold
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_TransactionDBOptions_getDefaultWriteBatchFlushThreshold(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionDBOptions*>(jhandle);
+  return static_cast<jlong>(opts->default_write_batch_flush_threshold);
+}
+
+/*
+ * Class:     org_rocksdb_TransactionDBOptions
+ * Method:    setDefaultWriteBatchFlushThreshold
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_TransactionDBOptions_setDefaultWriteBatchFlushThreshold(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle,
+    jlong jdefault_write_batch_flush_threshold) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionDBOptions*>(jhandle);
+  opts->default_write_batch_flush_threshold =
+      static_cast<int64_t>(jdefault_write_batch_flush_threshold);
+}
+
+/*
+ * Class:     org_rocksdb_TransactionDBOptions
+ * Method:    getSnapshotCacheBits
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_TransactionDBOptions_getSnapshotCacheBits(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionDBOptions*>(jhandle);
+  return static_cast<jlong>(opts->wp_snapshot_cache_bits);
+}
+
+/*
+ * Class:     org_rocksdb_TransactionDBOptions
+ * Method:    setSnapshotCacheBits
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_TransactionDBOptions_setSnapshotCacheBits(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle,
+    jlong jsnapshot_cache_bits) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionDBOptions*>(jhandle);
+  opts->wp_snapshot_cache_bits = static_cast<size_t>(jsnapshot_cache_bits);
+}
+
+/*
+ * Class:     org_rocksdb_TransactionDBOptions
+ * Method:    getCommitCacheBits
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_TransactionDBOptions_getCommitCacheBits(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionDBOptions*>(jhandle);
+  return static_cast<jlong>(opts->wp_commit_cache_bits);
+}
+
+/*
+ * Class:     org_rocksdb_TransactionDBOptions
+ * Method:    setCommitCacheBits
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_TransactionDBOptions_setCommitCacheBits(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle,
+    jlong jcommit_cache_bits) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionDBOptions*>(jhandle);
+  opts->wp_commit_cache_bits = static_cast<size_t>(jcommit_cache_bits);
+}
+
 /*
  * Class:     org_rocksdb_TransactionDBOptions
  * Method:    disposeInternal
@@ -167,6 +167,30 @@ void Java_org_rocksdb_TransactionOptions_setMaxWriteBatchSize(
   opts->max_write_batch_size = jmax_write_batch_size;
 }
 
+/*
+ * Class:     org_rocksdb_TransactionOptions
+ * Method:    getWriteBatchFlushThreshold
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_TransactionOptions_getWriteBatchFlushThreshold(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionOptions*>(jhandle);
+  return static_cast<jlong>(opts->write_batch_flush_threshold);
+}
+
+/*
+ * Class:     org_rocksdb_TransactionOptions
+ * Method:    setWriteBatchFlushThreshold
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_TransactionOptions_setWriteBatchFlushThreshold(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle,
+    jlong jwrite_batch_flush_threshold) {
+  auto* opts = reinterpret_cast<rocksdb::TransactionOptions*>(jhandle);
+  opts->write_batch_flush_threshold =
+      static_cast<int64_t>(jwrite_batch_flush_threshold);
+}
+
 /*
  * Class:     org_rocksdb_TransactionOptions
  * Method:    disposeInternal
@@ -24,6 +24,66 @@ jlong Java_org_rocksdb_WriteBufferManager_newWriteBufferManager(
     return reinterpret_cast<jlong>(write_buffer_manager);
 }
 
+/*
+ * Class:     org_rocksdb_WriteBufferManager
+ * Method:    memoryUsage
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_WriteBufferManager_memoryUsage(
+        JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+    auto* write_buffer_manager =
+            reinterpret_cast<std::shared_ptr<rocksdb::WriteBufferManager> *>(jhandle);
+    return static_cast<jlong>((*write_buffer_manager)->memory_usage());
+}
+
+/*
+ * Class:     org_rocksdb_WriteBufferManager
+ * Method:    mutableMemtableMemoryUsage
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_WriteBufferManager_mutableMemtableMemoryUsage(
+        JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+    auto* write_buffer_manager =
+            reinterpret_cast<std::shared_ptr<rocksdb::WriteBufferManager> *>(jhandle);
+    return static_cast<jlong>((*write_buffer_manager)->mutable_memtable_memory_usage());
+}
+
+/*
+ * Class:     org_rocksdb_WriteBufferManager
+ * Method:    bufferSize
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_WriteBufferManager_bufferSize(
+        JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+    auto* write_buffer_manager =
+            reinterpret_cast<std::shared_ptr<rocksdb::WriteBufferManager> *>(jhandle);
+    return static_cast<jlong>((*write_buffer_manager)->buffer_size());
+}
+
+/*
+ * Class:     org_rocksdb_WriteBufferManager
+ * Method:    setBufferSize
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_WriteBufferManager_setBufferSize(
+        JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle, jlong jbuffer_size) {
+    auto* write_buffer_manager =
+            reinterpret_cast<std::shared_ptr<rocksdb::WriteBufferManager> *>(jhandle);
+    (*write_buffer_manager)->SetBufferSize(static_cast<size_t>(jbuffer_size));
+}
+
+/*
+ * Class:     org_rocksdb_WriteBufferManager
+ * Method:    shouldFlush
+ * Signature: (J)Z
+ */
+jboolean Java_org_rocksdb_WriteBufferManager_shouldFlush(
+        JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+    auto* write_buffer_manager =
+            reinterpret_cast<std::shared_ptr<rocksdb::WriteBufferManager> *>(jhandle);
+    return static_cast<jboolean>((*write_buffer_manager)->ShouldFlush());
+}
+
 /*
  * Class:     org_rocksdb_WriteBufferManager
  * Method:    disposeInternal
@@ -0,0 +1,31 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A block cipher which implements AES with a 128 or 256 bit key.
+ *
+ * <p>The cipher is implemented natively using the AES-NI instructions
+ * of the CPU, so that the encryption of the files of an
+ * {@link EncryptedEnv} adds little overhead to their I/O.</p>
+ */
+public class AESBlockCipher extends BlockCipher {
+
+  /**
+   * Create a new AES block cipher.
+   *
+   * @param key the key, 16 bytes for AES-128, or 32 bytes for AES-256.
+   *
+   * @throws RocksDBException if the key is of an invalid length, or if the
+   *     AES-NI instructions are not supported by the CPU.
+   */
+  public AESBlockCipher(final byte[] key) throws RocksDBException {
+    super(newAESBlockCipher(key));
+  }
+
+  private native static long newAESBlockCipher(final byte[] key)
+      throws RocksDBException;
+}
@@ -0,0 +1,45 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Receives progress notifications whilst a backup is being created by
+ * {@link BackupEngine#createNewBackup(RocksDB, boolean,
+ * AbstractBackupProgressCallback)}.
+ *
+ * {@link #onProgress()} is called each time another
+ * {@link BackupableDBOptions#callbackTriggerIntervalSize()} bytes of a file
+ * have been copied. As the files are copied by
+ * {@link BackupableDBOptions#maxBackgroundOperations()} threads of the
+ * BackupEngine, the callback may be called concurrently, and should return
+ * quickly so as to not slow down the backup.
+ *
+ * Timing and throughput of the copy of each file are reported to the
+ * {@link BackupableDBOptions#infoLog()}.
+ */
+public abstract class AbstractBackupProgressCallback
+    extends RocksCallbackObject {
+
+  protected AbstractBackupProgressCallback() {
+    super();
+  }
+
+  @Override
+  protected long initializeNative(final long... nativeParameterHandles) {
+    return createNewBackupProgressCallback();
+  }
+
+  /**
+   * Called each time another
+   * {@link BackupableDBOptions#callbackTriggerIntervalSize()} bytes of a
+   * file have been copied to the backup.
+   *
+   * Any exception thrown is printed to stderr and otherwise ignored.
+   */
+  public abstract void onProgress();
+
+  private native long createNewBackupProgressCallback();
+}
@@ -0,0 +1,71 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A cache whose admission policy is implemented in Java.
+ *
+ * <p>All operations are passed through to the wrapped {@link Cache}, e.g.
+ * an {@link LRUCache}, which stores the entries and evicts them. New
+ * entries are only inserted into the wrapped cache when
+ * {@link #admit(ByteBuffer, long)} accepts them; an entry which is not
+ * admitted is used by the read which loaded it and is then discarded,
+ * without evicting anything from the wrapped cache. This allows scan
+ * resistant policies, for example TinyLFU style admission, which only
+ * admits blocks that have been looked up frequently.</p>
+ *
+ * <p>Entries inserted with a high priority, i.e. index and filter blocks,
+ * are always admitted.</p>
+ *
+ * <p>The callbacks are invoked from the native threads which read from the
+ * cache, so they must be thread-safe, and they should be cheap as they are
+ * on the read path. See {@link FrequencyAdmissionCache} for a native
+ * implementation of frequency based admission.</p>
+ */
+public abstract class AbstractCache extends Cache {
+
+  /**
+   * @param cache the cache which stores the admitted entries.
+   * @param notifyLookups true if {@link #onLookup(ByteBuffer, boolean)}
+   *     should be called for each lookup, false if only
+   *     {@link #admit(ByteBuffer, long)} is called.
+   */
+  protected AbstractCache(final Cache cache, final boolean notifyLookups) {
+    super(newCacheHandle());
+    initializeNative(nativeHandle_, cache.nativeHandle_, notifyLookups);
+  }
+
+  /**
+   * Called after each lookup of the cache, if enabled when
+   * constructing the cache.
+   *
+   * @param key the key of the entry, the buffer is only valid for the
+   *     duration of the call.
+   * @param hit true if the entry was found in the cache.
+   */
+  public void onLookup(final ByteBuffer key, final boolean hit) {
+    // no-op
+  }
+
+  /**
+   * Decides whether a new entry is inserted into the cache.
+   *
+   * @param key the key of the entry, the buffer is only valid for the
+   *     duration of the call.
+   * @param charge the charge of the entry against the capacity of
+   *     the cache.
+   *
+   * @return true to insert the entry into the cache, false otherwise.
+   */
+  public abstract boolean admit(final ByteBuffer key, final long charge);
+
+  private native static long newCacheHandle();
+  private native void initializeNative(final long handle,
+      final long cacheHandle, final boolean notifyLookups);
+  @Override protected final native void disposeInternal(final long handle);
+}
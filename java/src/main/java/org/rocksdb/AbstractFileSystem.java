@@ -0,0 +1,182 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Base class for file systems implemented in Java, which may store some
+ * of the files of a database elsewhere than on the local file system,
+ * for example SST files in an object store.
+ *
+ * Each of the methods is called before the operation is performed on the
+ * default file system, and may either perform the operation itself or
+ * leave it to the default file system, e.g. by returning null from
+ * {@link #newRandomAccessFile(String)}. The files which are left to the
+ * default file system are read and written natively, without calling
+ * into Java.
+ *
+ * The database renames some of the files it writes, e.g. the temporary
+ * files which become the CURRENT and OPTIONS files, and checkpoints hard
+ * link the SST files, through {@link #renameFile(String, String)} and
+ * {@link #linkFile(String, String)}, which must move or share the files
+ * of this file system. A WAL file of this file system which is recycled,
+ * see {@link DBOptions#setRecycleLogFileNum(long)}, is renamed and then
+ * created again. The files of this file system cannot be reopened for
+ * appending.
+ *
+ * A file system is used by a database through a {@link CompositeEnv}.
+ * The methods may be called concurrently from multiple threads.
+ */
+public abstract class AbstractFileSystem extends RocksObject {
+
+  protected AbstractFileSystem() {
+    super(newFileSystemHandle());
+    initializeNative(nativeHandle_);
+  }
+
+  /**
+   * Open a file for reading sequentially, e.g. a WAL or MANIFEST file.
+   *
+   * @param fname the name of the file.
+   *
+   * @return the file, or null to open the file with the default file
+   *     system.
+   *
+   * @throws RocksDBException if the file cannot be opened.
+   */
+  public FSSequentialFile newSequentialFile(final String fname)
+      throws RocksDBException {
+    return null;
+  }
+
+  /**
+   * Open a file for reading at random offsets, e.g. an SST file.
+   *
+   * @param fname the name of the file.
+   *
+   * @return the file, or null to open the file with the default file
+   *     system.
+   *
+   * @throws RocksDBException if the file cannot be opened.
+   */
+  public FSRandomAccessFile newRandomAccessFile(final String fname)
+      throws RocksDBException {
+    return null;
+  }
+
+  /**
+   * Create a file for writing, replacing any existing file with the
+   * same name.
+   *
+   * @param fname the name of the file.
+   *
+   * @return the file, or null to create the file with the default file
+   *     system.
+   *
+   * @throws RocksDBException if the file cannot be created.
+   */
+  public FSWritableFile newWritableFile(final String fname)
+      throws RocksDBException {
+    return null;
+  }
+
+  /**
+   * Check whether a file is stored by this file system.
+   *
+   * @param fname the name of the file.
+   *
+   * @return true if the file exists in this file system, false to check
+   *     the default file system.
+   *
+   * @throws RocksDBException if the existence cannot be determined.
+   */
+  public boolean fileExists(final String fname) throws RocksDBException {
+    return false;
+  }
+
+  /**
+   * Get the size of a file stored by this file system.
+   *
+   * @param fname the name of the file.
+   *
+   * @return the size of the file in bytes, or -1 to get the size from
+   *     the default file system.
+   *
+   * @throws RocksDBException if the size cannot be determined.
+   */
+  public long getFileSize(final String fname) throws RocksDBException {
+    return -1;
+  }
+
+  /**
+   * Delete a file stored by this file system.
+   *
+   * @param fname the name of the file.
+   *
+   * @return true if the file was deleted, false to delete the file from
+   *     the default file system.
+   *
+   * @throws RocksDBException if the file cannot be deleted.
+   */
+  public boolean deleteFile(final String fname) throws RocksDBException {
+    return false;
+  }
+
+  /**
+   * Rename a file stored by this file system, replacing any file with the
+   * target name.
+   *
+   * @param src the name of the file.
+   * @param target the new name of the file.
+   *
+   * @return true if the file was renamed, false to rename the file in the
+   *     default file system.
+   *
+   * @throws RocksDBException if the file cannot be renamed.
+   */
+  public boolean renameFile(final String src, final String target)
+      throws RocksDBException {
+    return false;
+  }
+
+  /**
+   * Hard link a file stored by this file system, so that its content is
+   * also found under the target name, until either is deleted.
+   *
+   * @param src the name of the file.
+   * @param target the name of the link.
+   *
+   * @return true if the file was linked, false to link the file in the
+   *     default file system.
+   *
+   * @throws RocksDBException if the file cannot be linked, with the
+   *     NotSupported status to make e.g. checkpoints copy the file
+   *     instead.
+   */
+  public boolean linkFile(final String src, final String target)
+      throws RocksDBException {
+    return false;
+  }
+
+  /**
+   * Get the names of the files stored by this file system in a directory,
+   * these are listed in addition to the files of the directory in the
+   * default file system.
+   *
+   * @param dir the path of the directory.
+   *
+   * @return the names of the files, relative to the directory, or null
+   *     if there are none.
+   *
+   * @throws RocksDBException if the files cannot be listed.
+   */
+  public String[] getChildren(final String dir) throws RocksDBException {
+    return null;
+  }
+
+  private native static long newFileSystemHandle();
+  private native void initializeNative(final long handle);
+  @Override protected final native void disposeInternal(final long handle);
+}
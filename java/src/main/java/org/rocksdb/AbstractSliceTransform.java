@@ -0,0 +1,76 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base class for slice transforms which are implemented in Java.
+ *
+ * A slice transform implemented in Java is restricted to extracting
+ * a prefix of the key, i.e. {@link #transform(ByteBuffer)} returns the
+ * length of the prefix rather than a new key.
+ *
+ * Note that the prefix extractor is invoked for every key which is written,
+ * and for every point lookup and seek, so a callback into Java is
+ * considerably more expensive than using one of the native
+ * {@link SliceTransform} implementations, which should be preferred
+ * where possible.
+ *
+ * The ByteBuffers passed to the methods of this class are direct
+ * buffers which refer to memory owned by RocksDB. They are only valid
+ * for the duration of the call and must not be modified.
+ *
+ * As with comparators, an instance of this class must not be closed
+ * until all RocksDB instances which use it have been closed.
+ */
+public abstract class AbstractSliceTransform extends RocksCallbackObject {
+
+  protected AbstractSliceTransform() {
+    super();
+  }
+
+  @Override
+  protected long initializeNative(final long... nativeParameterHandles) {
+    return createNewSliceTransform();
+  }
+
+  /**
+   * The name of the slice transform.
+   *
+   * Names starting with "rocksdb." are reserved and should not be used.
+   *
+   * @return The name of this slice transform implementation
+   */
+  public abstract String name();
+
+  /**
+   * Extract the prefix from a key. This is only called for
+   * keys where {@link #inDomain(ByteBuffer)} returned true.
+   *
+   * @param key the key.
+   *
+   * @return the length of the prefix of the key, which must not be
+   *     negative or greater than the length of the key. As the error cannot
+   *     be reported to RocksDB's caller, an invalid length is printed out
+   *     as an {@link IllegalArgumentException} and makes the whole key the
+   *     prefix, so that the prefix bloom filters may give wrong results.
+   */
+  public abstract int transform(final ByteBuffer key);
+
+  /**
+   * Determine whether the specified key is compatible with the logic
+   * specified in {@link #transform(ByteBuffer)}. If this method returns
+   * false then the key is not added to any prefix bloom filter.
+   *
+   * @param key the key.
+   *
+   * @return true if a prefix can be extracted from the key.
+   */
+  public abstract boolean inDomain(final ByteBuffer key);
+
+  private native long createNewSliceTransform();
+}
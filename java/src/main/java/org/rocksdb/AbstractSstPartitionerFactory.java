@@ -0,0 +1,83 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Base class for SST partitioners implemented in Java, which decide at
+ * which keys the output SST files of a compaction are cut, in addition to
+ * the cuts made by file size.
+ *
+ * <p>The callbacks are invoked for every key written by a compaction, from
+ * the compaction threads, so implementations must be thread-safe and cheap.
+ * When partitioning by a fixed length key prefix, the native
+ * {@link SstPartitionerFixedPrefixFactory} should be preferred.</p>
+ *
+ * <p>Output files at level 0 are never cut.</p>
+ */
+public abstract class AbstractSstPartitionerFactory
+    extends RocksCallbackObject {
+
+  protected AbstractSstPartitionerFactory() {
+    super();
+  }
+
+  @Override
+  protected long initializeNative(final long... nativeParameterHandles) {
+    return createNewSstPartitionerFactory();
+  }
+
+  /**
+   * Called with the previous and the current key of the compaction output,
+   * decides whether the current key is written to a new SST file.
+   *
+   * @param previousKey the previous key written, it is always different to
+   *     the current key.
+   * @param currentKey the key about to be written.
+   * @param currentOutputFileSize the size of the current output file.
+   *
+   * @return true if a new file has to be started with the current key.
+   */
+  public abstract boolean shouldPartition(final byte[] previousKey,
+      final byte[] currentKey, final long currentOutputFileSize);
+
+  /**
+   * Called with the key range of an SST file, decides whether the file may
+   * be moved to the next level without being rewritten.
+   *
+   * This is called while the DB mutex is held, so it must return quickly,
+   * must not block, and must not call back into the database.
+   *
+   * @param smallestKey the smallest key of the file.
+   * @param largestKey the largest key of the file.
+   *
+   * @return false if the file has to be rewritten, because it has to be
+   *     partitioned.
+   */
+  public abstract boolean canDoTrivialMove(final byte[] smallestKey,
+      final byte[] largestKey);
+
+  /**
+   * A name which identifies this partitioner factory.
+   *
+   * The name will be printed to the LOG file on start up for diagnosis
+   *
+   * @return name which identifies this partitioner factory.
+   */
+  public abstract String name();
+
+  /**
+   * We override {@link RocksCallbackObject#disposeInternal()}
+   * as disposing of a rocksdb::SstPartitionerFactory requires
+   * a slightly different approach as it is a std::shared_ptr
+   */
+  @Override
+  protected void disposeInternal() {
+    disposeInternal(nativeHandle_);
+  }
+
+  private native long createNewSstPartitionerFactory();
+  private native void disposeInternal(final long handle);
+}
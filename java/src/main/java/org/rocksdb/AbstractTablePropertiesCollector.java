@@ -0,0 +1,125 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Base class for table properties collectors which are implemented in Java.
+ *
+ * A collector is created for each SST file by
+ * {@link AbstractTablePropertiesCollectorFactory#createTablePropertiesCollector(
+ * int)}. Its methods are called sequentially whilst the SST file is built,
+ * and so do not need to be thread-safe.
+ *
+ * Note that {@link #addUserKey(ByteBuffer, ByteBuffer, EntryType, long, long)}
+ * is called from C++ for every entry which is written to the SST file, so
+ * its implementation should be kept as cheap as possible.
+ */
+public abstract class AbstractTablePropertiesCollector {
+
+  /**
+   * The name of the table properties collector, which is used for
+   * debugging purposes.
+   *
+   * @return the name of this table properties collector.
+   */
+  public abstract String name();
+
+  /**
+   * Called when a new entry is added to the SST file.
+   *
+   * The ByteBuffers are direct buffers which refer to memory owned by
+   * RocksDB. They are only valid for the duration of the call and must not
+   * be modified.
+   *
+   * @param key the user key.
+   * @param value the value.
+   * @param type the type of the entry.
+   * @param sequenceNumber the sequence number of the entry.
+   * @param fileSize the size of the SST file so far.
+   */
+  public abstract void addUserKey(final ByteBuffer key, final ByteBuffer value,
+      final EntryType type, final long sequenceNumber, final long fileSize);
+
+  /**
+   * Called when the SST file has been built and is ready for its
+   * properties to be written.
+   *
+   * The keys and values of the properties must not be null, otherwise
+   * none of the properties of this collector are written to the SST file.
+   *
+   * @return the properties collected for the SST file, which will be
+   *     returned by {@link TableProperties#getUserCollectedProperties()}.
+   */
+  public abstract Map<String, String> finish();
+
+  /**
+   * The collected properties in a human-readable form, which
+   * is used for logging.
+   *
+   * @return the human-readable properties, empty by default.
+   */
+  public Map<String, String> readableProperties() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Determines whether the SST file should be further compacted.
+   *
+   * @return true if the SST file should be compacted, false by default.
+   */
+  public boolean needCompact() {
+    return false;
+  }
+
+  /**
+   * Called from JNI, see table_properties_collector_jnicallback.cc
+   */
+  private void addUserKeyProxy(final ByteBuffer key, final ByteBuffer value,
+      final byte type, final long sequenceNumber, final long fileSize) {
+    addUserKey(key, value, EntryType.fromValue(type), sequenceNumber,
+        fileSize);
+  }
+
+  /**
+   * Called from JNI, see table_properties_collector_jnicallback.cc
+   *
+   * @return the keys and values of the properties interleaved.
+   */
+  private String[] finishProxy() {
+    return toArray(finish());
+  }
+
+  /**
+   * Called from JNI, see table_properties_collector_jnicallback.cc
+   *
+   * @return the keys and values of the properties interleaved.
+   */
+  private String[] readablePropertiesProxy() {
+    return toArray(readableProperties());
+  }
+
+  private static String[] toArray(final Map<String, String> properties) {
+    if (properties == null) {
+      return new String[0];
+    }
+    final String[] keysAndValues = new String[properties.size() * 2];
+    int i = 0;
+    for (final Map.Entry<String, String> property : properties.entrySet()) {
+      // the properties cannot be copied to C++ with a null key or value
+      if (property.getKey() == null || property.getValue() == null) {
+        throw new NullPointerException(
+            "Table property with a null key or value: " + property);
+      }
+      keysAndValues[i++] = property.getKey();
+      keysAndValues[i++] = property.getValue();
+    }
+    return keysAndValues;
+  }
+}
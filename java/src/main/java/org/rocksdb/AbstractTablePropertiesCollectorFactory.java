@@ -0,0 +1,49 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Base class for factories of table properties collectors which are
+ * implemented in Java.
+ *
+ * {@link #createTablePropertiesCollector(int)} may be called concurrently
+ * from several background threads, and so must be thread-safe.
+ *
+ * The underlying C++ factory holds a reference to this object for as long
+ * as it is in use by any options or RocksDB instances, so the factory may
+ * be closed once it has been set on the options.
+ */
+public abstract class AbstractTablePropertiesCollectorFactory
+    extends TablePropertiesCollectorFactory {
+
+  protected AbstractTablePropertiesCollectorFactory() {
+    super(newTablePropertiesCollectorFactory());
+    initializeNative(nativeHandle_);
+  }
+
+  /**
+   * The name of the table properties collector factory, which
+   * is used for debugging purposes.
+   *
+   * @return the name of this table properties collector factory.
+   */
+  public abstract String name();
+
+  /**
+   * Create a new table properties collector for an SST file.
+   *
+   * @param columnFamilyId the id of the column family to which the
+   *     SST file belongs.
+   *
+   * @return a new table properties collector, which will be used for only
+   *     one SST file.
+   */
+  public abstract AbstractTablePropertiesCollector
+      createTablePropertiesCollector(final int columnFamilyId);
+
+  private native static long newTablePropertiesCollectorFactory();
+  private native void initializeNative(final long handle);
+}
@@ -0,0 +1,142 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+package org.rocksdb;
+
+/**
+ * The config for the adaptive table format.
+ *
+ * <p>The adaptive table factory is able to read SST files which were written
+ * in any of the block based, plain or cuckoo table formats, choosing the
+ * reader by the magic number stored in each file. New SST files are written
+ * with the format configured by {@link #setTableFormatConfigToWrite(
+ * TableFormatConfig)}.</p>
+ *
+ * <p>This allows a column family to be migrated from one table format to
+ * another, e.g. switching a read-mostly column family to
+ * {@link CuckooTableConfig} whilst its existing files are still readable.</p>
+ *
+ * <p>For any of the formats which are not explicitly configured, a table
+ * factory with default options is used.</p>
+ */
+public class AdaptiveTableConfig extends TableFormatConfig {
+
+  public AdaptiveTableConfig() {
+    tableFormatConfigToWrite_ = null;
+    blockBasedTableConfig_ = null;
+    plainTableConfig_ = null;
+    cuckooTableConfig_ = null;
+  }
+
+  /**
+   * Set the table format used to write new SST files.
+   *
+   * <p>DEFAULT: null, i.e. the block based table format, as configured by
+   * {@link #setBlockBasedTableConfig(BlockBasedTableConfig)}</p>
+   *
+   * @param tableFormatConfigToWrite the table format to write.
+   * @return the reference to the current config.
+   */
+  public AdaptiveTableConfig setTableFormatConfigToWrite(
+      final TableFormatConfig tableFormatConfigToWrite) {
+    tableFormatConfigToWrite_ = tableFormatConfigToWrite;
+    return this;
+  }
+
+  /**
+   * @return the table format used to write new SST files, or null
+   *     if the block based table format is used.
+   */
+  public TableFormatConfig tableFormatConfigToWrite() {
+    return tableFormatConfigToWrite_;
+  }
+
+  /**
+   * Set the config used for reading block based table SST files.
+   *
+   * <p>DEFAULT: null, i.e. a default {@link BlockBasedTableConfig}</p>
+   *
+   * @param blockBasedTableConfig the block based table config.
+   * @return the reference to the current config.
+   */
+  public AdaptiveTableConfig setBlockBasedTableConfig(
+      final BlockBasedTableConfig blockBasedTableConfig) {
+    blockBasedTableConfig_ = blockBasedTableConfig;
+    return this;
+  }
+
+  /**
+   * @return the config used for reading block based table SST files.
+   */
+  public BlockBasedTableConfig blockBasedTableConfig() {
+    return blockBasedTableConfig_;
+  }
+
+  /**
+   * Set the config used for reading plain table SST files.
+   *
+   * <p>DEFAULT: null, i.e. a default {@link PlainTableConfig}</p>
+   *
+   * @param plainTableConfig the plain table config.
+   * @return the reference to the current config.
+   */
+  public AdaptiveTableConfig setPlainTableConfig(
+      final PlainTableConfig plainTableConfig) {
+    plainTableConfig_ = plainTableConfig;
+    return this;
+  }
+
+  /**
+   * @return the config used for reading plain table SST files.
+   */
+  public PlainTableConfig plainTableConfig() {
+    return plainTableConfig_;
+  }
+
+  /**
+   * Set the config used for reading cuckoo table SST files.
+   *
+   * <p>DEFAULT: null, i.e. a default {@link CuckooTableConfig}</p>
+   *
+   * @param cuckooTableConfig the cuckoo table config.
+   * @return the reference to the current config.
+   */
+  public AdaptiveTableConfig setCuckooTableConfig(
+      final CuckooTableConfig cuckooTableConfig) {
+    cuckooTableConfig_ = cuckooTableConfig;
+    return this;
+  }
+
+  /**
+   * @return the config used for reading cuckoo table SST files.
+   */
+  public CuckooTableConfig cuckooTableConfig() {
+    return cuckooTableConfig_;
+  }
+
+  @Override protected long newTableFactoryHandle() {
+    return newTableFactoryHandle(
+        tableFactoryHandle(tableFormatConfigToWrite_),
+        tableFactoryHandle(blockBasedTableConfig_),
+        tableFactoryHandle(plainTableConfig_),
+        tableFactoryHandle(cuckooTableConfig_));
+  }
+
+  private static long tableFactoryHandle(
+      final TableFormatConfig tableFormatConfig) {
+    if (tableFormatConfig == null) {
+      return 0;
+    }
+    return tableFormatConfig.newTableFactoryHandle();
+  }
+
+  private native long newTableFactoryHandle(
+      long tableFactoryToWriteHandle, long blockBasedTableFactoryHandle,
+      long plainTableFactoryHandle, long cuckooTableFactoryHandle);
+
+  private TableFormatConfig tableFormatConfigToWrite_;
+  private BlockBasedTableConfig blockBasedTableConfig_;
+  private PlainTableConfig plainTableConfig_;
+  private CuckooTableConfig cuckooTableConfig_;
+}
@@ -439,9 +439,22 @@ public interface AdvancedMutableColumnFamilyOptionsInterface<
    * process. This needs {@link MutableDBOptionsInterface#maxOpenFiles()} to be
    * set to -1.
    *
-   * Enabled only for level compaction for now.
-   *
-   * Default: 0 (disabled)
+   * In FIFO compaction, files older than TTL are deleted, which drops
+   * expired data without the I/O of compacting it, or of deleting it with
+   * range deletions. When the database is opened with FIFO compaction, the
+   * stricter of TTL and {@link #setPeriodicCompactionSeconds(long)} is used
+   * as TTL; a TTL changed through
+   * {@link RocksDB#setOptions(ColumnFamilyHandle, MutableColumnFamilyOptions)}
+   * is used as given.
+   *
+   * The number of files which are waiting to be compacted or deleted because
+   * of their TTL is reported by the property
+   * {@code rocksdb.num-files-pending-ttl-compaction}.
+   *
+   * Default: 0xfffffffffffffffe, i.e. 30 days for level compaction with
+   *     block based tables, the value of
+   *     {@link #setPeriodicCompactionSeconds(long)} (30 days by default) for
+   *     FIFO compaction with block based tables, disabled (0) otherwise
    *
    * Dynamically changeable through
    * {@link RocksDB#setOptions(ColumnFamilyHandle, MutableColumnFamilyOptions)}.
@@ -461,4 +474,48 @@ public interface AdvancedMutableColumnFamilyOptionsInterface<
    * @return the time-to-live.
    */
   long ttl();
+
+  /**
+   * Files older than this value will be picked up for compaction, and
+   * re-written to the same level as they were before. This needs
+   * {@link MutableDBOptionsInterface#maxOpenFiles()} to be set to -1.
+   *
+   * The age of a file is taken from its file_creation_time or creation_time
+   * table properties, or else from its modification time.
+   *
+   * Supported in level and FIFO compaction. FIFO compaction only uses this
+   * option when the database is opened, where the stricter of it and
+   * {@link #setTtl(long)} becomes the TTL; changing it later through
+   * {@link RocksDB#setOptions(ColumnFamilyHandle, MutableColumnFamilyOptions)}
+   * does not change the TTL.
+   *
+   * The number of files which are waiting to be compacted because of their
+   * age is reported by the property
+   * {@code rocksdb.num-files-pending-periodic-compaction}.
+   *
+   * Values:
+   * 0: Turn off periodic compactions.
+   * 0xfffffffffffffffe: Let RocksDB control this feature as needed, for now
+   *     every file is compacted at least every 30 days.
+   *
+   * Default: 0xfffffffffffffffe
+   *
+   * Dynamically changeable through
+   * {@link RocksDB#setOptions(ColumnFamilyHandle, MutableColumnFamilyOptions)}.
+   *
+   * @param periodicCompactionSeconds the age in seconds after which a file
+   *     is compacted.
+   *
+   * @return the reference to the current options.
+   */
+  T setPeriodicCompactionSeconds(final long periodicCompactionSeconds);
+
+  /**
+   * Get the age in seconds after which files are compacted.
+   *
+   * See {@link #setPeriodicCompactionSeconds(long)}.
+   *
+   * @return the age in seconds after which a file is compacted.
+   */
+  long periodicCompactionSeconds();
 }
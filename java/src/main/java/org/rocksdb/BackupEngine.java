@@ -84,6 +84,30 @@ public class BackupEngine extends RocksObject implements AutoCloseable {
     createNewBackup(nativeHandle_, db.nativeHandle_, flushBeforeBackup);
   }
 
+  /**
+   * Captures the state of the database in the latest backup, whilst
+   * reporting the progress of the copy.
+   *
+   * @param db The database to backup
+   * @param flushBeforeBackup When true, the Backup Engine will first issue a
+   *                          memtable flush and only then copy the DB files to
+   *                          the backup directory, see
+   *                          {@link #createNewBackup(RocksDB, boolean)}.
+   * @param progressCallback Called each time another
+   *     {@link BackupableDBOptions#callbackTriggerIntervalSize()} bytes
+   *     have been copied.
+   *
+   * Note - This method is not thread safe
+   *
+   * @throws RocksDBException thrown if a new backup could not be created
+   */
+  public void createNewBackup(final RocksDB db,
+      final boolean flushBeforeBackup,
+      final AbstractBackupProgressCallback progressCallback)
+      throws RocksDBException {
+    createNewBackupWithMetadata(db, "", flushBeforeBackup, progressCallback);
+  }
+
   /**
    * Captures the state of the database in the latest backup along with
    * application specific metadata.
@@ -116,6 +140,49 @@ public class BackupEngine extends RocksObject implements AutoCloseable {
     createNewBackupWithMetadata(nativeHandle_, db.nativeHandle_, metadata, flushBeforeBackup);
   }
 
+  /**
+   * Captures the state of the database in the latest backup along with
+   * application specific metadata, whilst reporting the progress of the
+   * copy.
+   *
+   * @param db The database to backup
+   * @param metadata Application metadata
+   * @param flushBeforeBackup When true, the Backup Engine will first issue a
+   *                          memtable flush and only then copy the DB files to
+   *                          the backup directory, see
+   *                          {@link #createNewBackup(RocksDB, boolean)}.
+   * @param progressCallback Called each time another
+   *     {@link BackupableDBOptions#callbackTriggerIntervalSize()} bytes
+   *     have been copied.
+   *
+   * Note - This method is not thread safe
+   *
+   * @throws RocksDBException thrown if a new backup could not be created
+   */
+  public void createNewBackupWithMetadata(final RocksDB db,
+      final String metadata, final boolean flushBeforeBackup,
+      final AbstractBackupProgressCallback progressCallback)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    createNewBackupWithProgressCallback(nativeHandle_, db.nativeHandle_,
+        metadata, flushBeforeBackup, progressCallback.nativeHandle_);
+  }
+
+  /**
+   * Stops a backup which is in progress, for example from
+   * {@link AbstractBackupProgressCallback#onProgress()}.
+   *
+   * The backup will stop as soon as possible and the call to
+   * {@link #createNewBackup(RocksDB)} will fail with
+   * {@link Status.Code#Incomplete}. The BackupEngine will not create any
+   * further backups; a new BackupEngine has to be opened, which will remove
+   * the files that were already copied.
+   */
+  public void stopBackup() {
+    assert (isOwningHandle());
+    stopBackup(nativeHandle_);
+  }
+
   /**
    * Gets information about the available
    * backups
@@ -139,6 +206,36 @@ public class BackupEngine extends RocksObject implements AutoCloseable {
     return getCorruptedBackups(nativeHandle_);
   }
 
+  /**
+   * Checks that each file of a backup exists, and that the size of each file
+   * matches the size recorded when the backup was created.
+   *
+   * @param backupId The id of the backup to verify
+   *
+   * @throws RocksDBException thrown if the backup is missing or corrupted
+   */
+  public void verifyBackup(final int backupId) throws RocksDBException {
+    verifyBackup(backupId, false);
+  }
+
+  /**
+   * Checks that each file of a backup exists, and that the size of each file
+   * matches the size recorded when the backup was created.
+   *
+   * @param backupId The id of the backup to verify
+   * @param verifyWithChecksum if true, each file is also read back and its
+   *     crc32c checksum compared with the checksum calculated when the backup
+   *     was created. This detects corruptions which do not change the size
+   *     of a file, but reads all of the data of the backup.
+   *
+   * @throws RocksDBException thrown if the backup is missing or corrupted
+   */
+  public void verifyBackup(final int backupId,
+      final boolean verifyWithChecksum) throws RocksDBException {
+    assert (isOwningHandle());
+    verifyBackup(nativeHandle_, backupId, verifyWithChecksum);
+  }
+
   /**
    * <p>Will delete all the files we don't need anymore. It will
    * do the full scan of the files/ directory and delete all the
@@ -235,8 +332,18 @@ public class BackupEngine extends RocksObject implements AutoCloseable {
   private native void createNewBackupWithMetadata(final long handle, final long dbHandle,
       final String metadata, final boolean flushBeforeBackup) throws RocksDBException;
 
+  private native void createNewBackupWithProgressCallback(final long handle,
+      final long dbHandle, final String metadata,
+      final boolean flushBeforeBackup, final long progressCallbackHandle)
+      throws RocksDBException;
+
+  private native void stopBackup(final long handle);
+
   private native List<BackupInfo> getBackupInfo(final long handle);
 
+  private native void verifyBackup(final long handle, final int backupId,
+      final boolean verifyWithChecksum) throws RocksDBException;
+
   private native int[] getCorruptedBackups(final long handle);
 
   private native void garbageCollect(final long handle) throws RocksDBException;
@@ -0,0 +1,134 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Database with key-value separation.
+ *
+ * <p>A BlobDB stores values which are at least
+ * {@link BlobDBOptions#minBlobSize()} bytes in size in separate blob files,
+ * and only keeps a small blob index in the LSM tree. Compactions therefore
+ * only have to rewrite the blob indexes, which greatly reduces write
+ * amplification when values are large.</p>
+ *
+ * <p>Values may also be written with a time-to-live by
+ * {@link #putWithTTL(WriteOptions, byte[], byte[], long)}; expired values
+ * are no longer returned by reads and are removed when their blob file
+ * is evicted.</p>
+ *
+ * <p>The activity of the BlobDB, including its garbage collection, can be
+ * monitored through the {@link Statistics} configured on the
+ * {@link Options} used to open the database, see for example
+ * {@link TickerType#BLOB_DB_WRITE_BLOB},
+ * {@link TickerType#BLOB_DB_GC_NUM_FILES},
+ * {@link TickerType#BLOB_DB_GC_NUM_NEW_FILES},
+ * {@link TickerType#BLOB_DB_GC_NUM_KEYS_RELOCATED} and
+ * {@link TickerType#BLOB_DB_GC_BYTES_RELOCATED}.</p>
+ *
+ * <p>Only the default column family is supported.</p>
+ */
+public class BlobDB extends RocksDB {
+
+  /**
+   * <p>Opens a BlobDB.</p>
+   *
+   * @param options {@link org.rocksdb.Options} instance.
+   * @param blobDBOptions {@link org.rocksdb.BlobDBOptions} instance.
+   * @param path path to database.
+   *
+   * @return BlobDB instance.
+   *
+   * @throws RocksDBException thrown if an error occurs within the native
+   *     part of the library.
+   */
+  public static BlobDB open(final Options options,
+      final BlobDBOptions blobDBOptions, final String path)
+      throws RocksDBException {
+    final BlobDB db = new BlobDB(open(options.nativeHandle_,
+        blobDBOptions.nativeHandle_, path));
+    db.storeOptionsInstance(options);
+    return db;
+  }
+
+  /**
+   * Set the database entry for "key" to "value", which expires after
+   * {@code ttl} seconds.
+   *
+   * @param writeOptions the options for the write.
+   * @param key the specified key to be inserted.
+   * @param value the value associated with the specified key.
+   * @param ttl the time-to-live of the entry in seconds.
+   *
+   * @throws RocksDBException thrown if an error occurs within the native
+   *     part of the library.
+   */
+  public void putWithTTL(final WriteOptions writeOptions, final byte[] key,
+      final byte[] value, final long ttl) throws RocksDBException {
+    putWithTTL(nativeHandle_, writeOptions.nativeHandle_, key, value, ttl);
+  }
+
+  /**
+   * Set the database entry for "key" to "value", which expires at the
+   * absolute time {@code expiration}.
+   *
+   * @param writeOptions the options for the write.
+   * @param key the specified key to be inserted.
+   * @param value the value associated with the specified key.
+   * @param expiration the expiration time, in seconds since the epoch.
+   *
+   * @throws RocksDBException thrown if an error occurs within the native
+   *     part of the library.
+   */
+  public void putUntil(final WriteOptions writeOptions, final byte[] key,
+      final byte[] value, final long expiration) throws RocksDBException {
+    putUntil(nativeHandle_, writeOptions.nativeHandle_, key, value,
+        expiration);
+  }
+
+  /**
+   * Get a copy of the options which the BlobDB was opened with.
+   *
+   * @return the BlobDB options.
+   */
+  public BlobDBOptions getBlobDBOptions() {
+    return new BlobDBOptions(getBlobDBOptions(nativeHandle_));
+  }
+
+  /**
+   * Sync the currently open blob files to storage.
+   *
+   * @throws RocksDBException thrown if an error occurs within the native
+   *     part of the library.
+   */
+  public void syncBlobFiles() throws RocksDBException {
+    syncBlobFiles(nativeHandle_);
+  }
+
+  /**
+   * <p>A protected constructor that will be used in the static
+   * factory method {@link #open(Options, BlobDBOptions, String)}.</p>
+   *
+   * @param nativeHandle The native handle of the C++ BlobDB object
+   */
+  protected BlobDB(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  @Override protected native void disposeInternal(final long handle);
+
+  private native static long open(final long optionsHandle,
+      final long blobDBOptionsHandle, final String path)
+      throws RocksDBException;
+  private native void putWithTTL(final long handle,
+      final long writeOptionsHandle, final byte[] key, final byte[] value,
+      final long ttl) throws RocksDBException;
+  private native void putUntil(final long handle,
+      final long writeOptionsHandle, final byte[] key, final byte[] value,
+      final long expiration) throws RocksDBException;
+  private native long getBlobDBOptions(final long handle);
+  private native void syncBlobFiles(final long handle)
+      throws RocksDBException;
+}
@@ -0,0 +1,390 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Options for a {@link BlobDB}.
+ *
+ * <p>A BlobDB separates large values from the LSM tree; values of at least
+ * {@link #minBlobSize()} bytes are appended to blob files and only a small
+ * blob index is stored in the SST files. This reduces the write
+ * amplification of compactions for workloads with large values.</p>
+ */
+public class BlobDBOptions extends RocksObject {
+
+  public BlobDBOptions() {
+    super(newBlobDBOptions());
+  }
+
+  BlobDBOptions(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  /**
+   * The name of the directory in which the blob files are stored.
+   * The path is relative to the database directory unless
+   * {@link #setPathRelative(boolean)} is set to false.
+   *
+   * Default: "blob_dir"
+   *
+   * @param blobDir the blob directory.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setBlobDir(final String blobDir) {
+    assert(isOwningHandle());
+    setBlobDir(nativeHandle_, blobDir);
+    return this;
+  }
+
+  /**
+   * The name of the directory in which the blob files are stored.
+   * The path is relative to the database directory unless
+   * {@link #setPathRelative(boolean)} is set to false.
+   *
+   * Default: "blob_dir"
+   *
+   * @return the blob directory.
+   */
+  public String blobDir() {
+    assert(isOwningHandle());
+    return blobDir(nativeHandle_);
+  }
+
+  /**
+   * Whether the path set by {@link #setBlobDir(String)} is relative to
+   * the database directory.
+   *
+   * Default: true
+   *
+   * @param pathRelative true if the blob directory is relative.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setPathRelative(final boolean pathRelative) {
+    assert(isOwningHandle());
+    setPathRelative(nativeHandle_, pathRelative);
+    return this;
+  }
+
+  /**
+   * Whether the path set by {@link #setBlobDir(String)} is relative to
+   * the database directory.
+   *
+   * Default: true
+   *
+   * @return true if the blob directory is relative.
+   */
+  public boolean pathRelative() {
+    assert(isOwningHandle());
+    return pathRelative(nativeHandle_);
+  }
+
+  /**
+   * When the {@link #maxDbSize()} is reached, evict blob files to free up
+   * space, from oldest to newest based on their creation time, instead of
+   * returning a NoSpace error on write.
+   *
+   * Default: false
+   *
+   * @param isFifo true if blob files are evicted in FIFO order.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setIsFifo(final boolean isFifo) {
+    assert(isOwningHandle());
+    setIsFifo(nativeHandle_, isFifo);
+    return this;
+  }
+
+  /**
+   * When the {@link #maxDbSize()} is reached, evict blob files to free up
+   * space, from oldest to newest based on their creation time, instead of
+   * returning a NoSpace error on write.
+   *
+   * Default: false
+   *
+   * @return true if blob files are evicted in FIFO order.
+   */
+  public boolean isFifo() {
+    assert(isOwningHandle());
+    return isFifo(nativeHandle_);
+  }
+
+  /**
+   * The maximum size of the database, including both the SST files and
+   * the blob files. 0 means no limit.
+   *
+   * Default: 0
+   *
+   * @param maxDbSize the maximum size of the database.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setMaxDbSize(final long maxDbSize) {
+    assert(isOwningHandle());
+    setMaxDbSize(nativeHandle_, maxDbSize);
+    return this;
+  }
+
+  /**
+   * The maximum size of the database, including both the SST files and
+   * the blob files. 0 means no limit.
+   *
+   * Default: 0
+   *
+   * @return the maximum size of the database.
+   */
+  public long maxDbSize() {
+    assert(isOwningHandle());
+    return maxDbSize(nativeHandle_);
+  }
+
+  /**
+   * The time range covered by each blob file for values written with a TTL.
+   * Values whose expiration falls in the same range are stored in the
+   * same blob file, which is dropped once all of them have expired.
+   *
+   * Default: 3600
+   *
+   * @param ttlRangeSecs the TTL range of a blob file in seconds.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setTtlRangeSecs(final long ttlRangeSecs) {
+    assert(isOwningHandle());
+    setTtlRangeSecs(nativeHandle_, ttlRangeSecs);
+    return this;
+  }
+
+  /**
+   * The time range covered by each blob file for values written with a TTL.
+   * Values whose expiration falls in the same range are stored in the
+   * same blob file, which is dropped once all of them have expired.
+   *
+   * Default: 3600
+   *
+   * @return the TTL range of a blob file in seconds.
+   */
+  public long ttlRangeSecs() {
+    assert(isOwningHandle());
+    return ttlRangeSecs(nativeHandle_);
+  }
+
+  /**
+   * The smallest value to store in a blob file. Values smaller than this
+   * threshold are inlined in the base DB together with the key.
+   *
+   * Default: 0
+   *
+   * @param minBlobSize the minimum size of a value stored in a blob file.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setMinBlobSize(final long minBlobSize) {
+    assert(isOwningHandle());
+    setMinBlobSize(nativeHandle_, minBlobSize);
+    return this;
+  }
+
+  /**
+   * The smallest value to store in a blob file. Values smaller than this
+   * threshold are inlined in the base DB together with the key.
+   *
+   * Default: 0
+   *
+   * @return the minimum size of a value stored in a blob file.
+   */
+  public long minBlobSize() {
+    assert(isOwningHandle());
+    return minBlobSize(nativeHandle_);
+  }
+
+  /**
+   * Allows the OS to incrementally sync blob files to disk for every
+   * {@code bytesPerSync} bytes written. Users should not rely on it for
+   * persistence.
+   *
+   * Default: 512KB
+   *
+   * @param bytesPerSync the number of bytes written between syncs.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setBytesPerSync(final long bytesPerSync) {
+    assert(isOwningHandle());
+    setBytesPerSync(nativeHandle_, bytesPerSync);
+    return this;
+  }
+
+  /**
+   * Allows the OS to incrementally sync blob files to disk for every
+   * {@code bytesPerSync} bytes written. Users should not rely on it for
+   * persistence.
+   *
+   * Default: 512KB
+   *
+   * @return the number of bytes written between syncs.
+   */
+  public long bytesPerSync() {
+    assert(isOwningHandle());
+    return bytesPerSync(nativeHandle_);
+  }
+
+  /**
+   * The target size of each blob file. A blob file becomes immutable once
+   * it exceeds this size.
+   *
+   * Default: 256MB
+   *
+   * @param blobFileSize the target size of a blob file.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setBlobFileSize(final long blobFileSize) {
+    assert(isOwningHandle());
+    setBlobFileSize(nativeHandle_, blobFileSize);
+    return this;
+  }
+
+  /**
+   * The target size of each blob file. A blob file becomes immutable once
+   * it exceeds this size.
+   *
+   * Default: 256MB
+   *
+   * @return the target size of a blob file.
+   */
+  public long blobFileSize() {
+    assert(isOwningHandle());
+    return blobFileSize(nativeHandle_);
+  }
+
+  /**
+   * The compression to use for blobs.
+   *
+   * Default: {@link CompressionType#NO_COMPRESSION}
+   *
+   * @param compressionType the compression type.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setCompressionType(
+      final CompressionType compressionType) {
+    assert(isOwningHandle());
+    setCompressionType(nativeHandle_, compressionType.getValue());
+    return this;
+  }
+
+  /**
+   * The compression to use for blobs.
+   *
+   * Default: {@link CompressionType#NO_COMPRESSION}
+   *
+   * @return the compression type.
+   */
+  public CompressionType compressionType() {
+    assert(isOwningHandle());
+    return CompressionType.getCompressionType(compressionType(nativeHandle_));
+  }
+
+  /**
+   * If enabled, stale blobs in non-TTL blob files are cleaned up during
+   * compaction, by rewriting the remaining live blobs to new files.
+   *
+   * Default: false
+   *
+   * @param enableGarbageCollection true if garbage collection is enabled.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setEnableGarbageCollection(
+      final boolean enableGarbageCollection) {
+    assert(isOwningHandle());
+    setEnableGarbageCollection(nativeHandle_, enableGarbageCollection);
+    return this;
+  }
+
+  /**
+   * If enabled, stale blobs in non-TTL blob files are cleaned up during
+   * compaction, by rewriting the remaining live blobs to new files.
+   *
+   * Default: false
+   *
+   * @return true if garbage collection is enabled.
+   */
+  public boolean enableGarbageCollection() {
+    assert(isOwningHandle());
+    return enableGarbageCollection(nativeHandle_);
+  }
+
+  /**
+   * The cutoff in terms of blob file age for garbage collection. Blobs in
+   * the oldest N non-TTL blob files are rewritten when they are encountered
+   * during compaction, where N = garbageCollectionCutoff * the number of
+   * non-TTL blob files.
+   *
+   * Default: 0.25
+   *
+   * @param garbageCollectionCutoff the garbage collection cutoff.
+   *
+   * @return the reference to the current options.
+   */
+  public BlobDBOptions setGarbageCollectionCutoff(
+      final double garbageCollectionCutoff) {
+    assert(isOwningHandle());
+    setGarbageCollectionCutoff(nativeHandle_, garbageCollectionCutoff);
+    return this;
+  }
+
+  /**
+   * The cutoff in terms of blob file age for garbage collection. Blobs in
+   * the oldest N non-TTL blob files are rewritten when they are encountered
+   * during compaction, where N = garbageCollectionCutoff * the number of
+   * non-TTL blob files.
+   *
+   * Default: 0.25
+   *
+   * @return the garbage collection cutoff.
+   */
+  public double garbageCollectionCutoff() {
+    assert(isOwningHandle());
+    return garbageCollectionCutoff(nativeHandle_);
+  }
+
+  @Override protected final native void disposeInternal(final long handle);
+
+  private native static long newBlobDBOptions();
+  private native void setBlobDir(final long handle, final String blobDir);
+  private native String blobDir(final long handle);
+  private native void setPathRelative(final long handle,
+      final boolean pathRelative);
+  private native boolean pathRelative(final long handle);
+  private native void setIsFifo(final long handle, final boolean isFifo);
+  private native boolean isFifo(final long handle);
+  private native void setMaxDbSize(final long handle, final long maxDbSize);
+  private native long maxDbSize(final long handle);
+  private native void setTtlRangeSecs(final long handle,
+      final long ttlRangeSecs);
+  private native long ttlRangeSecs(final long handle);
+  private native void setMinBlobSize(final long handle, final long minBlobSize);
+  private native long minBlobSize(final long handle);
+  private native void setBytesPerSync(final long handle,
+      final long bytesPerSync);
+  private native long bytesPerSync(final long handle);
+  private native void setBlobFileSize(final long handle,
+      final long blobFileSize);
+  private native long blobFileSize(final long handle);
+  private native void setCompressionType(final long handle,
+      final byte compressionType);
+  private native byte compressionType(final long handle);
+  private native void setEnableGarbageCollection(final long handle,
+      final boolean enableGarbageCollection);
+  private native boolean enableGarbageCollection(final long handle);
+  private native void setGarbageCollectionCutoff(final long handle,
+      final double garbageCollectionCutoff);
+  private native double garbageCollectionCutoff(final long handle);
+}
@@ -626,7 +626,7 @@ public class BlockBasedTableConfig extends TableFormatConfig {
   }
 
   /**
-   * <p>We currently have five versions:</p>
+   * <p>We currently have six versions:</p>
    *
    * <ul>
    * <li><strong>0</strong> - This version is currently written
@@ -649,6 +649,10 @@ public class BlockBasedTableConfig extends TableFormatConfig {
    * encode the values in index blocks. If you don't plan to run RocksDB before
    * version 5.16 and you are using index_block_restart_interval &gt; 1, you should
    * probably use this as it would reduce the index size.</li>
+   * <li><strong>5</strong> - Can be read by RocksDB's versions since 6.6.0.
+   * Full and partitioned filters use a faster and more accurate Bloom filter
+   * implementation, with a different schema, see
+   * {@link BloomFilterImplementation#FAST_LOCAL_BLOOM}.</li>
    * </ul>
    * <p> This option only affects newly written tables. When reading existing
    * tables, the information about version is read from the footer.</p>
@@ -659,7 +663,7 @@ public class BlockBasedTableConfig extends TableFormatConfig {
    */
   public BlockBasedTableConfig setFormatVersion(
       final int formatVersion) {
-    assert(formatVersion >= 0 && formatVersion <= 4);
+    assert(formatVersion >= 0 && formatVersion <= 5);
     this.formatVersion = formatVersion;
     return this;
   }
@@ -0,0 +1,30 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A block cipher encrypts and decrypts blocks of data of a fixed size,
+ * it is used by an {@link EncryptionProvider} to encrypt the files of an
+ * {@link EncryptedEnv}.
+ */
+public abstract class BlockCipher extends RocksObject {
+
+  protected BlockCipher(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  /**
+   * Get the size of the blocks which are encrypted by the cipher.
+   *
+   * @return the block size in bytes.
+   */
+  public long blockSize() {
+    return blockSize(nativeHandle_);
+  }
+
+  private native static long blockSize(final long handle);
+  @Override protected final native void disposeInternal(final long handle);
+}
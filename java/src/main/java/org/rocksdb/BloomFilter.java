@@ -71,9 +71,79 @@ public class BloomFilter extends Filter {
    * @param useBlockBasedMode use block based mode or full filter mode
    */
   public BloomFilter(final double bitsPerKey, final boolean useBlockBasedMode) {
-    super(createNewBloomFilter(bitsPerKey, useBlockBasedMode));
+    this(bitsPerKey, useBlockBasedMode
+        ? BloomFilterImplementation.DEPRECATED_BLOCK
+        : BloomFilterImplementation.AUTO);
+  }
+
+  /**
+   * BloomFilter constructor, with an explicitly selected implementation.
+   *
+   * <p>
+   * bits_per_key: average bits per key in bloom filter. The
+   * {@link BloomFilterImplementation#FAST_LOCAL_BLOOM} implementation uses
+   * fractional bits per key, rounded to thousandths of a bit, whilst the
+   * others round to whole bits per key. Values are limited to the range
+   * 1 to 100.
+   * </p>
+   * <p>
+   * Callers must delete the result after any database that is using the
+   * result has been closed.</p>
+   *
+   * @param bitsPerKey number of bits to use
+   * @param implementation the implementation of the filters
+   */
+  public BloomFilter(final double bitsPerKey,
+      final BloomFilterImplementation implementation) {
+    super(createNewBloomFilter(bitsPerKey, implementation.getValue()));
+  }
+
+  /**
+   * Get the implementation of the filters.
+   *
+   * @return the implementation.
+   */
+  public BloomFilterImplementation implementation() {
+    return BloomFilterImplementation.getBloomFilterImplementation(
+        implementation(nativeHandle_));
+  }
+
+  /**
+   * Get the bits per key which the filters are built with, by an
+   * implementation which uses fractional bits per key.
+   *
+   * @return the bits per key, after rounding to thousandths of a bit
+   *     and limiting to the range 1 to 100.
+   */
+  public double bitsPerKey() {
+    return bitsPerKey(nativeHandle_);
+  }
+
+  /**
+   * Estimate the false positive rate of a filter which holds the given
+   * number of keys, built by the implementation which is used for
+   * tables of the given format version.
+   *
+   * <p>For a {@link BloomFilterImplementation#DEPRECATED_BLOCK} filter,
+   * which is built for each data block, the number of keys is the number
+   * of keys of a data block.</p>
+   *
+   * @param numKeys the number of keys in the filter.
+   * @param formatVersion the format version of the table, see
+   *     {@link BlockBasedTableConfig#setFormatVersion(int)}.
+   *
+   * @return the estimated false positive rate, between 0 and 1.
+   */
+  public double estimatedFalsePositiveRate(final long numKeys,
+      final int formatVersion) {
+    assert(numKeys >= 0);
+    return estimatedFalsePositiveRate(nativeHandle_, numKeys, formatVersion);
   }
 
   private native static long createNewBloomFilter(final double bitsKeyKey,
-      final boolean useBlockBasedMode);
+      final byte implementation);
+  private native static byte implementation(final long handle);
+  private native static double bitsPerKey(final long handle);
+  private native static double estimatedFalsePositiveRate(final long handle,
+      final long numKeys, final int formatVersion);
 }
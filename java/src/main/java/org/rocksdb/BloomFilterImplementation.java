@@ -0,0 +1,103 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * The implementation of the Bloom filters built by a {@link BloomFilter}.
+ *
+ * <p>Every implementation can be read, regardless of the implementation
+ * which a {@link BloomFilter} is configured with, except by releases of
+ * RocksDB which predate the implementation.</p>
+ */
+public enum BloomFilterImplementation {
+  /**
+   * The legacy cache-local Bloom filter of full and partitioned filters,
+   * which uses whole bits per key and a 32-bit hash. Its false positive
+   * rate is notably worse than the theoretical rate for the bits per key,
+   * and with tens of millions of keys in a filter it is dominated by hash
+   * collisions.
+   */
+  LEGACY_BLOOM((byte) 0x0),
+
+  /**
+   * The deprecated Bloom filter which is built for each data block,
+   * see {@link BloomFilter#BloomFilter(double, boolean)}.
+   */
+  DEPRECATED_BLOCK((byte) 0x1),
+
+  /**
+   * The fast cache-local Bloom filter of full and partitioned filters, which
+   * uses fractional bits per key and a 64-bit hash. All of the probes of a
+   * key are in one cache line, and are checked with SIMD instructions where
+   * available. For the same bits per key it has a lower false positive rate
+   * than {@link #LEGACY_BLOOM}, e.g. the same at 9.55 bits per key as the
+   * legacy filter at 10 bits per key.
+   *
+   * <p>The filters can only be read by RocksDB 6.6.0 or later.</p>
+   */
+  FAST_LOCAL_BLOOM((byte) 0x2),
+
+  /**
+   * A Ribbon filter of full and partitioned filters, a static filter which
+   * is not a Bloom filter, but takes about 25-30% less memory than
+   * {@link #FAST_LOCAL_BLOOM} for a similar false positive rate, in exchange
+   * for more CPU time to build and query the filters. The bits per key of
+   * the {@link BloomFilter} are those of the {@link #FAST_LOCAL_BLOOM}
+   * filter whose false positive rate is approximated, by the closest power
+   * of two. The filters of small numbers of keys, for which a Ribbon filter
+   * would not be smaller, are built as {@link #FAST_LOCAL_BLOOM} filters.
+   *
+   * <p>The filters cannot be read by releases of RocksDB which predate this
+   * implementation, which ignore them, as if the tables had no filters.</p>
+   */
+  RIBBON((byte) 0x3),
+
+  /**
+   * Chooses {@link #FAST_LOCAL_BLOOM} for tables with a format version of
+   * 5 or later, and {@link #LEGACY_BLOOM} otherwise, see
+   * {@link BlockBasedTableConfig#setFormatVersion(int)}.
+   */
+  AUTO((byte) 0x64);
+
+  private final byte value;
+
+  BloomFilterImplementation(final byte value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the byte value of the enumerations value.
+   *
+   * @return byte representation
+   */
+  public byte getValue() {
+    return value;
+  }
+
+  /**
+   * Get the BloomFilterImplementation enumeration value by
+   * passing the byte identifier to this method.
+   *
+   * @param byteIdentifier of BloomFilterImplementation.
+   *
+   * @return BloomFilterImplementation instance.
+   *
+   * @throws IllegalArgumentException if the implementation for the
+   *     byteIdentifier cannot be found
+   */
+  public static BloomFilterImplementation getBloomFilterImplementation(
+      final byte byteIdentifier) {
+    for (final BloomFilterImplementation implementation :
+        BloomFilterImplementation.values()) {
+      if (implementation.getValue() == byteIdentifier) {
+        return implementation;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        "Illegal value provided for BloomFilterImplementation.");
+  }
+}
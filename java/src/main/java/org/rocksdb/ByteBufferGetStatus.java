@@ -0,0 +1,42 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The result of reading a single key into a caller supplied
+ * {@link ByteBuffer}, as returned by
+ * {@link Transaction#multiGetForUpdate(ReadOptions, java.util.List,
+ * java.util.List, java.util.List)}.
+ */
+public class ByteBufferGetStatus {
+  /**
+   * The status of the read of the key, {@link Status.Code#Ok} if a value
+   * was found, {@link Status.Code#NotFound} if there is no value for the key.
+   */
+  public final Status status;
+
+  /**
+   * The size of the value, which may be larger than the number of bytes
+   * that were copied into {@link #value} when the buffer was too small.
+   */
+  public final int requiredSize;
+
+  /**
+   * The caller supplied buffer. When a value was found, the bytes from its
+   * position up to its limit hold the value, or as much of the value
+   * as would fit.
+   */
+  public final ByteBuffer value;
+
+  ByteBufferGetStatus(final Status status, final int requiredSize,
+      final ByteBuffer value) {
+    this.status = status;
+    this.requiredSize = requiredSize;
+    this.value = value;
+  }
+}
@@ -0,0 +1,36 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * An encryption provider which encrypts files using a
+ * {@link BlockCipher} in counter (CTR) mode.
+ *
+ * <p>A random initial counter and initialization vector are taken from
+ * the random number generator of the operating system for each file, and
+ * stored in plain text in the first two blocks of the prefix of the file.
+ * The rest of the prefix is encrypted with the block cipher. As CTR mode
+ * encrypts every block independently, files may be read from and written
+ * to at any offset.</p>
+ */
+public class CTREncryptionProvider extends EncryptionProvider {
+
+  /**
+   * Create a new CTR encryption provider.
+   *
+   * @param cipher the block cipher,
+   *     must remain live while the result is in use.
+   */
+  public CTREncryptionProvider(final BlockCipher cipher) {
+    super(newCTREncryptionProvider(cipher.nativeHandle_));
+    this.cipher_ = cipher;
+  }
+
+  private native static long newCTREncryptionProvider(
+      final long cipherHandle);
+
+  private final BlockCipher cipher_;
+}
@@ -0,0 +1,28 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Slice transform which uses the first {@code capLength} bytes
+ * of a key as its prefix, or the whole key when it is shorter
+ * than {@code capLength}.
+ *
+ * This is equivalent to
+ * {@link ColumnFamilyOptionsInterface#useCappedPrefixExtractor(int)}.
+ */
+public class CappedPrefixSliceTransform extends SliceTransform {
+
+  /**
+   * @param capLength the maximum number of bytes of the key to use
+   *     as its prefix.
+   */
+  public CappedPrefixSliceTransform(final int capLength) {
+    super(newCappedPrefixSliceTransform(capLength));
+  }
+
+  private native static long newCappedPrefixSliceTransform(
+      final int capLength);
+}
@@ -51,6 +51,35 @@ public class Checkpoint extends RocksObject {
     createCheckpoint(nativeHandle_, checkpointPath);
   }
 
+  /**
+   * <p>Exports all live SST files of a specified column family onto
+   * {@code exportPath}, returning the SST files information in the
+   * metadata.</p>
+   *
+   * <p>The SST files are hard-linked into the export directory when
+   * possible, otherwise they are copied. The export directory must not
+   * already exist.</p>
+   *
+   * <p>The returned metadata can be used with
+   * {@link RocksDB#createColumnFamilyWithImport(ColumnFamilyDescriptor,
+   * ImportColumnFamilyOptions, ExportImportFilesMetaData)} to import the
+   * column family.</p>
+   *
+   * @param columnFamilyHandle the column family to export.
+   * @param exportPath path to the folder where the SST files are going
+   *     to be stored.
+   * @return the metadata of the exported SST files.
+   *
+   * @throws RocksDBException thrown if an error occurs within the native
+   *     part of the library.
+   */
+  public ExportImportFilesMetaData exportColumnFamily(
+      final ColumnFamilyHandle columnFamilyHandle, final String exportPath)
+      throws RocksDBException {
+    return new ExportImportFilesMetaData(exportColumnFamily(nativeHandle_,
+        columnFamilyHandle.nativeHandle_, exportPath));
+  }
+
   private Checkpoint(final RocksDB db) {
     super(newCheckpoint(db.nativeHandle_));
     this.db_ = db;
@@ -63,4 +92,6 @@ public class Checkpoint extends RocksObject {
 
   private native void createCheckpoint(long handle, String checkpointPath)
       throws RocksDBException;
+  private native long exportColumnFamily(long handle,
+      long columnFamilyHandle, String exportPath) throws RocksDBException;
 }
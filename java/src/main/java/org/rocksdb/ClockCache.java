@@ -17,7 +17,7 @@ public class ClockCache extends Cache {
    * @param capacity The fixed size capacity of the cache
    */
   public ClockCache(final long capacity) {
-    super(newClockCache(capacity, -1, false));
+    super(newClockCache(capacity, -1, false, 0));
   }
 
   /**
@@ -32,7 +32,7 @@ public class ClockCache extends Cache {
    *     by hash of the key
    */
   public ClockCache(final long capacity, final int numShardBits) {
-    super(newClockCache(capacity, numShardBits, false));
+    super(newClockCache(capacity, numShardBits, false, 0));
   }
 
   /**
@@ -50,10 +50,34 @@ public class ClockCache extends Cache {
    */
   public ClockCache(final long capacity, final int numShardBits,
       final boolean strictCapacityLimit) {
-    super(newClockCache(capacity, numShardBits, strictCapacityLimit));
+    super(newClockCache(capacity, numShardBits, strictCapacityLimit, 0));
+  }
+
+  /**
+   * Create a new cache with a fixed size capacity, which allocates the
+   * memory for its entries with the given {@link MemoryAllocator}.
+   * The cache is sharded to 2^numShardBits shards, by hash of the key.
+   * The total capacity is divided and evenly assigned to each shard.
+   * If strictCapacityLimit is set, insert to the cache will fail when cache
+   * is full.
+   * numShardBits = -1 means it is automatically determined: every shard
+   * will be at least 512KB and number of shard bits will not exceed 6.
+   *
+   * @param capacity The fixed size capacity of the cache
+   * @param numShardBits The cache is sharded to 2^numShardBits shards,
+   *     by hash of the key
+   * @param strictCapacityLimit insert to the cache will fail when cache is full
+   * @param memoryAllocator the allocator for the memory of the entries
+   */
+  public ClockCache(final long capacity, final int numShardBits,
+      final boolean strictCapacityLimit,
+      final MemoryAllocator memoryAllocator) {
+    super(newClockCache(capacity, numShardBits, strictCapacityLimit,
+        memoryAllocator.nativeHandle_));
   }
 
   private native static long newClockCache(final long capacity,
-      final int numShardBits, final boolean strictCapacityLimit);
+      final int numShardBits, final boolean strictCapacityLimit,
+      final long memoryAllocatorHandle);
   @Override protected final native void disposeInternal(final long handle);
 }
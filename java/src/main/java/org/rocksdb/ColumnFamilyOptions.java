@@ -6,6 +6,7 @@
 package org.rocksdb;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 
@@ -47,7 +48,12 @@ public class ColumnFamilyOptions extends RocksObject
     this.tableFormatConfig_ = other.tableFormatConfig_;
     this.comparator_ = other.comparator_;
     this.compactionFilter_ = other.compactionFilter_;
+    this.prefixExtractor_ = other.prefixExtractor_;
     this.compactionFilterFactory_ = other.compactionFilterFactory_;
+    this.tablePropertiesCollectorFactories_ =
+        other.tablePropertiesCollectorFactories_;
+    this.compactionThreadLimiter_ = other.compactionThreadLimiter_;
+    this.sstPartitionerFactory_ = other.sstPartitionerFactory_;
     this.compactionOptionsUniversal_ = other.compactionOptionsUniversal_;
     this.compactionOptionsFIFO_ = other.compactionOptionsFIFO_;
     this.bottommostCompressionOptions_ = other.bottommostCompressionOptions_;
@@ -225,6 +231,65 @@ public class ColumnFamilyOptions extends RocksObject
     return compactionFilterFactory_;
   }
 
+  @Override
+  public ColumnFamilyOptions setTablePropertiesCollectorFactories(
+      final List<TablePropertiesCollectorFactory> factories) {
+    assert(isOwningHandle());
+    final long[] factoryHandles = new long[factories.size()];
+    for (int i = 0; i < factoryHandles.length; i++) {
+      factoryHandles[i] = factories.get(i).nativeHandle_;
+    }
+    setTablePropertiesCollectorFactories(nativeHandle_, factoryHandles);
+    tablePropertiesCollectorFactories_ = factories;
+    return this;
+  }
+
+  @Override
+  public List<TablePropertiesCollectorFactory>
+      tablePropertiesCollectorFactories() {
+    assert(isOwningHandle());
+    if (tablePropertiesCollectorFactories_ == null) {
+      return Collections.emptyList();
+    }
+    return tablePropertiesCollectorFactories_;
+  }
+
+  @Override
+  public ColumnFamilyOptions setCompactionThreadLimiter(
+      final ConcurrentTaskLimiter compactionThreadLimiter) {
+    assert(isOwningHandle());
+    setCompactionThreadLimiter(nativeHandle_,
+        compactionThreadLimiter.nativeHandle_);
+    compactionThreadLimiter_ = compactionThreadLimiter;
+    return this;
+  }
+
+  @Override
+  public ConcurrentTaskLimiter compactionThreadLimiter() {
+    assert(isOwningHandle());
+    return compactionThreadLimiter_;
+  }
+
+  @Override
+  public ColumnFamilyOptions setSstPartitionerFactory(
+      final SstPartitionerFactory sstPartitionerFactory) {
+    assert(isOwningHandle());
+    setSstPartitionerFactory(nativeHandle_,
+        sstPartitionerFactory.nativeHandle_);
+    sstPartitionerFactory_ = sstPartitionerFactory;
+    return this;
+  }
+
+  @Override
+  public ColumnFamilyOptions setSstPartitionerFactory(
+      final AbstractSstPartitionerFactory sstPartitionerFactory) {
+    assert(isOwningHandle());
+    setSstPartitionerFactory(nativeHandle_,
+        sstPartitionerFactory.nativeHandle_);
+    sstPartitionerFactory_ = sstPartitionerFactory;
+    return this;
+  }
+
   @Override
   public ColumnFamilyOptions setWriteBufferSize(final long writeBufferSize) {
     assert(isOwningHandle());
@@ -278,6 +343,24 @@ public class ColumnFamilyOptions extends RocksObject
     return this;
   }
 
+  @Override
+  public ColumnFamilyOptions setPrefixExtractor(final SliceTransform sliceTransform) {
+    assert(isOwningHandle());
+    setPrefixExtractorHandle(nativeHandle_, sliceTransform.nativeHandle_);
+    prefixExtractor_ = null;
+    return this;
+  }
+
+  @Override
+  public ColumnFamilyOptions setPrefixExtractor(
+      final AbstractSliceTransform sliceTransform) {
+    assert(isOwningHandle());
+    setJavaPrefixExtractorHandle(nativeHandle_,
+        sliceTransform.nativeHandle_);
+    prefixExtractor_ = sliceTransform;
+    return this;
+  }
+
   @Override
   public ColumnFamilyOptions setCompressionType(
       final CompressionType compressionType) {
@@ -786,6 +869,18 @@ public class ColumnFamilyOptions extends RocksObject
     return ttl(nativeHandle_);
   }
 
+  @Override
+  public ColumnFamilyOptions setPeriodicCompactionSeconds(
+      final long periodicCompactionSeconds) {
+    setPeriodicCompactionSeconds(nativeHandle_, periodicCompactionSeconds);
+    return this;
+  }
+
+  @Override
+  public long periodicCompactionSeconds() {
+    return periodicCompactionSeconds(nativeHandle_);
+  }
+
   @Override
   public ColumnFamilyOptions setCompactionOptionsUniversal(
       final CompactionOptionsUniversal compactionOptionsUniversal) {
@@ -874,6 +969,16 @@ public class ColumnFamilyOptions extends RocksObject
       long handle, int prefixLength);
   private native void useCappedPrefixExtractor(
       long handle, int prefixLength);
+  private native void setPrefixExtractorHandle(
+      long handle, long sliceTransformHandle);
+  private native void setJavaPrefixExtractorHandle(
+      long handle, long sliceTransformHandle);
+  private native void setTablePropertiesCollectorFactories(
+      long handle, long[] factoryHandles);
+  private native void setCompactionThreadLimiter(
+      long handle, long compactionThreadLimiterHandle);
+  private native void setSstPartitionerFactory(
+      long handle, long sstPartitionerFactoryHandle);
   private native void setNumLevels(
       long handle, int numLevels);
   private native int numLevels(long handle);
@@ -977,6 +1082,9 @@ public class ColumnFamilyOptions extends RocksObject
   private native boolean reportBgIoStats(final long handle);
   private native void setTtl(final long handle, final long ttl);
   private native long ttl(final long handle);
+  private native void setPeriodicCompactionSeconds(final long handle,
+      final long periodicCompactionSeconds);
+  private native long periodicCompactionSeconds(final long handle);
   private native void setCompactionOptionsUniversal(final long handle,
     final long compactionOptionsUniversalHandle);
   private native void setCompactionOptionsFIFO(final long handle,
@@ -991,8 +1099,13 @@ public class ColumnFamilyOptions extends RocksObject
   private TableFormatConfig tableFormatConfig_;
   private AbstractComparator<? extends AbstractSlice<?>> comparator_;
   private AbstractCompactionFilter<? extends AbstractSlice<?>> compactionFilter_;
+  private AbstractSliceTransform prefixExtractor_;
   private AbstractCompactionFilterFactory<? extends AbstractCompactionFilter<?>>
       compactionFilterFactory_;
+  private List<TablePropertiesCollectorFactory>
+      tablePropertiesCollectorFactories_;
+  private ConcurrentTaskLimiter compactionThreadLimiter_;
+  private AbstractImmutableNativeReference sstPartitionerFactory_;
   private CompactionOptionsUniversal compactionOptionsUniversal_;
   private CompactionOptionsFIFO compactionOptionsFIFO_;
   private CompressionOptions bottommostCompressionOptions_;
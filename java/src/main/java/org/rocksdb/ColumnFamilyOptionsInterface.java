@@ -5,6 +5,8 @@
 
 package org.rocksdb;
 
+import java.util.List;
+
 public interface ColumnFamilyOptionsInterface<T extends ColumnFamilyOptionsInterface<T>>
     extends AdvancedColumnFamilyOptionsInterface<T> {
   /**
@@ -203,6 +205,80 @@ public interface ColumnFamilyOptionsInterface<T extends ColumnFamilyOptionsInter
    */
   AbstractCompactionFilterFactory<? extends AbstractCompactionFilter<?>> compactionFilterFactory();
 
+  /**
+   * Set the factories of the table properties collectors which observe
+   * every entry that is written to a new SST file. A new collector is
+   * created by each factory for every SST file, and may add its own
+   * properties to the file or mark it as needing compaction, see
+   * {@link CompactOnDeletionCollectorFactory}.
+   *
+   * Any previously set factories are replaced.
+   *
+   * Default: empty
+   *
+   * @param factories the table properties collector factories.
+   * @return the reference to the current option.
+   */
+  T setTablePropertiesCollectorFactories(
+      List<TablePropertiesCollectorFactory> factories);
+
+  /**
+   * Get the factories of the table properties collectors.
+   *
+   * @return the table properties collector factories.
+   */
+  List<TablePropertiesCollectorFactory> tablePropertiesCollectorFactories();
+
+  /**
+   * Set a limiter which is shared with other column families, possibly of
+   * other databases, to limit the number of concurrent compactions of
+   * the column families. This prevents the compactions of a group of
+   * column families from using all of the background compaction threads.
+   *
+   * The limit can be changed whilst the database is open, see
+   * {@link ConcurrentTaskLimiter#setMaxOutstandingTask(int)}.
+   *
+   * Default: null, i.e. no limit
+   *
+   * @param compactionThreadLimiter the compaction thread limiter.
+   * @return the reference to the current option.
+   */
+  T setCompactionThreadLimiter(ConcurrentTaskLimiter compactionThreadLimiter);
+
+  /**
+   * Get the compaction thread limiter.
+   *
+   * @return the compaction thread limiter, or null if none is set.
+   */
+  ConcurrentTaskLimiter compactionThreadLimiter();
+
+  /**
+   * Set the factory of the SST partitioners, which cut the output SST files
+   * of compactions at the keys which they choose, in addition to the cuts
+   * made by file size. Files at level 0 are never cut, and files which would
+   * be cut are not moved to the next level without being rewritten.
+   *
+   * Keeping e.g. the key ranges of each tenant in separate files allows
+   * them to be dropped cheaply by
+   * {@link RocksDB#deleteFilesInRanges(ColumnFamilyHandle, List, boolean)}.
+   *
+   * Default: null, i.e. no partitioning
+   *
+   * @param sstPartitionerFactory the SST partitioner factory.
+   * @return the reference to the current option.
+   */
+  T setSstPartitionerFactory(SstPartitionerFactory sstPartitionerFactory);
+
+  /**
+   * Set a factory of SST partitioners implemented in Java, see
+   * {@link #setSstPartitionerFactory(SstPartitionerFactory)}.
+   *
+   * @param sstPartitionerFactory the SST partitioner factory.
+   * @return the reference to the current option.
+   */
+  T setSstPartitionerFactory(
+      AbstractSstPartitionerFactory sstPartitionerFactory);
+
   /**
    * This prefix-extractor uses the first n bytes of a key as its prefix.
    *
@@ -225,6 +301,36 @@ public interface ColumnFamilyOptionsInterface<T extends ColumnFamilyOptionsInter
    */
   T useCappedPrefixExtractor(int n);
 
+  /**
+   * Use the provided natively implemented slice transform as the
+   * prefix-extractor, for example a {@link DelimitedPrefixSliceTransform}
+   * for keys with variable length prefixes.
+   *
+   * The slice transform may be closed once it has been set,
+   * as the options hold their own reference to it.
+   *
+   * @param sliceTransform the prefix-extractor.
+   * @return the reference to the current option.
+   */
+  T setPrefixExtractor(SliceTransform sliceTransform);
+
+  /**
+   * Use the provided slice transform which is implemented in Java as the
+   * prefix-extractor.
+   *
+   * Note that the prefix-extractor is called for every key which is
+   * written and looked up, so a natively implemented
+   * {@link SliceTransform} should be preferred where possible, see
+   * {@link #setPrefixExtractor(SliceTransform)}.
+   *
+   * The slice transform must not be closed until all RocksDB instances
+   * which use it have been closed.
+   *
+   * @param sliceTransform the prefix-extractor.
+   * @return the reference to the current option.
+   */
+  T setPrefixExtractor(AbstractSliceTransform sliceTransform);
+
   /**
    * Number of files to trigger level-0 compaction. A value &lt; 0 means that
    * level-0 compaction will not be triggered by number of files at all.
@@ -0,0 +1,76 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A factory of a table properties collector which marks an SST file
+ * as needing compaction when it observes at least {@code deletionTrigger}
+ * deletion entries in any {@code slidingWindowSize} consecutive entries.
+ *
+ * This allows files which contain many tombstones, for example those
+ * of a column family which is used as a queue, to be compacted soon after
+ * they are written, rather than slowing down range scans until they
+ * are picked up by size based compaction.
+ */
+public class CompactOnDeletionCollectorFactory
+    extends TablePropertiesCollectorFactory {
+
+  /**
+   * Create a new factory of deletion triggered compaction collectors.
+   *
+   * @param slidingWindowSize the number of consecutive entries to consider,
+   *     which is rounded up to the smallest multiple of 128 that is no less
+   *     than the specified size. 0 disables deletion triggered compaction.
+   * @param deletionTrigger the number of deletion entries within the
+   *     sliding window which causes the file to be marked as needing
+   *     compaction.
+   */
+  public CompactOnDeletionCollectorFactory(final long slidingWindowSize,
+      final long deletionTrigger) {
+    super(newCompactOnDeletionCollectorFactory(slidingWindowSize,
+        deletionTrigger));
+  }
+
+  /**
+   * Change the size of the sliding window. This takes effect for
+   * SST files which are created after the call.
+   *
+   * @param slidingWindowSize the number of consecutive entries to consider,
+   *     0 disables deletion triggered compaction.
+   *
+   * @return the reference to the current factory.
+   */
+  public CompactOnDeletionCollectorFactory setWindowSize(
+      final long slidingWindowSize) {
+    assert(isOwningHandle());
+    setWindowSize(nativeHandle_, slidingWindowSize);
+    return this;
+  }
+
+  /**
+   * Change the number of deletion entries which trigger compaction.
+   * This takes effect for SST files which are created after the call.
+   *
+   * @param deletionTrigger the number of deletion entries within the
+   *     sliding window which causes the file to be marked as needing
+   *     compaction.
+   *
+   * @return the reference to the current factory.
+   */
+  public CompactOnDeletionCollectorFactory setDeletionTrigger(
+      final long deletionTrigger) {
+    assert(isOwningHandle());
+    setDeletionTrigger(nativeHandle_, deletionTrigger);
+    return this;
+  }
+
+  private native static long newCompactOnDeletionCollectorFactory(
+      final long slidingWindowSize, final long deletionTrigger);
+  private native void setWindowSize(final long handle,
+      final long slidingWindowSize);
+  private native void setDeletionTrigger(final long handle,
+      final long deletionTrigger);
+}
@@ -0,0 +1,34 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * An environment which performs its file operations with an
+ * {@link AbstractFileSystem}, and all of its other tasks, such as
+ * scheduling background work, with a base environment.
+ */
+public class CompositeEnv extends Env {
+
+  /**
+   * <p>Creates a new environment which stores its files with the
+   * file system.</p>
+   *
+   * <p>The caller must delete the result when it is
+   * no longer needed.</p>
+   *
+   * @param baseEnv the base environment,
+   *     must remain live while the result is in use.
+   * @param fileSystem the file system, which is kept alive by the
+   *     result.
+   */
+  public CompositeEnv(final Env baseEnv, final AbstractFileSystem fileSystem) {
+    super(createCompositeEnv(baseEnv.nativeHandle_, fileSystem.nativeHandle_));
+  }
+
+  private static native long createCompositeEnv(final long baseEnvHandle,
+      final long fileSystemHandle);
+  @Override protected final native void disposeInternal(final long handle);
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Limits the number of concurrent tasks, e.g. compactions, of the column
+ * families which share it, across RocksDB instances.
+ *
+ * @see ColumnFamilyOptionsInterface#setCompactionThreadLimiter(
+ *     ConcurrentTaskLimiter)
+ */
+public abstract class ConcurrentTaskLimiter extends RocksObject {
+
+  protected ConcurrentTaskLimiter(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  /**
+   * Returns a name that identifies this concurrent task limiter.
+   *
+   * @return Concurrent task limiter name.
+   */
+  public abstract String name();
+
+  /**
+   * Set max concurrent tasks.<br>
+   * limit = 0 means no new task allowed.<br>
+   * limit &lt; 0 means no limitation.
+   *
+   * <p>The new limit applies immediately to tasks which are scheduled
+   * afterwards; tasks which are already running are not interrupted.</p>
+   *
+   * @param maxOutstandingTask max concurrent tasks.
+   * @return the reference to the current instance of ConcurrentTaskLimiter.
+   */
+  public abstract ConcurrentTaskLimiter setMaxOutstandingTask(
+      final int maxOutstandingTask);
+
+  /**
+   * Reset to unlimited max concurrent task.
+   *
+   * @return the reference to the current instance of ConcurrentTaskLimiter.
+   */
+  public abstract ConcurrentTaskLimiter resetMaxOutstandingTask();
+
+  /**
+   * Returns current outstanding task count.
+   *
+   * @return current outstanding task count.
+   */
+  public abstract int outstandingTask();
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * The built-in {@link ConcurrentTaskLimiter}.
+ *
+ * <p>For example, to stop the compactions of a group of column families
+ * from using all the background threads, the column families can share a
+ * limiter which allows fewer concurrent compactions than
+ * {@link DBOptions#setMaxBackgroundJobs(int)}:</p>
+ *
+ * <pre>{@code
+ *   final ConcurrentTaskLimiter limiter =
+ *       new ConcurrentTaskLimiterImpl("tenant-a", 2);
+ *   cfOptions.setCompactionThreadLimiter(limiter);
+ * }</pre>
+ */
+public class ConcurrentTaskLimiterImpl extends ConcurrentTaskLimiter {
+
+  /**
+   * Create a new limiter.
+   *
+   * @param name the name of the limiter.
+   * @param maxOutstandingTask max concurrent tasks; 0 means no new task
+   *     allowed, and a negative value means no limitation.
+   */
+  public ConcurrentTaskLimiterImpl(final String name,
+      final int maxOutstandingTask) {
+    super(newConcurrentTaskLimiterImpl(name, maxOutstandingTask));
+  }
+
+  @Override
+  public String name() {
+    assert (isOwningHandle());
+    return name(nativeHandle_);
+  }
+
+  @Override
+  public ConcurrentTaskLimiter setMaxOutstandingTask(
+      final int maxOutstandingTask) {
+    assert (isOwningHandle());
+    setMaxOutstandingTask(nativeHandle_, maxOutstandingTask);
+    return this;
+  }
+
+  @Override
+  public ConcurrentTaskLimiter resetMaxOutstandingTask() {
+    assert (isOwningHandle());
+    resetMaxOutstandingTask(nativeHandle_);
+    return this;
+  }
+
+  @Override
+  public int outstandingTask() {
+    assert (isOwningHandle());
+    return outstandingTask(nativeHandle_);
+  }
+
+  private native static long newConcurrentTaskLimiterImpl(
+      final String name, final int maxOutstandingTask);
+  private native String name(final long handle);
+  private native void setMaxOutstandingTask(final long handle,
+      final int limit);
+  private native void resetMaxOutstandingTask(final long handle);
+  private native int outstandingTask(final long handle);
+
+  @Override protected final native void disposeInternal(final long handle);
+}
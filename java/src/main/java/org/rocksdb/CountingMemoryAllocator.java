@@ -0,0 +1,72 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A {@link MemoryAllocator} which counts the memory it allocates, for
+ * diagnosing the memory usage of a cache.
+ *
+ * <p>Unlike {@link Cache} usage, which is the sum of the charges of the
+ * entries, the counters report the bytes which were actually requested
+ * from the allocator, e.g. to compare the block cache against the resident
+ * memory of the process.</p>
+ *
+ * <p>The allocations are passed on to another {@link MemoryAllocator}, or
+ * to the system allocator.</p>
+ */
+public class CountingMemoryAllocator extends MemoryAllocator {
+
+  /**
+   * Create a new allocator which counts allocations made by the
+   * system allocator.
+   */
+  public CountingMemoryAllocator() {
+    super(newCountingMemoryAllocator(0));
+  }
+
+  /**
+   * Create a new allocator which counts allocations made by another
+   * allocator.
+   *
+   * @param memoryAllocator the allocator to pass the allocations on to.
+   */
+  public CountingMemoryAllocator(final MemoryAllocator memoryAllocator) {
+    super(newCountingMemoryAllocator(memoryAllocator.nativeHandle_));
+  }
+
+  /**
+   * Get the number of bytes which are currently allocated.
+   *
+   * @return the allocated bytes.
+   */
+  public long allocatedBytes() {
+    return allocatedBytes(nativeHandle_);
+  }
+
+  /**
+   * Get the highest number of bytes which were allocated at once.
+   *
+   * @return the peak allocated bytes.
+   */
+  public long peakAllocatedBytes() {
+    return peakAllocatedBytes(nativeHandle_);
+  }
+
+  /**
+   * Get the number of allocations which are currently live.
+   *
+   * @return the number of allocations.
+   */
+  public long numAllocations() {
+    return numAllocations(nativeHandle_);
+  }
+
+  private native static long newCountingMemoryAllocator(
+      final long memoryAllocatorHandle);
+  private native long allocatedBytes(final long handle);
+  private native long peakAllocatedBytes(final long handle);
+  private native long numAllocations(final long handle);
+}
@@ -0,0 +1,171 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+package org.rocksdb;
+
+/**
+ * The config for cuckoo table sst format.
+ *
+ * <p>CuckooTable is a RocksDB's SST file format which uses cache friendly
+ * cuckoo hashing to provide point lookups with a single memory access in
+ * most cases. It is designed for read-mostly workloads consisting of
+ * point lookups, for example static data sets which are periodically
+ * rebuilt.</p>
+ *
+ * <p>Please note the following restrictions of this table format:</p>
+ * <ul>
+ *   <li>The cuckoo table is only readable when mmap reads are enabled,
+ *   see {@link Options#setAllowMmapReads(boolean)}.</li>
+ *   <li>Keys must have a fixed length, and neither merge operands nor
+ *   deletions are supported in the files.</li>
+ *   <li>Iteration is supported, but is expensive as the whole table
+ *   has to be sorted first.</li>
+ * </ul>
+ */
+public class CuckooTableConfig extends TableFormatConfig {
+  public static final double DEFAULT_HASH_TABLE_RATIO = 0.9;
+  public static final int DEFAULT_MAX_SEARCH_DEPTH = 100;
+  public static final int DEFAULT_CUCKOO_BLOCK_SIZE = 5;
+  public static final boolean DEFAULT_IDENTITY_AS_FIRST_HASH = false;
+  public static final boolean DEFAULT_USE_MODULE_HASH = true;
+
+  public CuckooTableConfig() {
+    hashTableRatio_ = DEFAULT_HASH_TABLE_RATIO;
+    maxSearchDepth_ = DEFAULT_MAX_SEARCH_DEPTH;
+    cuckooBlockSize_ = DEFAULT_CUCKOO_BLOCK_SIZE;
+    identityAsFirstHash_ = DEFAULT_IDENTITY_AS_FIRST_HASH;
+    useModuleHash_ = DEFAULT_USE_MODULE_HASH;
+  }
+
+  /**
+   * Determines the utilization of hash tables. Smaller values
+   * result in larger hash tables with fewer collisions.
+   *
+   * <p>DEFAULT: 0.9</p>
+   *
+   * @param ratio the hash table ratio.
+   * @return the reference to the current config.
+   */
+  public CuckooTableConfig setHashTableRatio(final double ratio) {
+    hashTableRatio_ = ratio;
+    return this;
+  }
+
+  /**
+   * @return the hash table ratio.
+   */
+  public double hashTableRatio() {
+    return hashTableRatio_;
+  }
+
+  /**
+   * The depth used by the builder when searching for a path to
+   * displace elements in case of a collision. Higher values result
+   * in more efficient hash tables with fewer lookups, but take more
+   * time to build.
+   *
+   * <p>DEFAULT: 100</p>
+   *
+   * @param maxSearchDepth the maximum search depth.
+   * @return the reference to the current config.
+   */
+  public CuckooTableConfig setMaxSearchDepth(final int maxSearchDepth) {
+    maxSearchDepth_ = maxSearchDepth;
+    return this;
+  }
+
+  /**
+   * @return the maximum search depth.
+   */
+  public int maxSearchDepth() {
+    return maxSearchDepth_;
+  }
+
+  /**
+   * In case of a collision while inserting, the builder attempts
+   * to insert in the next {@code cuckooBlockSize} locations before
+   * skipping over to the next cuckoo hash function. This makes
+   * lookups more cache friendly in case of collisions.
+   *
+   * <p>DEFAULT: 5</p>
+   *
+   * @param cuckooBlockSize the cuckoo block size.
+   * @return the reference to the current config.
+   */
+  public CuckooTableConfig setCuckooBlockSize(final int cuckooBlockSize) {
+    cuckooBlockSize_ = cuckooBlockSize;
+    return this;
+  }
+
+  /**
+   * @return the cuckoo block size.
+   */
+  public int cuckooBlockSize() {
+    return cuckooBlockSize_;
+  }
+
+  /**
+   * If enabled, the user key is treated as a 64 bit integer and its
+   * value is used directly as the hash value. This option only changes
+   * the behaviour of the builder, the reader uses whatever is recorded
+   * in the table properties.
+   *
+   * <p>DEFAULT: false</p>
+   *
+   * @param identityAsFirstHash true to use the key as the first hash.
+   * @return the reference to the current config.
+   */
+  public CuckooTableConfig setIdentityAsFirstHash(
+      final boolean identityAsFirstHash) {
+    identityAsFirstHash_ = identityAsFirstHash;
+    return this;
+  }
+
+  /**
+   * @return true if the key is used as the first hash value.
+   */
+  public boolean identityAsFirstHash() {
+    return identityAsFirstHash_;
+  }
+
+  /**
+   * If true, a modulo is used during hash calculation. This often
+   * yields better space efficiency at the cost of performance.
+   *
+   * If false, the number of entries in the table is constrained to
+   * be a power of two, and a bitwise and is used to calculate the
+   * hash, which is faster in general.
+   *
+   * <p>DEFAULT: true</p>
+   *
+   * @param useModuleHash true to use a modulo during hash calculation.
+   * @return the reference to the current config.
+   */
+  public CuckooTableConfig setUseModuleHash(final boolean useModuleHash) {
+    useModuleHash_ = useModuleHash;
+    return this;
+  }
+
+  /**
+   * @return true if a modulo is used during hash calculation.
+   */
+  public boolean useModuleHash() {
+    return useModuleHash_;
+  }
+
+  @Override protected long newTableFactoryHandle() {
+    return newTableFactoryHandle(hashTableRatio_, maxSearchDepth_,
+        cuckooBlockSize_, identityAsFirstHash_, useModuleHash_);
+  }
+
+  private native long newTableFactoryHandle(
+      double hashTableRatio, int maxSearchDepth, int cuckooBlockSize,
+      boolean identityAsFirstHash, boolean useModuleHash);
+
+  private double hashTableRatio_;
+  private int maxSearchDepth_;
+  private int cuckooBlockSize_;
+  private boolean identityAsFirstHash_;
+  private boolean useModuleHash_;
+}
@@ -0,0 +1,32 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Slice transform for keys which start with a variable length
+ * prefix that is terminated by a delimiter byte, e.g.
+ * {@code tenant:object}.
+ *
+ * The prefix of a key is all of the bytes of the key up to and including
+ * the first occurrence of the delimiter, e.g. {@code tenant:}. Including
+ * the delimiter ensures that the prefix of one tenant is never the
+ * prefix of the key of another tenant.
+ *
+ * Keys which do not contain the delimiter are not in the domain
+ * of the transform, and so are not added to prefix blooms.
+ */
+public class DelimitedPrefixSliceTransform extends SliceTransform {
+
+  /**
+   * @param delimiter the byte which terminates the prefix of a key.
+   */
+  public DelimitedPrefixSliceTransform(final byte delimiter) {
+    super(newDelimitedPrefixSliceTransform(delimiter));
+  }
+
+  private native static long newDelimitedPrefixSliceTransform(
+      final byte delimiter);
+}
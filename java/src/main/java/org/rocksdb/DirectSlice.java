@@ -21,10 +21,17 @@ public class DirectSlice extends AbstractSlice<ByteBuffer> {
   /**
    * Indicates whether we have to free the memory pointed to by the Slice
    */
-  private final boolean internalBuffer;
+  private volatile boolean internalBuffer;
   private volatile boolean cleared = false;
   private volatile long internalBufferOffset = 0;
 
+  /**
+   * Holds a reference to the buffer most recently set by
+   * {@link #setData(ByteBuffer, int)}, so that it cannot be
+   * garbage collected whilst the native slice points into it.
+   */
+  private ByteBuffer buffer;
+
   /**
    * Called from JNI to construct a new Java DirectSlice
    * without an underlying C++ object set
@@ -110,6 +117,40 @@ public class DirectSlice extends AbstractSlice<ByteBuffer> {
     this.internalBufferOffset += n;
   }
 
+  /**
+   * Retargets this slice to the first {@code length} bytes
+   * of the provided direct ByteBuffer.
+   *
+   * No data is copied and no native memory is allocated, the
+   * underlying C++ slice is simply pointed at the memory of
+   * the buffer. As {@link ReadOptions} refers to the underlying
+   * C++ slice, a slice which has been passed to
+   * {@link ReadOptions#setIterateUpperBound(AbstractSlice)} or
+   * {@link ReadOptions#setIterateLowerBound(AbstractSlice)} can be
+   * retargeted in place for each new scan.
+   *
+   * The contents of the buffer must not be modified whilst an
+   * iterator which uses this slice as a bound is still in use.
+   *
+   * @param data The buffer containing the data
+   * @param length The length of the data to use for the slice
+   *
+   * @return the reference to this slice.
+   */
+  public DirectSlice setData(final ByteBuffer data, final int length) {
+    assert(isOwningHandle());
+    ensureDirect(data);
+    if (length < 0 || length > data.capacity()) {
+      throw new IndexOutOfBoundsException();
+    }
+    setData0(getNativeHandle(), data, length,
+        !cleared && internalBuffer, internalBufferOffset);
+    this.buffer = data;
+    this.internalBuffer = false;
+    this.internalBufferOffset = 0;
+    return this;
+  }
+
   @Override
   protected void disposeInternal() {
     final long nativeHandle = getNativeHandle();
@@ -127,6 +168,8 @@ public class DirectSlice extends AbstractSlice<ByteBuffer> {
   private native void clear0(long handle, boolean internalBuffer,
       long internalBufferOffset);
   private native void removePrefix0(long handle, int length);
+  private native void setData0(long handle, ByteBuffer data, int length,
+      boolean internalBuffer, long internalBufferOffset);
   private native void disposeInternalBuf(final long handle,
       long internalBufferOffset);
 }
@@ -0,0 +1,50 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * An environment which transparently encrypts the files it writes, and
+ * decrypts the files it reads, using an {@link EncryptionProvider}.
+ *
+ * <p>For example, to encrypt the files of a database with AES-256:</p>
+ * <pre>{@code
+ *   try (final BlockCipher cipher = new AESBlockCipher(key);
+ *        final EncryptionProvider provider =
+ *            new CTREncryptionProvider(cipher);
+ *        final Env env = new EncryptedEnv(Env.getDefault(), provider);
+ *        final Options options = new Options()
+ *            .setCreateIfMissing(true)
+ *            .setEnv(env);
+ *        final RocksDB db = RocksDB.open(options, path)) {
+ *     ...
+ *   }
+ * }</pre>
+ */
+public class EncryptedEnv extends Env {
+
+  /**
+   * <p>Creates a new environment which encrypts the files of the base
+   * environment.</p>
+   *
+   * <p>The caller must delete the result when it is
+   * no longer needed.</p>
+   *
+   * @param baseEnv the base environment,
+   *     must remain live while the result is in use.
+   * @param provider the encryption provider,
+   *     must remain live while the result is in use.
+   */
+  public EncryptedEnv(final Env baseEnv, final EncryptionProvider provider) {
+    super(createEncryptedEnv(baseEnv.nativeHandle_, provider.nativeHandle_));
+    this.provider_ = provider;
+  }
+
+  private static native long createEncryptedEnv(final long baseEnvHandle,
+      final long providerHandle);
+  @Override protected final native void disposeInternal(final long handle);
+
+  private final EncryptionProvider provider_;
+}
@@ -0,0 +1,20 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * An encryption provider creates the ciphers used to encrypt the data
+ * and metadata of each file of an {@link EncryptedEnv}, storing the
+ * information required to decrypt a file in a prefix of the file.
+ */
+public abstract class EncryptionProvider extends RocksObject {
+
+  protected EncryptionProvider(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  @Override protected final native void disposeInternal(final long handle);
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * The type of an entry which is added to an SST file, as reported to
+ * {@link AbstractTablePropertiesCollector#addUserKey(java.nio.ByteBuffer,
+ * java.nio.ByteBuffer, EntryType, long, long)}.
+ */
+public enum EntryType {
+  PUT((byte)0x0),
+  DELETE((byte)0x1),
+  SINGLE_DELETE((byte)0x2),
+  MERGE((byte)0x3),
+  RANGE_DELETION((byte)0x4),
+  BLOB_INDEX((byte)0x5),
+  OTHER((byte)0x6);
+
+  private final byte value;
+
+  EntryType(final byte value) {
+    this.value = value;
+  }
+
+  /**
+   * Get the internal representation.
+   *
+   * @return the internal representation.
+   */
+  byte getValue() {
+    return value;
+  }
+
+  /**
+   * Get the EntryType from the internal representation value.
+   *
+   * @param value the internal representation value.
+   *
+   * @return the entry type, or {@link #OTHER} if the value is unknown.
+   */
+  static EntryType fromValue(final byte value) {
+    for (final EntryType entryType : EntryType.values()) {
+      if (entryType.value == value) {
+        return entryType;
+      }
+    }
+    return OTHER;
+  }
+}
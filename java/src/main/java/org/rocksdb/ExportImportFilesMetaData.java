@@ -0,0 +1,53 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The metadata that describes a column family exported by
+ * {@link Checkpoint#exportColumnFamily(ColumnFamilyHandle, String)}.
+ *
+ * <p>It can be passed to {@link RocksDB#createColumnFamilyWithImport(
+ * ColumnFamilyDescriptor, ImportColumnFamilyOptions,
+ * ExportImportFilesMetaData)} to import the exported SST files as a new
+ * column family, in the same or in another database.</p>
+ */
+public class ExportImportFilesMetaData extends RocksObject {
+
+  /**
+   * Called from {@link Checkpoint}, takes ownership of the
+   * native metadata object.
+   *
+   * @param nativeHandle the handle of the C++ ExportImportFilesMetaData
+   */
+  ExportImportFilesMetaData(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  /**
+   * Get the name of the comparator used by the exported column family.
+   *
+   * @return the name of the comparator.
+   */
+  public String dbComparatorName() {
+    return dbComparatorName(nativeHandle_);
+  }
+
+  /**
+   * Get the metadata of the exported SST files.
+   *
+   * @return the metadata of the exported files.
+   */
+  public List<LiveFileMetaData> files() {
+    return Arrays.asList(files(nativeHandle_));
+  }
+
+  private native String dbComparatorName(final long handle);
+  private native LiveFileMetaData[] files(final long handle);
+  @Override protected final native void disposeInternal(final long handle);
+}
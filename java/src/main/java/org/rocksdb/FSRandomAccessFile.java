@@ -0,0 +1,75 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A file which is read at random offsets, implemented in Java and
+ * returned by {@link AbstractFileSystem#newRandomAccessFile(String)}.
+ *
+ * The read methods may be called concurrently from multiple threads.
+ */
+public abstract class FSRandomAccessFile {
+
+  /**
+   * Read up to {@code buffer.remaining()} bytes from the file, starting
+   * at {@code offset}, into the buffer.
+   *
+   * The buffer is a direct buffer which refers to the native memory
+   * of RocksDB, it must not be used after this method returns.
+   *
+   * @param offset the offset in the file to read from.
+   * @param buffer the buffer to read into.
+   *
+   * @return the number of bytes read, which is only less than the
+   *     remaining bytes of the buffer when the end of the file is reached.
+   *     A negative number, such as the -1 returned by
+   *     {@link java.nio.channels.ReadableByteChannel#read(ByteBuffer)} at
+   *     the end of a channel, means that no bytes were read, and a number
+   *     beyond the remaining bytes of the buffer means all of them.
+   *
+   * @throws RocksDBException if the file cannot be read.
+   */
+  public abstract int read(final long offset, final ByteBuffer buffer)
+      throws RocksDBException;
+
+  /**
+   * Read several ranges of the file with a single call, for example
+   * the data blocks of a {@link RocksDB#multiGetAsList(java.util.List)}.
+   *
+   * Implementations which can issue the reads in parallel, or batch them
+   * into a single request to their storage, should override this method.
+   * The default implementation calls {@link #read(long, ByteBuffer)}
+   * for each of the ranges in turn.
+   *
+   * @param offsets the offset in the file of each range.
+   * @param buffers the buffer for each range, which must be filled as
+   *     described by {@link #read(long, ByteBuffer)}.
+   *
+   * @return the number of bytes read for each range, as returned by
+   *     {@link #read(long, ByteBuffer)}.
+   *
+   * @throws RocksDBException if the file cannot be read.
+   */
+  public int[] multiRead(final long[] offsets, final ByteBuffer[] buffers)
+      throws RocksDBException {
+    final int[] bytesRead = new int[offsets.length];
+    for (int i = 0; i < offsets.length; i++) {
+      bytesRead[i] = read(offsets[i], buffers[i]);
+    }
+    return bytesRead;
+  }
+
+  /**
+   * Called when RocksDB no longer uses the file.
+   *
+   * @throws RocksDBException if the file cannot be closed.
+   */
+  public void close() throws RocksDBException {
+    // no-op
+  }
+}
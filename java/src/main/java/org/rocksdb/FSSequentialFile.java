@@ -0,0 +1,55 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A file which is read sequentially, implemented in Java and
+ * returned by {@link AbstractFileSystem#newSequentialFile(String)}.
+ *
+ * The methods of a file are never called concurrently.
+ */
+public abstract class FSSequentialFile {
+
+  /**
+   * Read up to {@code buffer.remaining()} bytes from the file into the
+   * buffer, starting at the position of the buffer.
+   *
+   * The buffer is a direct buffer which refers to the native memory
+   * of RocksDB, it must not be used after this method returns.
+   *
+   * @param buffer the buffer to read into.
+   *
+   * @return the number of bytes read, which is only less than the
+   *     remaining bytes of the buffer when the end of the file is reached.
+   *     A negative number, such as the -1 returned by
+   *     {@link java.nio.channels.ReadableByteChannel#read(ByteBuffer)} at
+   *     the end of a channel, means that no bytes were read, and a number
+   *     beyond the remaining bytes of the buffer means all of them.
+   *
+   * @throws RocksDBException if the file cannot be read.
+   */
+  public abstract int read(final ByteBuffer buffer) throws RocksDBException;
+
+  /**
+   * Skip {@code n} bytes in the file.
+   *
+   * @param n the number of bytes to skip.
+   *
+   * @throws RocksDBException if the bytes cannot be skipped.
+   */
+  public abstract void skip(final long n) throws RocksDBException;
+
+  /**
+   * Called when RocksDB no longer uses the file.
+   *
+   * @throws RocksDBException if the file cannot be closed.
+   */
+  public void close() throws RocksDBException {
+    // no-op
+  }
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A file which is written sequentially, implemented in Java and
+ * returned by {@link AbstractFileSystem#newWritableFile(String)}.
+ *
+ * The methods of a file are never called concurrently.
+ */
+public abstract class FSWritableFile {
+
+  /**
+   * Append the remaining bytes of the buffer to the file.
+   *
+   * The buffer is a direct buffer which refers to the native memory
+   * of RocksDB, it must not be used after this method returns.
+   *
+   * @param data the data to append.
+   *
+   * @throws RocksDBException if the data cannot be written.
+   */
+  public abstract void append(final ByteBuffer data) throws RocksDBException;
+
+  /**
+   * Flush any data buffered by the file.
+   *
+   * @throws RocksDBException if the data cannot be flushed.
+   */
+  public void flush() throws RocksDBException {
+    // no-op
+  }
+
+  /**
+   * Make the appended data durable.
+   *
+   * @throws RocksDBException if the data cannot be synced.
+   */
+  public abstract void sync() throws RocksDBException;
+
+  /**
+   * Close the file, no more data will be appended to it.
+   *
+   * @throws RocksDBException if the file cannot be closed.
+   */
+  public abstract void close() throws RocksDBException;
+}
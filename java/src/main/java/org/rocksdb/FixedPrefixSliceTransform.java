@@ -0,0 +1,30 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Slice transform which uses the first {@code prefixLength} bytes
+ * of a key as its prefix.
+ *
+ * Keys which are shorter than {@code prefixLength} are not in the
+ * domain of the transform, and so are not added to prefix blooms.
+ *
+ * This is equivalent to
+ * {@link ColumnFamilyOptionsInterface#useFixedLengthPrefixExtractor(int)}.
+ */
+public class FixedPrefixSliceTransform extends SliceTransform {
+
+  /**
+   * @param prefixLength the number of bytes of the key to use
+   *     as its prefix.
+   */
+  public FixedPrefixSliceTransform(final int prefixLength) {
+    super(newFixedPrefixSliceTransform(prefixLength));
+  }
+
+  private native static long newFixedPrefixSliceTransform(
+      final int prefixLength);
+}
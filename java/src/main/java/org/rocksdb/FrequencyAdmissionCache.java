@@ -0,0 +1,53 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A cache which only admits entries that have been looked up frequently.
+ *
+ * <p>All operations are passed through to the wrapped {@link Cache}, which
+ * stores the admitted entries. The number of recent lookups of each key is
+ * estimated with a count-min sketch, sized for the capacity of the wrapped
+ * cache, whose counters are periodically halved. A new entry is only
+ * inserted into the wrapped cache when its key was looked up at least
+ * {@code minFrequency} times.</p>
+ *
+ * <p>As a block is looked up before it is read and inserted, the default
+ * {@code minFrequency} of 2 admits a block on its second miss, so blocks
+ * which are read only once, e.g. by a full scan, do not evict the working
+ * set from the wrapped cache. Index and filter blocks are always
+ * admitted.</p>
+ *
+ * <p>See {@link AbstractCache} to implement an admission policy in
+ * Java.</p>
+ */
+public class FrequencyAdmissionCache extends Cache {
+
+  /**
+   * Create a new cache which admits entries on their second lookup.
+   *
+   * @param cache the cache which stores the admitted entries.
+   */
+  public FrequencyAdmissionCache(final Cache cache) {
+    this(cache, 2);
+  }
+
+  /**
+   * Create a new cache which admits entries after the given
+   * number of lookups.
+   *
+   * @param cache the cache which stores the admitted entries.
+   * @param minFrequency the minimum number of recent lookups of an
+   *     entry for it to be admitted, at most 15.
+   */
+  public FrequencyAdmissionCache(final Cache cache, final int minFrequency) {
+    super(newFrequencyAdmissionCache(cache.nativeHandle_, minFrequency));
+  }
+
+  private native static long newFrequencyAdmissionCache(
+      final long cacheHandle, final int minFrequency);
+  @Override protected final native void disposeInternal(final long handle);
+}
@@ -0,0 +1,50 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * ImportColumnFamilyOptions is used by
+ * {@link RocksDB#createColumnFamilyWithImport(ColumnFamilyDescriptor,
+ * ImportColumnFamilyOptions, ExportImportFilesMetaData)}.
+ */
+public class ImportColumnFamilyOptions extends RocksObject {
+
+  public ImportColumnFamilyOptions() {
+    super(newImportColumnFamilyOptions());
+  }
+
+  /**
+   * Can be set to true to move the files instead of copying them.
+   *
+   * @return true if files will be moved
+   */
+  public boolean moveFiles() {
+    return moveFiles(nativeHandle_);
+  }
+
+  /**
+   * Can be set to true to move the files instead of copying them.
+   *
+   * <p>Moving the files hard-links them into the database directory when
+   * possible, which makes the import nearly instant. The exported files
+   * are then owned by the database and must not be imported again.</p>
+   *
+   * <p>DEFAULT: false</p>
+   *
+   * @param moveFiles true if files should be moved instead of copied
+   *
+   * @return the reference to the current ImportColumnFamilyOptions.
+   */
+  public ImportColumnFamilyOptions setMoveFiles(final boolean moveFiles) {
+    setMoveFiles(nativeHandle_, moveFiles);
+    return this;
+  }
+
+  private native static long newImportColumnFamilyOptions();
+  private native boolean moveFiles(final long handle);
+  private native void setMoveFiles(final long handle, final boolean moveFiles);
+  @Override protected final native void disposeInternal(final long handle);
+}
@@ -0,0 +1,60 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A {@link MemoryAllocator} which allocates from a dedicated jemalloc
+ * arena, and excludes the allocated memory from core dumps by
+ * {@code madvise(MADV_DONTDUMP)}.
+ *
+ * <p>Using it for the block cache keeps the cached blocks out of core dumps,
+ * and keeps them apart from the other allocations of the process, which
+ * reduces fragmentation.</p>
+ *
+ * <p>The allocator is only available when RocksDB was built with jemalloc
+ * on a platform which supports {@code MADV_DONTDUMP}; otherwise the
+ * constructors throw a {@link RocksDBException} with the status
+ * {@link Status.Code#NotSupported}.</p>
+ */
+public class JemallocNodumpAllocator extends MemoryAllocator {
+
+  /**
+   * Create a new allocator, with an unlimited jemalloc tcache.
+   *
+   * @throws RocksDBException if the allocator is not supported.
+   */
+  public JemallocNodumpAllocator() throws RocksDBException {
+    this(false, 1024, 16 * 1024);
+  }
+
+  /**
+   * Create a new allocator.
+   *
+   * <p>Jemalloc caches allocations by size class in a thread local cache
+   * (tcache), which normally uses around 0.5MB per thread. When the
+   * allocator is used by many threads, the memory usage of the tcache can
+   * be reduced by only caching allocations within a range of sizes.</p>
+   *
+   * @param limitTcacheSize true to only cache allocations of sizes between
+   *     {@code tcacheSizeLowerBound} and {@code tcacheSizeUpperBound}.
+   * @param tcacheSizeLowerBound the lower bound of the allocation size to
+   *     cache; when used with a block cache, block_size/4 is recommended.
+   * @param tcacheSizeUpperBound the upper bound of the allocation size to
+   *     cache; when used with a block cache, block_size is recommended.
+   *
+   * @throws RocksDBException if the allocator is not supported.
+   */
+  public JemallocNodumpAllocator(final boolean limitTcacheSize,
+      final long tcacheSizeLowerBound, final long tcacheSizeUpperBound)
+      throws RocksDBException {
+    super(newJemallocNodumpAllocator(limitTcacheSize, tcacheSizeLowerBound,
+        tcacheSizeUpperBound));
+  }
+
+  private native static long newJemallocNodumpAllocator(
+      final boolean limitTcacheSize, final long tcacheSizeLowerBound,
+      final long tcacheSizeUpperBound) throws RocksDBException;
+}
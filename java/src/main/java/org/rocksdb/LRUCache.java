@@ -31,7 +31,7 @@ public class LRUCache extends Cache {
    *     by hash of the key
    */
   public LRUCache(final long capacity, final int numShardBits) {
-    super(newLRUCache(capacity, numShardBits, false,0.0));
+    super(newLRUCache(capacity, numShardBits, false, 0.0, 0));
   }
 
   /**
@@ -49,7 +49,7 @@ public class LRUCache extends Cache {
    */
   public LRUCache(final long capacity, final int numShardBits,
                   final boolean strictCapacityLimit) {
-    super(newLRUCache(capacity, numShardBits, strictCapacityLimit,0.0));
+    super(newLRUCache(capacity, numShardBits, strictCapacityLimit, 0.0, 0));
   }
 
   /**
@@ -72,11 +72,37 @@ public class LRUCache extends Cache {
   public LRUCache(final long capacity, final int numShardBits,
       final boolean strictCapacityLimit, final double highPriPoolRatio) {
     super(newLRUCache(capacity, numShardBits, strictCapacityLimit,
-        highPriPoolRatio));
+        highPriPoolRatio, 0));
+  }
+
+  /**
+   * Create a new cache with a fixed size capacity, which allocates the
+   * memory for its entries with the given {@link MemoryAllocator}.
+   * The cache is sharded to 2^numShardBits shards, by hash of the key.
+   * The total capacity is divided and evenly assigned to each shard.
+   * If strictCapacityLimit is set, insert to the cache will fail when cache
+   * is full. User can also set percentage of the cache reserves for high
+   * priority entries via highPriPoolRatio.
+   * numShardBits = -1 means it is automatically determined: every shard
+   * will be at least 512KB and number of shard bits will not exceed 6.
+   *
+   * @param capacity The fixed size capacity of the cache
+   * @param numShardBits The cache is sharded to 2^numShardBits shards,
+   *     by hash of the key
+   * @param strictCapacityLimit insert to the cache will fail when cache is full
+   * @param highPriPoolRatio percentage of the cache reserves for high priority
+   *     entries
+   * @param memoryAllocator the allocator for the memory of the entries
+   */
+  public LRUCache(final long capacity, final int numShardBits,
+      final boolean strictCapacityLimit, final double highPriPoolRatio,
+      final MemoryAllocator memoryAllocator) {
+    super(newLRUCache(capacity, numShardBits, strictCapacityLimit,
+        highPriPoolRatio, memoryAllocator.nativeHandle_));
   }
 
   private native static long newLRUCache(final long capacity,
       final int numShardBits, final boolean strictCapacityLimit,
-      final double highPriPoolRatio);
+      final double highPriPoolRatio, final long memoryAllocatorHandle);
   @Override protected final native void disposeInternal(final long handle);
 }
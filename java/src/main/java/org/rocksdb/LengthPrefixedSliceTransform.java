@@ -0,0 +1,46 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Slice transform for keys which start with a length-prefixed
+ * variable length prefix.
+ *
+ * Each key must start with a big-endian unsigned length of
+ * {@code lengthBytes} bytes (1, 2 or 4), as written by
+ * {@link java.nio.ByteBuffer#put(byte)},
+ * {@link java.nio.ByteBuffer#putShort(short)} or
+ * {@link java.nio.ByteBuffer#putInt(int)} respectively, followed by
+ * that many bytes of prefix data. The prefix of a key is the length
+ * followed by the prefix data.
+ *
+ * Keys which are too short to contain the complete prefix are not
+ * in the domain of the transform, and so are not added to prefix blooms.
+ */
+public class LengthPrefixedSliceTransform extends SliceTransform {
+
+  /**
+   * @param lengthBytes the number of bytes used to encode the length
+   *     of the prefix at the start of each key, must be 1, 2 or 4.
+   *
+   * @throws IllegalArgumentException if {@code lengthBytes} is
+   *     not 1, 2 or 4.
+   */
+  public LengthPrefixedSliceTransform(final int lengthBytes) {
+    super(newLengthPrefixedSliceTransform(checkLengthBytes(lengthBytes)));
+  }
+
+  private static int checkLengthBytes(final int lengthBytes) {
+    if (lengthBytes != 1 && lengthBytes != 2 && lengthBytes != 4) {
+      throw new IllegalArgumentException(
+          "lengthBytes must be 1, 2 or 4, but was: " + lengthBytes);
+    }
+    return lengthBytes;
+  }
+
+  private native static long newLengthPrefixedSliceTransform(
+      final int lengthBytes);
+}
@@ -0,0 +1,57 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.util.List;
+
+/**
+ * A filter policy which builds the filters of each SST file with the
+ * filter for the level at which the file is created.
+ *
+ * <p>This allows, for example, to spend more bits per key on the filters of
+ * the upper levels, which are read most often, and to build no filters on
+ * the last level, whose filters mostly save I/O for keys which do not
+ * exist, but take most of the filter memory. It is a finer grained
+ * alternative to {@link ColumnFamilyOptions#setOptimizeFiltersForHits(
+ * boolean)}. SST files are not trivially moved by compactions to a level
+ * with another filter, but rewritten with the filter of the new level.</p>
+ *
+ * <p>The filter size of each level may be obtained in one call by the
+ * {@code rocksdb.filter-size-per-level} property, e.g. by
+ * {@link RocksDB#getMapProperty(String)}.</p>
+ */
+public class LevelFilter extends Filter {
+
+  /**
+   * LevelFilter constructor.
+   *
+   * <p>The filters are read by the first non-null filter of the list, so all
+   * the filters must be compatible, like the {@link BloomFilter}s with
+   * different numbers of bits per key.</p>
+   *
+   * <p>The filters are not referenced by the LevelFilter, and may be closed
+   * once it has been created.</p>
+   *
+   * @param filtersByLevel the filter for the SST files created at each
+   *     level, the last one also being used for the levels beyond and for
+   *     the files created at an unknown level, e.g. by {@link SstFileWriter}.
+   *     A null filter means that no filters are built for that level.
+   */
+  public LevelFilter(final List<? extends Filter> filtersByLevel) {
+    super(createNewLevelFilter(toHandles(filtersByLevel)));
+  }
+
+  private static long[] toHandles(final List<? extends Filter> filters) {
+    final long[] handles = new long[filters.size()];
+    for (int i = 0; i < handles.length; i++) {
+      final Filter filter = filters.get(i);
+      handles[i] = filter == null ? 0 : filter.nativeHandle_;
+    }
+    return handles;
+  }
+
+  private native static long createNewLevelFilter(final long[] filterHandles);
+}
@@ -0,0 +1,38 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A MemoryAllocator supplies the memory for the entries of a cache,
+ * in place of the system allocator.
+ *
+ * <p>When the cache is used as a block cache, the allocator is only used
+ * for blocks which are read uncompressed from SST files, as other blocks
+ * are already allocated when they are read.</p>
+ *
+ * @see LRUCache#LRUCache(long, int, boolean, double, MemoryAllocator)
+ * @see ClockCache#ClockCache(long, int, boolean, MemoryAllocator)
+ */
+public abstract class MemoryAllocator extends RocksObject {
+
+  protected MemoryAllocator(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  /**
+   * Deletes underlying C++ memory allocator pointer.
+   *
+   * Note that the allocator is shared with the caches which use it,
+   * so it is only destroyed once those caches are closed too.
+   */
+  @Override
+  protected void disposeInternal() {
+    disposeInternal(nativeHandle_);
+  }
+
+  @Override
+  protected final native void disposeInternal(final long handle);
+}
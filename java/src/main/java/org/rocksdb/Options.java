@@ -69,7 +69,12 @@ public class Options extends RocksObject
     this.rateLimiter_ = other.rateLimiter_;
     this.comparator_ = other.comparator_;
     this.compactionFilter_ = other.compactionFilter_;
+    this.prefixExtractor_ = other.prefixExtractor_;
     this.compactionFilterFactory_ = other.compactionFilterFactory_;
+    this.tablePropertiesCollectorFactories_ =
+        other.tablePropertiesCollectorFactories_;
+    this.compactionThreadLimiter_ = other.compactionThreadLimiter_;
+    this.sstPartitionerFactory_ = other.sstPartitionerFactory_;
     this.compactionOptionsUniversal_ = other.compactionOptionsUniversal_;
     this.compactionOptionsFIFO_ = other.compactionOptionsFIFO_;
     this.compressionOptions_ = other.compressionOptions_;
@@ -247,6 +252,65 @@ public class Options extends RocksObject
     return compactionFilterFactory_;
   }
 
+  @Override
+  public Options setTablePropertiesCollectorFactories(
+      final List<TablePropertiesCollectorFactory> factories) {
+    assert(isOwningHandle());
+    final long[] factoryHandles = new long[factories.size()];
+    for (int i = 0; i < factoryHandles.length; i++) {
+      factoryHandles[i] = factories.get(i).nativeHandle_;
+    }
+    setTablePropertiesCollectorFactories(nativeHandle_, factoryHandles);
+    tablePropertiesCollectorFactories_ = factories;
+    return this;
+  }
+
+  @Override
+  public List<TablePropertiesCollectorFactory>
+      tablePropertiesCollectorFactories() {
+    assert(isOwningHandle());
+    if (tablePropertiesCollectorFactories_ == null) {
+      return Collections.emptyList();
+    }
+    return tablePropertiesCollectorFactories_;
+  }
+
+  @Override
+  public Options setCompactionThreadLimiter(
+      final ConcurrentTaskLimiter compactionThreadLimiter) {
+    assert(isOwningHandle());
+    setCompactionThreadLimiter(nativeHandle_,
+        compactionThreadLimiter.nativeHandle_);
+    compactionThreadLimiter_ = compactionThreadLimiter;
+    return this;
+  }
+
+  @Override
+  public ConcurrentTaskLimiter compactionThreadLimiter() {
+    assert(isOwningHandle());
+    return compactionThreadLimiter_;
+  }
+
+  @Override
+  public Options setSstPartitionerFactory(
+      final SstPartitionerFactory sstPartitionerFactory) {
+    assert(isOwningHandle());
+    setSstPartitionerFactory(nativeHandle_,
+        sstPartitionerFactory.nativeHandle_);
+    sstPartitionerFactory_ = sstPartitionerFactory;
+    return this;
+  }
+
+  @Override
+  public Options setSstPartitionerFactory(
+      final AbstractSstPartitionerFactory sstPartitionerFactory) {
+    assert(isOwningHandle());
+    setSstPartitionerFactory(nativeHandle_,
+        sstPartitionerFactory.nativeHandle_);
+    sstPartitionerFactory_ = sstPartitionerFactory;
+    return this;
+  }
+
   @Override
   public Options setWriteBufferSize(final long writeBufferSize) {
     assert(isOwningHandle());
@@ -1281,6 +1345,24 @@ public class Options extends RocksObject
     return this;
   }
 
+  @Override
+  public Options setPrefixExtractor(final SliceTransform sliceTransform) {
+    assert(isOwningHandle());
+    setPrefixExtractorHandle(nativeHandle_, sliceTransform.nativeHandle_);
+    prefixExtractor_ = null;
+    return this;
+  }
+
+  @Override
+  public Options setPrefixExtractor(
+      final AbstractSliceTransform sliceTransform) {
+    assert(isOwningHandle());
+    setJavaPrefixExtractorHandle(nativeHandle_,
+        sliceTransform.nativeHandle_);
+    prefixExtractor_ = sliceTransform;
+    return this;
+  }
+
   @Override
   public CompressionType compressionType() {
     return CompressionType.getCompressionType(compressionType(nativeHandle_));
@@ -1743,6 +1825,18 @@ public class Options extends RocksObject
     return ttl(nativeHandle_);
   }
 
+  @Override
+  public Options setPeriodicCompactionSeconds(
+      final long periodicCompactionSeconds) {
+    setPeriodicCompactionSeconds(nativeHandle_, periodicCompactionSeconds);
+    return this;
+  }
+
+  @Override
+  public long periodicCompactionSeconds() {
+    return periodicCompactionSeconds(nativeHandle_);
+  }
+
   @Override
   public Options setCompactionOptionsUniversal(
       final CompactionOptionsUniversal compactionOptionsUniversal) {
@@ -2053,6 +2147,16 @@ public class Options extends RocksObject
       long handle, int prefixLength);
   private native void useCappedPrefixExtractor(
       long handle, int prefixLength);
+  private native void setPrefixExtractorHandle(
+      long handle, long sliceTransformHandle);
+  private native void setJavaPrefixExtractorHandle(
+      long handle, long sliceTransformHandle);
+  private native void setTablePropertiesCollectorFactories(
+      long handle, long[] factoryHandles);
+  private native void setCompactionThreadLimiter(
+      long handle, long compactionThreadLimiterHandle);
+  private native void setSstPartitionerFactory(
+      long handle, long sstPartitionerFactoryHandle);
   private native void setNumLevels(
       long handle, int numLevels);
   private native int numLevels(long handle);
@@ -2152,6 +2256,9 @@ public class Options extends RocksObject
   private native boolean reportBgIoStats(final long handle);
   private native void setTtl(final long handle, final long ttl);
   private native long ttl(final long handle);
+  private native void setPeriodicCompactionSeconds(final long handle,
+      final long periodicCompactionSeconds);
+  private native long periodicCompactionSeconds(final long handle);
   private native void setCompactionOptionsUniversal(final long handle,
       final long compactionOptionsUniversalHandle);
   private native void setCompactionOptionsFIFO(final long handle,
@@ -2171,8 +2278,13 @@ public class Options extends RocksObject
   private RateLimiter rateLimiter_;
   private AbstractComparator<? extends AbstractSlice<?>> comparator_;
   private AbstractCompactionFilter<? extends AbstractSlice<?>> compactionFilter_;
+  private AbstractSliceTransform prefixExtractor_;
   private AbstractCompactionFilterFactory<? extends AbstractCompactionFilter<?>>
           compactionFilterFactory_;
+  private List<TablePropertiesCollectorFactory>
+      tablePropertiesCollectorFactories_;
+  private ConcurrentTaskLimiter compactionThreadLimiter_;
+  private AbstractImmutableNativeReference sstPartitionerFactory_;
   private CompactionOptionsUniversal compactionOptionsUniversal_;
   private CompactionOptionsFIFO compactionOptionsFIFO_;
   private CompressionOptions bottommostCompressionOptions_;
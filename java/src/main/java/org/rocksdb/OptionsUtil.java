@@ -67,8 +67,45 @@ public class OptionsUtil {
    */
   public static void loadLatestOptions(String dbPath, Env env, DBOptions dbOptions,
       List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions) throws RocksDBException {
-    loadLatestOptions(
-        dbPath, env.nativeHandle_, dbOptions.nativeHandle_, cfDescs, ignoreUnknownOptions);
+    loadLatestOptions(dbPath, env, dbOptions, cfDescs, ignoreUnknownOptions, null, null);
+  }
+
+  /**
+   * Loads the latest options file, and recreates the block cache and the
+   * filter of the loaded column families.
+   *
+   * The options file only records the pointer options by name, so the
+   * block cache and the filter policy of a block based table cannot be
+   * reconstructed from the file itself; without this method each loaded
+   * column family would get its own default sized block cache and no
+   * filter at all.  Instead the supplied cache and filter are set on the
+   * {@link BlockBasedTableConfig} of every loaded column family which uses
+   * the block based table format, which allows a single block cache to be
+   * shared by all of them.
+   *
+   * @param dbPath the path to the RocksDB.
+   * @param env {@link org.rocksdb.Env} instance.
+   * @param dbOptions {@link org.rocksdb.DBOptions} instance. This will be
+   *     filled and returned.
+   * @param cfDescs A list of {@link org.rocksdb.ColumnFamilyDescriptor}'s be
+   *     returned.
+   * @param ignoreUnknownOptions this flag can be set to true if you want to
+   *     ignore options that are from a newer version of the db, esentially for
+   *     forward compatibility.
+   * @param cache the block cache for the block based tables, or null to
+   *     keep the default block cache of each column family.
+   * @param filter the filter for the block based tables, or null to not
+   *     use a filter.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *     native library.
+   */
+  public static void loadLatestOptions(String dbPath, Env env, DBOptions dbOptions,
+      List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions, Cache cache,
+      Filter filter) throws RocksDBException {
+    loadLatestOptions(dbPath, env.nativeHandle_, dbOptions.nativeHandle_, cfDescs,
+        ignoreUnknownOptions, cache == null ? 0 : cache.nativeHandle_,
+        filter == null ? 0 : filter.nativeHandle_);
   }
 
   /**
@@ -107,8 +144,66 @@ public class OptionsUtil {
    */
   public static void loadOptionsFromFile(String optionsFileName, Env env, DBOptions dbOptions,
       List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions) throws RocksDBException {
-    loadOptionsFromFile(
-        optionsFileName, env.nativeHandle_, dbOptions.nativeHandle_, cfDescs, ignoreUnknownOptions);
+    loadOptionsFromFile(optionsFileName, env, dbOptions, cfDescs, ignoreUnknownOptions, null, null);
+  }
+
+  /**
+   * Similar to {@link #loadLatestOptions(String, Env, DBOptions, List, boolean, Cache, Filter)},
+   * but loads the specified RocksDB options file.
+   *
+   * @param optionsFileName the RocksDB options file path.
+   * @param env {@link org.rocksdb.Env} instance.
+   * @param dbOptions {@link org.rocksdb.DBOptions} instance. This will be
+   *     filled and returned.
+   * @param cfDescs A list of {@link org.rocksdb.ColumnFamilyDescriptor}'s be
+   *     returned.
+   * @param ignoreUnknownOptions this flag can be set to true if you want to
+   *     ignore options that are from a newer version of the db, esentially for
+   *     forward compatibility.
+   * @param cache the block cache for the block based tables, or null to
+   *     keep the default block cache of each column family.
+   * @param filter the filter for the block based tables, or null to not
+   *     use a filter.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *     native library.
+   */
+  public static void loadOptionsFromFile(String optionsFileName, Env env, DBOptions dbOptions,
+      List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions, Cache cache,
+      Filter filter) throws RocksDBException {
+    loadOptionsFromFile(optionsFileName, env.nativeHandle_, dbOptions.nativeHandle_, cfDescs,
+        ignoreUnknownOptions, cache == null ? 0 : cache.nativeHandle_,
+        filter == null ? 0 : filter.nativeHandle_);
+  }
+
+  /**
+   * Writes the DBOptions and the options of the ColumnFamilyDescriptors to
+   * the specified options file, in the same format as the OPTIONS files
+   * written by RocksDB.  The file can be loaded again with
+   * {@link #loadOptionsFromFile(String, Env, DBOptions, List)}.
+   *
+   * Note that the pointer options, such as the comparator, the merge
+   * operator, the block cache and the filter, are only written by name.
+   *
+   * @param optionsFileName the RocksDB options file path.
+   * @param env {@link org.rocksdb.Env} instance.
+   * @param dbOptions {@link org.rocksdb.DBOptions} instance to write.
+   * @param cfDescs the {@link org.rocksdb.ColumnFamilyDescriptor}'s to write.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *     native library.
+   */
+  public static void saveOptionsToFile(String optionsFileName, Env env, DBOptions dbOptions,
+      List<ColumnFamilyDescriptor> cfDescs) throws RocksDBException {
+    final byte[][] cfNames = new byte[cfDescs.size()][];
+    final long[] cfOptionHandles = new long[cfDescs.size()];
+    for (int i = 0; i < cfDescs.size(); i++) {
+      final ColumnFamilyDescriptor cfDescriptor = cfDescs.get(i);
+      cfNames[i] = cfDescriptor.getName();
+      cfOptionHandles[i] = cfDescriptor.getOptions().nativeHandle_;
+    }
+    saveOptionsToFile(
+        optionsFileName, env.nativeHandle_, dbOptions.nativeHandle_, cfNames, cfOptionHandles);
   }
 
   /**
@@ -133,10 +228,13 @@ public class OptionsUtil {
 
   // native methods
   private native static void loadLatestOptions(String dbPath, long envHandle, long dbOptionsHandle,
-      List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions) throws RocksDBException;
+      List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions, long cacheHandle,
+      long filterHandle) throws RocksDBException;
   private native static void loadOptionsFromFile(String optionsFileName, long envHandle,
-      long dbOptionsHandle, List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions)
-      throws RocksDBException;
+      long dbOptionsHandle, List<ColumnFamilyDescriptor> cfDescs, boolean ignoreUnknownOptions,
+      long cacheHandle, long filterHandle) throws RocksDBException;
+  private native static void saveOptionsToFile(String optionsFileName, long envHandle,
+      long dbOptionsHandle, byte[][] cfNames, long[] cfOptionHandles) throws RocksDBException;
   private native static String getLatestOptionsFileName(String dbPath, long envHandle)
       throws RocksDBException;
 }
@@ -0,0 +1,26 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A block cipher which implements ROT13, for testing only.
+ *
+ * <p>ROT13 provides no security at all, it only makes the data
+ * unreadable by a casual observer.</p>
+ */
+public class ROT13BlockCipher extends BlockCipher {
+
+  /**
+   * Create a new ROT13 block cipher.
+   *
+   * @param blockSize the size of the blocks which are encrypted.
+   */
+  public ROT13BlockCipher(final int blockSize) {
+    super(newROT13BlockCipher(blockSize));
+  }
+
+  private native static long newROT13BlockCipher(final int blockSize);
+}
@@ -361,6 +361,39 @@ public class ReadOptions extends RocksObject {
     return this;
   }
 
+  /**
+   * Returns whether the automatic readahead of iterators adapts to the
+   * access pattern.
+   *
+   * @return true if the automatic readahead adapts to the access pattern.
+   * @see #setAdaptiveReadahead(boolean)
+   */
+  public boolean adaptiveReadahead() {
+    assert(isOwningHandle());
+    return adaptiveReadahead(nativeHandle_);
+  }
+
+  /**
+   * If true, the automatic readahead of iterators, used when
+   * {@link #readaheadSize()} is 0, adapts to the access pattern. The
+   * readahead size reached in an SST file carries over to the next file of
+   * the same level, so that a scan does not start over with small reads at
+   * every file boundary, and the readahead starts over at its initial size
+   * when the iterator reads a block which does not follow the previous one,
+   * e.g. after a seek elsewhere.
+   *
+   * Default: false
+   *
+   * @param adaptiveReadahead true to adapt the automatic readahead to the
+   *     access pattern.
+   * @return the reference to the current ReadOptions.
+   */
+  public ReadOptions setAdaptiveReadahead(final boolean adaptiveReadahead) {
+    assert(isOwningHandle());
+    setAdaptiveReadahead(nativeHandle_, adaptiveReadahead);
+    return this;
+  }
+
   /**
    * A threshold for the number of keys that can be skipped before failing an
    * iterator seek as incomplete.
@@ -435,12 +468,29 @@ public class ReadOptions extends RocksObject {
    * need to have the same prefix. This is because ordering is not guaranteed
    * outside of prefix domain.
    *
+   * As only a reference to the slice is held, the slice can later be
+   * retargeted in place with {@link Slice#setData(byte[], int, int)} to
+   * change the bound for the next iterator, without allocating new objects.
+   *
    * Default: null
    *
-   * @param iterateLowerBound Slice representing the upper bound
+   * @param iterateLowerBound Slice representing the lower bound
    * @return the reference to the current ReadOptions.
    */
   public ReadOptions setIterateLowerBound(final Slice iterateLowerBound) {
+    return setIterateLowerBound((AbstractSlice<?>) iterateLowerBound);
+  }
+
+  /**
+   * Defines the lower bound as {@link #setIterateLowerBound(Slice)} does, from
+   * any kind of slice. A {@link DirectSlice} bound can be retargeted in place
+   * with {@link DirectSlice#setData(java.nio.ByteBuffer, int)}.
+   *
+   * @param iterateLowerBound Slice representing the lower bound
+   * @return the reference to the current ReadOptions.
+   */
+  public ReadOptions setIterateLowerBound(
+      final AbstractSlice<?> iterateLowerBound) {
     assert(isOwningHandle());
     if (iterateLowerBound != null) {
       // Hold onto a reference so it doesn't get garbage collected out from under us.
@@ -480,12 +530,29 @@ public class ReadOptions extends RocksObject {
    * need to have the same prefix. This is because ordering is not guaranteed
    * outside of prefix domain.
    *
+   * As only a reference to the slice is held, the slice can later be
+   * retargeted in place with {@link Slice#setData(byte[], int, int)} to
+   * change the bound for the next iterator, without allocating new objects.
+   *
    * Default: null
    *
    * @param iterateUpperBound Slice representing the upper bound
    * @return the reference to the current ReadOptions.
    */
   public ReadOptions setIterateUpperBound(final Slice iterateUpperBound) {
+    return setIterateUpperBound((AbstractSlice<?>) iterateUpperBound);
+  }
+
+  /**
+   * Defines the upper bound as {@link #setIterateUpperBound(Slice)} does, from
+   * any kind of slice. A {@link DirectSlice} bound can be retargeted in place
+   * with {@link DirectSlice#setData(java.nio.ByteBuffer, int)}.
+   *
+   * @param iterateUpperBound Slice representing the upper bound
+   * @return the reference to the current ReadOptions.
+   */
+  public ReadOptions setIterateUpperBound(
+      final AbstractSlice<?> iterateUpperBound) {
     assert(isOwningHandle());
     if (iterateUpperBound != null) {
       // Hold onto a reference so it doesn't get garbage collected out from under us.
@@ -562,6 +629,24 @@ public class ReadOptions extends RocksObject {
     return iterStartSeqnum(nativeHandle_);
   }
 
+  /**
+   * Resets all of the options to their default values and releases
+   * any iterate lower or upper bound held by this object.
+   *
+   * This allows a single ReadOptions instance, for example one held in
+   * a thread-local, to be reused across requests instead of creating and
+   * disposing of a new native object each time.
+   *
+   * @return the reference to the current ReadOptions.
+   */
+  public ReadOptions reset() {
+    assert(isOwningHandle());
+    reset(nativeHandle_);
+    iterateLowerBoundSlice_ = null;
+    iterateUpperBoundSlice_ = null;
+    return this;
+  }
+
   // instance variables
   // NOTE: If you add new member variables, please update the copy constructor above!
   //
@@ -570,13 +655,14 @@ public class ReadOptions extends RocksObject {
   // freely leave scope without us losing the Java Slice object, which during
   // close() would also reap its associated rocksdb::Slice native object since
   // it's possibly (likely) to be an owning handle.
-  private Slice iterateLowerBoundSlice_;
-  private Slice iterateUpperBoundSlice_;
+  private AbstractSlice<?> iterateLowerBoundSlice_;
+  private AbstractSlice<?> iterateUpperBoundSlice_;
 
   private native static long newReadOptions();
   private native static long newReadOptions(final boolean verifyChecksums,
     final boolean fillCache);
   private native static long copyReadOptions(long handle);
+  private native void reset(final long handle);
   @Override protected final native void disposeInternal(final long handle);
 
   private native boolean verifyChecksums(long handle);
@@ -603,6 +689,9 @@ public class ReadOptions extends RocksObject {
   private native long readaheadSize(final long handle);
   private native void setReadaheadSize(final long handle,
       final long readaheadSize);
+  private native boolean adaptiveReadahead(final long handle);
+  private native void setAdaptiveReadahead(final long handle,
+      final boolean adaptiveReadahead);
   private native long maxSkippableInternalKeys(final long handle);
   private native void setMaxSkippableInternalKeys(final long handle,
       final long maxSkippableInternalKeys);
@@ -507,6 +507,36 @@ public class RocksDB extends RocksObject {
         columnFamilyDescriptor.getOptions().nativeHandle_));
   }
 
+  /**
+   * Creates a new column family with the name and options of
+   * {@code columnFamilyDescriptor}, and imports the SST files described by
+   * {@code metadata}, e.g. as exported by
+   * {@link Checkpoint#exportColumnFamily(ColumnFamilyHandle, String)}.
+   *
+   * <p>The comparator of the column family options must match the
+   * comparator of the exported column family.</p>
+   *
+   * @param columnFamilyDescriptor column family to be created.
+   * @param importOptions the options for the import, i.e. whether the
+   *     files are moved or copied.
+   * @param metadata the metadata of the files to import.
+   * @return {@link org.rocksdb.ColumnFamilyHandle} instance.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library, e.g. the column family already exists or the
+   *    import fails.
+   */
+  public ColumnFamilyHandle createColumnFamilyWithImport(
+      final ColumnFamilyDescriptor columnFamilyDescriptor,
+      final ImportColumnFamilyOptions importOptions,
+      final ExportImportFilesMetaData metadata) throws RocksDBException {
+    return new ColumnFamilyHandle(this, createColumnFamilyWithImport(
+        nativeHandle_, columnFamilyDescriptor.getName(),
+        columnFamilyDescriptor.getName().length,
+        columnFamilyDescriptor.getOptions().nativeHandle_,
+        importOptions.nativeHandle_, metadata.nativeHandle_));
+  }
+
   /**
    * Bulk create column families with the same column family options.
    *
@@ -2899,6 +2929,32 @@ public class RocksDB extends RocksObject {
     return getApproximateMemTableStats(null, range);
   }
 
+  /**
+   * Get the memory used by the memtables of several column families, from
+   * a single call. For each column family this is the value of the
+   * "rocksdb.size-all-mem-tables" property, i.e. the memory of the active,
+   * the unflushed immutable and the pinned immutable memtables, which is
+   * also the memory accounted for the column family by a
+   * {@link WriteBufferManager}.
+   *
+   * @param columnFamilyHandles the column families.
+   *
+   * @return the memtable usage of each column family in bytes, in the same
+   *     order as {@code columnFamilyHandles}.
+   *
+   * @throws RocksDBException thrown if an error occurs within the native
+   *     part of the library.
+   */
+  public long[] getMemTableUsage(
+      final List<ColumnFamilyHandle> columnFamilyHandles)
+      throws RocksDBException {
+    final long[] cfHandles = new long[columnFamilyHandles.size()];
+    for (int i = 0; i < cfHandles.length; i++) {
+      cfHandles[i] = columnFamilyHandles.get(i).nativeHandle_;
+    }
+    return getMemTableUsage(nativeHandle_, cfHandles);
+  }
+
   /**
    * <p>Range compaction of database.</p>
    * <p><strong>Note</strong>: After the database has been compacted,
@@ -3217,7 +3273,8 @@ public class RocksDB extends RocksObject {
       /* @Nullable */final ColumnFamilyHandle columnFamilyHandle,
       final MutableColumnFamilyOptions mutableColumnFamilyOptions)
       throws RocksDBException {
-    setOptions(nativeHandle_, columnFamilyHandle.nativeHandle_,
+    setOptions(nativeHandle_,
+        columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_,
         mutableColumnFamilyOptions.getKeys(),
         mutableColumnFamilyOptions.getValues());
   }
@@ -4118,6 +4175,10 @@ public class RocksDB extends RocksObject {
   private native long createColumnFamily(final long handle,
       final byte[] columnFamilyName, final int columnFamilyNamelen,
       final long columnFamilyOptions) throws RocksDBException;
+  private native long createColumnFamilyWithImport(final long handle,
+      final byte[] columnFamilyName, final int columnFamilyNamelen,
+      final long columnFamilyOptions, final long importOptionsHandle,
+      final long metadataHandle) throws RocksDBException;
   private native long[] createColumnFamilies(final long handle,
       final long columnFamilyOptionsHandle, final byte[][] columnFamilyNames)
       throws RocksDBException;
@@ -4274,6 +4335,8 @@ public class RocksDB extends RocksObject {
   private final native long[] getApproximateMemTableStats(
       final long nativeHandle, final long columnFamilyHandle,
       final long rangeStartSliceHandle, final long rangeLimitSliceHandle);
+  private native long[] getMemTableUsage(final long nativeHandle,
+      final long[] columnFamilyHandles) throws RocksDBException;
   private native void compactRange(final long handle,
       /* @Nullable */ final byte[] begin, final int beginLen,
       /* @Nullable */ final byte[] end, final int endLen,
@@ -50,6 +50,27 @@ public class RocksIterator extends AbstractRocksIterator<RocksDB> {
     return value0(nativeHandle_);
   }
 
+  /**
+   * <p>A hint that the iterator is about to scan forward from its current
+   * position up to the given upper bound, exclusive, e.g. right after a
+   * {@link #seek(byte[])} to the start of a range scan whose end is known.
+   * The SST files of the range are then read ahead from the next read on,
+   * with reads of the maximum size of the automatic readahead, rather than
+   * only after a few reads of each file, and not beyond the data block of the
+   * upper bound.</p>
+   *
+   * <p>Unlike {@link ReadOptions#setIterateUpperBound(AbstractSlice)}, the
+   * hint does not stop the iterator at the upper bound. It holds until the
+   * next seek, and is ignored if {@link ReadOptions#setReadaheadSize(long)}
+   * is set.</p>
+   *
+   * @param upperBound the key before which the scan is expected to end.
+   */
+  public void prefetch(final byte[] upperBound) {
+    assert(isOwningHandle());
+    prefetch0(nativeHandle_, upperBound, upperBound.length);
+  }
+
   @Override protected final native void disposeInternal(final long handle);
   @Override final native boolean isValid0(long handle);
   @Override final native void seekToFirst0(long handle);
@@ -62,4 +83,6 @@ public class RocksIterator extends AbstractRocksIterator<RocksDB> {
 
   private native byte[] key0(long handle);
   private native byte[] value0(long handle);
+  private native void prefetch0(long handle, byte[] upperBound,
+      int upperBoundLen);
 }
@@ -0,0 +1,127 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A cache which wraps a real {@link Cache} and simulates the hit rate that
+ * a cache of a different capacity would achieve for the same workload.
+ *
+ * <p>All operations are passed through to the wrapped cache, whilst the
+ * simulated cache only stores the keys and charges of the entries, so it
+ * needs much less memory than a real cache of the simulated capacity;
+ * generally the overhead is less than 2% of the simulated capacity.</p>
+ *
+ * <p>A SimCache is used in place of the real cache, e.g. with
+ * {@link BlockBasedTableConfig#setBlockCache(Cache)}. To simulate several
+ * capacities at once, SimCaches can be nested, as each SimCache passes all
+ * operations through to the cache it wraps:</p>
+ *
+ * <pre>{@code
+ *   final Cache realCache = new LRUCache(8L << 30);
+ *   final SimCache sim16g = new SimCache(realCache, 16L << 30, -1);
+ *   final SimCache sim32g = new SimCache(sim16g, 32L << 30, -1);
+ *   tableConfig.setBlockCache(sim32g);
+ * }</pre>
+ */
+public class SimCache extends Cache {
+
+  /**
+   * Create a new SimCache with a simulated LRU cache of the
+   * given capacity.
+   *
+   * @param cache the real cache which is wrapped.
+   * @param simCapacity the capacity of the simulated cache.
+   * @param numShardBits the simulated cache is sharded to
+   *     2^numShardBits shards, by hash of the key; -1 means that
+   *     the number of shard bits is automatically determined.
+   */
+  public SimCache(final Cache cache, final long simCapacity,
+      final int numShardBits) {
+    super(newSimCache(cache.nativeHandle_, simCapacity, numShardBits));
+  }
+
+  /**
+   * Get the maximum configured capacity of the simulated cache.
+   *
+   * @return the simulated capacity.
+   */
+  public long simCapacity() {
+    return simCapacity(nativeHandle_);
+  }
+
+  /**
+   * Set the maximum configured capacity of the simulated cache.
+   *
+   * When the new capacity is less than the current usage of the
+   * simulated cache, entries are purged to fit the new capacity.
+   *
+   * @param simCapacity the simulated capacity.
+   *
+   * @return the reference to the current SimCache.
+   */
+  public SimCache setSimCapacity(final long simCapacity) {
+    setSimCapacity(nativeHandle_, simCapacity);
+    return this;
+  }
+
+  /**
+   * Get the memory size of the entries residing in the simulated cache.
+   *
+   * @return the simulated usage.
+   */
+  public long simUsage() {
+    return simUsage(nativeHandle_);
+  }
+
+  /**
+   * Get the number of lookups which would have been hits in the
+   * simulated cache.
+   *
+   * @return the number of hits.
+   */
+  public long hitCount() {
+    return hitCount(nativeHandle_);
+  }
+
+  /**
+   * Get the number of lookups which would have been misses in the
+   * simulated cache.
+   *
+   * @return the number of misses.
+   */
+  public long missCount() {
+    return missCount(nativeHandle_);
+  }
+
+  /**
+   * Reset the hit and miss counters.
+   */
+  public void resetCounters() {
+    resetCounters(nativeHandle_);
+  }
+
+  /**
+   * Get a human readable summary of the simulated capacity,
+   * usage and hit rate.
+   *
+   * @return the statistics of the SimCache.
+   */
+  public String getStatistics() {
+    return getStatistics(nativeHandle_);
+  }
+
+  private native static long newSimCache(final long cacheHandle,
+      final long simCapacity, final int numShardBits);
+  private native long simCapacity(final long handle);
+  private native void setSimCapacity(final long handle,
+      final long simCapacity);
+  private native long simUsage(final long handle);
+  private native long hitCount(final long handle);
+  private native long missCount(final long handle);
+  private native void resetCounters(final long handle);
+  private native String getStatistics(final long handle);
+  @Override protected final native void disposeInternal(final long handle);
+}
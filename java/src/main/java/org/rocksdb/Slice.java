@@ -21,6 +21,12 @@ public class Slice extends AbstractSlice<byte[]> {
   private volatile boolean cleared;
   private volatile long internalBufferOffset = 0;
 
+  /**
+   * The number of bytes allocated for the native buffer backing this slice,
+   * or -1 if it has not yet been determined.
+   */
+  private volatile long internalBufferCapacity = -1;
+
   /**
    * <p>Called from JNI to construct a new Java Slice
    * without an underlying C++ object set
@@ -106,6 +112,60 @@ public class Slice extends AbstractSlice<byte[]> {
     this.internalBufferOffset += n;
   }
 
+  /**
+   * <p>Replaces the data of this slice with a copy of
+   * {@code length} bytes of {@code data}, starting
+   * at {@code offset}.</p>
+   *
+   * <p>The native buffer backing this slice is reused whenever
+   * it is large enough to hold the new data, so no allocation takes
+   * place. As {@link ReadOptions} refers to the underlying C++ slice,
+   * a slice which has been passed to
+   * {@link ReadOptions#setIterateUpperBound(AbstractSlice)} or
+   * {@link ReadOptions#setIterateLowerBound(AbstractSlice)} can be
+   * retargeted in place for each new scan.</p>
+   *
+   * <p>The slice must not be modified whilst an iterator which
+   * uses it as a bound is still in use.</p>
+   *
+   * @param data byte array.
+   * @param offset offset within the byte array.
+   * @param length number of bytes to copy from the byte array.
+   *
+   * @return the reference to this slice.
+   */
+  public Slice setData(final byte[] data, final int offset,
+      final int length) {
+    assert(isOwningHandle());
+    if (offset < 0 || length < 0 || offset + length > data.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    long capacity = internalBufferCapacity;
+    if (!cleared && capacity == -1) {
+      // the buffer is at least as large as the data it was created with
+      capacity = internalBufferOffset + size();
+    }
+    this.internalBufferCapacity = setData0(getNativeHandle(), data, offset,
+        length, !cleared, internalBufferOffset, capacity);
+    this.internalBufferOffset = 0;
+    this.cleared = false;
+    return this;
+  }
+
+  /**
+   * <p>Replaces the data of this slice with a copy of
+   * the byte array.</p>
+   *
+   * @see #setData(byte[], int, int)
+   *
+   * @param data byte array.
+   *
+   * @return the reference to this slice.
+   */
+  public Slice setData(final byte[] data) {
+    return setData(data, 0, data.length);
+  }
+
   /**
    * <p>Deletes underlying C++ slice pointer
    * and any buffered data.</p>
@@ -131,6 +191,9 @@ public class Slice extends AbstractSlice<byte[]> {
   private native void clear0(long handle, boolean internalBuffer,
       long internalBufferOffset);
   private native void removePrefix0(long handle, int length);
+  private native long setData0(long handle, byte[] data, int offset,
+      int length, boolean internalBuffer, long internalBufferOffset,
+      long internalBufferCapacity);
   private native void disposeInternalBuf(final long handle,
       long internalBufferOffset);
 }
@@ -0,0 +1,49 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A SliceTransform is a generic pluggable way of transforming one key
+ * to another. Its primary use-case is in configuring RocksDB to
+ * store prefix blooms by setting a prefix extractor via
+ * {@link ColumnFamilyOptionsInterface#setPrefixExtractor(SliceTransform)}.
+ *
+ * This is the base class of the slice transforms which are implemented
+ * natively in C++. To implement a slice transform in Java, extend
+ * {@link AbstractSliceTransform} instead.
+ */
+public abstract class SliceTransform extends RocksObject {
+
+  protected SliceTransform(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  /**
+   * The name of the slice transform.
+   *
+   * @return the name of the slice transform.
+   */
+  public String name() {
+    assert(isOwningHandle());
+    return name(nativeHandle_);
+  }
+
+  /**
+   * Deletes underlying C++ slice transform pointer.
+   *
+   * Note that this function should be called only after all
+   * RocksDB instances referencing the slice transform are closed.
+   * Otherwise an undefined behavior will occur.
+   */
+  @Override
+  protected void disposeInternal() {
+    disposeInternal(nativeHandle_);
+  }
+
+  private native String name(final long handle);
+  @Override
+  protected final native void disposeInternal(final long handle);
+}
@@ -0,0 +1,23 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A factory of the native SST partitioners, which decide at which keys the
+ * output SST files of a compaction are cut, see
+ * {@link ColumnFamilyOptions#setSstPartitionerFactory(SstPartitionerFactory)}.
+ *
+ * <p>A partitioner written in Java can be provided by extending
+ * {@link AbstractSstPartitionerFactory} instead.</p>
+ */
+public abstract class SstPartitionerFactory extends RocksObject {
+
+  protected SstPartitionerFactory(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  @Override protected final native void disposeInternal(final long handle);
+}
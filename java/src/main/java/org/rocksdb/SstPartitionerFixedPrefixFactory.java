@@ -0,0 +1,31 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Partitions the output SST files of compactions by a fixed length key
+ * prefix, a new file is started whenever the prefix changes.
+ *
+ * <p>When the prefix identifies e.g. a tenant, the data of each tenant is
+ * kept in separate files below level 0, which can then be dropped cheaply
+ * by {@link RocksDB#deleteFilesInRanges(ColumnFamilyHandle, java.util.List,
+ * boolean)}.</p>
+ */
+public class SstPartitionerFixedPrefixFactory extends SstPartitionerFactory {
+
+  /**
+   * Create a new fixed prefix partitioner factory.
+   *
+   * @param prefixLength the length of the key prefix, keys which are
+   *     shorter are used as their own prefix.
+   */
+  public SstPartitionerFixedPrefixFactory(final long prefixLength) {
+    super(newSstPartitionerFixedPrefixFactory(prefixLength));
+  }
+
+  private native static long newSstPartitionerFixedPrefixFactory(
+      final long prefixLength);
+}
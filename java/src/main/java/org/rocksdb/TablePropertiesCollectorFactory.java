@@ -0,0 +1,46 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Base class for factories of table properties collectors.
+ *
+ * A new table properties collector is created by the factory for
+ * each SST file which is written by a flush or compaction. The collector
+ * observes every entry which is added to the file and may add its own
+ * properties to the file, which can later be retrieved by
+ * {@link TableProperties#getUserCollectedProperties()}, or may mark
+ * the file as needing compaction.
+ *
+ * Factories are set on the column family options with
+ * {@link ColumnFamilyOptionsInterface#setTablePropertiesCollectorFactories(
+ * java.util.List)}.
+ *
+ * See {@link CompactOnDeletionCollectorFactory} for a native
+ * implementation, and {@link AbstractTablePropertiesCollectorFactory}
+ * for implementing a factory in Java.
+ */
+public abstract class TablePropertiesCollectorFactory extends RocksObject {
+
+  protected TablePropertiesCollectorFactory(final long nativeHandle) {
+    super(nativeHandle);
+  }
+
+  /**
+   * Deletes underlying C++ factory pointer.
+   *
+   * The options which the factory has been set on hold their own
+   * reference to the underlying C++ factory, so the factory may be
+   * closed whilst they are in use.
+   */
+  @Override
+  protected void disposeInternal() {
+    disposeInternal(nativeHandle_);
+  }
+
+  @Override
+  protected final native void disposeInternal(final long handle);
+}
@@ -722,6 +722,39 @@ public enum TickerType {
      */
     TXN_GET_TRY_AGAIN((byte) -0x0D),
 
+    /**
+     * # of entries evicted from the commit cache of WritePrepared
+     * transactions.
+     *
+     * @see TransactionDBOptions#setCommitCacheBits(long)
+     */
+    TXN_COMMIT_CACHE_EVICTIONS((byte) -0x0E),
+
+    /**
+     * # of prepared transactions moved out of the prepared heap, because the
+     * max evicted sequence number of the commit cache advanced beyond them.
+     */
+    TXN_PREPARED_EVICTIONS((byte) -0x0F),
+
+    /**
+     * # of aligned buffers for direct I/O taken from the aligned buffer pool
+     * instead of being allocated.
+     *
+     * @see DBOptions#setUseDirectReads(boolean)
+     * @see DBOptions#setUseDirectIoForFlushAndCompaction(boolean)
+     */
+    ALIGNED_BUFFER_REUSED((byte) -0x10),
+
+    /**
+     * # of aligned buffers for direct I/O allocated.
+     */
+    ALIGNED_BUFFER_ALLOCATED((byte) -0x11),
+
+    /**
+     * # of bytes allocated for aligned buffers for direct I/O.
+     */
+    ALIGNED_BUFFER_ALLOCATED_BYTES((byte) -0x12),
+
     TICKER_ENUM_MAX((byte) 0x5F);
 
     private final byte value;
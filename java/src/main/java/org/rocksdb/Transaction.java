@@ -5,6 +5,9 @@
 
 package org.rocksdb;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -585,6 +588,137 @@ public class Transaction extends RocksObject {
         readOptions.nativeHandle_, keys);
   }
 
+  /**
+   * A multi-key version of
+   * {@link #getForUpdate(ReadOptions, ColumnFamilyHandle, byte[], boolean)}
+   * which reads the values into caller supplied direct ByteBuffers, and
+   * reports a status for each key.
+   *
+   * All of the keys are locked exclusively in a single call. The locks are
+   * acquired in key order, ordered first by column family id and then by
+   * the comparator of the column family, whatever the order of
+   * {@code keys}. Transactions which lock overlapping sets of keys with
+   * this method therefore cannot deadlock each other. If any key cannot
+   * be locked, the status of every key is the status of the failed lock.
+   *
+   * The key bytes are read from the position up to the limit of each key
+   * buffer. Each value is copied to its buffer starting at the position,
+   * and the limit of the buffer is set to the end of the copied bytes.
+   * If the value is larger than the remaining space of its buffer only
+   * the leading bytes are copied, and
+   * {@link ByteBufferGetStatus#requiredSize} can be used to retry
+   * with a larger buffer.
+   *
+   * @param readOptions Read options.
+   * @param columnFamilyHandles {@link org.rocksdb.ColumnFamilyHandle}
+   *     instances, one for each key
+   * @param keys the keys to retrieve the values for, which must be
+   *     direct buffers.
+   * @param values the buffers to retrieve the values into, one for each
+   *     key, which must be direct buffers.
+   *
+   * @return the results, one for each key, in the order of {@code keys}.
+   *
+   * @throws IllegalArgumentException if the number of column family handles,
+   *     keys and values differ, or if any of the buffers is not direct.
+   */
+  public List<ByteBufferGetStatus> multiGetForUpdate(
+      final ReadOptions readOptions,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final List<ByteBuffer> keys, final List<ByteBuffer> values) {
+    assert(isOwningHandle());
+    if (keys.size() != columnFamilyHandles.size()) {
+      throw new IllegalArgumentException(
+          "For each key there must be a ColumnFamilyHandle.");
+    }
+    final long[] cfHandles = new long[columnFamilyHandles.size()];
+    for (int i = 0; i < columnFamilyHandles.size(); i++) {
+      cfHandles[i] = columnFamilyHandles.get(i).nativeHandle_;
+    }
+    return multiGetForUpdate(readOptions, cfHandles, keys, values);
+  }
+
+  /**
+   * A multi-key version of {@link #getForUpdate(ReadOptions, byte[], boolean)}
+   * which reads the values into caller supplied direct ByteBuffers, and
+   * reports a status for each key.
+   *
+   * See {@link #multiGetForUpdate(ReadOptions, List, List, List)}.
+   *
+   * @param readOptions Read options.
+   * @param keys the keys to retrieve the values for, which must be
+   *     direct buffers.
+   * @param values the buffers to retrieve the values into, one for each
+   *     key, which must be direct buffers.
+   *
+   * @return the results, one for each key, in the order of {@code keys}.
+   *
+   * @throws IllegalArgumentException if the number of keys and values
+   *     differ, or if any of the buffers is not direct.
+   */
+  public List<ByteBufferGetStatus> multiGetForUpdate(
+      final ReadOptions readOptions, final List<ByteBuffer> keys,
+      final List<ByteBuffer> values) {
+    assert(isOwningHandle());
+    final long[] cfHandles = new long[keys.size()];
+    if (cfHandles.length > 0) {
+      final long defaultCfHandle = parent.getDefaultColumnFamily().nativeHandle_;
+      for (int i = 0; i < cfHandles.length; i++) {
+        cfHandles[i] = defaultCfHandle;
+      }
+    }
+    return multiGetForUpdate(readOptions, cfHandles, keys, values);
+  }
+
+  private List<ByteBufferGetStatus> multiGetForUpdate(
+      final ReadOptions readOptions, final long[] cfHandles,
+      final List<ByteBuffer> keys, final List<ByteBuffer> values) {
+    if (keys.size() != values.size()) {
+      throw new IllegalArgumentException(
+          "For each key there must be a value buffer.");
+    }
+    if (keys.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final int numKeys = keys.size();
+    final ByteBuffer[] keysArray = new ByteBuffer[numKeys];
+    final int[] keyOffsets = new int[numKeys];
+    final int[] keyLengths = new int[numKeys];
+    final ByteBuffer[] valuesArray = new ByteBuffer[numKeys];
+    final int[] valueOffsets = new int[numKeys];
+    final int[] valueLengths = new int[numKeys];
+    for (int i = 0; i < numKeys; i++) {
+      final ByteBuffer key = keys.get(i);
+      final ByteBuffer value = values.get(i);
+      if (!key.isDirect() || !value.isDirect()) {
+        throw new IllegalArgumentException(
+            "Keys and values must be direct ByteBuffers.");
+      }
+      keysArray[i] = key;
+      keyOffsets[i] = key.position();
+      keyLengths[i] = key.remaining();
+      valuesArray[i] = value;
+      valueOffsets[i] = value.position();
+      valueLengths[i] = value.remaining();
+    }
+
+    final int[] valueSizes = new int[numKeys];
+    final Status[] statuses = multiGetForUpdate(nativeHandle_,
+        readOptions.nativeHandle_, cfHandles, keysArray, keyOffsets,
+        keyLengths, valuesArray, valueOffsets, valueLengths, valueSizes);
+
+    final List<ByteBufferGetStatus> results = new ArrayList<>(numKeys);
+    for (int i = 0; i < numKeys; i++) {
+      final ByteBuffer value = valuesArray[i];
+      if (statuses[i].getCode() == Status.Code.Ok) {
+        value.limit(valueOffsets[i] + Math.min(valueSizes[i], valueLengths[i]));
+      }
+      results.add(new ByteBufferGetStatus(statuses[i], valueSizes[i], value));
+    }
+    return results;
+  }
+
   /**
    * Returns an iterator that will iterate on all keys in the default
    * column family including both keys in the DB and uncommitted keys in this
@@ -1910,6 +2044,11 @@ public class Transaction extends RocksObject {
   private native byte[][] multiGetForUpdate(final long handle,
       final long readOptionsHandle, final byte[][] keys)
       throws RocksDBException;
+  private native Status[] multiGetForUpdate(final long handle,
+      final long readOptionsHandle, final long[] columnFamilyHandles,
+      final ByteBuffer[] keys, final int[] keyOffsets, final int[] keyLengths,
+      final ByteBuffer[] values, final int[] valueOffsets,
+      final int[] valueLengths, final int[] valueSizes);
   private native long getIterator(final long handle,
       final long readOptionsHandle);
   private native long getIterator(final long handle,
@@ -199,6 +199,113 @@ public class TransactionDBOptions extends RocksObject {
     return this;
   }
 
+  /**
+   * This option is only valid for
+   * {@link TxnDBWritePolicy#WRITE_UNPREPARED}. If a write batch exceeds
+   * this threshold, then the transaction will implicitly flush the currently
+   * pending writes into the database, so that the memory held by a large
+   * transaction is bounded.
+   *
+   * @return The threshold in bytes, a value of 0 or less means no limit.
+   */
+  public long getDefaultWriteBatchFlushThreshold() {
+    assert(isOwningHandle());
+    return getDefaultWriteBatchFlushThreshold(nativeHandle_);
+  }
+
+  /**
+   * This option is only valid for
+   * {@link TxnDBWritePolicy#WRITE_UNPREPARED}. If a write batch exceeds
+   * this threshold, then the transaction will implicitly flush the currently
+   * pending writes into the database, so that the memory held by a large
+   * transaction is bounded.
+   *
+   * The threshold may be overridden per transaction by
+   * {@link TransactionOptions#setWriteBatchFlushThreshold(long)}.
+   *
+   * Default: 0
+   *
+   * @param defaultWriteBatchFlushThreshold the threshold in bytes, a value
+   *     of 0 or less means no limit.
+   *
+   * @return this TransactionDBOptions instance
+   */
+  public TransactionDBOptions setDefaultWriteBatchFlushThreshold(
+      final long defaultWriteBatchFlushThreshold) {
+    assert(isOwningHandle());
+    setDefaultWriteBatchFlushThreshold(nativeHandle_,
+        defaultWriteBatchFlushThreshold);
+    return this;
+  }
+
+  /**
+   * This option is only valid for {@link TxnDBWritePolicy#WRITE_PREPARED}
+   * and {@link TxnDBWritePolicy#WRITE_UNPREPARED}. It is log2 of the number
+   * of entries in the cache of live snapshots.
+   *
+   * @return log2 of the number of entries in the snapshot cache.
+   */
+  public long getSnapshotCacheBits() {
+    assert(isOwningHandle());
+    return getSnapshotCacheBits(nativeHandle_);
+  }
+
+  /**
+   * This option is only valid for {@link TxnDBWritePolicy#WRITE_PREPARED}
+   * and {@link TxnDBWritePolicy#WRITE_UNPREPARED}. It is log2 of the number
+   * of entries in the cache of live snapshots, which is consulted before
+   * the slower list of snapshots that did not fit into the cache.
+   *
+   * Default: 7, i.e. 128 entries
+   *
+   * @param snapshotCacheBits log2 of the number of entries in the snapshot
+   *     cache.
+   *
+   * @return this TransactionDBOptions instance
+   */
+  public TransactionDBOptions setSnapshotCacheBits(
+      final long snapshotCacheBits) {
+    assert(isOwningHandle());
+    setSnapshotCacheBits(nativeHandle_, snapshotCacheBits);
+    return this;
+  }
+
+  /**
+   * This option is only valid for {@link TxnDBWritePolicy#WRITE_PREPARED}
+   * and {@link TxnDBWritePolicy#WRITE_UNPREPARED}. It is log2 of the number
+   * of entries in the commit cache.
+   *
+   * @return log2 of the number of entries in the commit cache.
+   */
+  public long getCommitCacheBits() {
+    assert(isOwningHandle());
+    return getCommitCacheBits(nativeHandle_);
+  }
+
+  /**
+   * This option is only valid for {@link TxnDBWritePolicy#WRITE_PREPARED}
+   * and {@link TxnDBWritePolicy#WRITE_UNPREPARED}. It is log2 of the number
+   * of entries in the commit cache, which maps recently committed
+   * transactions to their commit sequence numbers. Each entry takes 8 bytes.
+   *
+   * If the commit cache is too small for the rate of commits, entries are
+   * evicted whilst they are still needed by live snapshots, and reads have
+   * to fall back to slower structures; this can be monitored by
+   * {@link TickerType#TXN_COMMIT_CACHE_EVICTIONS} and
+   * {@link TickerType#TXN_PREPARED_EVICTIONS}.
+   *
+   * Default: 23, i.e. 8m entries, 64MB
+   *
+   * @param commitCacheBits log2 of the number of entries in the commit cache.
+   *
+   * @return this TransactionDBOptions instance
+   */
+  public TransactionDBOptions setCommitCacheBits(final long commitCacheBits) {
+    assert(isOwningHandle());
+    setCommitCacheBits(nativeHandle_, commitCacheBits);
+    return this;
+  }
+
   private native static long newTransactionDBOptions();
   private native long getMaxNumLocks(final long handle);
   private native void setMaxNumLocks(final long handle,
@@ -213,5 +320,14 @@ public class TransactionDBOptions extends RocksObject {
       final long transactionLockTimeout);
   private native byte getWritePolicy(final long handle);
   private native void setWritePolicy(final long handle, final byte writePolicy);
+  private native long getDefaultWriteBatchFlushThreshold(final long handle);
+  private native void setDefaultWriteBatchFlushThreshold(final long handle,
+      final long defaultWriteBatchFlushThreshold);
+  private native long getSnapshotCacheBits(final long handle);
+  private native void setSnapshotCacheBits(final long handle,
+      final long snapshotCacheBits);
+  private native long getCommitCacheBits(final long handle);
+  private native void setCommitCacheBits(final long handle,
+      final long commitCacheBits);
   @Override protected final native void disposeInternal(final long handle);
 }
@@ -168,6 +168,38 @@ public class TransactionOptions extends RocksObject
     return this;
   }
 
+  /**
+   * Get the threshold in bytes at which the write batch of a
+   * {@link TxnDBWritePolicy#WRITE_UNPREPARED} transaction is flushed into
+   * the database.
+   *
+   * @return the threshold in bytes, a negative value means that
+   *     {@link TransactionDBOptions#getDefaultWriteBatchFlushThreshold()}
+   *     is used.
+   */
+  public long getWriteBatchFlushThreshold() {
+    return getWriteBatchFlushThreshold(nativeHandle_);
+  }
+
+  /**
+   * Set the threshold in bytes at which the write batch of a
+   * {@link TxnDBWritePolicy#WRITE_UNPREPARED} transaction is flushed into
+   * the database. Flushing the pending writes of very large transactions,
+   * e.g. batch deletes, keeps their memory usage bounded.
+   *
+   * @param writeBatchFlushThreshold the threshold in bytes, a negative value
+   *     means that
+   *     {@link TransactionDBOptions#getDefaultWriteBatchFlushThreshold()}
+   *     is used.
+   *
+   * @return this TransactionOptions instance
+   */
+  public TransactionOptions setWriteBatchFlushThreshold(
+      final long writeBatchFlushThreshold) {
+    setWriteBatchFlushThreshold(nativeHandle_, writeBatchFlushThreshold);
+    return this;
+  }
+
   private native static long newTransactionOptions();
   private native boolean isSetSnapshot(final long handle);
   private native void setSetSnapshot(final long handle,
@@ -185,5 +217,8 @@ public class TransactionOptions extends RocksObject
   private native long getMaxWriteBatchSize(final long handle);
   private native void setMaxWriteBatchSize(final long handle,
       final long maxWriteBatchSize);
+  private native long getWriteBatchFlushThreshold(final long handle);
+  private native void setWriteBatchFlushThreshold(final long handle,
+      final long writeBatchFlushThreshold);
   @Override protected final native void disposeInternal(final long handle);
 }
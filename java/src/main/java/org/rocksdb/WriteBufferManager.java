@@ -27,7 +27,86 @@ public class WriteBufferManager extends RocksObject {
     super(newWriteBufferManager(bufferSizeBytes, cache.nativeHandle_));
   }
 
+  /**
+   * Get the memory of all the memtables accounted by this write buffer
+   * manager, in bytes. This includes the memtables which are being flushed,
+   * and the immutable memtables which are pinned, in all the databases
+   * sharing the manager.
+   *
+   * Only valid if the buffer size is not 0.
+   *
+   * @return the memory usage.
+   */
+  public long memoryUsage() {
+    return memoryUsage(nativeHandle_);
+  }
+
+  /**
+   * Get the memory of the memtables accounted by this write buffer manager
+   * which are not yet scheduled to be flushed, in bytes.
+   *
+   * Only valid if the buffer size is not 0.
+   *
+   * @return the mutable memtable memory usage.
+   */
+  public long mutableMemtableMemoryUsage() {
+    return mutableMemtableMemoryUsage(nativeHandle_);
+  }
+
+  /**
+   * Get the buffer size, i.e. the memory limit for all the memtables, in
+   * bytes. 0 means no limit.
+   *
+   * @return the buffer size.
+   */
+  public long bufferSize() {
+    return bufferSize(nativeHandle_);
+  }
+
+  /**
+   * Change the buffer size whilst the manager is in use, e.g. to shift
+   * memory between write buffer managers which are shared by different
+   * groups of databases. A lower limit causes memtables to be flushed at
+   * their next write.
+   *
+   * @param bufferSizeBytes the new buffer size, in bytes.
+   *
+   * @throws IllegalArgumentException if the new buffer size is not
+   *     positive, or the manager was created without a limit, as the
+   *     memory usage is not tracked without one.
+   */
+  public void setBufferSize(final long bufferSizeBytes) {
+    if (bufferSizeBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Buffer size must be positive: " + bufferSizeBytes);
+    }
+    if (bufferSize() == 0) {
+      throw new IllegalArgumentException(
+          "The buffer size of a WriteBufferManager without a limit cannot"
+              + " be changed");
+    }
+    setBufferSize(nativeHandle_, bufferSizeBytes);
+  }
+
+  /**
+   * Whether the memory usage has reached the limit, so that the
+   * memtables of the databases sharing this manager are flushed at
+   * their next write, which can stall writes until the flushes have
+   * completed.
+   *
+   * @return true if the limit is reached.
+   */
+  public boolean shouldFlush() {
+    return shouldFlush(nativeHandle_);
+  }
+
   private native static long newWriteBufferManager(final long bufferSizeBytes, final long cacheHandle);
+  private native long memoryUsage(final long handle);
+  private native long mutableMemtableMemoryUsage(final long handle);
+  private native long bufferSize(final long handle);
+  private native void setBufferSize(final long handle,
+      final long bufferSizeBytes);
+  private native boolean shouldFlush(final long handle);
   @Override
   protected native void disposeInternal(final long handle);
 }
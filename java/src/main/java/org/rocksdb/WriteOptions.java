@@ -200,8 +200,24 @@ public class WriteOptions extends RocksObject {
     return lowPri(nativeHandle_);
   }
 
+  /**
+   * Resets all of the options to their default values.
+   *
+   * This allows a single WriteOptions instance, for example one held in
+   * a thread-local, to be reused across requests instead of creating and
+   * disposing of a new native object each time.
+   *
+   * @return the instance of the current WriteOptions.
+   */
+  public WriteOptions reset() {
+    assert(isOwningHandle());
+    reset(nativeHandle_);
+    return this;
+  }
+
   private native static long newWriteOptions();
   private native static long copyWriteOptions(long handle);
+  private native void reset(final long handle);
   @Override protected final native void disposeInternal(final long handle);
 
   private native void setSync(long handle, boolean flag);
@@ -0,0 +1,95 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AbstractCacheTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void admitNothing() throws RocksDBException {
+    try (final Cache lruCache = new LRUCache(8 * 1024 * 1024);
+         final CountingCache cache = new CountingCache(lruCache, false)) {
+      getThreeTimes(cache);
+      assertThat(cache.lookups.get()).isEqualTo(3);
+      assertThat(cache.hits.get()).isEqualTo(0);
+      assertThat(cache.admits.get()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  public void admitEverything() throws RocksDBException {
+    try (final Cache lruCache = new LRUCache(8 * 1024 * 1024);
+         final CountingCache cache = new CountingCache(lruCache, true)) {
+      getThreeTimes(cache);
+      assertThat(cache.lookups.get()).isEqualTo(3);
+      assertThat(cache.hits.get()).isEqualTo(2);
+      assertThat(cache.admits.get()).isEqualTo(1);
+    }
+  }
+
+  private void getThreeTimes(final Cache cache) throws RocksDBException {
+    try (final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setBlockCache(cache));
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key".getBytes(), "value".getBytes());
+      try (final FlushOptions flushOptions =
+               new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+
+      for (int i = 0; i < 3; i++) {
+        assertThat(db.get("key".getBytes())).isEqualTo("value".getBytes());
+      }
+    }
+  }
+
+  private static class CountingCache extends AbstractCache {
+    private final boolean admit;
+    final AtomicInteger lookups = new AtomicInteger();
+    final AtomicInteger hits = new AtomicInteger();
+    final AtomicInteger admits = new AtomicInteger();
+
+    CountingCache(final Cache cache, final boolean admit) {
+      super(cache, true);
+      this.admit = admit;
+    }
+
+    @Override
+    public void onLookup(final ByteBuffer key, final boolean hit) {
+      assertThat(key.remaining()).isGreaterThan(0);
+      lookups.incrementAndGet();
+      if (hit) {
+        hits.incrementAndGet();
+      }
+    }
+
+    @Override
+    public boolean admit(final ByteBuffer key, final long charge) {
+      assertThat(charge).isGreaterThan(0);
+      admits.incrementAndGet();
+      return admit;
+    }
+  }
+}
@@ -0,0 +1,353 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class AbstractFileSystemTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void sstFilesInJavaFileSystem() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath();
+    try (final InMemoryFileSystem fileSystem = new InMemoryFileSystem(".sst");
+         final Env env = new CompositeEnv(Env.getDefault(), fileSystem)) {
+
+      try (final Options options = new Options()
+               .setCreateIfMissing(true)
+               .setEnv(env);
+           final RocksDB db = RocksDB.open(options, dbPath)) {
+        for (int i = 0; i < 100; i++) {
+          db.put(("key" + i).getBytes(), ("value" + i).getBytes());
+        }
+        db.flush(new FlushOptions().setWaitForFlush(true));
+
+        assertThat(fileSystem.files.keySet()).hasSize(1);
+        assertThat(localSstFiles(dbPath)).isEmpty();
+
+        assertThat(db.get("key7".getBytes())).isEqualTo("value7".getBytes());
+        final List<byte[]> values = db.multiGetAsList(
+            Arrays.asList("key1".getBytes(), "key2".getBytes(), "key3".getBytes()));
+        assertThat(values).containsExactly("value1".getBytes(), "value2".getBytes(),
+            "value3".getBytes());
+      }
+
+      // the SST files of the Java file system are found again on re-open
+      try (final Options options = new Options().setEnv(env);
+           final RocksDB db = RocksDB.open(options, dbPath)) {
+        assertThat(db.get("key42".getBytes())).isEqualTo("value42".getBytes());
+
+        db.put("key42".getBytes(), "value42-2".getBytes());
+        db.flush(new FlushOptions().setWaitForFlush(true));
+        assertThat(fileSystem.files.keySet()).hasSize(2);
+
+        // obsolete SST files are deleted from the Java file system
+        db.compactRange();
+        assertThat(fileSystem.files.keySet()).hasSize(1);
+        assertThat(db.get("key42".getBytes())).isEqualTo("value42-2".getBytes());
+      }
+
+      assertThat(fileSystem.randomAccessFilesOpened.get()).isGreaterThan(0);
+    }
+  }
+
+  @Test
+  public void exceptionFromJavaFileSystem() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath();
+    try (final AbstractFileSystem fileSystem = new AbstractFileSystem() {
+           @Override
+           public FSWritableFile newWritableFile(final String fname)
+               throws RocksDBException {
+             if (fname.endsWith(".sst")) {
+               throw new RocksDBException("no space for SST files");
+             }
+             return null;
+           }
+         };
+         final Env env = new CompositeEnv(Env.getDefault(), fileSystem);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setEnv(env);
+         final RocksDB db = RocksDB.open(options, dbPath)) {
+      db.put("key".getBytes(), "value".getBytes());
+      try {
+        db.flush(new FlushOptions().setWaitForFlush(true));
+        fail("Expected the flush to fail");
+      } catch (final RocksDBException e) {
+        assertThat(e.getMessage()).contains("no space for SST files");
+      }
+    }
+  }
+
+  @Test
+  public void endOfFileFromJavaFileSystem() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath();
+    try (final InMemoryFileSystem fileSystem = new InMemoryFileSystem(".log");
+         final Env env = new CompositeEnv(Env.getDefault(), fileSystem);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setEnv(env)) {
+      try (final RocksDB db = RocksDB.open(options, dbPath)) {
+        db.put("key".getBytes(), "value".getBytes());
+      }
+
+      // the first re-open recovers the key from the WAL, and leaves an
+      // empty WAL, whose first read returns -1 on the second re-open
+      for (int i = 0; i < 2; i++) {
+        try (final RocksDB db = RocksDB.open(options, dbPath)) {
+          assertThat(db.get("key".getBytes())).isEqualTo("value".getBytes());
+        }
+      }
+      assertThat(fileSystem.endOfFileReads.get()).isGreaterThan(0);
+    }
+  }
+
+  @Test
+  public void renamedFilesInJavaFileSystem() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath();
+    // the temporary files which become the CURRENT and OPTIONS files
+    try (final InMemoryFileSystem fileSystem =
+             new InMemoryFileSystem(".dbtmp");
+         final Env env = new CompositeEnv(Env.getDefault(), fileSystem);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setEnv(env)) {
+      try (final RocksDB db = RocksDB.open(options, dbPath)) {
+        db.put("key".getBytes(), "value".getBytes());
+      }
+      assertThat(fileSystem.renamedFiles.get()).isGreaterThan(0);
+      assertThat(fileSystem.files).containsKey(dbPath + "/CURRENT");
+      assertThat(new File(dbPath, "CURRENT").exists()).isFalse();
+
+      try (final RocksDB db = RocksDB.open(options, dbPath)) {
+        assertThat(db.get("key".getBytes())).isEqualTo("value".getBytes());
+      }
+    }
+  }
+
+  @Test
+  public void linkedFilesInJavaFileSystem() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath() + "/db";
+    final String checkpointPath =
+        dbFolder.getRoot().getAbsolutePath() + "/checkpoint";
+    try (final InMemoryFileSystem fileSystem = new InMemoryFileSystem(".sst");
+         final Env env = new CompositeEnv(Env.getDefault(), fileSystem);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setEnv(env)) {
+      try (final RocksDB db = RocksDB.open(options, dbPath);
+           final Checkpoint checkpoint = Checkpoint.create(db)) {
+        db.put("key".getBytes(), "value".getBytes());
+        db.flush(new FlushOptions().setWaitForFlush(true));
+        checkpoint.createCheckpoint(checkpointPath);
+      }
+      // the SST file is linked into the checkpoint in the Java file system
+      assertThat(fileSystem.linkedFiles.get()).isEqualTo(1);
+      assertThat(localSstFiles(checkpointPath)).isEmpty();
+
+      try (final RocksDB db = RocksDB.open(options, checkpointPath)) {
+        assertThat(db.get("key".getBytes())).isEqualTo("value".getBytes());
+      }
+    }
+  }
+
+  private static List<String> localSstFiles(final String dbPath) {
+    final List<String> sstFiles = new ArrayList<>();
+    for (final String name : new File(dbPath).list()) {
+      if (name.endsWith(".sst")) {
+        sstFiles.add(name);
+      }
+    }
+    return sstFiles;
+  }
+
+  /**
+   * Keeps the files with a suffix, and the files they are renamed or linked
+   * to, in memory, all other files are left to the default file system. The
+   * reads at the end of a file return -1, like those of a
+   * {@link java.nio.channels.ReadableByteChannel}.
+   */
+  private static class InMemoryFileSystem extends AbstractFileSystem {
+    final String suffix;
+    final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    final AtomicInteger randomAccessFilesOpened = new AtomicInteger();
+    final AtomicInteger endOfFileReads = new AtomicInteger();
+    final AtomicInteger renamedFiles = new AtomicInteger();
+    final AtomicInteger linkedFiles = new AtomicInteger();
+
+    InMemoryFileSystem(final String suffix) {
+      this.suffix = suffix;
+    }
+
+    @Override
+    public FSSequentialFile newSequentialFile(final String fname)
+        throws RocksDBException {
+      if (!fname.endsWith(suffix) && !files.containsKey(fname)) {
+        return null;
+      }
+      final byte[] data = getData(fname);
+      return new FSSequentialFile() {
+        private int position = 0;
+
+        @Override
+        public int read(final ByteBuffer buffer) {
+          final int len = InMemoryFileSystem.this.read(data, position, buffer);
+          if (len > 0) {
+            position += len;
+          }
+          return len;
+        }
+
+        @Override
+        public void skip(final long n) {
+          position = (int) Math.min(data.length, position + n);
+        }
+      };
+    }
+
+    @Override
+    public FSRandomAccessFile newRandomAccessFile(final String fname)
+        throws RocksDBException {
+      if (!fname.endsWith(suffix) && !files.containsKey(fname)) {
+        return null;
+      }
+      final byte[] data = getData(fname);
+      randomAccessFilesOpened.incrementAndGet();
+      return new FSRandomAccessFile() {
+        @Override
+        public int read(final long offset, final ByteBuffer buffer) {
+          return InMemoryFileSystem.this.read(data, offset, buffer);
+        }
+      };
+    }
+
+    private byte[] getData(final String fname) throws RocksDBException {
+      final byte[] data = files.get(fname);
+      if (data == null) {
+        throw new RocksDBException(fname,
+            new Status(Status.Code.NotFound, Status.SubCode.None, fname));
+      }
+      return data;
+    }
+
+    private int read(final byte[] data, final long offset,
+        final ByteBuffer buffer) {
+      if (offset >= data.length) {
+        endOfFileReads.incrementAndGet();
+        return -1;
+      }
+      final int len =
+          (int) Math.min(buffer.remaining(), data.length - offset);
+      buffer.put(data, (int) offset, len);
+      return len;
+    }
+
+    @Override
+    public FSWritableFile newWritableFile(final String fname) {
+      if (!fname.endsWith(suffix)) {
+        return null;
+      }
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      files.put(fname, new byte[0]);
+      return new FSWritableFile() {
+        @Override
+        public void append(final ByteBuffer data) {
+          final byte[] bytes = new byte[data.remaining()];
+          data.get(bytes);
+          out.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void sync() {
+          files.put(fname, out.toByteArray());
+        }
+
+        @Override
+        public void close() {
+          files.put(fname, out.toByteArray());
+        }
+      };
+    }
+
+    @Override
+    public boolean fileExists(final String fname) {
+      return files.containsKey(fname);
+    }
+
+    @Override
+    public long getFileSize(final String fname) {
+      final byte[] data = files.get(fname);
+      return data == null ? -1 : data.length;
+    }
+
+    @Override
+    public boolean deleteFile(final String fname) {
+      return files.remove(fname) != null;
+    }
+
+    @Override
+    public boolean renameFile(final String src, final String target) {
+      final byte[] data = files.remove(src);
+      if (data != null) {
+        files.put(target, data);
+        renamedFiles.incrementAndGet();
+        return true;
+      }
+      // the files of a renamed directory, which is renamed by the default
+      // file system
+      final String srcPrefix = src + "/";
+      for (final String fname : new ArrayList<>(files.keySet())) {
+        if (fname.startsWith(srcPrefix)) {
+          files.put(target + "/" + fname.substring(srcPrefix.length()),
+              files.remove(fname));
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public boolean linkFile(final String src, final String target) {
+      final byte[] data = files.get(src);
+      if (data == null) {
+        return false;
+      }
+      files.put(target, data);
+      linkedFiles.incrementAndGet();
+      return true;
+    }
+
+    @Override
+    public String[] getChildren(final String dir) {
+      final List<String> children = new ArrayList<>();
+      for (final String fname : files.keySet()) {
+        final File file = new File(fname);
+        if (file.getParent().equals(dir)) {
+          children.add(file.getName());
+        }
+      }
+      return children.toArray(new String[0]);
+    }
+  }
+}
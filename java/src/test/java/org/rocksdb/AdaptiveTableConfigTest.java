@@ -0,0 +1,91 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveTableConfigTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void tableFormatConfigToWrite() {
+    final AdaptiveTableConfig adaptiveTableConfig = new AdaptiveTableConfig();
+    assertThat(adaptiveTableConfig.tableFormatConfigToWrite()).isNull();
+    final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+    adaptiveTableConfig.setTableFormatConfigToWrite(cuckooTableConfig);
+    assertThat(adaptiveTableConfig.tableFormatConfigToWrite())
+        .isSameAs(cuckooTableConfig);
+  }
+
+  @Test
+  public void readerConfigs() {
+    final BlockBasedTableConfig blockBasedTableConfig =
+        new BlockBasedTableConfig();
+    final PlainTableConfig plainTableConfig = new PlainTableConfig();
+    final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+    final AdaptiveTableConfig adaptiveTableConfig = new AdaptiveTableConfig()
+        .setBlockBasedTableConfig(blockBasedTableConfig)
+        .setPlainTableConfig(plainTableConfig)
+        .setCuckooTableConfig(cuckooTableConfig);
+    assertThat(adaptiveTableConfig.blockBasedTableConfig())
+        .isSameAs(blockBasedTableConfig);
+    assertThat(adaptiveTableConfig.plainTableConfig())
+        .isSameAs(plainTableConfig);
+    assertThat(adaptiveTableConfig.cuckooTableConfig())
+        .isSameAs(cuckooTableConfig);
+  }
+
+  @Test
+  public void adaptiveTableConfig() {
+    try (final Options options = new Options()) {
+      options.setTableFormatConfig(new AdaptiveTableConfig()
+          .setTableFormatConfigToWrite(new CuckooTableConfig()));
+      assertThat(options.tableFactoryName())
+          .isEqualTo("AdaptiveTableFactory");
+    }
+  }
+
+  @Test
+  public void readsExistingBlockBasedTables() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath();
+    try (final Options options = new Options()
+        .setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbPath)) {
+      db.put("key1".getBytes(), "value1".getBytes());
+      try (final FlushOptions flushOptions = new FlushOptions()
+          .setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+    }
+
+    // switch to writing cuckoo tables, the block based table
+    // written above must still be readable
+    try (final Options options = new Options()
+        .setAllowMmapReads(true)
+        .setTableFormatConfig(new AdaptiveTableConfig()
+            .setTableFormatConfigToWrite(new CuckooTableConfig()));
+         final RocksDB db = RocksDB.open(options, dbPath)) {
+      db.put("key2".getBytes(), "value2".getBytes());
+      try (final FlushOptions flushOptions = new FlushOptions()
+          .setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      assertThat(db.get("key1".getBytes())).isEqualTo("value1".getBytes());
+      assertThat(db.get("key2".getBytes())).isEqualTo("value2".getBytes());
+    }
+  }
+}
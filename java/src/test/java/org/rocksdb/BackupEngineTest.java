@@ -12,6 +12,7 @@ import org.junit.rules.TemporaryFolder;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -226,6 +227,61 @@ public class BackupEngineTest {
     }
   }
 
+  @Test
+  public void backupDbWithProgressCallback() throws RocksDBException {
+    // Open empty database.
+    try (final Options opt = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath())) {
+      // Fill database with some test values
+      prepareDatabase(db);
+
+      final AtomicInteger progressCount = new AtomicInteger();
+      try (final BackupableDBOptions bopt =
+               new BackupableDBOptions(backupFolder.getRoot().getAbsolutePath())
+                   .setCallbackTriggerIntervalSize(1);
+           final BackupEngine be = BackupEngine.open(opt.getEnv(), bopt);
+           final AbstractBackupProgressCallback progressCallback =
+               new AbstractBackupProgressCallback() {
+                 @Override
+                 public void onProgress() {
+                   progressCount.incrementAndGet();
+                 }
+               }) {
+        be.createNewBackup(db, true, progressCallback);
+        verifyNumberOfValidBackups(be, 1);
+        assertThat(progressCount.get()).isGreaterThan(0);
+      }
+    }
+  }
+
+  @Test
+  public void verifyBackup() throws RocksDBException {
+    // Open empty database.
+    try (final Options opt = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath())) {
+      // Fill database with some test values
+      prepareDatabase(db);
+
+      try (final BackupableDBOptions bopt =
+               new BackupableDBOptions(backupFolder.getRoot().getAbsolutePath());
+           final BackupEngine be = BackupEngine.open(opt.getEnv(), bopt)) {
+        be.createNewBackup(db, true);
+        final List<BackupInfo> backupInfo = verifyNumberOfValidBackups(be, 1);
+        be.verifyBackup(backupInfo.get(0).backupId());
+        be.verifyBackup(backupInfo.get(0).backupId(), true);
+      }
+    }
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void verifyMissingBackup() throws RocksDBException {
+    try (final BackupableDBOptions bopt =
+             new BackupableDBOptions(backupFolder.getRoot().getAbsolutePath());
+         final BackupEngine be = BackupEngine.open(Env.getDefault(), bopt)) {
+      be.verifyBackup(1, true);
+    }
+  }
+
   /**
    * Verify backups.
    *
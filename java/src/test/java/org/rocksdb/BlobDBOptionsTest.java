@@ -0,0 +1,74 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlobDBOptionsTest {
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  @Test
+  public void blobDir() {
+    try (final BlobDBOptions opt = new BlobDBOptions()) {
+      assertThat(opt.blobDir()).isEqualTo("blob_dir");
+      opt.setBlobDir("blobs");
+      assertThat(opt.blobDir()).isEqualTo("blobs");
+    }
+  }
+
+  @Test
+  public void minBlobSize() {
+    try (final BlobDBOptions opt = new BlobDBOptions()) {
+      assertThat(opt.minBlobSize()).isEqualTo(0);
+      opt.setMinBlobSize(4096);
+      assertThat(opt.minBlobSize()).isEqualTo(4096);
+    }
+  }
+
+  @Test
+  public void blobFileSize() {
+    final long size = 64 * 1024 * 1024;
+    try (final BlobDBOptions opt = new BlobDBOptions()) {
+      opt.setBlobFileSize(size);
+      assertThat(opt.blobFileSize()).isEqualTo(size);
+    }
+  }
+
+  @Test
+  public void compressionType() {
+    try (final BlobDBOptions opt = new BlobDBOptions()) {
+      assertThat(opt.compressionType())
+          .isEqualTo(CompressionType.NO_COMPRESSION);
+      opt.setCompressionType(CompressionType.SNAPPY_COMPRESSION);
+      assertThat(opt.compressionType())
+          .isEqualTo(CompressionType.SNAPPY_COMPRESSION);
+    }
+  }
+
+  @Test
+  public void garbageCollection() {
+    try (final BlobDBOptions opt = new BlobDBOptions()) {
+      assertThat(opt.enableGarbageCollection()).isFalse();
+      opt.setEnableGarbageCollection(true)
+          .setGarbageCollectionCutoff(0.5);
+      assertThat(opt.enableGarbageCollection()).isTrue();
+      assertThat(opt.garbageCollectionCutoff()).isEqualTo(0.5);
+    }
+  }
+
+  @Test
+  public void ttlRangeSecs() {
+    try (final BlobDBOptions opt = new BlobDBOptions()) {
+      opt.setTtlRangeSecs(7200);
+      assertThat(opt.ttlRangeSecs()).isEqualTo(7200);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlobDBTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void putAndGet() throws RocksDBException {
+    final byte[] smallValue = "small".getBytes();
+    final byte[] largeValue = new byte[1024];
+    Arrays.fill(largeValue, (byte) 'x');
+
+    try (final Statistics statistics = new Statistics();
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setStatistics(statistics);
+         final BlobDBOptions blobDBOptions = new BlobDBOptions()
+             .setMinBlobSize(512);
+         final BlobDB db = BlobDB.open(options, blobDBOptions,
+             dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key1".getBytes(), smallValue);
+      db.put("key2".getBytes(), largeValue);
+
+      assertThat(db.get("key1".getBytes())).isEqualTo(smallValue);
+      assertThat(db.get("key2".getBytes())).isEqualTo(largeValue);
+
+      assertThat(statistics.getTickerCount(TickerType.BLOB_DB_NUM_PUT))
+          .isEqualTo(2);
+      assertThat(statistics.getTickerCount(TickerType.BLOB_DB_WRITE_INLINED))
+          .isEqualTo(1);
+      assertThat(statistics.getTickerCount(TickerType.BLOB_DB_WRITE_BLOB))
+          .isEqualTo(1);
+
+      db.syncBlobFiles();
+    }
+  }
+
+  @Test
+  public void putWithTTL() throws RocksDBException, InterruptedException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final BlobDBOptions blobDBOptions = new BlobDBOptions();
+         final BlobDB db = BlobDB.open(options, blobDBOptions,
+             dbFolder.getRoot().getAbsolutePath());
+         final WriteOptions writeOptions = new WriteOptions()) {
+      db.putWithTTL(writeOptions, "key1".getBytes(), "value1".getBytes(), 1);
+      db.putWithTTL(writeOptions, "key2".getBytes(), "value2".getBytes(),
+          3600);
+      assertThat(db.get("key1".getBytes())).isEqualTo("value1".getBytes());
+
+      TimeUnit.SECONDS.sleep(2);
+      assertThat(db.get("key1".getBytes())).isNull();
+      assertThat(db.get("key2".getBytes())).isEqualTo("value2".getBytes());
+    }
+  }
+
+  @Test
+  public void putUntil() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final BlobDBOptions blobDBOptions = new BlobDBOptions();
+         final BlobDB db = BlobDB.open(options, blobDBOptions,
+             dbFolder.getRoot().getAbsolutePath());
+         final WriteOptions writeOptions = new WriteOptions()) {
+      db.putUntil(writeOptions, "key1".getBytes(), "value1".getBytes(), 1);
+      assertThat(db.get("key1".getBytes())).isNull();
+    }
+  }
+
+  @Test
+  public void getBlobDBOptions() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final BlobDBOptions blobDBOptions = new BlobDBOptions()
+             .setMinBlobSize(256)
+             .setEnableGarbageCollection(true);
+         final BlobDB db = BlobDB.open(options, blobDBOptions,
+             dbFolder.getRoot().getAbsolutePath());
+         final BlobDBOptions openOptions = db.getBlobDBOptions()) {
+      assertThat(openOptions.minBlobSize()).isEqualTo(256);
+      assertThat(openOptions.enableGarbageCollection()).isTrue();
+    }
+  }
+}
@@ -7,6 +7,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class CheckPointTest {
@@ -80,4 +84,73 @@ public class CheckPointTest {
       checkpoint.createCheckpoint("/Z:///:\\C:\\TZ/-");
     }
   }
+
+  @Test
+  public void exportAndImportColumnFamily() throws RocksDBException {
+    final byte[] cfName = "tenant".getBytes();
+    final String exportPath =
+        checkpointFolder.getRoot().getAbsolutePath() + "/export";
+    final List<ColumnFamilyDescriptor> cfDescriptors = Arrays.asList(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY),
+        new ColumnFamilyDescriptor(cfName));
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    try (final DBOptions options = new DBOptions()
+             .setCreateIfMissing(true)
+             .setCreateMissingColumnFamilies(true);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath(), cfDescriptors,
+             cfHandles)) {
+      try {
+        final ColumnFamilyHandle cfHandle = cfHandles.get(1);
+        db.put(cfHandle, "key1".getBytes(), "value1".getBytes());
+        db.put(cfHandle, "key2".getBytes(), "value2".getBytes());
+        try (final FlushOptions flushOptions =
+                 new FlushOptions().setWaitForFlush(true)) {
+          db.flush(flushOptions, cfHandle);
+        }
+
+        try (final Checkpoint checkpoint = Checkpoint.create(db);
+             final ExportImportFilesMetaData metadata =
+                 checkpoint.exportColumnFamily(cfHandle, exportPath);
+             final ImportColumnFamilyOptions importOptions =
+                 new ImportColumnFamilyOptions();
+             final ColumnFamilyOptions cfOptions =
+                 new ColumnFamilyOptions()) {
+          assertThat(metadata.dbComparatorName())
+              .isEqualTo("leveldb.BytewiseComparator");
+          assertThat(metadata.files()).hasSize(1);
+          assertThat(metadata.files().get(0).smallestKey())
+              .isEqualTo("key1".getBytes());
+          assertThat(metadata.files().get(0).largestKey())
+              .isEqualTo("key2".getBytes());
+
+          final ColumnFamilyHandle importedHandle =
+              db.createColumnFamilyWithImport(
+                  new ColumnFamilyDescriptor("imported".getBytes(),
+                      cfOptions), importOptions, metadata);
+          try {
+            assertThat(db.get(importedHandle, "key1".getBytes()))
+                .isEqualTo("value1".getBytes());
+            assertThat(db.get(importedHandle, "key2".getBytes()))
+                .isEqualTo("value2".getBytes());
+          } finally {
+            importedHandle.close();
+          }
+        }
+      } finally {
+        for (final ColumnFamilyHandle cfHandle : cfHandles) {
+          cfHandle.close();
+        }
+      }
+    }
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void failExportToExistingPath() throws RocksDBException {
+    try (final RocksDB db = RocksDB.open(dbFolder.getRoot().getAbsolutePath());
+         final Checkpoint checkpoint = Checkpoint.create(db)) {
+      checkpoint.exportColumnFamily(db.getDefaultColumnFamily(),
+          checkpointFolder.getRoot().getAbsolutePath());
+    }
+  }
 }
@@ -23,4 +23,16 @@ public class ClockCacheTest {
       //no op
     }
   }
+
+  @Test
+  public void newClockCacheWithMemoryAllocator() {
+    final long capacity = 1000;
+    final int numShardBits = 16;
+    final boolean strictCapacityLimit = true;
+    try(final MemoryAllocator memoryAllocator = new CountingMemoryAllocator();
+        final Cache clockCache = new ClockCache(capacity,
+        numShardBits, strictCapacityLimit, memoryAllocator)) {
+      //no op
+    }
+  }
 }
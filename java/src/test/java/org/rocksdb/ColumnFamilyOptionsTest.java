@@ -568,6 +568,15 @@ public class ColumnFamilyOptionsTest {
     }
   }
 
+  @Test
+  public void periodicCompactionSeconds() {
+    try (final ColumnFamilyOptions options = new ColumnFamilyOptions()) {
+      options.setPeriodicCompactionSeconds(1000 * 60);
+      assertThat(options.periodicCompactionSeconds()).
+          isEqualTo(1000 * 60);
+    }
+  }
+
   @Test
   public void compactionOptionsUniversal() {
     try (final ColumnFamilyOptions opt = new ColumnFamilyOptions();
@@ -622,4 +631,15 @@ public class ColumnFamilyOptionsTest {
     }
   }
 
+  @Test
+  public void compactionThreadLimiter() {
+    try(final ColumnFamilyOptions options = new ColumnFamilyOptions();
+        final ConcurrentTaskLimiter compactionThreadLimiter =
+            new ConcurrentTaskLimiterImpl("name", 3)) {
+      options.setCompactionThreadLimiter(compactionThreadLimiter);
+      assertThat(options.compactionThreadLimiter())
+          .isEqualTo(compactionThreadLimiter);
+    }
+  }
+
 }
@@ -0,0 +1,138 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentTaskLimiterTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void name() {
+    try (final ConcurrentTaskLimiter limiter =
+             new ConcurrentTaskLimiterImpl("name", 3)) {
+      assertThat(limiter.name()).isEqualTo("name");
+    }
+  }
+
+  @Test
+  public void outstandingTask() {
+    try (final ConcurrentTaskLimiter limiter =
+             new ConcurrentTaskLimiterImpl("name", 3)) {
+      assertThat(limiter.outstandingTask()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void setMaxOutstandingTask() {
+    try (final ConcurrentTaskLimiter limiter =
+             new ConcurrentTaskLimiterImpl("name", 3)) {
+      assertThat(limiter.setMaxOutstandingTask(4)).isEqualTo(limiter);
+      assertThat(limiter.resetMaxOutstandingTask()).isEqualTo(limiter);
+      assertThat(limiter.outstandingTask()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void limitCompactions() throws RocksDBException,
+      InterruptedException {
+    final CountDownLatch compactionStarted = new CountDownLatch(1);
+    final CountDownLatch finishCompaction = new CountDownLatch(1);
+    try (final ConcurrentTaskLimiter limiter =
+             new ConcurrentTaskLimiterImpl("compactions", 0);
+         final BlockingCompactionFilterFactory compactionFilterFactory =
+             new BlockingCompactionFilterFactory(compactionStarted,
+                 finishCompaction);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setLevel0FileNumCompactionTrigger(2)
+             .setCompactionFilterFactory(compactionFilterFactory)
+             .setCompactionThreadLimiter(limiter);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions =
+             new FlushOptions().setWaitForFlush(true)) {
+      try {
+        // overlapping files, which cannot be trivially moved
+        for (int i = 0; i < 3; i++) {
+          db.put("a".getBytes(), "value".getBytes());
+          db.put("z".getBytes(), "value".getBytes());
+          db.flush(flushOptions);
+        }
+
+        // no compaction is allowed to start
+        assertThat(compactionStarted.await(500, TimeUnit.MILLISECONDS))
+            .isFalse();
+        assertThat(numFilesAtLevel0(db)).isEqualTo(3);
+        assertThat(limiter.outstandingTask()).isEqualTo(0);
+
+        // the throttled compaction starts once the limit is lifted and
+        // another flush schedules it again, and holds the only task of the
+        // limiter until it is finished
+        limiter.setMaxOutstandingTask(1);
+        db.put("a".getBytes(), "value".getBytes());
+        db.flush(flushOptions);
+        assertThat(compactionStarted.await(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.outstandingTask()).isEqualTo(1);
+      } finally {
+        finishCompaction.countDown();
+      }
+    }
+  }
+
+  /**
+   * Blocks the compactions when their compaction filter is created, until
+   * they are allowed to finish.
+   */
+  private static class BlockingCompactionFilterFactory
+      extends
+          AbstractCompactionFilterFactory<RemoveEmptyValueCompactionFilter> {
+    private final CountDownLatch compactionStarted;
+    private final CountDownLatch finishCompaction;
+
+    BlockingCompactionFilterFactory(final CountDownLatch compactionStarted,
+        final CountDownLatch finishCompaction) {
+      this.compactionStarted = compactionStarted;
+      this.finishCompaction = finishCompaction;
+    }
+
+    @Override
+    public RemoveEmptyValueCompactionFilter createCompactionFilter(
+        final AbstractCompactionFilter.Context context) {
+      compactionStarted.countDown();
+      try {
+        finishCompaction.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new RemoveEmptyValueCompactionFilter();
+    }
+
+    @Override
+    public String name() {
+      return "BlockingCompactionFilterFactory";
+    }
+  }
+
+  private static int numFilesAtLevel0(final RocksDB db)
+      throws RocksDBException {
+    return Integer.parseInt(db.getProperty("rocksdb.num-files-at-level0"));
+  }
+}
@@ -0,0 +1,91 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CuckooTableConfigTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void hashTableRatio() {
+    final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+    cuckooTableConfig.setHashTableRatio(0.75);
+    assertThat(cuckooTableConfig.hashTableRatio()).isEqualTo(0.75);
+  }
+
+  @Test
+  public void maxSearchDepth() {
+    final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+    cuckooTableConfig.setMaxSearchDepth(50);
+    assertThat(cuckooTableConfig.maxSearchDepth()).isEqualTo(50);
+  }
+
+  @Test
+  public void cuckooBlockSize() {
+    final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+    cuckooTableConfig.setCuckooBlockSize(8);
+    assertThat(cuckooTableConfig.cuckooBlockSize()).isEqualTo(8);
+  }
+
+  @Test
+  public void identityAsFirstHash() {
+    final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+    cuckooTableConfig.setIdentityAsFirstHash(true);
+    assertThat(cuckooTableConfig.identityAsFirstHash()).isTrue();
+  }
+
+  @Test
+  public void useModuleHash() {
+    final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+    cuckooTableConfig.setUseModuleHash(false);
+    assertThat(cuckooTableConfig.useModuleHash()).isFalse();
+  }
+
+  @Test
+  public void cuckooTableConfig() {
+    try (final Options options = new Options()) {
+      final CuckooTableConfig cuckooTableConfig = new CuckooTableConfig();
+      options.setTableFormatConfig(cuckooTableConfig);
+      assertThat(options.tableFactoryName()).isEqualTo("CuckooTable");
+    }
+  }
+
+  @Test
+  public void cuckooTableReadWrite() throws RocksDBException {
+    try (final Options options = new Options()
+        .setCreateIfMissing(true)
+        .setAllowMmapReads(true)
+        .setTableFormatConfig(new CuckooTableConfig());
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      for (int i = 0; i < 100; i++) {
+        db.put(String.format("key%03d", i).getBytes(),
+            String.format("value%03d", i).getBytes());
+      }
+      try (final FlushOptions flushOptions = new FlushOptions()
+          .setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      for (int i = 0; i < 100; i++) {
+        assertThat(db.get(String.format("key%03d", i).getBytes()))
+            .isEqualTo(String.format("value%03d", i).getBytes());
+      }
+      assertThat(db.get("key100".getBytes())).isNull();
+    }
+  }
+}
@@ -90,4 +90,30 @@ public class DirectSliceTest {
       assertThat(directSlice.toString()).isEqualTo("bc");
     }
   }
+
+  @Test
+  public void directSliceSetData() {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+    buffer.put("Some text".getBytes());
+
+    try(final DirectSlice directSlice = new DirectSlice("abc")) {
+      directSlice.setData(buffer, 4);
+      assertThat(directSlice.toString()).isEqualTo("Some");
+      directSlice.setData(buffer, 9);
+      assertThat(directSlice.toString()).isEqualTo("Some text");
+
+      buffer.clear();
+      buffer.put("Other".getBytes());
+      directSlice.setData(buffer, 5);
+      assertThat(directSlice.toString()).isEqualTo("Other");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void directSliceSetDataWithoutDirectAllocation() {
+    final ByteBuffer buffer = ByteBuffer.wrap("Some text".getBytes());
+    try(final DirectSlice directSlice = new DirectSlice("abc")) {
+      directSlice.setData(buffer, 4);
+    }
+  }
 }
@@ -0,0 +1,149 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class EncryptedEnvTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  private static final byte[] VALUE =
+      "a value which must not be found in the files".getBytes(UTF_8);
+
+  @Test
+  public void rot13BlockCipher() throws RocksDBException, IOException {
+    try (final BlockCipher cipher = new ROT13BlockCipher(32)) {
+      assertThat(cipher.blockSize()).isEqualTo(32);
+      writeAndRead(cipher);
+    }
+  }
+
+  @Test
+  public void aesBlockCipher() throws RocksDBException, IOException {
+    final byte[] key = new byte[32];
+    for (int i = 0; i < key.length; i++) {
+      key[i] = (byte) i;
+    }
+    final BlockCipher cipher;
+    try {
+      cipher = new AESBlockCipher(key);
+    } catch (final RocksDBException e) {
+      // AES-NI is not available
+      assumeTrue(e.getStatus().getCode() != Status.Code.NotSupported);
+      throw e;
+    }
+    try {
+      assertThat(cipher.blockSize()).isEqualTo(16);
+      writeAndRead(cipher);
+    } finally {
+      cipher.close();
+    }
+  }
+
+  @Test
+  public void distinctCountersAndIvs() throws RocksDBException, IOException {
+    final int blockSize = 32;
+    try (final BlockCipher cipher = new ROT13BlockCipher(blockSize);
+         final EncryptionProvider provider = new CTREncryptionProvider(cipher);
+         final Env env = new EncryptedEnv(Env.getDefault(), provider);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setEnv(env);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions =
+             new FlushOptions().setWaitForFlush(true)) {
+      for (int i = 0; i < 4; i++) {
+        db.put(("key" + i).getBytes(UTF_8), VALUE);
+        db.flush(flushOptions);
+      }
+
+      // the initial counter & IV are in plain text in the first two blocks
+      // of the prefix, and must never be shared by two files
+      final Set<ByteBuffer> prefixes = new HashSet<>();
+      int files = 0;
+      for (final File file : dbFolder.getRoot().listFiles()) {
+        final byte[] data = Files.readAllBytes(file.toPath());
+        if (data.length < 2 * blockSize) {
+          continue;
+        }
+        files++;
+        prefixes.add(ByteBuffer.wrap(Arrays.copyOf(data, 2 * blockSize)));
+      }
+      assertThat(files).isGreaterThan(4);
+      assertThat(prefixes).hasSize(files);
+    }
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void aesBlockCipherInvalidKey() throws RocksDBException {
+    try (final BlockCipher cipher = new AESBlockCipher(new byte[20])) {
+      // no-op
+    }
+  }
+
+  private void writeAndRead(final BlockCipher cipher)
+      throws RocksDBException, IOException {
+    final String path = dbFolder.getRoot().getAbsolutePath();
+    try (final EncryptionProvider provider = new CTREncryptionProvider(cipher);
+         final Env env = new EncryptedEnv(Env.getDefault(), provider);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setEnv(env)) {
+      try (final RocksDB db = RocksDB.open(options, path);
+           final FlushOptions flushOptions =
+               new FlushOptions().setWaitForFlush(true)) {
+        db.put("key1".getBytes(UTF_8), VALUE);
+        db.flush(flushOptions);
+      }
+
+      // the value is neither stored in plain text in the SST file,
+      // nor in the WAL
+      for (final File file : dbFolder.getRoot().listFiles()) {
+        assertThat(indexOf(Files.readAllBytes(file.toPath()), VALUE))
+            .isEqualTo(-1);
+      }
+
+      try (final RocksDB db = RocksDB.open(options, path)) {
+        assertThat(db.get("key1".getBytes(UTF_8))).isEqualTo(VALUE);
+      }
+    }
+  }
+
+  private static int indexOf(final byte[] data, final byte[] pattern) {
+    for (int i = 0; i + pattern.length <= data.length; i++) {
+      int j = 0;
+      while (j < pattern.length && data[i + j] == pattern[j]) {
+        j++;
+      }
+      if (j == pattern.length) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -6,7 +6,15 @@
 package org.rocksdb;
 
 import org.junit.ClassRule;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class FilterTest {
 
@@ -14,6 +22,9 @@ public class FilterTest {
   public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
       new RocksNativeLibraryResource();
 
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
   @Test
   public void filter() {
     // new Bloom filter
@@ -36,4 +47,210 @@ public class FilterTest {
       }
     }
   }
+
+  @Test
+  public void implementation() {
+    try (final BloomFilter bloomFilter = new BloomFilter(10, false)) {
+      assertThat(bloomFilter.implementation())
+          .isEqualTo(BloomFilterImplementation.AUTO);
+    }
+    try (final BloomFilter bloomFilter = new BloomFilter(10, true)) {
+      assertThat(bloomFilter.implementation())
+          .isEqualTo(BloomFilterImplementation.DEPRECATED_BLOCK);
+    }
+    for (final BloomFilterImplementation implementation :
+        BloomFilterImplementation.values()) {
+      try (final BloomFilter bloomFilter =
+               new BloomFilter(10, implementation)) {
+        assertThat(bloomFilter.implementation()).isEqualTo(implementation);
+      }
+    }
+  }
+
+  @Test
+  public void bitsPerKey() {
+    try (final BloomFilter bloomFilter = new BloomFilter(9.55,
+             BloomFilterImplementation.FAST_LOCAL_BLOOM)) {
+      assertThat(bloomFilter.bitsPerKey()).isEqualTo(9.55);
+    }
+    try (final BloomFilter bloomFilter = new BloomFilter(1000,
+             BloomFilterImplementation.FAST_LOCAL_BLOOM)) {
+      assertThat(bloomFilter.bitsPerKey()).isEqualTo(100.0);
+    }
+  }
+
+  @Test
+  public void estimatedFalsePositiveRate() {
+    try (final BloomFilter legacy = new BloomFilter(10,
+             BloomFilterImplementation.LEGACY_BLOOM);
+         final BloomFilter fastLocal = new BloomFilter(10,
+             BloomFilterImplementation.FAST_LOCAL_BLOOM);
+         final BloomFilter auto = new BloomFilter(10,
+             BloomFilterImplementation.AUTO);
+         final BloomFilter fewerBits = new BloomFilter(9.55,
+             BloomFilterImplementation.FAST_LOCAL_BLOOM)) {
+      final long numKeys = 1000000;
+      final double legacyRate = legacy.estimatedFalsePositiveRate(numKeys, 5);
+      final double fastLocalRate =
+          fastLocal.estimatedFalsePositiveRate(numKeys, 5);
+      assertThat(fastLocalRate).isBetween(0.008, 0.011);
+      assertThat(legacyRate).isGreaterThan(fastLocalRate);
+
+      // the implementation of AUTO depends on the format version
+      assertThat(auto.estimatedFalsePositiveRate(numKeys, 4))
+          .isEqualTo(legacyRate);
+      assertThat(auto.estimatedFalsePositiveRate(numKeys, 5))
+          .isEqualTo(fastLocalRate);
+
+      // fractional bits per key
+      assertThat(fewerBits.estimatedFalsePositiveRate(numKeys, 5))
+          .isGreaterThan(fastLocalRate)
+          .isLessThan(legacyRate);
+
+      assertThat(fastLocal.estimatedFalsePositiveRate(0, 5)).isEqualTo(0.0);
+    }
+  }
+
+  @Test
+  public void fastLocalBloom() throws RocksDBException {
+    final int numKeys = 10000;
+    try (final BloomFilter bloomFilter = new BloomFilter(10,
+             BloomFilterImplementation.FAST_LOCAL_BLOOM);
+         final Statistics statistics = new Statistics();
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setStatistics(statistics)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setFilterPolicy(bloomFilter)
+                 .setFormatVersion(5));
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      for (int i = 0; i < numKeys; i++) {
+        db.put(String.format("key%08d", i).getBytes(UTF_8),
+            "value".getBytes(UTF_8));
+      }
+      db.compactRange();
+
+      for (int i = 0; i < numKeys; i++) {
+        assertThat(db.get(String.format("key%08d", i).getBytes(UTF_8)))
+            .isNotNull();
+      }
+      // within the key range of the file, but not present
+      final int numMissingKeys = numKeys - 1;
+      for (int i = 0; i < numMissingKeys; i++) {
+        assertThat(db.get(String.format("key%08d.", i).getBytes(UTF_8)))
+            .isNull();
+      }
+
+      final long useful =
+          statistics.getTickerCount(TickerType.BLOOM_FILTER_USEFUL);
+      final long falsePositives =
+          statistics.getTickerCount(TickerType.BLOOM_FILTER_FULL_POSITIVE)
+              - statistics.getTickerCount(
+                  TickerType.BLOOM_FILTER_FULL_TRUE_POSITIVE);
+      assertThat(useful + falsePositives).isEqualTo(numMissingKeys);
+      final double measuredRate = (double) falsePositives / numMissingKeys;
+      assertThat(measuredRate).isLessThan(
+          2 * bloomFilter.estimatedFalsePositiveRate(numKeys, 5));
+    }
+  }
+
+  @Test
+  public void ribbon() throws RocksDBException {
+    final int numKeys = 10000;
+    try (final BloomFilter ribbonFilter = new BloomFilter(10,
+             BloomFilterImplementation.RIBBON);
+         final Statistics statistics = new Statistics();
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setStatistics(statistics)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setFilterPolicy(ribbonFilter)
+                 .setFormatVersion(5));
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      assertThat(ribbonFilter.implementation())
+          .isEqualTo(BloomFilterImplementation.RIBBON);
+      // the power of two closest to the FP rate of a 10 bits/key Bloom filter
+      final double estimatedRate =
+          ribbonFilter.estimatedFalsePositiveRate(numKeys, 5);
+      assertThat(estimatedRate).isEqualTo(1.0 / 128);
+
+      for (int i = 0; i < numKeys; i++) {
+        db.put(String.format("key%08d", i).getBytes(UTF_8),
+            "value".getBytes(UTF_8));
+      }
+      db.compactRange();
+
+      // less than 8 bits per key
+      final Map<String, String> filterSizes =
+          db.getMapProperty("rocksdb.filter-size-per-level");
+      assertThat(Long.parseLong(filterSizes.get("Sum.FilterBytes")))
+          .isLessThan(numKeys);
+
+      for (int i = 0; i < numKeys; i++) {
+        assertThat(db.get(String.format("key%08d", i).getBytes(UTF_8)))
+            .isNotNull();
+      }
+      final int numMissingKeys = numKeys - 1;
+      for (int i = 0; i < numMissingKeys; i++) {
+        assertThat(db.get(String.format("key%08d.", i).getBytes(UTF_8)))
+            .isNull();
+      }
+      final long falsePositives =
+          statistics.getTickerCount(TickerType.BLOOM_FILTER_FULL_POSITIVE)
+              - statistics.getTickerCount(
+                  TickerType.BLOOM_FILTER_FULL_TRUE_POSITIVE);
+      assertThat((double) falsePositives / numMissingKeys)
+          .isLessThan(2 * estimatedRate);
+    }
+  }
+
+  @Test
+  public void levelFilter() throws RocksDBException {
+    final int numKeys = 10000;
+    try (final BloomFilter bloomFilter = new BloomFilter(10,
+             BloomFilterImplementation.FAST_LOCAL_BLOOM);
+         final LevelFilter levelFilter =
+             new LevelFilter(Arrays.asList(bloomFilter, null));
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setNumLevels(2)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setFilterPolicy(levelFilter)
+                 .setFormatVersion(5));
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      for (int i = 0; i < numKeys; i++) {
+        db.put(String.format("key%08d", i).getBytes(UTF_8),
+            "value".getBytes(UTF_8));
+      }
+      db.flush(new FlushOptions());
+
+      // about 10 bits per key on level 0
+      Map<String, String> filterSizes =
+          db.getMapProperty("rocksdb.filter-size-per-level");
+      assertThat(filterSizes.get("L0.NumEntries"))
+          .isEqualTo(Integer.toString(numKeys));
+      assertThat(Long.parseLong(filterSizes.get("L0.FilterBytes")))
+          .isBetween(numKeys * 10L / 8, numKeys * 11L / 8);
+      assertThat(filterSizes.get("Sum.FilterBytes"))
+          .isEqualTo(filterSizes.get("L0.FilterBytes"));
+
+      // and none on the last level
+      db.compactRange();
+      filterSizes = db.getMapProperty("rocksdb.filter-size-per-level");
+      assertThat(filterSizes).doesNotContainKey("L0.FilterBytes");
+      assertThat(filterSizes.get("L1.NumEntries"))
+          .isEqualTo(Integer.toString(numKeys));
+      assertThat(filterSizes.get("L1.FilterBytes")).isEqualTo("0");
+      assertThat(db.getProperty("rocksdb.filter-size-per-level"))
+          .contains("L1");
+
+      for (int i = 0; i < numKeys; i++) {
+        assertThat(db.get(String.format("key%08d", i).getBytes(UTF_8)))
+            .isNotNull();
+      }
+    }
+  }
 }
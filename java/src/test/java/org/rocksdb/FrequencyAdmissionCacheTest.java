@@ -0,0 +1,61 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrequencyAdmissionCacheTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void newFrequencyAdmissionCache() {
+    try (final Cache lruCache = new LRUCache(1024 * 1024);
+         final Cache cache = new FrequencyAdmissionCache(lruCache, 3)) {
+      //no op
+    }
+  }
+
+  @Test
+  public void admitOnSecondLookup() throws RocksDBException {
+    try (final Cache lruCache = new LRUCache(8 * 1024 * 1024);
+         final Cache cache = new FrequencyAdmissionCache(lruCache);
+         final Statistics statistics = new Statistics();
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setStatistics(statistics)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setBlockCache(cache));
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key".getBytes(), "value".getBytes());
+      try (final FlushOptions flushOptions =
+               new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+
+      for (int i = 0; i < 3; i++) {
+        assertThat(db.get("key".getBytes())).isEqualTo("value".getBytes());
+      }
+
+      // the block is not admitted on the first miss, but on the second
+      assertThat(statistics.getTickerCount(TickerType.BLOCK_CACHE_DATA_MISS))
+          .isEqualTo(2);
+      assertThat(statistics.getTickerCount(TickerType.BLOCK_CACHE_DATA_HIT))
+          .isEqualTo(1);
+    }
+  }
+}
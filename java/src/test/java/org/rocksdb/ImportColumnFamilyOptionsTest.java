@@ -0,0 +1,27 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportColumnFamilyOptionsTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE
+      = new RocksNativeLibraryResource();
+
+  @Test
+  public void moveFiles() {
+    try (final ImportColumnFamilyOptions options =
+        new ImportColumnFamilyOptions()) {
+      assertThat(options.moveFiles()).isFalse();
+      assertThat(options.setMoveFiles(true)).isSameAs(options);
+      assertThat(options.moveFiles()).isTrue();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemoryAllocatorTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void jemallocNodumpAllocator() {
+    try (final MemoryAllocator allocator =
+             new JemallocNodumpAllocator(true, 1024, 4096);
+         final Cache cache = new LRUCache(1024 * 1024, -1, false, 0.0,
+             allocator)) {
+      //no op
+    } catch (final RocksDBException e) {
+      // not built with jemalloc
+      assertThat(e.getStatus().getCode())
+          .isEqualTo(Status.Code.NotSupported);
+    }
+  }
+
+  @Test
+  public void countingMemoryAllocator() throws RocksDBException {
+    try (final CountingMemoryAllocator allocator =
+             new CountingMemoryAllocator()) {
+      assertThat(allocator.allocatedBytes()).isEqualTo(0);
+      assertThat(allocator.numAllocations()).isEqualTo(0);
+
+      try (final Cache cache = new LRUCache(8 * 1024 * 1024, -1, false, 0.0,
+               allocator)) {
+        readThroughCache(cache);
+
+        // the data blocks held by the block cache
+        assertThat(allocator.allocatedBytes()).isGreaterThan(0);
+        assertThat(allocator.numAllocations()).isGreaterThan(0);
+        assertThat(allocator.peakAllocatedBytes())
+            .isGreaterThanOrEqualTo(allocator.allocatedBytes());
+      }
+
+      // everything is released with the cache
+      assertThat(allocator.allocatedBytes()).isEqualTo(0);
+      assertThat(allocator.numAllocations()).isEqualTo(0);
+      assertThat(allocator.peakAllocatedBytes()).isGreaterThan(0);
+    }
+  }
+
+  @Test
+  public void countingMemoryAllocatorWrapsAllocator()
+      throws RocksDBException {
+    try (final CountingMemoryAllocator target =
+             new CountingMemoryAllocator();
+         final CountingMemoryAllocator allocator =
+             new CountingMemoryAllocator(target);
+         final Cache cache = new LRUCache(8 * 1024 * 1024, -1, false, 0.0,
+             allocator)) {
+      readThroughCache(cache);
+
+      assertThat(allocator.allocatedBytes()).isGreaterThan(0);
+      assertThat(target.numAllocations())
+          .isEqualTo(allocator.numAllocations());
+      assertThat(target.allocatedBytes())
+          .isGreaterThanOrEqualTo(allocator.allocatedBytes());
+    }
+  }
+
+  private void readThroughCache(final Cache cache) throws RocksDBException {
+    try (final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setBlockCache(cache));
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      final byte[] value = new byte[100];
+      for (int i = 0; i < 100; i++) {
+        db.put(("key" + i).getBytes(), value);
+      }
+      try (final FlushOptions flushOptions =
+               new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      for (int i = 0; i < 100; i++) {
+        assertThat(db.get(("key" + i).getBytes())).isEqualTo(value);
+      }
+    }
+  }
+}
@@ -72,6 +72,18 @@ public class MutableColumnFamilyOptionsTest {
         + "disable_auto_compactions=true;paranoid_file_checks=true");
   }
 
+  @Test
+  public void mutableColumnFamilyOptions_ttl() {
+    final MutableColumnFamilyOptions options = MutableColumnFamilyOptions
+        .builder()
+        .setTtl(3600)
+        .setPeriodicCompactionSeconds(86400)
+        .build();
+
+    assertThat(options.toString())
+        .isEqualTo("ttl=3600;periodic_compaction_seconds=86400");
+  }
+
   @Test
   public void mutableColumnFamilyOptions_parse() {
     final String str = "write_buffer_size=10;inplace_update_num_locks=5;"
@@ -1254,6 +1254,15 @@ public class OptionsTest {
     }
   }
 
+  @Test
+  public void periodicCompactionSeconds() {
+    try (final Options options = new Options()) {
+      options.setPeriodicCompactionSeconds(1000 * 60);
+      assertThat(options.periodicCompactionSeconds()).
+          isEqualTo(1000 * 60);
+    }
+  }
+
   @Test
   public void compactionOptionsUniversal() {
     try (final Options options = new Options();
@@ -1308,4 +1317,15 @@ public class OptionsTest {
     }
   }
 
+  @Test
+  public void compactionThreadLimiter() {
+    try(final Options options = new Options();
+        final ConcurrentTaskLimiter compactionThreadLimiter =
+            new ConcurrentTaskLimiterImpl("name", 3)) {
+      options.setCompactionThreadLimiter(compactionThreadLimiter);
+      assertThat(options.compactionThreadLimiter())
+          .isEqualTo(compactionThreadLimiter);
+    }
+  }
+
 }
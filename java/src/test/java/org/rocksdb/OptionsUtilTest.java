@@ -46,6 +46,77 @@ public class OptionsUtilTest {
     // System.out.println("latest options fileName: " + fName);
   }
 
+  @Test
+  public void saveOptionsToFile() throws RocksDBException {
+    final String optionsFileName = dbFolder.getRoot().getAbsolutePath() + "/OPTIONS-000007";
+    final byte[] secondCFName = "new_cf".getBytes();
+    try (final DBOptions dbOptions = new DBOptions().setMaxOpenFiles(478);
+         final ColumnFamilyOptions defaultCFOpts = new ColumnFamilyOptions();
+         final ColumnFamilyOptions secondCFOpts =
+             new ColumnFamilyOptions().setWriteBufferSize(70 * 1024).setMaxWriteBufferNumber(7)) {
+      OptionsUtil.saveOptionsToFile(optionsFileName, Env.getDefault(), dbOptions,
+          Arrays.asList(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, defaultCFOpts),
+              new ColumnFamilyDescriptor(secondCFName, secondCFOpts)));
+
+      final List<ColumnFamilyDescriptor> cfDescs = new ArrayList<>();
+      try (final DBOptions loadedDBOptions = new DBOptions()) {
+        OptionsUtil.loadOptionsFromFile(
+            optionsFileName, Env.getDefault(), loadedDBOptions, cfDescs);
+        assertThat(loadedDBOptions.maxOpenFiles()).isEqualTo(478);
+        assertThat(cfDescs.size()).isEqualTo(2);
+        assertThat(cfDescs.get(0).getName()).isEqualTo(RocksDB.DEFAULT_COLUMN_FAMILY);
+        assertThat(cfDescs.get(1).getName()).isEqualTo(secondCFName);
+        assertThat(cfDescs.get(1).getOptions().writeBufferSize()).isEqualTo(70 * 1024);
+        assertThat(cfDescs.get(1).getOptions().maxWriteBufferNumber()).isEqualTo(7);
+      } finally {
+        for (final ColumnFamilyDescriptor cfDesc : cfDescs) {
+          cfDesc.getOptions().close();
+        }
+      }
+    }
+  }
+
+  @Test
+  public void loadOptionsWithCacheAndFilter() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath();
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbPath)) {
+      db.put("key1".getBytes(), "value".getBytes());
+      db.put("key3".getBytes(), "value".getBytes());
+    }
+
+    final List<ColumnFamilyDescriptor> cfDescs = new ArrayList<>();
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    try (final Statistics statistics = new Statistics();
+         final Cache cache = new LRUCache(7 * 1024 * 1024);
+         final Filter filter = new BloomFilter(10, false);
+         final DBOptions dbOptions = new DBOptions()) {
+      OptionsUtil.loadLatestOptions(
+          dbPath, Env.getDefault(), dbOptions, cfDescs, false, cache, filter);
+      dbOptions.setStatistics(statistics);
+      try (final RocksDB db = RocksDB.open(dbOptions, dbPath, cfDescs, cfHandles)) {
+        try {
+          assertThat(db.getLongProperty("rocksdb.block-cache-capacity"))
+              .isEqualTo(7 * 1024 * 1024);
+
+          db.compactRange();
+          assertThat(db.get("key1".getBytes())).isEqualTo("value".getBytes());
+          // within the key range of the SST file, so only the filter skips it
+          assertThat(db.get("key2".getBytes())).isNull();
+          assertThat(statistics.getTickerCount(TickerType.BLOOM_FILTER_USEFUL)).isGreaterThan(0);
+        } finally {
+          for (final ColumnFamilyHandle cfHandle : cfHandles) {
+            cfHandle.close();
+          }
+        }
+      }
+    } finally {
+      for (final ColumnFamilyDescriptor cfDesc : cfDescs) {
+        cfDesc.getOptions().close();
+      }
+    }
+  }
+
   private void verifyOptions(TestAPI apiType) throws RocksDBException {
     final String dbPath = dbFolder.getRoot().getAbsolutePath();
     final Options options = new Options()
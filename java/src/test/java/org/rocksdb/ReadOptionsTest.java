@@ -5,13 +5,17 @@
 
 package org.rocksdb;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,6 +28,9 @@ public class ReadOptionsTest {
   @Rule
   public ExpectedException exception = ExpectedException.none();
 
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
   @Test
   public void altConstructor() {
     try (final ReadOptions opt = new ReadOptions(true, true)) {
@@ -145,6 +152,15 @@ public class ReadOptionsTest {
     }
   }
 
+  @Test
+  public void adaptiveReadahead() {
+    try (final ReadOptions opt = new ReadOptions()) {
+      assertThat(opt.adaptiveReadahead()).isFalse();
+      opt.setAdaptiveReadahead(true);
+      assertThat(opt.adaptiveReadahead()).isTrue();
+    }
+  }
+
   @Test
   public void ignoreRangeDeletions() {
     try (final ReadOptions opt = new ReadOptions()) {
@@ -178,6 +194,93 @@ public class ReadOptionsTest {
     }
   }
 
+  @Test
+  public void iterateUpperBoundDirectSlice() {
+    try (final ReadOptions opt = new ReadOptions()) {
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+      buffer.put("abcd".getBytes());
+      try (final DirectSlice upperBound = new DirectSlice(buffer, 4)) {
+        opt.setIterateUpperBound(upperBound);
+        assertThat(opt.iterateUpperBound().data())
+            .isEqualTo("abcd".getBytes());
+
+        // retargeting the slice changes the bound in place
+        upperBound.setData(buffer, 2);
+        assertThat(opt.iterateUpperBound().data()).isEqualTo("ab".getBytes());
+      }
+    }
+  }
+
+  @Test
+  public void iterateBoundSliceSetters() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      for (final String key : new String[] {"a", "b", "c", "d", "e"}) {
+        db.put(key.getBytes(), key.getBytes());
+      }
+
+      // the setters taking a Slice, which the callers compiled against the
+      // releases which only had those still link to
+      try (final Slice lowerBound = new Slice("b");
+           final Slice upperBound = new Slice("d");
+           final ReadOptions readOptions = new ReadOptions()
+               .setIterateLowerBound(lowerBound)
+               .setIterateUpperBound(upperBound)) {
+        assertThat(scan(db, readOptions)).containsExactly("b", "c");
+      }
+
+      // and those taking any kind of slice
+      final ByteBuffer lowerBuffer = ByteBuffer.allocateDirect(1);
+      lowerBuffer.put("c".getBytes()).flip();
+      final ByteBuffer upperBuffer = ByteBuffer.allocateDirect(1);
+      upperBuffer.put("e".getBytes()).flip();
+      try (final DirectSlice lowerBound = new DirectSlice(lowerBuffer, 1);
+           final DirectSlice upperBound = new DirectSlice(upperBuffer, 1);
+           final ReadOptions readOptions = new ReadOptions()
+               .setIterateLowerBound(lowerBound)
+               .setIterateUpperBound(upperBound)) {
+        assertThat(scan(db, readOptions)).containsExactly("c", "d");
+      }
+    }
+  }
+
+  private static List<String> scan(final RocksDB db,
+      final ReadOptions readOptions) {
+    final List<String> keys = new ArrayList<>();
+    try (final RocksIterator iterator = db.newIterator(readOptions)) {
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        keys.add(new String(iterator.key()));
+      }
+    }
+    return keys;
+  }
+
+  @Test
+  public void iterateLowerBoundSetData() {
+    try (final ReadOptions opt = new ReadOptions();
+         final Slice lowerBound = new Slice("abc")) {
+      opt.setIterateLowerBound(lowerBound);
+      lowerBound.setData("xy".getBytes());
+      assertThat(opt.iterateLowerBound().data()).isEqualTo("xy".getBytes());
+    }
+  }
+
+  @Test
+  public void reset() {
+    try (final ReadOptions opt = new ReadOptions();
+         final Slice upperBound = new Slice("abc")) {
+      opt.setFillCache(false);
+      opt.setReadaheadSize(4096);
+      opt.setIterateUpperBound(upperBound);
+
+      opt.reset();
+      assertThat(opt.fillCache()).isTrue();
+      assertThat(opt.readaheadSize()).isEqualTo(0);
+      assertThat(opt.iterateUpperBound()).isNull();
+    }
+  }
+
   @Test
   public void iterateLowerBoundNull() {
     try (final ReadOptions opt = new ReadOptions()) {
@@ -1096,6 +1096,66 @@ public class RocksDBTest {
     }
   }
 
+  @Test
+  public void setOptionsFifoTtl() throws RocksDBException,
+      InterruptedException {
+    try (final CompactionOptionsFIFO fifoOptions = new CompactionOptionsFIFO();
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setMaxOpenFiles(-1)
+             .setCompactionStyle(CompactionStyle.FIFO)
+             .setCompactionOptionsFIFO(fifoOptions)
+             .setDisableAutoCompactions(true)
+             .setTtl(0);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions =
+             new FlushOptions().setWaitForFlush(true)) {
+      for (int i = 0; i < 2; i++) {
+        db.put(("key" + i).getBytes(), "value".getBytes());
+        db.flush(flushOptions);
+      }
+      assertThat(db.getLongProperty("rocksdb.num-files-pending-ttl-compaction"))
+          .isEqualTo(0);
+
+      // the files expire once they are older than the new ttl
+      final MutableColumnFamilyOptions ttl = MutableColumnFamilyOptions.builder()
+          .setTtl(1)
+          .build();
+      final long deadline = System.currentTimeMillis() + 10_000;
+      db.setOptions(ttl);
+      while (db.getLongProperty("rocksdb.num-files-pending-ttl-compaction") < 2
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(100);
+        db.setOptions(ttl);
+      }
+      assertThat(db.getLongProperty("rocksdb.num-files-pending-ttl-compaction"))
+          .isEqualTo(2);
+
+      // the periodic compaction seconds are not used as ttl once the
+      // database is open
+      db.setOptions(MutableColumnFamilyOptions.builder()
+          .setTtl(0)
+          .setPeriodicCompactionSeconds(1)
+          .build());
+      assertThat(db.getLongProperty(
+          "rocksdb.num-files-pending-periodic-compaction")).isEqualTo(2);
+      assertThat(db.getLongProperty("rocksdb.num-files-pending-ttl-compaction"))
+          .isEqualTo(0);
+
+      // and the expired files are deleted by the next compaction
+      db.setOptions(MutableColumnFamilyOptions.builder()
+          .setTtl(1)
+          .setDisableAutoCompactions(false)
+          .build());
+      while (!db.getProperty("rocksdb.num-files-at-level0").equals("0")
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(100);
+      }
+      assertThat(db.getProperty("rocksdb.num-files-at-level0")).isEqualTo("0");
+    }
+  }
+
   @Test
   public void destroyDB() throws RocksDBException {
     try (final Options options = new Options().setCreateIfMissing(true)) {
@@ -98,6 +98,76 @@ public class RocksIteratorTest {
     }
   }
 
+  @Test
+  public void rocksIteratorRetargetedUpperBound() throws RocksDBException {
+    try (final Options options = new Options()
+        .setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath());
+         final Slice upperBound = new Slice("key2");
+         final ReadOptions readOptions = new ReadOptions()
+             .setIterateUpperBound(upperBound)) {
+      db.put("key1".getBytes(), "value1".getBytes());
+      db.put("key2".getBytes(), "value2".getBytes());
+      db.put("key3".getBytes(), "value3".getBytes());
+
+      try (final RocksIterator iterator = db.newIterator(readOptions)) {
+        iterator.seekToFirst();
+        assertThat(iterator.isValid()).isTrue();
+        assertThat(iterator.key()).isEqualTo("key1".getBytes());
+        iterator.next();
+        assertThat(iterator.isValid()).isFalse();
+      }
+
+      // reuse the same ReadOptions and Slice for the next scan
+      upperBound.setData("key3".getBytes());
+      try (final RocksIterator iterator = db.newIterator(readOptions)) {
+        iterator.seek("key2".getBytes());
+        assertThat(iterator.isValid()).isTrue();
+        assertThat(iterator.key()).isEqualTo("key2".getBytes());
+        iterator.next();
+        assertThat(iterator.isValid()).isFalse();
+      }
+    }
+  }
+
+  @Test
+  public void prefetch() throws RocksDBException {
+    try (final Options options = new Options()
+        .setCreateIfMissing(true)
+        .setTargetFileSizeBase(64 * 1024);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath());
+         final ReadOptions readOptions = new ReadOptions()
+             .setAdaptiveReadahead(true)) {
+      final byte[] value = new byte[1024];
+      for (int i = 0; i < 1000; i++) {
+        db.put(String.format("key%04d", i).getBytes(), value);
+      }
+      db.compactRange();
+
+      try (final RocksIterator iterator = db.newIterator(readOptions)) {
+        iterator.seek("key0100".getBytes());
+        // the scan need not end at the hinted upper bound
+        iterator.prefetch("key0900".getBytes());
+        int count = 0;
+        for (; iterator.isValid(); iterator.next()) {
+          assertThat(iterator.key())
+              .isEqualTo(String.format("key%04d", count + 100).getBytes());
+          assertThat(iterator.value()).isEqualTo(value);
+          count++;
+        }
+        iterator.status();
+        assertThat(count).isEqualTo(900);
+
+        // the hint holds until the next seek
+        iterator.seekToFirst();
+        assertThat(iterator.isValid()).isTrue();
+        assertThat(iterator.key()).isEqualTo("key0000".getBytes());
+      }
+    }
+  }
+
   @Test
   public void rocksIteratorReleaseAfterCfClose() throws RocksDBException {
     try (final Options options = new Options()
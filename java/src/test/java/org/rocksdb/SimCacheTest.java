@@ -0,0 +1,77 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimCacheTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void simCapacity() {
+    try (final Cache cache = new LRUCache(1024);
+         final SimCache simCache = new SimCache(cache, 4096, 0)) {
+      assertThat(simCache.simCapacity()).isEqualTo(4096);
+      assertThat(simCache.setSimCapacity(8192)).isSameAs(simCache);
+      assertThat(simCache.simCapacity()).isEqualTo(8192);
+      assertThat(simCache.simUsage()).isEqualTo(0);
+      assertThat(simCache.hitCount()).isEqualTo(0);
+      assertThat(simCache.missCount()).isEqualTo(0);
+      assertThat(simCache.getStatistics()).isNotEmpty();
+    }
+  }
+
+  @Test
+  public void simulateBlockCache() throws RocksDBException {
+    try (final Cache cache = new LRUCache(1024 * 1024);
+         final SimCache smallSimCache = new SimCache(cache, 1, 0);
+         final SimCache largeSimCache =
+             new SimCache(smallSimCache, 64 * 1024 * 1024, 0);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setBlockCache(largeSimCache));
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      // enough data for the table file to have many data blocks
+      final byte[] value = new byte[100];
+      for (int i = 0; i < 1000; i++) {
+        db.put(String.format("key%04d", i).getBytes(), value);
+      }
+      try (final FlushOptions flushOptions =
+               new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      largeSimCache.resetCounters();
+      smallSimCache.resetCounters();
+
+      for (int round = 0; round < 2; round++) {
+        for (int i = 0; i < 1000; i++) {
+          assertThat(db.get(String.format("key%04d", i).getBytes()))
+              .isEqualTo(value);
+        }
+      }
+
+      assertThat(largeSimCache.hitCount()).isGreaterThan(0);
+      assertThat(largeSimCache.simUsage()).isGreaterThan(0);
+      assertThat(smallSimCache.hitCount())
+          .isLessThan(largeSimCache.hitCount());
+      assertThat(smallSimCache.hitCount() + smallSimCache.missCount())
+          .isEqualTo(largeSimCache.hitCount() + largeSimCache.missCount());
+    }
+  }
+}
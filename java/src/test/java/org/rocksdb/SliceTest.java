@@ -51,6 +51,31 @@ public class SliceTest {
     }
   }
 
+  @Test
+  public void sliceSetData() {
+    try (final Slice slice = new Slice("abc")) {
+      slice.setData("de".getBytes());
+      assertThat(slice.toString()).isEqualTo("de");
+      slice.setData("fghijklmn".getBytes(), 2, 5);
+      assertThat(slice.toString()).isEqualTo("hijkl");
+      slice.removePrefix(2);
+      assertThat(slice.toString()).isEqualTo("jkl");
+      slice.setData("op".getBytes());
+      assertThat(slice.toString()).isEqualTo("op");
+      slice.clear();
+      assertThat(slice.toString()).isEmpty();
+      slice.setData("qrstu".getBytes());
+      assertThat(slice.toString()).isEqualTo("qrstu");
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void sliceSetDataOutOfBounds() {
+    try (final Slice slice = new Slice("abc")) {
+      slice.setData("de".getBytes(), 1, 2);
+    }
+  }
+
   @Test
   public void sliceEquals() {
     try (final Slice slice = new Slice("abc");
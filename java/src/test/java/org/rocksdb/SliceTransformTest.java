@@ -0,0 +1,189 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SliceTransformTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void names() {
+    try (final SliceTransform fixed = new FixedPrefixSliceTransform(4);
+         final SliceTransform capped = new CappedPrefixSliceTransform(8);
+         final SliceTransform delimited =
+             new DelimitedPrefixSliceTransform((byte) ':');
+         final SliceTransform lengthPrefixed =
+             new LengthPrefixedSliceTransform(2)) {
+      assertThat(fixed.name()).isEqualTo("rocksdb.FixedPrefix.4");
+      assertThat(capped.name()).isEqualTo("rocksdb.CappedPrefix.8");
+      assertThat(delimited.name()).isEqualTo("rocksdb.java.DelimitedPrefix.58");
+      assertThat(lengthPrefixed.name())
+          .isEqualTo("rocksdb.java.LengthPrefixed.2");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void lengthPrefixedInvalidLengthBytes() {
+    new LengthPrefixedSliceTransform(3);
+  }
+
+  @Test
+  public void delimitedPrefixSeek() throws RocksDBException {
+    try (final SliceTransform sliceTransform =
+             new DelimitedPrefixSliceTransform((byte) ':')) {
+      assertPrefixSeek(sliceTransform, null, "tenant:",
+          "tenant:a", "tenant:b", "tenant1:a", "tenant1:b");
+    }
+  }
+
+  @Test
+  public void lengthPrefixedPrefixSeek() throws RocksDBException {
+    try (final SliceTransform sliceTransform =
+             new LengthPrefixedSliceTransform(1)) {
+      assertPrefixSeek(sliceTransform, null, "\u0002ab",
+          "\u0002aba", "\u0002abb", "\u0003abca", "\u0003abcb");
+    }
+  }
+
+  @Test
+  public void javaSliceTransformPrefixSeek() throws RocksDBException {
+    try (final AbstractSliceTransform sliceTransform =
+             new FirstWordSliceTransform()) {
+      assertPrefixSeek(null, sliceTransform, "tenant ",
+          "tenant a", "tenant b", "tenant1 a", "tenant1 b");
+    }
+  }
+
+  @Test
+  public void javaSliceTransformInvalidLength() throws RocksDBException {
+    // The invalid prefix length is printed out, and the whole key used as
+    // the prefix
+    try (final AbstractSliceTransform sliceTransform =
+             new InvalidLengthSliceTransform();
+         final Filter bloomFilter = new BloomFilter(10);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setPrefixExtractor(sliceTransform)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setFilter(bloomFilter)
+                 .setWholeKeyFiltering(false));
+         final RocksDB db =
+             RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key".getBytes(UTF_8), "value".getBytes(UTF_8));
+      db.flush(new FlushOptions().setWaitForFlush(true));
+      assertThat(db.get("key".getBytes(UTF_8))).isEqualTo(
+          "value".getBytes(UTF_8));
+      assertThat(db.get("other".getBytes(UTF_8))).isNull();
+    }
+  }
+
+  /**
+   * Writes the keys, and then checks that a prefix seek to {@code prefix}
+   * returns only the first two keys.
+   */
+  private void assertPrefixSeek(final SliceTransform sliceTransform,
+      final AbstractSliceTransform javaSliceTransform, final String prefix,
+      final String... keys) throws RocksDBException {
+    try (final Filter bloomFilter = new BloomFilter(10);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setTableFormatConfig(new BlockBasedTableConfig()
+                 .setFilter(bloomFilter)
+                 .setWholeKeyFiltering(false))) {
+      if (sliceTransform != null) {
+        options.setPrefixExtractor(sliceTransform);
+      } else {
+        options.setPrefixExtractor(javaSliceTransform);
+      }
+      try (final RocksDB db =
+               RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+        for (final String key : keys) {
+          db.put(key.getBytes(UTF_8), "value".getBytes(UTF_8));
+        }
+        db.flush(new FlushOptions().setWaitForFlush(true));
+
+        final List<String> found = new ArrayList<>();
+        try (final ReadOptions readOptions =
+                 new ReadOptions().setPrefixSameAsStart(true);
+             final RocksIterator it = db.newIterator(readOptions)) {
+          for (it.seek(prefix.getBytes(UTF_8)); it.isValid(); it.next()) {
+            found.add(new String(it.key(), UTF_8));
+          }
+        }
+        assertThat(found).containsExactly(keys[0], keys[1]);
+      }
+    }
+  }
+
+  /**
+   * Returns a prefix longer than the key.
+   */
+  private static class InvalidLengthSliceTransform
+      extends AbstractSliceTransform {
+    @Override
+    public String name() {
+      return "InvalidLengthSliceTransform";
+    }
+
+    @Override
+    public int transform(final ByteBuffer key) {
+      return key.remaining() + 1;
+    }
+
+    @Override
+    public boolean inDomain(final ByteBuffer key) {
+      return true;
+    }
+  }
+
+  /**
+   * Uses the bytes of the key up to and including the first space as the
+   * prefix.
+   */
+  private static class FirstWordSliceTransform extends AbstractSliceTransform {
+    @Override
+    public String name() {
+      return "FirstWordSliceTransform";
+    }
+
+    @Override
+    public int transform(final ByteBuffer key) {
+      for (int i = key.position(); i < key.limit(); i++) {
+        if (key.get(i) == ' ') {
+          return i - key.position() + 1;
+        }
+      }
+      return key.remaining();
+    }
+
+    @Override
+    public boolean inDomain(final ByteBuffer key) {
+      for (int i = key.position(); i < key.limit(); i++) {
+        if (key.get(i) == ' ') {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
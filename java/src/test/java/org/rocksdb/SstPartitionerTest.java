@@ -0,0 +1,123 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SstPartitionerTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void fixedPrefix() throws RocksDBException {
+    try (final SstPartitionerFixedPrefixFactory factory =
+             new SstPartitionerFixedPrefixFactory(2);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setSstPartitionerFactory(factory);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      putTenants(db);
+      db.compactRange();
+
+      // one file per tenant
+      assertThat(db.getProperty("rocksdb.num-files-at-level0"))
+          .isEqualTo("0");
+      assertThat(db.getProperty("rocksdb.num-files-at-level1"))
+          .isEqualTo("3");
+      assertThat(db.getLiveFilesMetaData()).hasSize(3);
+
+      // the files of a tenant are dropped without a compaction
+      db.deleteFilesInRanges(null, Arrays.asList(
+          "bb".getBytes(UTF_8), "bc".getBytes(UTF_8)), false);
+      assertThat(db.getProperty("rocksdb.num-files-at-level1"))
+          .isEqualTo("2");
+      assertThat(db.get("aa1".getBytes(UTF_8))).isNotNull();
+      assertThat(db.get("bb1".getBytes(UTF_8))).isNull();
+      assertThat(db.get("cc1".getBytes(UTF_8))).isNotNull();
+    }
+  }
+
+  @Test
+  public void noPartitioner() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      putTenants(db);
+      db.compactRange();
+
+      assertThat(db.getProperty("rocksdb.num-files-at-level1"))
+          .isEqualTo("1");
+    }
+  }
+
+  @Test
+  public void javaPartitioner() throws RocksDBException {
+    final AtomicInteger shouldPartitionCalls = new AtomicInteger();
+    try (final AbstractSstPartitionerFactory factory =
+             new AbstractSstPartitionerFactory() {
+               @Override
+               public boolean shouldPartition(final byte[] previousKey,
+                   final byte[] currentKey, final long currentOutputFileSize) {
+                 shouldPartitionCalls.incrementAndGet();
+                 // a new file for each key starting with 'c'
+                 return currentKey[0] == 'c';
+               }
+
+               @Override
+               public boolean canDoTrivialMove(final byte[] smallestKey,
+                   final byte[] largestKey) {
+                 return false;
+               }
+
+               @Override
+               public String name() {
+                 return "JavaPartitioner";
+               }
+             };
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setSstPartitionerFactory(factory);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath())) {
+      putTenants(db);
+      db.compactRange();
+
+      // "aa*" and "bb*" in one file, then one file per "cc*" key
+      assertThat(shouldPartitionCalls.get()).isEqualTo(8);
+      assertThat(db.getProperty("rocksdb.num-files-at-level1"))
+          .isEqualTo("4");
+      assertThat(db.get("cc2".getBytes(UTF_8))).isEqualTo(
+          "value".getBytes(UTF_8));
+    }
+  }
+
+  private static void putTenants(final RocksDB db) throws RocksDBException {
+    for (final String tenant : new String[] {"aa", "bb", "cc"}) {
+      for (int i = 1; i <= 3; i++) {
+        db.put((tenant + i).getBytes(UTF_8), "value".getBytes(UTF_8));
+      }
+    }
+    try (final FlushOptions flushOptions =
+             new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions);
+    }
+  }
+}
@@ -154,6 +154,43 @@ public class StatisticsTest {
     }
   }
 
+  @Test
+  public void alignedBufferTickers() throws RocksDBException {
+    try (final Statistics statistics = new Statistics();
+         final Options opt = new Options()
+             .setStatistics(statistics)
+             .setCreateIfMissing(true)
+             .setUseDirectReads(true)
+             .setUseDirectIoForFlushAndCompaction(true);
+         final RocksDB db = RocksDB.open(opt,
+             dbFolder.getRoot().getAbsolutePath())) {
+
+      final byte[] value = "some-value".getBytes(StandardCharsets.UTF_8);
+      for (int i = 0; i < 2; i++) {
+        for (int j = 0; j < 100; j++) {
+          db.put(("key" + j).getBytes(StandardCharsets.UTF_8), value);
+        }
+        db.flush(new FlushOptions());
+      }
+      db.compactRange();
+      for (int j = 0; j < 100; j++) {
+        assertThat(db.get(("key" + j).getBytes(StandardCharsets.UTF_8)))
+            .isEqualTo(value);
+      }
+
+      // the aligned buffers of the direct reads and writes are mostly
+      // reused rather than allocated
+      final long reused =
+          statistics.getTickerCount(TickerType.ALIGNED_BUFFER_REUSED);
+      final long allocated =
+          statistics.getTickerCount(TickerType.ALIGNED_BUFFER_ALLOCATED);
+      assertThat(reused).isGreaterThan(allocated);
+      assertThat(statistics.getTickerCount(
+          TickerType.ALIGNED_BUFFER_ALLOCATED_BYTES))
+          .isGreaterThanOrEqualTo(allocated);
+    }
+  }
+
   @Test
   public void ToString() throws RocksDBException {
     try (final Statistics statistics = new Statistics();
@@ -0,0 +1,208 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TablePropertiesCollectorFactoryTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void tablePropertiesCollectorFactories() {
+    try (final ColumnFamilyOptions options = new ColumnFamilyOptions();
+         final TablePropertiesCollectorFactory factory =
+             new CompactOnDeletionCollectorFactory(128, 10)) {
+      assertThat(options.tablePropertiesCollectorFactories()).isEmpty();
+      final List<TablePropertiesCollectorFactory> factories =
+          Collections.singletonList(factory);
+      options.setTablePropertiesCollectorFactories(factories);
+      assertThat(options.tablePropertiesCollectorFactories())
+          .isEqualTo(factories);
+    }
+  }
+
+  @Test
+  public void compactOnDeletionCollectorFactory() throws RocksDBException {
+    try (final CompactOnDeletionCollectorFactory factory =
+             new CompactOnDeletionCollectorFactory(128, 10)) {
+      factory.setWindowSize(256).setDeletionTrigger(20);
+
+      try (final Options options = new Options()
+               .setCreateIfMissing(true)
+               .setTablePropertiesCollectorFactories(
+                   Collections.<TablePropertiesCollectorFactory>singletonList(
+                       factory));
+           final RocksDB db =
+               RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+        for (int i = 0; i < 100; i++) {
+          db.delete(("key" + i).getBytes(UTF_8));
+        }
+        db.flush(new FlushOptions().setWaitForFlush(true));
+        assertThat(db.getPropertiesOfAllTables()).hasSize(1);
+      }
+    }
+  }
+
+  @Test
+  public void javaTablePropertiesCollector() throws RocksDBException {
+    final DeletionCountingCollectorFactory factory =
+        new DeletionCountingCollectorFactory();
+    try (final CompactOnDeletionCollectorFactory nativeFactory =
+             new CompactOnDeletionCollectorFactory(128, 10);
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setTablePropertiesCollectorFactories(
+                 Arrays.asList(factory, nativeFactory))) {
+      // the options hold their own reference to the factory
+      factory.close();
+
+      try (final RocksDB db =
+               RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+        for (int i = 0; i < 10; i++) {
+          db.put(("key" + i).getBytes(UTF_8), "value".getBytes(UTF_8));
+        }
+        for (int i = 0; i < 3; i++) {
+          db.delete(("key" + i).getBytes(UTF_8));
+        }
+        db.flush(new FlushOptions().setWaitForFlush(true));
+
+        final Map<String, TableProperties> properties =
+            db.getPropertiesOfAllTables();
+        assertThat(properties).hasSize(1);
+        final Map<String, String> userCollectedProperties =
+            properties.values().iterator().next()
+                .getUserCollectedProperties();
+        assertThat(userCollectedProperties)
+            .containsEntry("deletes", "3")
+            .containsEntry("puts", "7");
+      }
+    }
+  }
+
+  @Test
+  public void javaTablePropertiesCollectorNullProperty()
+      throws RocksDBException {
+    try (final NullValueCollectorFactory factory =
+             new NullValueCollectorFactory();
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setTablePropertiesCollectorFactories(
+                 Collections.<TablePropertiesCollectorFactory>singletonList(
+                     factory));
+         final RocksDB db =
+             RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key".getBytes(UTF_8), "value".getBytes(UTF_8));
+      db.flush(new FlushOptions().setWaitForFlush(true));
+
+      // the properties are dropped, but the SST file is still written
+      final Map<String, TableProperties> properties =
+          db.getPropertiesOfAllTables();
+      assertThat(properties).hasSize(1);
+      assertThat(properties.values().iterator().next()
+          .getUserCollectedProperties())
+          .doesNotContainKey("valid")
+          .doesNotContainKey("invalid");
+      assertThat(db.get("key".getBytes(UTF_8)))
+          .isEqualTo("value".getBytes(UTF_8));
+    }
+  }
+
+  private static class DeletionCountingCollectorFactory
+      extends AbstractTablePropertiesCollectorFactory {
+    @Override
+    public String name() {
+      return "DeletionCountingCollectorFactory";
+    }
+
+    @Override
+    public AbstractTablePropertiesCollector createTablePropertiesCollector(
+        final int columnFamilyId) {
+      return new DeletionCountingCollector();
+    }
+  }
+
+  private static class DeletionCountingCollector
+      extends AbstractTablePropertiesCollector {
+    private int puts = 0;
+    private int deletes = 0;
+
+    @Override
+    public String name() {
+      return "DeletionCountingCollector";
+    }
+
+    @Override
+    public void addUserKey(final ByteBuffer key, final ByteBuffer value,
+        final EntryType type, final long sequenceNumber,
+        final long fileSize) {
+      if (type == EntryType.DELETE) {
+        deletes++;
+      } else if (type == EntryType.PUT) {
+        puts++;
+      }
+    }
+
+    @Override
+    public Map<String, String> finish() {
+      final Map<String, String> properties = new HashMap<>();
+      properties.put("puts", Integer.toString(puts));
+      properties.put("deletes", Integer.toString(deletes));
+      return properties;
+    }
+  }
+
+  private static class NullValueCollectorFactory
+      extends AbstractTablePropertiesCollectorFactory {
+    @Override
+    public String name() {
+      return "NullValueCollectorFactory";
+    }
+
+    @Override
+    public AbstractTablePropertiesCollector createTablePropertiesCollector(
+        final int columnFamilyId) {
+      return new AbstractTablePropertiesCollector() {
+        @Override
+        public String name() {
+          return "NullValueCollector";
+        }
+
+        @Override
+        public void addUserKey(final ByteBuffer key, final ByteBuffer value,
+            final EntryType type, final long sequenceNumber,
+            final long fileSize) {
+        }
+
+        @Override
+        public Map<String, String> finish() {
+          final Map<String, String> properties = new HashMap<>();
+          properties.put("valid", "value");
+          properties.put("invalid", null);
+          return properties;
+        }
+      };
+    }
+  }
+}
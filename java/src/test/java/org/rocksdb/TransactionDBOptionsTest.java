@@ -61,4 +61,33 @@ public class TransactionDBOptionsTest {
     }
   }
 
+  @Test
+  public void defaultWriteBatchFlushThreshold() {
+    try (final TransactionDBOptions opt = new TransactionDBOptions()) {
+      assertThat(opt.getDefaultWriteBatchFlushThreshold()).isEqualTo(0);
+      final long longValue = rand.nextLong();
+      opt.setDefaultWriteBatchFlushThreshold(longValue);
+      assertThat(opt.getDefaultWriteBatchFlushThreshold())
+          .isEqualTo(longValue);
+    }
+  }
+
+  @Test
+  public void snapshotCacheBits() {
+    try (final TransactionDBOptions opt = new TransactionDBOptions()) {
+      assertThat(opt.getSnapshotCacheBits()).isEqualTo(7);
+      opt.setSnapshotCacheBits(10);
+      assertThat(opt.getSnapshotCacheBits()).isEqualTo(10);
+    }
+  }
+
+  @Test
+  public void commitCacheBits() {
+    try (final TransactionDBOptions opt = new TransactionDBOptions()) {
+      assertThat(opt.getCommitCacheBits()).isEqualTo(23);
+      opt.setCommitCacheBits(16);
+      assertThat(opt.getCommitCacheBits()).isEqualTo(16);
+    }
+  }
+
 }
@@ -175,4 +175,60 @@ public class TransactionDBTest {
       tdb.setDeadlockInfoBufferSize(123);
     }
   }
+
+  @Test
+  public void writeUnprepared_flushThreshold() throws RocksDBException {
+    final byte[] value = new byte[100];
+    Arrays.fill(value, (byte) 'v');
+
+    try (final Statistics statistics = new Statistics();
+         final Options options = new Options()
+             .setCreateIfMissing(true)
+             .setStatistics(statistics);
+         final TransactionDBOptions txnDbOptions = new TransactionDBOptions()
+             .setWritePolicy(TxnDBWritePolicy.WRITE_UNPREPARED)
+             .setCommitCacheBits(2)
+             .setSnapshotCacheBits(1);
+         final TransactionDB tdb = TransactionDB.open(options, txnDbOptions,
+             dbFolder.getRoot().getAbsolutePath());
+         final WriteOptions writeOptions = new WriteOptions();
+         final ReadOptions readOptions = new ReadOptions();
+         final TransactionOptions txnOptions = new TransactionOptions()
+             .setWriteBatchFlushThreshold(512)) {
+
+      try (final Transaction txn = tdb.beginTransaction(writeOptions,
+          txnOptions)) {
+        txn.setName("txn1");
+        for (int i = 0; i < 100; i++) {
+          txn.put(("key" + i).getBytes(UTF_8), value);
+        }
+
+        // the flushed writes are not visible outside of the transaction
+        assertThat(tdb.get(readOptions, "key0".getBytes(UTF_8))).isNull();
+        assertThat(txn.get(readOptions, "key0".getBytes(UTF_8)))
+            .isEqualTo(value);
+        txn.commit();
+      }
+
+      // with such a small commit cache, reads which are not backed by a
+      // snapshot may fail with TryAgain whilst entries are being evicted
+      final Snapshot snapshot = tdb.getSnapshot();
+      try (final ReadOptions snapshotReadOptions =
+               new ReadOptions().setSnapshot(snapshot)) {
+        for (int i = 0; i < 100; i++) {
+          assertThat(tdb.get(snapshotReadOptions,
+              ("key" + i).getBytes(UTF_8))).isEqualTo(value);
+        }
+      } finally {
+        tdb.releaseSnapshot(snapshot);
+      }
+
+      // more commits than entries in the commit cache
+      for (int i = 0; i < 16; i++) {
+        tdb.put(writeOptions, ("other" + i).getBytes(UTF_8), value);
+      }
+      assertThat(statistics.getTickerCount(
+          TickerType.TXN_COMMIT_CACHE_EVICTIONS)).isGreaterThan(0);
+    }
+  }
 }
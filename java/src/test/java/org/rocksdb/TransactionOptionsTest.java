@@ -69,4 +69,14 @@ public class TransactionOptionsTest {
       assertThat(opt.getMaxWriteBatchSize()).isEqualTo(longValue);
     }
   }
+
+  @Test
+  public void writeBatchFlushThreshold() {
+    try (final TransactionOptions opt = new TransactionOptions()) {
+      assertThat(opt.getWriteBatchFlushThreshold()).isEqualTo(-1);
+      final long longValue = rand.nextLong();
+      opt.setWriteBatchFlushThreshold(longValue);
+      assertThat(opt.getWriteBatchFlushThreshold()).isEqualTo(longValue);
+    }
+  }
 }
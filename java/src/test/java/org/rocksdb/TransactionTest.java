@@ -7,6 +7,7 @@ package org.rocksdb;
 
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -165,6 +166,72 @@ public class TransactionTest extends AbstractTransactionTest {
     }
   }
 
+  @Test
+  public void multiGetForUpdate_byteBuffers() throws RocksDBException {
+    final byte[][] keys = new byte[][] {
+        "key3".getBytes(UTF_8),
+        "key1".getBytes(UTF_8),
+        "key2".getBytes(UTF_8)};
+    final byte[] v1 = "value1".getBytes(UTF_8);
+    final byte[] v3 = "value3-is-longer".getBytes(UTF_8);
+    final byte[] otherValue = "otherValue".getBytes(UTF_8);
+
+    try(final DBContainer dbContainer = startDb();
+        final ReadOptions readOptions = new ReadOptions()) {
+
+      try(final Transaction txn = dbContainer.beginTransaction()) {
+        txn.put(keys[0], v3);
+        txn.put(keys[1], v1);
+        txn.commit();
+      }
+
+      final List<ByteBuffer> keyBuffers = new ArrayList<>();
+      final List<ByteBuffer> valueBuffers = new ArrayList<>();
+      for (final byte[] key : keys) {
+        final ByteBuffer keyBuffer = ByteBuffer.allocateDirect(key.length);
+        keyBuffer.put(key).flip();
+        keyBuffers.add(keyBuffer);
+        valueBuffers.add(ByteBuffer.allocateDirect(8));
+      }
+
+      try(final Transaction txn2 = dbContainer.beginTransaction()) {
+        try(final Transaction txn3 = dbContainer.beginTransaction()) {
+          final List<ByteBufferGetStatus> results =
+              txn3.multiGetForUpdate(readOptions, keyBuffers, valueBuffers);
+          assertThat(results).hasSize(3);
+
+          // value truncated to the size of the buffer
+          assertThat(results.get(0).status.getCode()).isEqualTo(Status.Code.Ok);
+          assertThat(results.get(0).requiredSize).isEqualTo(v3.length);
+          assertThat(results.get(0).value.remaining()).isEqualTo(8);
+          final byte[] truncated = new byte[8];
+          results.get(0).value.get(truncated);
+          assertThat(truncated).isEqualTo(Arrays.copyOf(v3, 8));
+
+          assertThat(results.get(1).status.getCode()).isEqualTo(Status.Code.Ok);
+          assertThat(results.get(1).requiredSize).isEqualTo(v1.length);
+          final byte[] value = new byte[results.get(1).value.remaining()];
+          results.get(1).value.get(value);
+          assertThat(value).isEqualTo(v1);
+
+          assertThat(results.get(2).status.getCode())
+              .isEqualTo(Status.Code.NotFound);
+
+          // NOTE: txn2 updates the missing key2, which is also locked by txn3
+          try {
+            txn2.put(keys[2], otherValue); // should cause an exception!
+          } catch(final RocksDBException e) {
+            assertThat(e.getStatus().getCode()).isSameAs(Status.Code.TimedOut);
+            return;
+          }
+        }
+      }
+
+      fail("Expected an exception for put after multiGetForUpdate from " +
+          "conflicting transactions");
+    }
+  }
+
   @Test
   public void name() throws RocksDBException {
     try(final DBContainer dbContainer = startDb();
@@ -0,0 +1,107 @@
+// Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WriteBufferManagerTest {
+
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule
+  public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void bufferSize() {
+    try (final Cache cache = new LRUCache(1024 * 1024);
+         final WriteBufferManager writeBufferManager =
+             new WriteBufferManager(2000L, cache)) {
+      assertThat(writeBufferManager.bufferSize()).isEqualTo(2000L);
+      assertThat(writeBufferManager.memoryUsage()).isEqualTo(0);
+      assertThat(writeBufferManager.mutableMemtableMemoryUsage())
+          .isEqualTo(0);
+      assertThat(writeBufferManager.shouldFlush()).isFalse();
+
+      writeBufferManager.setBufferSize(4000L);
+      assertThat(writeBufferManager.bufferSize()).isEqualTo(4000L);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setBufferSizeZero() {
+    try (final Cache cache = new LRUCache(1024 * 1024);
+         final WriteBufferManager writeBufferManager =
+             new WriteBufferManager(2000L, cache)) {
+      writeBufferManager.setBufferSize(0);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setBufferSizeWithoutLimit() {
+    try (final Cache cache = new LRUCache(1024 * 1024);
+         final WriteBufferManager writeBufferManager =
+             new WriteBufferManager(0, cache)) {
+      writeBufferManager.setBufferSize(2000L);
+    }
+  }
+
+  @Test
+  public void memoryUsage() throws RocksDBException {
+    final List<ColumnFamilyDescriptor> cfDescriptors = Arrays.asList(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY),
+        new ColumnFamilyDescriptor("new_cf".getBytes()));
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    try (final Cache cache = new LRUCache(64 * 1024 * 1024);
+         final WriteBufferManager writeBufferManager =
+             new WriteBufferManager(64 * 1024 * 1024, cache);
+         final DBOptions options = new DBOptions()
+             .setCreateIfMissing(true)
+             .setCreateMissingColumnFamilies(true)
+             .setWriteBufferManager(writeBufferManager);
+         final RocksDB db = RocksDB.open(options,
+             dbFolder.getRoot().getAbsolutePath(), cfDescriptors,
+             cfHandles)) {
+      try {
+        final long[] emptyUsage = db.getMemTableUsage(cfHandles);
+        assertThat(emptyUsage).hasSize(2);
+
+        final byte[] value = new byte[1000];
+        for (int i = 0; i < 1000; i++) {
+          db.put(cfHandles.get(1), ("key" + i).getBytes(), value);
+        }
+
+        final long[] usage = db.getMemTableUsage(cfHandles);
+        assertThat(usage[0]).isEqualTo(emptyUsage[0]);
+        assertThat(usage[1]).isGreaterThan(emptyUsage[1] + 1000 * 1000);
+
+        assertThat(writeBufferManager.memoryUsage())
+            .isGreaterThan(1000 * 1000);
+        assertThat(writeBufferManager.mutableMemtableMemoryUsage())
+            .isEqualTo(writeBufferManager.memoryUsage());
+        assertThat(writeBufferManager.shouldFlush()).isFalse();
+
+        // the memtables are now above the limit
+        writeBufferManager.setBufferSize(1024 * 1024);
+        assertThat(writeBufferManager.shouldFlush()).isTrue();
+      } finally {
+        for (final ColumnFamilyHandle cfHandle : cfHandles) {
+          cfHandle.close();
+        }
+      }
+    }
+  }
+}
@@ -66,4 +66,17 @@ public class WriteOptionsTest {
     assertThat(origOpts.sync()).isEqualTo(copyOpts.sync());
   }
 
+  @Test
+  public void reset() {
+    try (final WriteOptions writeOptions = new WriteOptions()) {
+      writeOptions.setSync(true);
+      writeOptions.setDisableWAL(true);
+      writeOptions.setLowPri(true);
+
+      writeOptions.reset();
+      assertThat(writeOptions.sync()).isFalse();
+      assertThat(writeOptions.disableWAL()).isFalse();
+      assertThat(writeOptions.lowPri()).isFalse();
+    }
+  }
 }
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"org.rocksdb"},{"l":"org.rocksdb.util"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"p":"org.rocksdb","l":"AbstractBackupProgressCallback"},{"p":"org.rocksdb","l":"AbstractCache"},{"p":"org.rocksdb","l":"AbstractCompactionFilter"},{"p":"org.rocksdb","l":"AbstractCompactionFilterFactory"},{"p":"org.rocksdb","l":"AbstractComparator"},{"p":"org.rocksdb","l":"AbstractImmutableNativeReference"},{"p":"org.rocksdb","l":"AbstractMutableOptions"},{"p":"org.rocksdb","l":"AbstractMutableOptions.AbstractMutableOptionsBuilder"},{"p":"org.rocksdb","l":"AbstractNativeReference"},{"p":"org.rocksdb","l":"AbstractRocksIterator"},{"p":"org.rocksdb","l":"AbstractSlice"},{"p":"org.rocksdb","l":"AbstractSliceTransform"},{"p":"org.rocksdb","l":"AbstractTableFilter"},{"p":"org.rocksdb","l":"AbstractTablePropertiesCollector"},{"p":"org.rocksdb","l":"AbstractTablePropertiesCollectorFactory"},{"p":"org.rocksdb","l":"AbstractTraceWriter"},{"p":"org.rocksdb","l":"AbstractTransactionNotifier"},{"p":"org.rocksdb","l":"AbstractWalFilter"},{"p":"org.rocksdb","l":"AbstractWriteBatch"},{"p":"org.rocksdb","l":"AccessHint"},{"p":"org.rocksdb","l":"AdaptiveTableConfig"},{"p":"org.rocksdb","l":"AdvancedColumnFamilyOptionsInterface"},{"p":"org.rocksdb","l":"AdvancedMutableColumnFamilyOptionsInterface"},{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.rocksdb","l":"BackupableDBOptions"},{"p":"org.rocksdb","l":"BackupEngine"},{"p":"org.rocksdb","l":"BackupInfo"},{"p":"org.rocksdb","l":"TransactionLogIterator.BatchResult"},{"p":"org.rocksdb","l":"BlobDB"},{"p":"org.rocksdb","l":"BlobDBOptions"},{"p":"org.rocksdb","l":"BlockBasedTableConfig"},{"p":"org.rocksdb","l":"BloomFilter"},{"p":"org.rocksdb","l":"CompactRangeOptions.BottommostLevelCompaction"},{"p":"org.rocksdb","l":"BuiltinComparator"},{"p":"org.rocksdb","l":"ByteBufferGetStatus"},{"p":"org.rocksdb.util","l":"BytewiseComparator"},{"p":"org.rocksdb","l":"Cache"},{"p":"org.rocksdb","l":"CappedPrefixSliceTransform"},{"p":"org.rocksdb","l":"CassandraCompactionFilter"},{"p":"org.rocksdb","l":"CassandraValueMergeOperator"},{"p":"org.rocksdb","l":"Checkpoint"},{"p":"org.rocksdb","l":"ChecksumType"},{"p":"org.rocksdb","l":"ClockCache"},{"p":"org.rocksdb","l":"Status.Code"},{"p":"org.rocksdb","l":"ColumnFamilyDescriptor"},{"p":"org.rocksdb","l":"ColumnFamilyHandle"},{"p":"org.rocksdb","l":"ColumnFamilyMetaData"},{"p":"org.rocksdb","l":"ColumnFamilyOptions"},{"p":"org.rocksdb","l":"ColumnFamilyOptionsInterface"},{"p":"org.rocksdb","l":"CompactionJobInfo"},{"p":"org.rocksdb","l":"CompactionJobStats"},{"p":"org.rocksdb","l":"MutableColumnFamilyOptions.CompactionOption"},{"p":"org.rocksdb","l":"CompactionOptions"},{"p":"org.rocksdb","l":"CompactionOptionsFIFO"},{"p":"org.rocksdb","l":"CompactionOptionsUniversal"},{"p":"org.rocksdb","l":"CompactionPriority"},{"p":"org.rocksdb","l":"CompactionReason"},{"p":"org.rocksdb","l":"CompactionStopStyle"},{"p":"org.rocksdb","l":"CompactionStyle"},{"p":"org.rocksdb","l":"CompactOnDeletionCollectorFactory"},{"p":"org.rocksdb","l":"CompactRangeOptions"},{"p":"org.rocksdb","l":"Comparator"},{"p":"org.rocksdb","l":"ComparatorOptions"},{"p":"org.rocksdb","l":"CompressionOptions"},{"p":"org.rocksdb","l":"CompressionType"},{"p":"org.rocksdb","l":"AbstractCompactionFilter.Context"},{"p":"org.rocksdb","l":"RocksDB.CountAndSize"},{"p":"org.rocksdb","l":"CuckooTableConfig"},{"p":"org.rocksdb","l":"DataBlockIndexType"},{"p":"org.rocksdb","l":"MutableDBOptions.DBOption"},{"p":"org.rocksdb","l":"DBOptions"},{"p":"org.rocksdb","l":"DBOptionsInterface"},{"p":"org.rocksdb","l":"DbPath"},{"p":"org.rocksdb","l":"TransactionDB.DeadlockInfo"},{"p":"org.rocksdb","l":"TransactionDB.DeadlockPath"},{"p":"org.rocksdb","l":"DelimitedPrefixSliceTransform"},{"p":"org.rocksdb.util","l":"DirectBytewiseComparator"},{"p":"org.rocksdb","l":"DirectComparator"},{"p":"org.rocksdb","l":"DirectSlice"},{"p":"org.rocksdb","l":"EncodingType"},{"p":"org.rocksdb","l":"EntryType"},{"p":"org.rocksdb","l":"Env"},{"p":"org.rocksdb.util","l":"Environment"},{"p":"org.rocksdb","l":"EnvOptions"},{"p":"org.rocksdb","l":"Experimental"},{"p":"org.rocksdb","l":"ExportImportFilesMetaData"},{"p":"org.rocksdb","l":"Filter"},{"p":"org.rocksdb","l":"FixedPrefixSliceTransform"},{"p":"org.rocksdb","l":"FlushOptions"},{"p":"org.rocksdb","l":"FrequencyAdmissionCache"},{"p":"org.rocksdb","l":"WriteBatch.Handler"},{"p":"org.rocksdb","l":"HashLinkedListMemTableConfig"},{"p":"org.rocksdb","l":"HashSkipListMemTableConfig"},{"p":"org.rocksdb","l":"HdfsEnv"},{"p":"org.rocksdb","l":"HistogramData"},{"p":"org.rocksdb","l":"HistogramType"},{"p":"org.rocksdb","l":"Holder"},{"p":"org.rocksdb","l":"ImportColumnFamilyOptions"},{"p":"org.rocksdb","l":"IndexType"},{"p":"org.rocksdb","l":"InfoLogLevel"},{"p":"org.rocksdb","l":"IngestExternalFileOptions"},{"p":"org.rocksdb","l":"TransactionDB.KeyLockInfo"},{"p":"org.rocksdb","l":"LengthPrefixedSliceTransform"},{"p":"org.rocksdb","l":"LevelMetaData"},{"p":"org.rocksdb","l":"LiveFileMetaData"},{"p":"org.rocksdb","l":"RocksDB.LiveFiles"},{"p":"org.rocksdb","l":"LogFile"},{"p":"org.rocksdb","l":"Logger"},{"p":"org.rocksdb","l":"WalFilter.LogRecordFoundResult"},{"p":"org.rocksdb","l":"LRUCache"},{"p":"org.rocksdb","l":"MemoryUsageType"},{"p":"org.rocksdb","l":"MemoryUtil"},{"p":"org.rocksdb","l":"MemTableConfig"},{"p":"org.rocksdb","l":"MutableColumnFamilyOptions.MemtableOption"},{"p":"org.rocksdb","l":"MergeOperator"},{"p":"org.rocksdb","l":"MutableColumnFamilyOptions.MiscOption"},{"p":"org.rocksdb","l":"MutableColumnFamilyOptions"},{"p":"org.rocksdb","l":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder"},{"p":"org.rocksdb","l":"MutableColumnFamilyOptionsInterface"},{"p":"org.rocksdb","l":"MutableDBOptions"},{"p":"org.rocksdb","l":"MutableDBOptions.MutableDBOptionsBuilder"},{"p":"org.rocksdb","l":"MutableDBOptionsInterface"},{"p":"org.rocksdb","l":"MutableOptionKey"},{"p":"org.rocksdb","l":"MutableOptionValue"},{"p":"org.rocksdb","l":"NativeComparatorWrapper"},{"p":"org.rocksdb","l":"NativeLibraryLoader"},{"p":"org.rocksdb","l":"OperationStage"},{"p":"org.rocksdb","l":"OperationType"},{"p":"org.rocksdb","l":"OptimisticTransactionDB"},{"p":"org.rocksdb","l":"OptimisticTransactionOptions"},{"p":"org.rocksdb","l":"Options"},{"p":"org.rocksdb","l":"OptionsUtil"},{"p":"org.rocksdb","l":"PersistentCache"},{"p":"org.rocksdb","l":"PlainTableConfig"},{"p":"org.rocksdb","l":"Priority"},{"p":"org.rocksdb","l":"Range"},{"p":"org.rocksdb","l":"RateLimiter"},{"p":"org.rocksdb","l":"RateLimiterMode"},{"p":"org.rocksdb","l":"ReadOptions"},{"p":"org.rocksdb","l":"ReadTier"},{"p":"org.rocksdb","l":"RemoveEmptyValueCompactionFilter"},{"p":"org.rocksdb","l":"RestoreOptions"},{"p":"org.rocksdb.util","l":"ReverseBytewiseComparator"},{"p":"org.rocksdb","l":"RocksCallbackObject"},{"p":"org.rocksdb","l":"RocksDB"},{"p":"org.rocksdb","l":"RocksDBException"},{"p":"org.rocksdb","l":"RocksEnv"},{"p":"org.rocksdb","l":"RocksIterator"},{"p":"org.rocksdb","l":"RocksIteratorInterface"},{"p":"org.rocksdb","l":"RocksMemEnv"},{"p":"org.rocksdb","l":"RocksMutableObject"},{"p":"org.rocksdb","l":"RocksObject"},{"p":"org.rocksdb","l":"WriteBatch.SavePoint"},{"p":"org.rocksdb","l":"SimCache"},{"p":"org.rocksdb","l":"SizeApproximationFlag"},{"p":"org.rocksdb.util","l":"SizeUnit"},{"p":"org.rocksdb","l":"SkipListMemTableConfig"},{"p":"org.rocksdb","l":"Slice"},{"p":"org.rocksdb","l":"SliceTransform"},{"p":"org.rocksdb","l":"Snapshot"},{"p":"org.rocksdb","l":"SstFileManager"},{"p":"org.rocksdb","l":"SstFileMetaData"},{"p":"org.rocksdb","l":"SstFileReader"},{"p":"org.rocksdb","l":"SstFileReaderIterator"},{"p":"org.rocksdb","l":"SstFileWriter"},{"p":"org.rocksdb","l":"StateType"},{"p":"org.rocksdb","l":"Statistics"},{"p":"org.rocksdb","l":"StatisticsCollector"},{"p":"org.rocksdb","l":"StatisticsCollectorCallback"},{"p":"org.rocksdb","l":"StatsCollectorInput"},{"p":"org.rocksdb","l":"StatsLevel"},{"p":"org.rocksdb","l":"Status"},{"p":"org.rocksdb","l":"StringAppendOperator"},{"p":"org.rocksdb","l":"Status.SubCode"},{"p":"org.rocksdb","l":"TableFilter"},{"p":"org.rocksdb","l":"TableFormatConfig"},{"p":"org.rocksdb","l":"TableProperties"},{"p":"org.rocksdb","l":"TablePropertiesCollectorFactory"},{"p":"org.rocksdb","l":"ThreadStatus"},{"p":"org.rocksdb","l":"ThreadType"},{"p":"org.rocksdb","l":"TickerType"},{"p":"org.rocksdb","l":"TimedEnv"},{"p":"org.rocksdb","l":"TraceOptions"},{"p":"org.rocksdb","l":"TraceWriter"},{"p":"org.rocksdb","l":"Transaction"},{"p":"org.rocksdb","l":"TransactionDB"},{"p":"org.rocksdb","l":"TransactionDBOptions"},{"p":"org.rocksdb","l":"TransactionLogIterator"},{"p":"org.rocksdb","l":"TransactionOptions"},{"p":"org.rocksdb","l":"Transaction.TransactionState"},{"p":"org.rocksdb","l":"TtlDB"},{"p":"org.rocksdb","l":"TxnDBWritePolicy"},{"p":"org.rocksdb","l":"UInt64AddOperator"},{"p":"org.rocksdb","l":"MutableOptionKey.ValueType"},{"p":"org.rocksdb","l":"VectorMemTableConfig"},{"p":"org.rocksdb","l":"Transaction.WaitingTransactions"},{"p":"org.rocksdb","l":"WalFileType"},{"p":"org.rocksdb","l":"WalFilter"},{"p":"org.rocksdb","l":"WalProcessingOption"},{"p":"org.rocksdb","l":"WALRecoveryMode"},{"p":"org.rocksdb","l":"WBWIRocksIterator"},{"p":"org.rocksdb","l":"WriteBatch"},{"p":"org.rocksdb","l":"WriteBatchInterface"},{"p":"org.rocksdb","l":"WriteBatchWithIndex"},{"p":"org.rocksdb","l":"WriteBufferManager"},{"p":"org.rocksdb","l":"WBWIRocksIterator.WriteEntry"},{"p":"org.rocksdb","l":"WriteOptions"},{"p":"org.rocksdb","l":"WBWIRocksIterator.WriteType"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1,44 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#include "memory/counting_memory_allocator.h"
+
+namespace rocksdb {
+
+const size_t CountingMemoryAllocator::kHeader;
+
+void* CountingMemoryAllocator::Allocate(size_t size) {
+  char* p = target_ ? static_cast<char*>(target_->Allocate(size + kHeader))
+                    : new char[size + kHeader];
+  *reinterpret_cast<size_t*>(p) = size;
+  const uint64_t allocated =
+      allocated_bytes_.fetch_add(size, std::memory_order_relaxed) + size;
+  uint64_t peak = peak_allocated_bytes_.load(std::memory_order_relaxed);
+  while (allocated > peak &&
+         !peak_allocated_bytes_.compare_exchange_weak(
+             peak, allocated, std::memory_order_relaxed)) {
+  }
+  num_allocations_.fetch_add(1, std::memory_order_relaxed);
+  return p + kHeader;
+}
+
+void CountingMemoryAllocator::Deallocate(void* p) {
+  char* header = static_cast<char*>(p) - kHeader;
+  allocated_bytes_.fetch_sub(*reinterpret_cast<size_t*>(header),
+                             std::memory_order_relaxed);
+  num_allocations_.fetch_sub(1, std::memory_order_relaxed);
+  if (target_) {
+    target_->Deallocate(header);
+  } else {
+    delete[] header;
+  }
+}
+
+std::shared_ptr<MemoryAllocator> NewCountingMemoryAllocator(
+    std::shared_ptr<MemoryAllocator> target) {
+  return std::make_shared<CountingMemoryAllocator>(std::move(target));
+}
+
+}  // namespace rocksdb
@@ -0,0 +1,56 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#pragma once
+
+#include <atomic>
+#include <memory>
+
+#include "rocksdb/memory_allocator.h"
+
+namespace rocksdb {
+
+// A MemoryAllocator which counts the bytes it allocates, passing the
+// allocations on to another allocator, or to the system allocator.
+// Each allocation is prefixed by a header holding its size, so that the
+// size is known on deallocation.
+class CountingMemoryAllocator : public MemoryAllocator {
+ public:
+  explicit CountingMemoryAllocator(std::shared_ptr<MemoryAllocator> target)
+      : target_(std::move(target)),
+        allocated_bytes_(0),
+        peak_allocated_bytes_(0),
+        num_allocations_(0) {}
+
+  const char* Name() const override { return "CountingMemoryAllocator"; }
+  void* Allocate(size_t size) override;
+  void Deallocate(void* p) override;
+
+  // The number of bytes currently allocated
+  uint64_t GetAllocatedBytes() const {
+    return allocated_bytes_.load(std::memory_order_relaxed);
+  }
+
+  // The largest number of bytes allocated at any time
+  uint64_t GetPeakAllocatedBytes() const {
+    return peak_allocated_bytes_.load(std::memory_order_relaxed);
+  }
+
+  // The number of allocations which have not been deallocated yet
+  uint64_t GetNumAllocations() const {
+    return num_allocations_.load(std::memory_order_relaxed);
+  }
+
+ private:
+  // keeps the returned memory aligned as malloc would
+  static const size_t kHeader = 16;
+
+  std::shared_ptr<MemoryAllocator> target_;
+  std::atomic<uint64_t> allocated_bytes_;
+  std::atomic<uint64_t> peak_allocated_bytes_;
+  std::atomic<uint64_t> num_allocations_;
+};
+
+}  // namespace rocksdb
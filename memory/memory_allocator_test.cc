@@ -0,0 +1,69 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#include <cstring>
+
+#include "memory/counting_memory_allocator.h"
+#include "rocksdb/memory_allocator.h"
+#include "test_util/testharness.h"
+
+namespace rocksdb {
+
+class CountingMemoryAllocatorTest : public testing::Test {};
+
+TEST_F(CountingMemoryAllocatorTest, Counters) {
+  std::shared_ptr<MemoryAllocator> allocator = NewCountingMemoryAllocator();
+  auto* counting = static_cast<CountingMemoryAllocator*>(allocator.get());
+  ASSERT_STREQ("CountingMemoryAllocator", allocator->Name());
+  ASSERT_EQ(0, counting->GetAllocatedBytes());
+  ASSERT_EQ(0, counting->GetNumAllocations());
+
+  void* p1 = allocator->Allocate(100);
+  void* p2 = allocator->Allocate(200);
+  // aligned as malloc would
+  ASSERT_EQ(0, reinterpret_cast<uintptr_t>(p1) % 16);
+  ASSERT_EQ(0, reinterpret_cast<uintptr_t>(p2) % 16);
+  memset(p1, 1, 100);
+  memset(p2, 2, 200);
+  ASSERT_EQ(300, counting->GetAllocatedBytes());
+  ASSERT_EQ(300, counting->GetPeakAllocatedBytes());
+  ASSERT_EQ(2, counting->GetNumAllocations());
+
+  allocator->Deallocate(p2);
+  ASSERT_EQ(100, counting->GetAllocatedBytes());
+  ASSERT_EQ(300, counting->GetPeakAllocatedBytes());
+  ASSERT_EQ(1, counting->GetNumAllocations());
+
+  allocator->Deallocate(p1);
+  ASSERT_EQ(0, counting->GetAllocatedBytes());
+  ASSERT_EQ(300, counting->GetPeakAllocatedBytes());
+  ASSERT_EQ(0, counting->GetNumAllocations());
+}
+
+TEST_F(CountingMemoryAllocatorTest, Target) {
+  std::shared_ptr<MemoryAllocator> target = NewCountingMemoryAllocator();
+  std::shared_ptr<MemoryAllocator> allocator =
+      NewCountingMemoryAllocator(target);
+  auto* counting_target = static_cast<CountingMemoryAllocator*>(target.get());
+  auto* counting = static_cast<CountingMemoryAllocator*>(allocator.get());
+
+  void* p = allocator->Allocate(100);
+  ASSERT_EQ(100, counting->GetAllocatedBytes());
+  // the target also allocates the header of the allocation
+  ASSERT_LT(100, counting_target->GetAllocatedBytes());
+  ASSERT_EQ(1, counting_target->GetNumAllocations());
+
+  allocator->Deallocate(p);
+  ASSERT_EQ(0, counting->GetAllocatedBytes());
+  ASSERT_EQ(0, counting_target->GetAllocatedBytes());
+  ASSERT_EQ(0, counting_target->GetNumAllocations());
+}
+
+}  // namespace rocksdb
+
+int main(int argc, char** argv) {
+  ::testing::InitGoogleTest(&argc, argv);
+  return RUN_ALL_TESTS();
+}
@@ -50,6 +50,25 @@ TEST_F(WriteBufferManagerTest, ShouldFlush) {
   ASSERT_FALSE(wbf->ShouldFlush());
 }
 
+TEST_F(WriteBufferManagerTest, SetBufferSize) {
+  // A write buffer manager of size 10MB
+  std::unique_ptr<WriteBufferManager> wbf(
+      new WriteBufferManager(10 * 1024 * 1024));
+
+  wbf->ReserveMem(8 * 1024 * 1024);
+  ASSERT_FALSE(wbf->ShouldFlush());
+
+  // 8MB is above 7/8 of the new limit of 9MB
+  wbf->SetBufferSize(9 * 1024 * 1024);
+  ASSERT_EQ(9 * 1024 * 1024, wbf->buffer_size());
+  ASSERT_TRUE(wbf->ShouldFlush());
+
+  wbf->SetBufferSize(20 * 1024 * 1024);
+  ASSERT_EQ(20 * 1024 * 1024, wbf->buffer_size());
+  ASSERT_FALSE(wbf->ShouldFlush());
+  ASSERT_EQ(8 * 1024 * 1024, wbf->memory_usage());
+}
+
 TEST_F(WriteBufferManagerTest, CacheCost) {
   LRUCacheOptions co;
   // 1GB cache
@@ -35,6 +35,21 @@ void IOStatsContext::Reset() {
   logger_nanos = 0;
 }
 
+void AddIOStatsContext(const IOStatsContext& src, IOStatsContext* dst) {
+  dst->bytes_read += src.bytes_read;
+  dst->bytes_written += src.bytes_written;
+  dst->open_nanos += src.open_nanos;
+  dst->allocate_nanos += src.allocate_nanos;
+  dst->write_nanos += src.write_nanos;
+  dst->read_nanos += src.read_nanos;
+  dst->range_sync_nanos += src.range_sync_nanos;
+  dst->fsync_nanos += src.fsync_nanos;
+  dst->prepare_write_nanos += src.prepare_write_nanos;
+  dst->logger_nanos += src.logger_nanos;
+  dst->cpu_write_nanos += src.cpu_write_nanos;
+  dst->cpu_read_nanos += src.cpu_read_nanos;
+}
+
 #define IOSTATS_CONTEXT_OUTPUT(counter)         \
   if (!exclude_zero_counters || counter > 0) {  \
     ss << #counter << " = " << counter << ", "; \
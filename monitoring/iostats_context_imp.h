@@ -7,6 +7,11 @@
 #include "monitoring/perf_step_timer.h"
 #include "rocksdb/iostats_context.h"
 
+namespace rocksdb {
+// Adds the counters of src to those of *dst
+extern void AddIOStatsContext(const IOStatsContext& src, IOStatsContext* dst);
+}  // namespace rocksdb
+
 #ifdef ROCKSDB_SUPPORT_THREAD_LOCAL
 namespace rocksdb {
 extern __thread IOStatsContext iostats_context;
@@ -556,4 +556,107 @@ void PerfContext::ClearPerLevelPerfContext(){
   per_level_perf_context_enabled = false;
 }
 
+
+void AddPerfContext(const PerfContext& src, PerfContext* dst) {
+#ifndef NPERF_CONTEXT
+  dst->user_key_comparison_count += src.user_key_comparison_count;
+  dst->block_cache_hit_count += src.block_cache_hit_count;
+  dst->block_read_count += src.block_read_count;
+  dst->block_read_byte += src.block_read_byte;
+  dst->block_read_time += src.block_read_time;
+  dst->block_cache_index_hit_count += src.block_cache_index_hit_count;
+  dst->index_block_read_count += src.index_block_read_count;
+  dst->block_cache_filter_hit_count += src.block_cache_filter_hit_count;
+  dst->filter_block_read_count += src.filter_block_read_count;
+  dst->compression_dict_block_read_count +=
+      src.compression_dict_block_read_count;
+  dst->block_checksum_time += src.block_checksum_time;
+  dst->block_decompress_time += src.block_decompress_time;
+  dst->get_read_bytes += src.get_read_bytes;
+  dst->multiget_read_bytes += src.multiget_read_bytes;
+  dst->iter_read_bytes += src.iter_read_bytes;
+  dst->internal_key_skipped_count += src.internal_key_skipped_count;
+  dst->internal_delete_skipped_count += src.internal_delete_skipped_count;
+  dst->internal_recent_skipped_count += src.internal_recent_skipped_count;
+  dst->internal_merge_count += src.internal_merge_count;
+  dst->write_wal_time += src.write_wal_time;
+  dst->get_snapshot_time += src.get_snapshot_time;
+  dst->get_from_memtable_time += src.get_from_memtable_time;
+  dst->get_from_memtable_count += src.get_from_memtable_count;
+  dst->get_post_process_time += src.get_post_process_time;
+  dst->get_from_output_files_time += src.get_from_output_files_time;
+  dst->seek_on_memtable_time += src.seek_on_memtable_time;
+  dst->seek_on_memtable_count += src.seek_on_memtable_count;
+  dst->next_on_memtable_count += src.next_on_memtable_count;
+  dst->prev_on_memtable_count += src.prev_on_memtable_count;
+  dst->seek_child_seek_time += src.seek_child_seek_time;
+  dst->seek_child_seek_count += src.seek_child_seek_count;
+  dst->seek_min_heap_time += src.seek_min_heap_time;
+  dst->seek_internal_seek_time += src.seek_internal_seek_time;
+  dst->find_next_user_entry_time += src.find_next_user_entry_time;
+  dst->write_pre_and_post_process_time += src.write_pre_and_post_process_time;
+  dst->write_memtable_time += src.write_memtable_time;
+  dst->write_delay_time += src.write_delay_time;
+  dst->write_thread_wait_nanos += src.write_thread_wait_nanos;
+  dst->write_scheduling_flushes_compactions_time +=
+      src.write_scheduling_flushes_compactions_time;
+  dst->db_mutex_lock_nanos += src.db_mutex_lock_nanos;
+  dst->db_condition_wait_nanos += src.db_condition_wait_nanos;
+  dst->merge_operator_time_nanos += src.merge_operator_time_nanos;
+  dst->read_index_block_nanos += src.read_index_block_nanos;
+  dst->read_filter_block_nanos += src.read_filter_block_nanos;
+  dst->new_table_block_iter_nanos += src.new_table_block_iter_nanos;
+  dst->new_table_iterator_nanos += src.new_table_iterator_nanos;
+  dst->block_seek_nanos += src.block_seek_nanos;
+  dst->find_table_nanos += src.find_table_nanos;
+  dst->bloom_memtable_hit_count += src.bloom_memtable_hit_count;
+  dst->bloom_memtable_miss_count += src.bloom_memtable_miss_count;
+  dst->bloom_sst_hit_count += src.bloom_sst_hit_count;
+  dst->bloom_sst_miss_count += src.bloom_sst_miss_count;
+  dst->key_lock_wait_time += src.key_lock_wait_time;
+  dst->key_lock_wait_count += src.key_lock_wait_count;
+  dst->env_new_sequential_file_nanos += src.env_new_sequential_file_nanos;
+  dst->env_new_random_access_file_nanos += src.env_new_random_access_file_nanos;
+  dst->env_new_writable_file_nanos += src.env_new_writable_file_nanos;
+  dst->env_reuse_writable_file_nanos += src.env_reuse_writable_file_nanos;
+  dst->env_new_random_rw_file_nanos += src.env_new_random_rw_file_nanos;
+  dst->env_new_directory_nanos += src.env_new_directory_nanos;
+  dst->env_file_exists_nanos += src.env_file_exists_nanos;
+  dst->env_get_children_nanos += src.env_get_children_nanos;
+  dst->env_get_children_file_attributes_nanos +=
+      src.env_get_children_file_attributes_nanos;
+  dst->env_delete_file_nanos += src.env_delete_file_nanos;
+  dst->env_create_dir_nanos += src.env_create_dir_nanos;
+  dst->env_create_dir_if_missing_nanos += src.env_create_dir_if_missing_nanos;
+  dst->env_delete_dir_nanos += src.env_delete_dir_nanos;
+  dst->env_get_file_size_nanos += src.env_get_file_size_nanos;
+  dst->env_get_file_modification_time_nanos +=
+      src.env_get_file_modification_time_nanos;
+  dst->env_rename_file_nanos += src.env_rename_file_nanos;
+  dst->env_link_file_nanos += src.env_link_file_nanos;
+  dst->env_lock_file_nanos += src.env_lock_file_nanos;
+  dst->env_unlock_file_nanos += src.env_unlock_file_nanos;
+  dst->env_new_logger_nanos += src.env_new_logger_nanos;
+  dst->get_cpu_nanos += src.get_cpu_nanos;
+  dst->iter_next_cpu_nanos += src.iter_next_cpu_nanos;
+  dst->iter_prev_cpu_nanos += src.iter_prev_cpu_nanos;
+  dst->iter_seek_cpu_nanos += src.iter_seek_cpu_nanos;
+  if (src.per_level_perf_context_enabled && src.level_to_perf_context &&
+      dst->per_level_perf_context_enabled && dst->level_to_perf_context) {
+    for (auto& kv : *src.level_to_perf_context) {
+      PerfContextByLevel& level = (*dst->level_to_perf_context)[kv.first];
+      level.bloom_filter_useful += kv.second.bloom_filter_useful;
+      level.bloom_filter_full_positive += kv.second.bloom_filter_full_positive;
+      level.bloom_filter_full_true_positive +=
+          kv.second.bloom_filter_full_true_positive;
+      level.block_cache_hit_count += kv.second.block_cache_hit_count;
+      level.block_cache_miss_count += kv.second.block_cache_miss_count;
+    }
+  }
+#else
+  (void)src;
+  (void)dst;
+#endif
+}
+
 }
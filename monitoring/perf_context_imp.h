@@ -20,6 +20,10 @@ extern thread_local PerfContext perf_context;
 #endif
 #endif
 
+// Adds the counters of src to those of *dst, including the per level ones
+// when both record them
+extern void AddPerfContext(const PerfContext& src, PerfContext* dst);
+
 #if defined(NPERF_CONTEXT)
 
 #define PERF_TIMER_STOP(metric)
@@ -176,6 +176,11 @@ const std::vector<std::pair<Tickers, std::string>> TickersNameMap = {
      "rocksdb.block.cache.compression.dict.bytes.insert"},
     {BLOCK_CACHE_COMPRESSION_DICT_BYTES_EVICT,
      "rocksdb.block.cache.compression.dict.bytes.evict"},
+    {TXN_COMMIT_CACHE_EVICTIONS, "rocksdb.txn.commit.cache.evictions"},
+    {TXN_PREPARED_EVICTIONS, "rocksdb.txn.prepared.evictions"},
+    {ALIGNED_BUFFER_REUSED, "rocksdb.aligned.buffer.reused"},
+    {ALIGNED_BUFFER_ALLOCATED, "rocksdb.aligned.buffer.allocated"},
+    {ALIGNED_BUFFER_ALLOCATED_BYTES, "rocksdb.aligned.buffer.allocated.bytes"},
 };
 
 const std::vector<std::pair<Histograms, std::string>> HistogramsNameMap = {
@@ -545,6 +545,15 @@ TEST_F(OptionsTest, GetBlockBasedTableOptionsFromString) {
   EXPECT_EQ(bfp.GetMillibitsPerKey(), 4567);
   EXPECT_EQ(bfp.GetWholeBitsPerKey(), 5);
 
+  // Ribbon filter
+  ASSERT_OK(GetBlockBasedTableOptionsFromString(
+      table_opt, "filter_policy=ribbonfilter:9.5", &new_opt));
+  ASSERT_TRUE(new_opt.filter_policy != nullptr);
+  const BloomFilterPolicy& rfp =
+      dynamic_cast<const BloomFilterPolicy&>(*new_opt.filter_policy);
+  EXPECT_EQ(rfp.GetMode(), BloomFilterPolicy::kRibbon);
+  EXPECT_EQ(rfp.GetMillibitsPerKey(), 9500);
+
   // unknown option
   ASSERT_NOK(GetBlockBasedTableOptionsFromString(table_opt,
              "cache_index_and_filter_blocks=1;index_type=kBinarySearch;"
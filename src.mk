@@ -1,5 +1,6 @@
 # These are the sources from which librocksdb.a is built:
 LIB_SOURCES =                                                   \
+  cache/admission_cache.cc                                      \
   cache/clock_cache.cc                                          \
   cache/lru_cache.cc                                            \
   cache/sharded_cache.cc                                        \
@@ -15,6 +16,7 @@ LIB_SOURCES =                                                   \
   db/compaction/compaction_picker_fifo.cc                       \
   db/compaction/compaction_picker_level.cc                      \
   db/compaction/compaction_picker_universal.cc                 	\
+  db/compaction/sst_partitioner.cc                              \
   db/convenience.cc                                             \
   db/db_filesnapshot.cc                                         \
   db/db_impl/db_impl.cc                                         \
@@ -87,6 +89,7 @@ LIB_SOURCES =                                                   \
   logging/log_buffer.cc                                         \
   memory/arena.cc                                               \
   memory/concurrent_arena.cc                                    \
+  memory/counting_memory_allocator.cc                           \
   memory/jemalloc_nodump_allocator.cc                           \
   memtable/alloc_tracker.cc                                     \
   memtable/hash_linklist_rep.cc                                 \
@@ -160,6 +163,7 @@ LIB_SOURCES =                                                   \
   tools/dump/db_dump_tool.cc                                    \
   trace_replay/trace_replay.cc                                  \
   trace_replay/block_cache_tracer.cc                            \
+  util/aligned_buffer_pool.cc                                   \
   util/build_version.cc                                         \
   util/coding.cc                                                \
   util/compaction_job_stats_impl.cc                             \
@@ -382,6 +386,7 @@ MAIN_SOURCES =                                                          \
   logging/env_logger_test.cc                                            \
   logging/event_logger_test.cc                                          \
   memory/arena_test.cc                                                  \
+  memory/memory_allocator_test.cc                                       \
   memtable/inlineskiplist_test.cc                                       \
   memtable/memtablerep_bench.cc                                         \
   memtable/skiplist_test.cc                                             \
@@ -414,6 +419,7 @@ MAIN_SOURCES =                                                          \
   tools/sst_dump_test.cc                                                \
   tools/trace_analyzer_test.cc				             	\
   trace_replay/block_cache_tracer_test.cc                               \
+  util/aligned_buffer_pool_test.cc                                      \
   util/autovector_test.cc                                               \
   util/bloom_test.cc                                                    \
   util/coding_test.cc                                                   \
@@ -451,8 +457,14 @@ MAIN_SOURCES =                                                          \
   utilities/write_batch_with_index/write_batch_with_index_test.cc       \
 
 JNI_NATIVE_SOURCES =                                          \
+  java/rocksjni/abstract_cache.cc                             \
+  java/rocksjni/abstract_file_system.cc                       \
+  java/rocksjni/backup_progress_callback.cc                   \
+  java/rocksjni/backup_progress_callback_jnicallback.cc       \
   java/rocksjni/backupenginejni.cc                            \
   java/rocksjni/backupablejni.cc                              \
+  java/rocksjni/blob_db.cc                                    \
+  java/rocksjni/cache_jnicallback.cc                          \
   java/rocksjni/checkpoint.cc                                 \
   java/rocksjni/clock_cache.cc                                \
   java/rocksjni/columnfamilyhandle.cc                         \
@@ -468,14 +480,21 @@ JNI_NATIVE_SOURCES =                                          \
   java/rocksjni/comparator.cc                                 \
   java/rocksjni/comparatorjnicallback.cc                      \
   java/rocksjni/compression_options.cc                        \
+  java/rocksjni/concurrent_task_limiter.cc                    \
   java/rocksjni/env.cc                                        \
+  java/rocksjni/env_encryption.cc                             \
   java/rocksjni/env_options.cc                                \
+  java/rocksjni/export_import_files_metadata.cc               \
+  java/rocksjni/file_system_jnicallback.cc                    \
+  java/rocksjni/frequency_admission_cache.cc                  \
+  java/rocksjni/import_column_family_options.cc               \
   java/rocksjni/ingest_external_file_options.cc               \
   java/rocksjni/filter.cc                                     \
   java/rocksjni/iterator.cc                                   \
   java/rocksjni/jnicallback.cc                                \
   java/rocksjni/loggerjnicallback.cc                          \
   java/rocksjni/lru_cache.cc                                  \
+  java/rocksjni/memory_allocator.cc                           \
   java/rocksjni/memtablejni.cc                                \
   java/rocksjni/memory_util.cc                                \
   java/rocksjni/merge_operator.cc                             \
@@ -493,17 +512,24 @@ JNI_NATIVE_SOURCES =                                          \
   java/rocksjni/rocks_callback_object.cc                      \
   java/rocksjni/rocksjni.cc                                   \
   java/rocksjni/rocksdb_exception_test.cc                     \
+  java/rocksjni/sim_cache.cc                                  \
   java/rocksjni/slice.cc                                      \
+  java/rocksjni/slice_transform.cc                            \
+  java/rocksjni/slice_transform_jnicallback.cc                \
   java/rocksjni/snapshot.cc                                   \
   java/rocksjni/sst_file_manager.cc                           \
   java/rocksjni/sst_file_writerjni.cc                         \
   java/rocksjni/sst_file_readerjni.cc                         \
   java/rocksjni/sst_file_reader_iterator.cc                   \
+  java/rocksjni/sst_partitioner.cc                            \
+  java/rocksjni/sst_partitioner_jnicallback.cc                \
   java/rocksjni/statistics.cc                                 \
   java/rocksjni/statisticsjni.cc                              \
   java/rocksjni/table.cc                                      \
   java/rocksjni/table_filter.cc                               \
   java/rocksjni/table_filter_jnicallback.cc                   \
+  java/rocksjni/table_properties_collector.cc                 \
+  java/rocksjni/table_properties_collector_jnicallback.cc     \
   java/rocksjni/thread_status.cc                              \
   java/rocksjni/trace_writer.cc                               \
   java/rocksjni/trace_writer_jnicallback.cc                   \
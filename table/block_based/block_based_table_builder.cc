@@ -66,6 +66,10 @@ FilterBlockBuilder* CreateFilterBlockBuilder(
     PartitionedIndexBuilder* const p_index_builder) {
   const BlockBasedTableOptions& table_opt = context.table_options;
   if (table_opt.filter_policy == nullptr) return nullptr;
+  if (table_opt.filter_policy->GetPolicyForContext(context) == nullptr) {
+    // No filters for this table file, e.g. at its level
+    return nullptr;
+  }
 
   FilterBitsBuilder* filter_bits_builder =
       BloomFilterPolicy::GetBuilderFromContext(context);
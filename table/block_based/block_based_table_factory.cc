@@ -502,6 +502,16 @@ std::string ParseBlockBasedTableOption(const std::string& name,
     } else if (name == "filter_policy") {
       // Expect the following format
       // bloomfilter:int:bool
+      // or
+      // ribbonfilter:double
+      const std::string kRibbonName = "ribbonfilter:";
+      if (value.compare(0, kRibbonName.size(), kRibbonName) == 0) {
+        double bloom_equivalent_bits_per_key =
+            ParseDouble(trim(value.substr(kRibbonName.size())));
+        new_options->filter_policy.reset(
+            NewRibbonFilterPolicy(bloom_equivalent_bits_per_key));
+        return "";
+      }
       const std::string kName = "bloomfilter:";
       if (value.compare(0, kName.size(), kName) != 0) {
         return "Invalid filter policy name";
@@ -2784,6 +2784,9 @@ template <class TBlockIter, typename TValue>
 void BlockBasedTableIterator<TBlockIter, TValue>::SeekImpl(
     const Slice* target) {
   is_out_of_bound_ = false;
+  prefetch_ = prefetch_on_seek_;
+  prefetch_on_seek_ = false;
+  readahead_bound_end_ = 0;
   is_at_first_key_from_index_ = false;
   if (target && !CheckPrefixMayMatch(*target)) {
     ResetDataIter();
@@ -2877,6 +2880,8 @@ template <class TBlockIter, typename TValue>
 void BlockBasedTableIterator<TBlockIter, TValue>::SeekForPrev(
     const Slice& target) {
   is_out_of_bound_ = false;
+  prefetch_ = false;
+  readahead_bound_end_ = 0;
   is_at_first_key_from_index_ = false;
   if (!CheckPrefixMayMatch(target)) {
     ResetDataIter();
@@ -2926,6 +2931,8 @@ void BlockBasedTableIterator<TBlockIter, TValue>::SeekForPrev(
 template <class TBlockIter, typename TValue>
 void BlockBasedTableIterator<TBlockIter, TValue>::SeekToLast() {
   is_out_of_bound_ = false;
+  prefetch_ = false;
+  readahead_bound_end_ = 0;
   is_at_first_key_from_index_ = false;
   SavePrevIndexValue();
   index_iter_->SeekToLast();
@@ -2997,25 +3004,45 @@ void BlockBasedTableIterator<TBlockIter, TValue>::InitDataBlock() {
     // Prefetch additional data for range scans (iterators). Enabled only for
     // user reads.
     // Implicit auto readahead:
-    //   Enabled after 2 sequential IOs when ReadOptions.readahead_size == 0.
+    //   Enabled after 2 sequential IOs when ReadOptions.readahead_size == 0,
+    //   or from the first IO after Prefetch().
     // Explicit user requested readahead:
     //   Enabled from the very first IO when ReadOptions.readahead_size is set.
     if (lookup_context_.caller != TableReaderCaller::kCompaction) {
       if (read_options_.readahead_size == 0) {
         // Implicit auto readahead
+        if (read_options_.adaptive_readahead &&
+            !IsBlockSequential(data_block_handle.offset())) {
+          // Not a scan, or the start of a new one elsewhere
+          ResetReadahead();
+        }
+        prev_block_end_ =
+            data_block_handle.offset() + block_size(data_block_handle);
         num_file_reads_++;
         if (num_file_reads_ >
-            BlockBasedTable::kMinNumFileReadsToStartAutoReadahead) {
+                BlockBasedTable::kMinNumFileReadsToStartAutoReadahead &&
+            !ScanEndsInBlock()) {
           if (!rep->file->use_direct_io() &&
               (data_block_handle.offset() +
                    static_cast<size_t>(block_size(data_block_handle)) >
                readahead_limit_)) {
             // Buffered I/O
+            // Not past the data block of the upper bound of the scan
+            size_t readahead_size = readahead_size_;
+            const uint64_t bound_end =
+                std::max(ReadaheadBoundEnd(), prev_block_end_);
+            if (bound_end < data_block_handle.offset() + readahead_size) {
+              readahead_size =
+                  static_cast<size_t>(bound_end - data_block_handle.offset());
+            }
+            TEST_SYNC_POINT_CALLBACK(
+                "BlockBasedTableIterator::InitDataBlock:Readahead",
+                &readahead_size);
             // Discarding the return status of Prefetch calls intentionally, as
             // we can fallback to reading from disk if Prefetch fails.
-            rep->file->Prefetch(data_block_handle.offset(), readahead_size_);
+            rep->file->Prefetch(data_block_handle.offset(), readahead_size);
             readahead_limit_ = static_cast<size_t>(data_block_handle.offset() +
-                                                   readahead_size_);
+                                                   readahead_size);
             // Keep exponentially increasing readahead size until
             // kMaxAutoReadaheadSize.
             readahead_size_ = std::min(BlockBasedTable::kMaxAutoReadaheadSize,
@@ -3024,8 +3051,8 @@ void BlockBasedTableIterator<TBlockIter, TValue>::InitDataBlock() {
             // Direct I/O
             // Let FilePrefetchBuffer take care of the readahead.
             rep->CreateFilePrefetchBuffer(
-                BlockBasedTable::kInitAutoReadaheadSize,
-                BlockBasedTable::kMaxAutoReadaheadSize, &prefetch_buffer_);
+                readahead_size_, BlockBasedTable::kMaxAutoReadaheadSize,
+                &prefetch_buffer_);
           }
         }
       } else if (!prefetch_buffer_) {
@@ -3053,6 +3080,54 @@ void BlockBasedTableIterator<TBlockIter, TValue>::InitDataBlock() {
   }
 }
 
+template <class TBlockIter, typename TValue>
+void BlockBasedTableIterator<TBlockIter, TValue>::Prefetch(
+    const Slice& upper_bound) {
+  if (lookup_context_.caller == TableReaderCaller::kCompaction ||
+      read_options_.readahead_size != 0) {
+    return;
+  }
+  prefetch_ = true;
+  prefetch_upper_bound_.assign(upper_bound.data(), upper_bound.size());
+  readahead_bound_end_ = 0;
+  // Read ahead at the maximum size from the next read on
+  readahead_size_ = BlockBasedTable::kMaxAutoReadaheadSize;
+  num_file_reads_ = std::max(
+      num_file_reads_,
+      int64_t{BlockBasedTable::kMinNumFileReadsToStartAutoReadahead});
+  prefetch_buffer_.reset();
+}
+
+template <class TBlockIter, typename TValue>
+uint64_t BlockBasedTableIterator<TBlockIter, TValue>::ReadaheadBoundEnd() {
+  if (readahead_bound_end_ != 0) {
+    return readahead_bound_end_;
+  }
+  readahead_bound_end_ = port::kMaxUint64;
+  const Slice* bound = read_options_.iterate_upper_bound;
+  Slice prefetch_upper_bound(prefetch_upper_bound_);
+  if (prefetch_ && (bound == nullptr || user_comparator_.Compare(
+                                            prefetch_upper_bound, *bound) < 0)) {
+    bound = &prefetch_upper_bound;
+  }
+  if (bound == nullptr) {
+    return readahead_bound_end_;
+  }
+  // The first data block whose last key is not before the bound
+  std::unique_ptr<InternalIteratorBase<IndexValue>> index_iter(
+      table_->get_rep()->index_reader->NewIterator(
+          read_options_, /*disable_prefix_seek=*/true, /*iter=*/nullptr,
+          /*get_context=*/nullptr, &lookup_context_));
+  InternalKey target;
+  target.SetMinPossibleForUserKey(*bound);
+  index_iter->Seek(target.Encode());
+  if (index_iter->Valid()) {
+    BlockHandle handle = index_iter->value().handle;
+    readahead_bound_end_ = handle.offset() + block_size(handle);
+  }
+  return readahead_bound_end_;
+}
+
 template <class TBlockIter, typename TValue>
 bool BlockBasedTableIterator<TBlockIter, TValue>::MaterializeCurrentBlock() {
   assert(is_at_first_key_from_index_);
@@ -755,6 +755,26 @@ class BlockBasedTableIterator : public InternalIteratorBase<TValue> {
     }
   }
 
+  void GetReadaheadState(ReadaheadFileInfo* readahead_file_info) override {
+    readahead_file_info->readahead_size =
+        prefetch_buffer_ ? prefetch_buffer_->readahead_size() : readahead_size_;
+    readahead_file_info->num_file_reads = num_file_reads_;
+  }
+
+  void SetReadaheadState(ReadaheadFileInfo* readahead_file_info) override {
+    if (readahead_file_info->readahead_size > 0) {
+      readahead_size_ = std::min(BlockBasedTable::kMaxAutoReadaheadSize,
+                                 readahead_file_info->readahead_size);
+    }
+    num_file_reads_ = readahead_file_info->num_file_reads;
+    if (readahead_file_info->prefetch_upper_bound != nullptr) {
+      Prefetch(*readahead_file_info->prefetch_upper_bound);
+      prefetch_on_seek_ = prefetch_;
+    }
+  }
+
+  void Prefetch(const Slice& upper_bound) override;
+
  private:
   const BlockBasedTable* table_;
   const ReadOptions read_options_;
@@ -788,12 +808,47 @@ class BlockBasedTableIterator : public InternalIteratorBase<TValue> {
   size_t readahead_size_ = BlockBasedTable::kInitAutoReadaheadSize;
   size_t readahead_limit_ = 0;
   int64_t num_file_reads_ = 0;
+  // The end of the last data block read, to detect sequential reads for
+  // ReadOptions::adaptive_readahead
+  uint64_t prev_block_end_ = 0;
   std::unique_ptr<FilePrefetchBuffer> prefetch_buffer_;
+  // Whether a scan up to prefetch_upper_bound_ was hinted by Prefetch() since
+  // the last seek
+  bool prefetch_ = false;
+  std::string prefetch_upper_bound_;
+  // Whether the hint of SetReadaheadState() holds from the next seek on
+  bool prefetch_on_seek_ = false;
+  // The end of the data block of the upper bound of the scan, from
+  // Prefetch() or ReadOptions::iterate_upper_bound, past which the implicit
+  // auto readahead does not read, or port::kMaxUint64 if the bound is past
+  // the file or there is none. 0 until looked up after a seek or Prefetch().
+  uint64_t readahead_bound_end_ = 0;
 
   // If `target` is null, seek to first.
   void SeekImpl(const Slice* target);
 
   void InitDataBlock();
+  // Returns true if a data block at offset follows the last one read closely
+  // enough to have been read ahead
+  bool IsBlockSequential(uint64_t offset) const {
+    return offset >= prev_block_end_ &&
+           offset < prev_block_end_ + readahead_size_;
+  }
+  // Starts the implicit auto readahead over, as for a new iterator
+  void ResetReadahead() {
+    readahead_size_ = BlockBasedTable::kInitAutoReadaheadSize;
+    readahead_limit_ = 0;
+    num_file_reads_ = 0;
+    prefetch_buffer_.reset();
+  }
+  // Returns true if the scan hinted by Prefetch() ends in the current data
+  // block, so that there is nothing to read ahead
+  bool ScanEndsInBlock() {
+    return prefetch_ && user_comparator_.Compare(index_iter_->user_key(),
+                                                 prefetch_upper_bound_) >= 0;
+  }
+  // Returns readahead_bound_end_, looking it up in the index first if needed
+  uint64_t ReadaheadBoundEnd();
   bool MaterializeCurrentBlock();
   void FindKeyForward();
   void FindBlockForward();
@@ -7,7 +7,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file. See the AUTHORS file for names of contributors.
 
+#include <algorithm>
 #include <array>
+#include <cmath>
 #include <deque>
 
 #include "rocksdb/filter_policy.h"
@@ -20,6 +22,7 @@
 #include "util/bloom_impl.h"
 #include "util/coding.h"
 #include "util/hash.h"
+#include "util/ribbon_impl.h"
 
 namespace rocksdb {
 
@@ -41,7 +44,11 @@ class FastLocalBloomBitsBuilder : public BuiltinFilterBitsBuilder {
   ~FastLocalBloomBitsBuilder() override {}
 
   virtual void AddKey(const Slice& key) override {
-    uint64_t hash = GetSliceHash64(key);
+    AddHash(GetSliceHash64(key));
+  }
+
+  // For adding the hashes of keys saved by another builder
+  void AddHash(uint64_t hash) {
     if (hash_entries_.empty() || hash != hash_entries_.back()) {
       hash_entries_.push_back(hash);
     }
@@ -92,6 +99,11 @@ class FastLocalBloomBitsBuilder : public BuiltinFilterBitsBuilder {
     return num_cache_lines * 64 + /*metadata*/ 5;
   }
 
+  double EstimatedFpRate(size_t keys, size_t bytes) override {
+    return FastLocalBloomImpl::EstimatedFpRate(keys, bytes - /*metadata*/ 5,
+                                               num_probes_, /*hash bits*/ 64);
+  }
+
  private:
   void AddAllEntries(char* data, uint32_t len) {
     // Simple version without prefetching:
@@ -190,6 +202,209 @@ class FastLocalBloomBitsReader : public FilterBitsReader {
   const uint32_t len_bytes_;
 };
 
+// See description in Standard64RibbonImpl. As the number of slots of a
+// Ribbon filter has a fixed overhead, a FastLocalBloom filter is built
+// instead when it would not take more space, for small numbers of keys.
+class RibbonBitsBuilder : public BuiltinFilterBitsBuilder {
+ public:
+  // The number of result bits is chosen for the FP rate of a
+  // FastLocalBloom filter with the same millibits_per_key
+  explicit RibbonBitsBuilder(const int millibits_per_key)
+      : num_result_bits_(ChooseNumResultBits(millibits_per_key)),
+        bloom_builder_(millibits_per_key) {}
+
+  // No Copy allowed
+  RibbonBitsBuilder(const RibbonBitsBuilder&) = delete;
+  void operator=(const RibbonBitsBuilder&) = delete;
+
+  ~RibbonBitsBuilder() override {}
+
+  virtual void AddKey(const Slice& key) override {
+    uint64_t hash = GetSliceHash64(key);
+    if (hash_entries_.empty() || hash != hash_entries_.back()) {
+      hash_entries_.push_back(hash);
+    }
+  }
+
+  virtual Slice Finish(std::unique_ptr<const char[]>* buf) override {
+    const size_t num_entries = hash_entries_.size();
+    if (num_entries > 0 && UseBloom(num_entries)) {
+      return FinishWithBloom(buf);
+    }
+    const uint32_t num_slots = Standard64RibbonImpl::GetNumSlots(num_entries);
+    uint32_t len_with_metadata = RibbonSpace(num_slots);
+    char* data = new char[len_with_metadata];
+    memset(data, 0, len_with_metadata);
+
+    assert(data);
+    assert(len_with_metadata >= 5);
+
+    uint32_t len = len_with_metadata - 5;
+    if (len > 0) {
+      uint32_t seed;
+      if (!Solve(num_slots, &seed, data)) {
+        // Practically never happens, but the keys must not be lost
+        delete[] data;
+        return FinishWithBloom(buf);
+      }
+      // See BloomFilterPolicy::GetRibbonBitsReader re: metadata
+      data[len + 1] = static_cast<char>(seed);
+    }
+
+    // -2 = Marker for Ribbon filters
+    data[len] = static_cast<char>(-2);
+    data[len + 2] = static_cast<char>(num_result_bits_);
+    // rest of metadata stays zero
+
+    const char* const_data = data;
+    buf->reset(const_data);
+    hash_entries_.clear();
+
+    return Slice(data, len_with_metadata);
+  }
+
+  int CalculateNumEntry(const uint32_t bytes) override {
+    uint32_t bytes_no_meta = bytes >= 5u ? bytes - 5u : 0;
+    uint32_t num_slots =
+        static_cast<uint32_t>(bytes_no_meta / (8 * num_result_bits_) * 64);
+    int num_entry =
+        static_cast<int>(Standard64RibbonImpl::GetNumKeys(num_slots));
+    // Only exact for sizes of Bloom filters, but still an estimate for the
+    // smaller sizes, e.g. of filter partitions, in which no Ribbon fits
+    int bloom_num_entry = bloom_builder_.CalculateNumEntry(bytes);
+    if (num_entry == 0 ||
+        bloom_builder_.CalculateSpace(bloom_num_entry) <= bytes) {
+      num_entry = std::max(num_entry, bloom_num_entry);
+    }
+    return num_entry;
+  }
+
+  uint32_t CalculateSpace(const int num_entry) override {
+    if (num_entry <= 0) {
+      return RibbonSpace(0);
+    }
+    return std::min(RibbonSpace(Standard64RibbonImpl::GetNumSlots(num_entry)),
+                    bloom_builder_.CalculateSpace(num_entry));
+  }
+
+  double EstimatedFpRate(size_t keys, size_t bytes) override {
+    if (keys == 0) {
+      return 0.0;
+    }
+    if (UseBloom(keys)) {
+      return bloom_builder_.EstimatedFpRate(keys, bytes);
+    }
+    return Standard64RibbonImpl::EstimatedFpRate(num_result_bits_);
+  }
+
+  // The number of result bits for the FP rate of a FastLocalBloom filter
+  // with millibits_per_key, e.g. 7 (0.78%) for 10 bits per key (0.96%)
+  static int ChooseNumResultBits(int millibits_per_key) {
+    double bloom_fp_rate = BloomMath::CacheLocalFpRate(
+        millibits_per_key / 1000.0,
+        FastLocalBloomImpl::ChooseNumProbes(millibits_per_key),
+        /*cache line bits*/ 512);
+    int num_result_bits =
+        static_cast<int>(std::floor(-std::log2(bloom_fp_rate) + 0.5));
+    return std::min(std::max(num_result_bits,
+                             Standard64RibbonImpl::kMinResultBits),
+                    Standard64RibbonImpl::kMaxResultBits);
+  }
+
+ private:
+  // Banding fails with a small probability for any seed, so the filter
+  // for the same keys cannot be rebuilt with another seed more than a few
+  // times in practice.
+  static constexpr uint32_t kMaxSeeds = 256;
+
+  uint32_t RibbonSpace(uint32_t num_slots) {
+    return static_cast<uint32_t>(
+        Standard64RibbonImpl::GetBytes(num_slots, num_result_bits_) +
+        /*metadata*/ 5);
+  }
+
+  bool UseBloom(size_t num_entries) {
+    int num_entry = static_cast<int>(num_entries);
+    return bloom_builder_.CalculateSpace(num_entry) <
+           RibbonSpace(Standard64RibbonImpl::GetNumSlots(num_entries));
+  }
+
+  // Bands the hashes and solves the equations into data, trying seeds
+  // until banding succeeds.
+  bool Solve(uint32_t num_slots, uint32_t* seed, char* data) {
+    // About 12 bytes per slot, only while building the filter
+    std::unique_ptr<uint64_t[]> coeffs(new uint64_t[num_slots]);
+    std::unique_ptr<uint32_t[]> results(new uint32_t[num_slots]);
+    for (*seed = 0; *seed < kMaxSeeds; ++*seed) {
+      memset(coeffs.get(), 0, sizeof(uint64_t) * num_slots);
+      memset(results.get(), 0, sizeof(uint32_t) * num_slots);
+      bool ok = true;
+      for (uint64_t h : hash_entries_) {
+        if (!Standard64RibbonImpl::BandingAdd(h, *seed, num_slots,
+                                              num_result_bits_, coeffs.get(),
+                                              results.get())) {
+          ok = false;
+          break;
+        }
+      }
+      if (ok) {
+        Standard64RibbonImpl::BackSubstitute(coeffs.get(), results.get(),
+                                             num_slots, num_result_bits_,
+                                             data);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  Slice FinishWithBloom(std::unique_ptr<const char[]>* buf) {
+    for (uint64_t h : hash_entries_) {
+      bloom_builder_.AddHash(h);
+    }
+    hash_entries_.clear();
+    return bloom_builder_.Finish(buf);
+  }
+
+  int num_result_bits_;
+  FastLocalBloomBitsBuilder bloom_builder_;
+  // Unlike for FastLocalBloom, the hashes are read once for each seed tried
+  std::vector<uint64_t> hash_entries_;
+};
+
+class RibbonBitsReader : public FilterBitsReader {
+ public:
+  RibbonBitsReader(const char* data, uint32_t seed, uint32_t num_slots,
+                   int num_result_bits)
+      : data_(data),
+        seed_(seed),
+        num_slots_(num_slots),
+        num_result_bits_(num_result_bits) {}
+
+  // No Copy allowed
+  RibbonBitsReader(const RibbonBitsReader&) = delete;
+  void operator=(const RibbonBitsReader&) = delete;
+
+  ~RibbonBitsReader() override {}
+
+  bool MayMatch(const Slice& key) override {
+    return Standard64RibbonImpl::HashMayMatch(GetSliceHash64(key), seed_,
+                                              num_slots_, num_result_bits_,
+                                              data_);
+  }
+
+  virtual void MayMatch(int num_keys, Slice** keys, bool* may_match) override {
+    for (int i = 0; i < num_keys; ++i) {
+      may_match[i] = MayMatch(*keys[i]);
+    }
+  }
+
+ private:
+  const char* data_;
+  const uint32_t seed_;
+  const uint32_t num_slots_;
+  const int num_result_bits_;
+};
+
 using LegacyBloomImpl = LegacyLocalityBloomImpl</*ExtraRotates*/ false>;
 
 class LegacyBloomBitsBuilder : public BuiltinFilterBitsBuilder {
@@ -214,6 +429,11 @@ class LegacyBloomBitsBuilder : public BuiltinFilterBitsBuilder {
     return CalculateSpace(num_entry, &dont_care1, &dont_care2);
   }
 
+  double EstimatedFpRate(size_t keys, size_t bytes) override {
+    return LegacyBloomImpl::EstimatedFpRate(keys, bytes - /*metadata*/ 5,
+                                            num_probes_);
+  }
+
  private:
   int bits_per_key_;
   int num_probes_;
@@ -411,11 +631,13 @@ const std::vector<BloomFilterPolicy::Mode> BloomFilterPolicy::kAllFixedImpls = {
     kLegacyBloom,
     kDeprecatedBlock,
     kFastLocalBloom,
+    kRibbon,
 };
 
 const std::vector<BloomFilterPolicy::Mode> BloomFilterPolicy::kAllUserModes = {
     kDeprecatedBlock,
     kAuto,
+    kRibbon,
 };
 
 BloomFilterPolicy::BloomFilterPolicy(double bits_per_key, Mode mode)
@@ -526,6 +748,8 @@ FilterBitsBuilder* BloomFilterPolicy::GetBuilderWithContext(
         return nullptr;
       case kFastLocalBloom:
         return new FastLocalBloomBitsBuilder(millibits_per_key_);
+      case kRibbon:
+        return new RibbonBitsBuilder(millibits_per_key_);
       case kLegacyBloom:
         return new LegacyBloomBitsBuilder(whole_bits_per_key_);
     }
@@ -534,6 +758,31 @@ FilterBitsBuilder* BloomFilterPolicy::GetBuilderWithContext(
   return nullptr;  // something legal
 }
 
+double BloomFilterPolicy::EstimatedFpRate(size_t num_entries,
+                                          uint32_t format_version) const {
+  if (num_entries == 0) {
+    return 0.0;
+  }
+  if (mode_ == kDeprecatedBlock) {
+    // As in CreateFilter, for the keys of a single data block
+    uint32_t bits = static_cast<uint32_t>(num_entries * whole_bits_per_key_);
+    if (bits < 64) {
+      bits = 64;
+    }
+    return LegacyNoLocalityBloomImpl::EstimatedFpRate(
+        num_entries, (bits + 7) / 8,
+        LegacyNoLocalityBloomImpl::ChooseNumProbes(whole_bits_per_key_));
+  }
+  BlockBasedTableOptions table_options;
+  table_options.format_version = format_version;
+  std::unique_ptr<FilterBitsBuilder> builder(
+      GetBuilderWithContext(FilterBuildingContext(table_options)));
+  auto* builtin_builder = static_cast<BuiltinFilterBitsBuilder*>(builder.get());
+  uint32_t bytes =
+      builtin_builder->CalculateSpace(static_cast<int>(num_entries));
+  return builtin_builder->EstimatedFpRate(num_entries, bytes);
+}
+
 FilterBitsBuilder* BloomFilterPolicy::GetBuilderFromContext(
     const FilterBuildingContext& context) {
   if (context.table_options.filter_policy) {
@@ -579,6 +828,10 @@ FilterBitsReader* BloomFilterPolicy::GetFilterBitsReader(
       // Marker for newer Bloom implementations
       return GetBloomBitsReader(contents);
     }
+    if (raw_num_probes == -2) {
+      // Marker for Ribbon filters
+      return GetRibbonBitsReader(contents);
+    }
     // otherwise
     // Treat as zero probes (always FP) for now.
     return new AlwaysTrueFilter();
@@ -679,6 +932,53 @@ FilterBitsReader* BloomFilterPolicy::GetBloomBitsReader(
   return new AlwaysTrueFilter();
 }
 
+// For Ribbon filters
+FilterBitsReader* BloomFilterPolicy::GetRibbonBitsReader(
+    const Slice& contents) const {
+  uint32_t len_with_meta = static_cast<uint32_t>(contents.size());
+  uint32_t len = len_with_meta - 5;
+
+  assert(len > 0);  // precondition
+
+  // Ribbon filter data:
+  //             0 +-----------------------------------+
+  //               | Solution, r 64-bit words for each |
+  //               |   block of 64 slots               |
+  //               | ...                               |
+  //           len +-----------------------------------+
+  //               | char{-2} byte -> Ribbon filter    |
+  //         len+1 +-----------------------------------+
+  //               | byte for hash seed                |
+  //         len+2 +-----------------------------------+
+  //               | byte for number of result bits r, |
+  //               |   1 to 32, others reserved        |
+  //         len+3 +-----------------------------------+
+  //               | two bytes reserved                |
+  // len_with_meta +-----------------------------------+
+
+  uint32_t seed = static_cast<uint8_t>(contents.data()[len_with_meta - 4]);
+  int num_result_bits = static_cast<uint8_t>(contents.data()[len_with_meta - 3]);
+  if (num_result_bits < Standard64RibbonImpl::kMinResultBits ||
+      num_result_bits > Standard64RibbonImpl::kMaxResultBits) {
+    // Reserved / future safe
+    return new AlwaysTrueFilter();
+  }
+
+  uint16_t rest = DecodeFixed16(contents.data() + len_with_meta - 2);
+  if (rest != 0) {
+    // Reserved / future safe
+    return new AlwaysTrueFilter();
+  }
+
+  uint32_t block_bytes = 8 * static_cast<uint32_t>(num_result_bits);
+  if (len % block_bytes != 0 || len / block_bytes < 2) {
+    // Invalid
+    return new AlwaysTrueFilter();
+  }
+  return new RibbonBitsReader(contents.data(), seed, len / block_bytes * 64,
+                              num_result_bits);
+}
+
 const FilterPolicy* NewBloomFilterPolicy(double bits_per_key,
                                          bool use_block_based_builder) {
   BloomFilterPolicy::Mode m;
@@ -693,6 +993,85 @@ const FilterPolicy* NewBloomFilterPolicy(double bits_per_key,
   return new BloomFilterPolicy(bits_per_key, m);
 }
 
+const FilterPolicy* NewRibbonFilterPolicy(
+    double bloom_equivalent_bits_per_key) {
+  return new BloomFilterPolicy(bloom_equivalent_bits_per_key,
+                               BloomFilterPolicy::kRibbon);
+}
+
+namespace {
+
+// See NewLevelFilterPolicy
+class LevelFilterPolicy : public FilterPolicy {
+ public:
+  explicit LevelFilterPolicy(
+      const std::vector<std::shared_ptr<const FilterPolicy>>& policies_by_level)
+      : policies_by_level_(policies_by_level), read_policy_(nullptr) {
+    for (const auto& policy : policies_by_level_) {
+      if (policy != nullptr) {
+        read_policy_ = policy.get();
+        break;
+      }
+    }
+  }
+
+  const char* Name() const override {
+    return read_policy_ != nullptr ? read_policy_->Name()
+                                   : "rocksdb.LevelFilterPolicy";
+  }
+
+  void CreateFilter(const Slice* keys, int n, std::string* dst) const override {
+    if (read_policy_ != nullptr) {
+      read_policy_->CreateFilter(keys, n, dst);
+    }
+  }
+
+  bool KeyMayMatch(const Slice& key, const Slice& filter) const override {
+    return read_policy_ == nullptr || read_policy_->KeyMayMatch(key, filter);
+  }
+
+  FilterBitsBuilder* GetBuilderWithContext(
+      const FilterBuildingContext& context) const override {
+    const FilterPolicy* policy = GetPolicyForContext(context);
+    if (policy == nullptr) {
+      // Not expected to be called for a level without filters
+      policy = read_policy_;
+    }
+    return policy != nullptr ? policy->GetBuilderWithContext(context)
+                             : nullptr;
+  }
+
+  const FilterPolicy* GetPolicyForContext(
+      const FilterBuildingContext& context) const override {
+    if (policies_by_level_.empty()) {
+      return nullptr;
+    }
+    size_t level = static_cast<size_t>(context.level_at_creation);
+    if (context.level_at_creation < 0 || level >= policies_by_level_.size()) {
+      level = policies_by_level_.size() - 1;
+    }
+    const FilterPolicy* policy = policies_by_level_[level].get();
+    // A wrapped policy may choose further, e.g. by the compaction style
+    return policy != nullptr ? policy->GetPolicyForContext(context) : nullptr;
+  }
+
+  FilterBitsReader* GetFilterBitsReader(const Slice& contents) const override {
+    return read_policy_ != nullptr ? read_policy_->GetFilterBitsReader(contents)
+                                   : nullptr;
+  }
+
+ private:
+  const std::vector<std::shared_ptr<const FilterPolicy>> policies_by_level_;
+  const FilterPolicy* read_policy_;
+};
+
+}  // namespace
+
+const FilterPolicy* NewLevelFilterPolicy(
+    const std::vector<std::shared_ptr<const FilterPolicy>>& policies_by_level) {
+  return new LevelFilterPolicy(policies_by_level);
+}
+
 FilterBuildingContext::FilterBuildingContext(
     const BlockBasedTableOptions& _table_options)
     : table_options(_table_options) {}
@@ -27,6 +27,11 @@ class BuiltinFilterBitsBuilder : public FilterBitsBuilder {
   // metadata. Passing the result to CalculateNumEntry should
   // return >= the num_entry passed in.
   virtual uint32_t CalculateSpace(const int num_entry) = 0;
+
+  // Returns an estimate of the FP rate of the returned filter if
+  // `num_entries` keys are added and the filter returned by Finish
+  // is `bytes` bytes.
+  virtual double EstimatedFpRate(size_t num_entries, size_t bytes) = 0;
 };
 
 // RocksDB built-in filter policy for Bloom or Bloom-like filters.
@@ -47,8 +52,8 @@ class BloomFilterPolicy : public FilterPolicy {
   enum Mode {
     // Legacy implementation of Bloom filter for full and partitioned filters.
     // Set to 0 in case of value confusion with bool use_block_based_builder
-    // NOTE: TESTING ONLY as this mode does not use best compatible
-    // implementation
+    // NOTE: does not use best compatible implementation, only user exposed
+    // through RocksJava for choosing the implementation explicitly
     kLegacyBloom = 0,
     // Deprecated block-based Bloom filter implementation.
     // Set to 1 in case of value confusion with bool use_block_based_builder
@@ -56,10 +61,19 @@ class BloomFilterPolicy : public FilterPolicy {
     kDeprecatedBlock = 1,
     // A fast, cache-local Bloom filter implementation. See description in
     // FastLocalBloomImpl.
-    // NOTE: TESTING ONLY as this mode does not check format_version
+    // NOTE: does not check format_version, so the filters cannot be read by
+    // releases before 6.6. Only user exposed through RocksJava for choosing
+    // the implementation explicitly
     kFastLocalBloom = 2,
-    // Automatically choose from the above (except kDeprecatedBlock) based on
-    // context at build time, including compatibility with format_version.
+    // A Ribbon filter, taking less memory than a Bloom filter for a similar
+    // FP rate, at a higher CPU cost. See description in Standard64RibbonImpl.
+    // NOTE: does not check format_version, so the filters cannot be read by
+    // releases without Ribbon filters. User exposed through
+    // NewRibbonFilterPolicy
+    kRibbon = 3,
+    // Automatically choose from the above (except kDeprecatedBlock and
+    // kRibbon) based on context at build time, including compatibility with
+    // format_version.
     // NOTE: This is currently the only recommended mode that is user exposed.
     kAuto = 100,
   };
@@ -109,6 +123,14 @@ class BloomFilterPolicy : public FilterPolicy {
   int GetMillibitsPerKey() const { return millibits_per_key_; }
   // Essentially for testing only: legacy whole bits/key
   int GetWholeBitsPerKey() const { return whole_bits_per_key_; }
+  // The selected mode
+  Mode GetMode() const { return mode_; }
+
+  // Returns an estimate of the FP rate of a filter built for `num_entries`
+  // keys by the implementation which this policy selects for the given
+  // format_version. For the deprecated block-based filter, which is built
+  // for each data block, `num_entries` is the number of keys of a block.
+  double EstimatedFpRate(size_t num_entries, uint32_t format_version) const;
 
  private:
   // Newer filters support fractional bits per key. For predictable behavior
@@ -127,6 +149,9 @@ class BloomFilterPolicy : public FilterPolicy {
 
   // For newer Bloom filter implementation(s)
   FilterBitsReader* GetBloomBitsReader(const Slice& contents) const;
+
+  // For Ribbon filters
+  FilterBitsReader* GetRibbonBitsReader(const Slice& contents) const;
 };
 
 }  // namespace rocksdb
@@ -8,6 +8,7 @@
 
 #include <string>
 #include "db/dbformat.h"
+#include "file/readahead_file_info.h"
 #include "rocksdb/comparator.h"
 #include "rocksdb/iterator.h"
 #include "rocksdb/status.h"
@@ -149,6 +150,21 @@ class InternalIteratorBase : public Cleanable {
     return Status::NotSupported("");
   }
 
+  // Get and set the state of the implicit auto readahead of table file
+  // iterators, so that ReadOptions::adaptive_readahead and Prefetch() may
+  // carry it over from the iterator of a file to the iterator of the next one.
+  // Only implemented by iterators which read ahead.
+  virtual void GetReadaheadState(ReadaheadFileInfo* /*readahead_file_info*/) {}
+
+  virtual void SetReadaheadState(ReadaheadFileInfo* /*readahead_file_info*/) {}
+
+  // A hint that the iterator is about to scan forward from its position up to
+  // upper_bound, exclusive, so that table file iterators may read the data of
+  // the range ahead from their next read on, see Iterator::Prefetch(). The
+  // hint holds until the next seek. Iterators which have children pass it on
+  // to them.
+  virtual void Prefetch(const Slice& /*upper_bound*/) {}
+
  protected:
   void SeekForPrevImpl(const Slice& target, const Comparator* cmp) {
     Seek(target);
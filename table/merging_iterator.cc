@@ -274,6 +274,14 @@ class MergingIterator : public InternalIterator {
            current_->IsValuePinned();
   }
 
+  void Prefetch(const Slice& upper_bound) override {
+    for (auto& child : children_) {
+      if (child.iter() != nullptr) {
+        child.iter()->Prefetch(upper_bound);
+      }
+    }
+  }
+
  private:
   // Clears heaps for both directions, used when changing direction or seeking
   void ClearHeaps();
@@ -1212,6 +1212,11 @@ DEFINE_uint64(stats_history_buffer_size,
 DEFINE_int64(multiread_stride, 0,
              "Stride length for the keys in a MultiGet batch");
 DEFINE_bool(multiread_batched, false, "Use the new MultiGet API");
+DEFINE_uint64(multiread_parallel_files,
+              rocksdb::ReadOptions().multiget_parallel_files,
+              "The number of files of a level that the new MultiGet API "
+              "reads concurrently. The user thread pool is given one thread "
+              "less.");
 
 enum RepFactory {
   kSkipList,
@@ -4915,6 +4920,7 @@ class Benchmark {
     int64_t num_multireads = 0;
     int64_t found = 0;
     ReadOptions options(FLAGS_verify_checksum, true);
+    options.multiget_parallel_files = FLAGS_multiread_parallel_files;
     std::vector<Slice> keys;
     std::vector<std::unique_ptr<const char[]> > key_guards;
     std::vector<std::string> values(entries_per_batch_);
@@ -6842,6 +6848,11 @@ int db_bench_tool(int argc, char** argv) {
                                   rocksdb::Env::Priority::BOTTOM);
   FLAGS_env->SetBackgroundThreads(FLAGS_num_low_pri_threads,
                                   rocksdb::Env::Priority::LOW);
+  if (FLAGS_multiread_parallel_files > 1) {
+    FLAGS_env->SetBackgroundThreads(
+        static_cast<int>(FLAGS_multiread_parallel_files - 1),
+        rocksdb::Env::Priority::USER);
+  }
 
   // Choose a location for the test database if none given with --db=<path>
   if (FLAGS_db.empty()) {
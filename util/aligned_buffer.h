@@ -10,6 +10,7 @@
 
 #include <algorithm>
 #include "port/port.h"
+#include "util/aligned_buffer_pool.h"
 
 namespace rocksdb {
 
@@ -54,34 +55,62 @@ inline size_t Rounddown(size_t x, size_t y) { return (x / y) * y; }
 //   ...
 //   buf.AllocateNewBuffer(2*user_requested_buf_size, /*copy_data*/ true,
 //                         copy_offset, copy_len);
+//
+// The buffers for direct I/O take their memory from an AlignedBufferPool,
+// see Pool().
 class AlignedBuffer {
   size_t alignment_;
   std::unique_ptr<char[]> buf_;
+  size_t buf_size_;
   size_t capacity_;
   size_t cursize_;
   char* bufstart_;
+  AlignedBufferPool* pool_;
+  Statistics* stats_;
+
+  // Releases the memory of the buffer to the pool, if any.
+  void ReleaseBuffer() {
+    if (pool_ != nullptr) {
+      pool_->Release(buf_.release(), buf_size_);
+    } else {
+      buf_.reset();
+    }
+    buf_size_ = 0;
+  }
 
 public:
   AlignedBuffer()
     : alignment_(),
+      buf_size_(0),
       capacity_(0),
       cursize_(0),
-      bufstart_(nullptr) {
+      bufstart_(nullptr),
+      pool_(nullptr),
+      stats_(nullptr) {
   }
 
-  AlignedBuffer(AlignedBuffer&& o) ROCKSDB_NOEXCEPT {
+  AlignedBuffer(AlignedBuffer&& o) ROCKSDB_NOEXCEPT
+    : buf_size_(0),
+      pool_(nullptr) {
     *this = std::move(o);
   }
 
   AlignedBuffer& operator=(AlignedBuffer&& o) ROCKSDB_NOEXCEPT {
+    ReleaseBuffer();
     alignment_ = std::move(o.alignment_);
     buf_ = std::move(o.buf_);
+    buf_size_ = std::move(o.buf_size_);
     capacity_ = std::move(o.capacity_);
     cursize_ = std::move(o.cursize_);
     bufstart_ = std::move(o.bufstart_);
+    pool_ = std::move(o.pool_);
+    stats_ = std::move(o.stats_);
+    o.buf_size_ = 0;
     return *this;
   }
 
+  ~AlignedBuffer() { ReleaseBuffer(); }
+
   AlignedBuffer(const AlignedBuffer&) = delete;
 
   AlignedBuffer& operator=(const AlignedBuffer&) = delete;
@@ -122,6 +151,15 @@ public:
     alignment_ = alignment;
   }
 
+  // Takes the memory of the buffers allocated from now on from pool, and
+  // releases it to pool. The reuse of the pooled memory and the memory
+  // allocated are recorded in stats, which may be nullptr.
+  void Pool(AlignedBufferPool* pool, Statistics* stats) {
+    assert(pool_ == nullptr || pool_ == pool);
+    pool_ = pool;
+    stats_ = stats;
+  }
+
   // Allocates a new buffer and sets the start position to the first aligned
   // byte.
   //
@@ -150,7 +188,9 @@ public:
     }
 
     size_t new_capacity = Roundup(requested_capacity, alignment_);
-    char* new_buf = new char[new_capacity + alignment_];
+    size_t new_buf_size = new_capacity + alignment_;
+    char* new_buf = pool_ != nullptr ? pool_->Allocate(&new_buf_size, stats_)
+                                     : new char[new_buf_size];
     char* new_bufstart = reinterpret_cast<char*>(
         (reinterpret_cast<uintptr_t>(new_buf) + (alignment_ - 1)) &
         ~static_cast<uintptr_t>(alignment_ - 1));
@@ -163,9 +203,11 @@ public:
       cursize_ = 0;
     }
 
+    ReleaseBuffer();
     bufstart_ = new_bufstart;
     capacity_ = new_capacity;
     buf_.reset(new_buf);
+    buf_size_ = new_buf_size;
   }
 
   // Append to the buffer.
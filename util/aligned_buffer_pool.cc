@@ -0,0 +1,96 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#include "util/aligned_buffer_pool.h"
+
+#include <algorithm>
+
+#include "monitoring/statistics.h"
+#include "util/mutexlock.h"
+
+namespace rocksdb {
+
+namespace {
+// Enough for the buffers of the concurrent direct reads and of the files
+// written by the flushes and compactions of a few DBs.
+const size_t kDefaultPoolCapacity = 64 << 20;
+}  // namespace
+
+const size_t AlignedBufferPool::kMinPooledSize;
+const size_t AlignedBufferPool::kMaxPooledSize;
+
+AlignedBufferPool* AlignedBufferPool::Default() {
+  // Never destroyed, as buffers may be released during the destruction of
+  // other static objects.
+  static AlignedBufferPool* pool = new AlignedBufferPool(kDefaultPoolCapacity);
+  return pool;
+}
+
+AlignedBufferPool::AlignedBufferPool(size_t capacity)
+    : capacity_(capacity), cached_bytes_(0) {
+  for (size_t size = kMinPooledSize; size < kMaxPooledSize; size *= 2) {
+    for (size_t quarter = 4; quarter < 8; ++quarter) {
+      class_sizes_.push_back(size / 4 * quarter);
+    }
+  }
+  class_sizes_.push_back(kMaxPooledSize);
+  classes_.reset(new SizeClass[class_sizes_.size()]);
+}
+
+AlignedBufferPool::~AlignedBufferPool() {
+  for (size_t i = 0; i < class_sizes_.size(); ++i) {
+    for (char* buf : classes_[i].free_bufs) {
+      delete[] buf;
+    }
+  }
+}
+
+size_t AlignedBufferPool::GetSizeClass(size_t size) const {
+  return static_cast<size_t>(
+      std::lower_bound(class_sizes_.begin(), class_sizes_.end(), size) -
+      class_sizes_.begin());
+}
+
+char* AlignedBufferPool::Allocate(size_t* size, Statistics* stats) {
+  size_t c = GetSizeClass(*size);
+  if (c < class_sizes_.size()) {
+    *size = class_sizes_[c];
+    char* buf = nullptr;
+    {
+      MutexLock l(&classes_[c].mutex);
+      if (!classes_[c].free_bufs.empty()) {
+        buf = classes_[c].free_bufs.back();
+        classes_[c].free_bufs.pop_back();
+      }
+    }
+    if (buf != nullptr) {
+      cached_bytes_.fetch_sub(*size, std::memory_order_relaxed);
+      RecordTick(stats, ALIGNED_BUFFER_REUSED);
+      return buf;
+    }
+  }
+  RecordTick(stats, ALIGNED_BUFFER_ALLOCATED);
+  RecordTick(stats, ALIGNED_BUFFER_ALLOCATED_BYTES, *size);
+  return new char[*size];
+}
+
+void AlignedBufferPool::Release(char* buf, size_t size) {
+  if (buf == nullptr) {
+    return;
+  }
+  size_t c = GetSizeClass(size);
+  if (c < class_sizes_.size() && class_sizes_[c] == size) {
+    size_t cached = cached_bytes_.fetch_add(size, std::memory_order_relaxed);
+    if (cached + size <= capacity_) {
+      MutexLock l(&classes_[c].mutex);
+      classes_[c].free_bufs.push_back(buf);
+      return;
+    }
+    cached_bytes_.fetch_sub(size, std::memory_order_relaxed);
+  }
+  delete[] buf;
+}
+
+}  // namespace rocksdb
@@ -0,0 +1,83 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#pragma once
+
+#include <atomic>
+#include <memory>
+#include <vector>
+
+#include "port/port.h"
+
+namespace rocksdb {
+
+class Statistics;
+
+// AlignedBufferPool caches the memory of released aligned buffers, so that
+// the buffers for direct I/O, which are allocated for each read of a file
+// and for each file written, can be reused rather than allocated again.
+//
+// The memory is cached in size classes of four classes per power of two
+// from kMinPooledSize to kMaxPooledSize, so that a buffer takes at most 25%
+// more memory than requested. Larger requests are allocated directly.
+//
+// The allocations take memory from the pool if it caches memory of the
+// size class of the request, recording ALIGNED_BUFFER_REUSED, and allocate
+// it otherwise, recording ALIGNED_BUFFER_ALLOCATED and
+// ALIGNED_BUFFER_ALLOCATED_BYTES. The released memory is cached until the
+// pool caches capacity bytes, and freed beyond.
+//
+// The memory is allocated with new[], so the memory taken from the pool may
+// also be freed by delete[] rather than released to the pool.
+//
+// Thread safe.
+class AlignedBufferPool {
+ public:
+  static const size_t kMinPooledSize = 4 << 10;
+  static const size_t kMaxPooledSize = 8 << 20;
+
+  // The pool of the aligned buffers for direct I/O, shared by all the DBs of
+  // the process.
+  static AlignedBufferPool* Default();
+
+  explicit AlignedBufferPool(size_t capacity);
+
+  ~AlignedBufferPool();
+
+  // Returns memory of at least *size bytes, and sets *size to the number of
+  // bytes returned, which must be passed to Release(). stats may be nullptr.
+  char* Allocate(size_t* size, Statistics* stats);
+
+  // Releases memory returned by Allocate() to the pool.
+  void Release(char* buf, size_t size);
+
+  // The number of bytes cached by the pool
+  size_t GetCachedBytes() const {
+    return cached_bytes_.load(std::memory_order_relaxed);
+  }
+
+  size_t GetCapacity() const { return capacity_; }
+
+ private:
+  struct SizeClass {
+    port::Mutex mutex;
+    std::vector<char*> free_bufs;
+  };
+
+  // Returns the index of the smallest size class of at least size bytes, or
+  // class_sizes_.size() if size is beyond kMaxPooledSize.
+  size_t GetSizeClass(size_t size) const;
+
+  const size_t capacity_;
+  std::vector<size_t> class_sizes_;
+  std::unique_ptr<SizeClass[]> classes_;
+  std::atomic<size_t> cached_bytes_;
+
+  // No copying allowed
+  AlignedBufferPool(const AlignedBufferPool&) = delete;
+  void operator=(const AlignedBufferPool&) = delete;
+};
+
+}  // namespace rocksdb
@@ -0,0 +1,177 @@
+//  Copyright (c) 2011-present, Facebook, Inc.  All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+#include "util/aligned_buffer_pool.h"
+
+#include <cstring>
+#include <thread>
+#include <vector>
+
+#include "rocksdb/statistics.h"
+#include "test_util/testharness.h"
+#include "util/aligned_buffer.h"
+
+namespace rocksdb {
+
+class AlignedBufferPoolTest : public testing::Test {
+ public:
+  AlignedBufferPoolTest() : stats_(CreateDBStatistics()) {}
+
+  uint64_t Ticker(Tickers ticker) { return stats_->getTickerCount(ticker); }
+
+  std::shared_ptr<Statistics> stats_;
+};
+
+TEST_F(AlignedBufferPoolTest, SizeClasses) {
+  AlignedBufferPool pool(1 << 20);
+  size_t size = 1;
+  char* buf = pool.Allocate(&size, stats_.get());
+  ASSERT_EQ(AlignedBufferPool::kMinPooledSize, size);
+  pool.Release(buf, size);
+
+  // Four size classes per power of two
+  for (size_t requested : {4097, 5120, 5121, 6144, 7000, 8192, 8193}) {
+    size = requested;
+    buf = pool.Allocate(&size, stats_.get());
+    ASSERT_GE(size, requested);
+    ASSERT_LE(size, requested + requested / 4);
+    pool.Release(buf, size);
+  }
+
+  // Beyond the largest class, the requested size is allocated
+  size = AlignedBufferPool::kMaxPooledSize + 1;
+  buf = pool.Allocate(&size, stats_.get());
+  ASSERT_EQ(AlignedBufferPool::kMaxPooledSize + 1, size);
+  pool.Release(buf, size);
+  ASSERT_EQ(7, Ticker(ALIGNED_BUFFER_ALLOCATED));
+  ASSERT_EQ(2, Ticker(ALIGNED_BUFFER_REUSED));
+}
+
+TEST_F(AlignedBufferPoolTest, Reuse) {
+  AlignedBufferPool pool(1 << 20);
+  size_t size = 10000;
+  char* buf = pool.Allocate(&size, stats_.get());
+  ASSERT_EQ(1, Ticker(ALIGNED_BUFFER_ALLOCATED));
+  ASSERT_EQ(size, Ticker(ALIGNED_BUFFER_ALLOCATED_BYTES));
+  ASSERT_EQ(0, pool.GetCachedBytes());
+  pool.Release(buf, size);
+  ASSERT_EQ(size, pool.GetCachedBytes());
+
+  // A request of the same size class reuses the buffer
+  size_t size2 = 9000;
+  ASSERT_EQ(buf, pool.Allocate(&size2, stats_.get()));
+  ASSERT_EQ(size, size2);
+  ASSERT_EQ(1, Ticker(ALIGNED_BUFFER_REUSED));
+  ASSERT_EQ(0, pool.GetCachedBytes());
+
+  // but not one of another class
+  size_t size3 = 20000;
+  char* buf3 = pool.Allocate(&size3, stats_.get());
+  ASSERT_NE(buf, buf3);
+  ASSERT_EQ(2, Ticker(ALIGNED_BUFFER_ALLOCATED));
+  ASSERT_EQ(size + size3, Ticker(ALIGNED_BUFFER_ALLOCATED_BYTES));
+  pool.Release(buf, size2);
+  pool.Release(buf3, size3);
+  ASSERT_EQ(size + size3, pool.GetCachedBytes());
+
+  // Memory not of a size class is freed
+  pool.Release(new char[size + 1], size + 1);
+  ASSERT_EQ(size + size3, pool.GetCachedBytes());
+}
+
+TEST_F(AlignedBufferPoolTest, Capacity) {
+  const size_t kBufSize = 64 << 10;
+  AlignedBufferPool pool(4 * kBufSize);
+  std::vector<char*> bufs;
+  for (int i = 0; i < 6; ++i) {
+    size_t size = kBufSize;
+    bufs.push_back(pool.Allocate(&size, nullptr));
+    ASSERT_EQ(kBufSize, size);
+  }
+  for (char* buf : bufs) {
+    pool.Release(buf, kBufSize);
+  }
+  ASSERT_EQ(4 * kBufSize, pool.GetCachedBytes());
+
+  for (int i = 0; i < 6; ++i) {
+    size_t size = kBufSize;
+    pool.Release(pool.Allocate(&size, stats_.get()), size);
+  }
+  ASSERT_EQ(6, Ticker(ALIGNED_BUFFER_REUSED));
+  ASSERT_EQ(0, Ticker(ALIGNED_BUFFER_ALLOCATED));
+  ASSERT_EQ(4 * kBufSize, pool.GetCachedBytes());
+}
+
+TEST_F(AlignedBufferPoolTest, AlignedBuffer) {
+  const size_t kAlignment = 4096;
+  AlignedBufferPool pool(1 << 20);
+  {
+    AlignedBuffer buf;
+    buf.Alignment(kAlignment);
+    buf.Pool(&pool, stats_.get());
+    buf.AllocateNewBuffer(10000);
+    ASSERT_EQ(12288, buf.Capacity());
+    ASSERT_TRUE(AlignedBuffer::isAligned(buf.BufferStart(), kAlignment));
+    ASSERT_EQ(1, Ticker(ALIGNED_BUFFER_ALLOCATED));
+
+    // Expanding the buffer copies the data, and releases the old buffer
+    std::string data(10000, 'x');
+    ASSERT_EQ(data.size(), buf.Append(data.data(), data.size()));
+    buf.AllocateNewBuffer(20000, true /* copy_data */);
+    ASSERT_EQ(data.size(), buf.CurrentSize());
+    ASSERT_EQ(0, memcmp(data.data(), buf.BufferStart(), data.size()));
+    ASSERT_EQ(2, Ticker(ALIGNED_BUFFER_ALLOCATED));
+    ASSERT_GT(pool.GetCachedBytes(), 0);
+
+    // The memory moves with the buffer
+    AlignedBuffer moved(std::move(buf));
+    ASSERT_EQ(data.size(), moved.CurrentSize());
+    ASSERT_EQ(0, memcmp(data.data(), moved.BufferStart(), data.size()));
+  }
+  size_t cached = pool.GetCachedBytes();
+  ASSERT_EQ(Ticker(ALIGNED_BUFFER_ALLOCATED_BYTES), cached);
+
+  // The buffers of the next reads reuse the memory
+  for (int i = 0; i < 10; ++i) {
+    AlignedBuffer buf;
+    buf.Alignment(kAlignment);
+    buf.Pool(&pool, stats_.get());
+    buf.AllocateNewBuffer(10000);
+    ASSERT_TRUE(AlignedBuffer::isAligned(buf.BufferStart(), kAlignment));
+  }
+  ASSERT_EQ(10, Ticker(ALIGNED_BUFFER_REUSED));
+  ASSERT_EQ(2, Ticker(ALIGNED_BUFFER_ALLOCATED));
+  ASSERT_EQ(cached, pool.GetCachedBytes());
+}
+
+TEST_F(AlignedBufferPoolTest, MultiThreaded) {
+  const size_t kBufSize = 16 << 10;
+  AlignedBufferPool pool(1 << 20);
+  std::vector<std::thread> threads;
+  for (int t = 0; t < 8; ++t) {
+    threads.emplace_back([&, t]() {
+      for (int i = 0; i < 1000; ++i) {
+        size_t size = kBufSize + (i % 4) * 1024;
+        char* buf = pool.Allocate(&size, stats_.get());
+        memset(buf, t, size);
+        pool.Release(buf, size);
+      }
+    });
+  }
+  for (auto& thread : threads) {
+    thread.join();
+  }
+  ASSERT_EQ(8000, Ticker(ALIGNED_BUFFER_REUSED) +
+                      Ticker(ALIGNED_BUFFER_ALLOCATED));
+  ASSERT_LE(Ticker(ALIGNED_BUFFER_ALLOCATED), 8 * 2);
+  ASSERT_LE(pool.GetCachedBytes(), pool.GetCapacity());
+}
+
+}  // namespace rocksdb
+
+int main(int argc, char** argv) {
+  ::testing::InitGoogleTest(&argc, argv);
+  return RUN_ALL_TESTS();
+}
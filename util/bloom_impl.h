@@ -10,6 +10,7 @@
 #pragma once
 #include <stddef.h>
 #include <stdint.h>
+#include <cmath>
 
 #include "rocksdb/slice.h"
 #include "util/hash.h"
@@ -20,6 +21,57 @@
 
 namespace rocksdb {
 
+// The false positive rates of the Bloom filter implementations, estimated
+// from their parameters. These are accurate enough for reporting and for
+// choosing a configuration, but are not exact.
+class BloomMath {
+ public:
+  // False positive rate of a standard Bloom filter, for the given ratio of
+  // filter memory bits to added keys, and number of probes per operation.
+  static double StandardFpRate(double bits_per_key, int num_probes) {
+    // See https://en.wikipedia.org/wiki/Bloom_filter#Probability_of_false_positives
+    return std::pow(1.0 - std::exp(-num_probes / bits_per_key), num_probes);
+  }
+
+  // False positive rate of a cache-local Bloom filter, with all the probes
+  // of a key in a single cache line of the given size. Because the keys are
+  // not evenly spread over the cache lines, this is worse than the standard
+  // rate for the same bits per key. The estimate is the average of the
+  // standard rates of cache lines holding one standard deviation more and
+  // fewer keys than the mean.
+  static double CacheLocalFpRate(double bits_per_key, int num_probes,
+                                 int cache_line_bits) {
+    double keys_per_cache_line = cache_line_bits / bits_per_key;
+    double keys_stddev = std::sqrt(keys_per_cache_line);
+    double crowded_fp = StandardFpRate(
+        cache_line_bits / (keys_per_cache_line + keys_stddev), num_probes);
+    double uncrowded_fp = StandardFpRate(
+        cache_line_bits / (keys_per_cache_line - keys_stddev), num_probes);
+    return (crowded_fp + uncrowded_fp) / 2;
+  }
+
+  // False positive rate of querying a key against num_keys keys when all
+  // of them are reduced to hashes of fingerprint_bits bits, i.e. the rate
+  // caused by hash collisions alone.
+  static double FingerprintFpRate(size_t num_keys, int fingerprint_bits) {
+    double inv_fingerprint_space = std::pow(0.5, fingerprint_bits);
+    double base_estimate = num_keys * inv_fingerprint_space;
+    if (base_estimate > 0.0001) {
+      // Always produces a probability < 1
+      return 1.0 - std::exp(-base_estimate);
+    } else {
+      // More accurate when base_estimate is far below 1
+      return base_estimate - (base_estimate * base_estimate * 0.5);
+    }
+  }
+
+  // The probability of either of two independent events happening, e.g. for
+  // combining the rate of a filter with the rate of its hash collisions.
+  static double IndependentProbabilitySum(double rate1, double rate2) {
+    return rate1 + rate2 - (rate1 * rate2);
+  }
+};
+
 // A fast, flexible, and accurate cache-local Bloom implementation with
 // SIMD-optimized query performance (currently using AVX2 on Intel). Write
 // performance and non-SIMD read are very good, benefiting from fastrange32
@@ -72,6 +124,17 @@ namespace rocksdb {
 //
 class FastLocalBloomImpl {
  public:
+  // Estimated false positive rate of a filter of the given size in bytes
+  // (without metadata) holding the given number of keys, which are hashed
+  // to hash_bits bits.
+  static inline double EstimatedFpRate(size_t keys, size_t bytes,
+                                       int num_probes, int hash_bits) {
+    return BloomMath::IndependentProbabilitySum(
+        BloomMath::CacheLocalFpRate(8.0 * bytes / keys, num_probes,
+                                    /*cache line bits*/ 512),
+        BloomMath::FingerprintFpRate(keys, hash_bits));
+  }
+
   static inline int ChooseNumProbes(int millibits_per_key) {
     // Since this implementation can (with AVX2) make up to 8 probes
     // for the same cost, we pick the most accurate num_probes, based
@@ -272,6 +335,17 @@ class FastLocalBloomImpl {
 //
 class LegacyNoLocalityBloomImpl {
  public:
+  // Estimated false positive rate of a filter of the given size in bytes
+  // (without metadata) holding the given number of keys
+  static inline double EstimatedFpRate(size_t keys, size_t bytes,
+                                       int num_probes) {
+    double bits_per_key = 8.0 * bytes / keys;
+    double filter_rate = BloomMath::StandardFpRate(bits_per_key, num_probes);
+    // The 32-bit hash also limits the accuracy
+    return BloomMath::IndependentProbabilitySum(
+        filter_rate, BloomMath::FingerprintFpRate(keys, /*hash bits*/ 32));
+  }
+
   static inline int ChooseNumProbes(int bits_per_key) {
     // We intentionally round down to reduce probing cost a little bit
     int num_probes = static_cast<int>(bits_per_key * 0.69);  // 0.69 =~ ln(2)
@@ -328,6 +402,24 @@ class LegacyLocalityBloomImpl {
   }
 
  public:
+  // Estimated false positive rate of a filter of the given size in bytes
+  // (without metadata) holding the given number of keys, with 512-bit
+  // cache lines
+  static inline double EstimatedFpRate(size_t keys, size_t bytes,
+                                       int num_probes) {
+    double bits_per_key = 8.0 * bytes / keys;
+    double filter_rate = BloomMath::CacheLocalFpRate(bits_per_key, num_probes,
+                                                     /*cache line bits*/ 512);
+    if (!ExtraRotates) {
+      // The flaw described above, which adds roughly 0.002 at 50 bits/key
+      // and 0.001 at 100 bits/key
+      filter_rate += 0.1 / (bits_per_key * 0.75 + 22);
+    }
+    // The 32-bit hash also limits the accuracy
+    return BloomMath::IndependentProbabilitySum(
+        filter_rate, BloomMath::FingerprintFpRate(keys, /*hash bits*/ 32));
+  }
+
   static inline void AddHash(uint32_t h, uint32_t num_lines, int num_probes,
                              char *data, int log2_cache_line_bytes) {
     const int log2_cache_line_bits = log2_cache_line_bytes + 3;
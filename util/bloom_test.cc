@@ -379,6 +379,7 @@ class FullBloomTest : public testing::TestWithParam<BloomFilterPolicy::Mode> {
       case BloomFilterPolicy::kFastLocalBloom:
         return for_fast_local_bloom;
       case BloomFilterPolicy::kDeprecatedBlock:
+      case BloomFilterPolicy::kRibbon:
       case BloomFilterPolicy::kAuto:
           /* N/A */;
     }
@@ -499,6 +500,59 @@ TEST_P(FullBloomTest, FullVaryingLengths) {
   ASSERT_LE(mediocre_filters, good_filters/5);
 }
 
+TEST_P(FullBloomTest, EstimatedFpRate) {
+  char buffer[sizeof(int)];
+  const int kNumKeys = 10000;
+  const int kNumQueries = 100000;
+
+  double prev_estimate = 1.0;
+  for (double bpk : {6.0, 9.55, 10.0, 16.0}) {
+    ResetPolicy(bpk);
+    for (int i = 0; i < kNumKeys; i++) {
+      Add(Key(i, buffer));
+    }
+    Build();
+    double estimate =
+        GetBuiltinFilterBitsBuilder()->EstimatedFpRate(kNumKeys, FilterSize());
+
+    int fps = 0;
+    for (int i = 0; i < kNumQueries; i++) {
+      if (Matches(Key(i + 1000000000, buffer))) {
+        fps++;
+      }
+    }
+    double rate = static_cast<double>(fps) / kNumQueries;
+    if (kVerbose >= 1) {
+      fprintf(stderr, "%6.3f bits/key: FP rate %7.4f%%, estimated %7.4f%%\n",
+              bpk, rate * 100.0, estimate * 100.0);
+    }
+    EXPECT_LE(rate, estimate * 1.25 + 0.0005);
+    EXPECT_GE(rate, estimate * 0.75 - 0.0005);
+
+    // Only the newer implementations use fractional bits per key
+    if (GetParam() != BloomFilterPolicy::kLegacyBloom) {
+      EXPECT_LT(estimate, prev_estimate);
+    } else {
+      EXPECT_LE(estimate, prev_estimate);
+    }
+    prev_estimate = estimate;
+
+    // The estimate of the policy uses the size computed for the keys,
+    // for the implementation the format_version selects
+    EXPECT_EQ(estimate,
+              GetBloomFilterPolicy()->EstimatedFpRate(kNumKeys, 0));
+    if (GetParam() == BloomFilterPolicy::kRibbon) {
+      // Not selected by kAuto
+      continue;
+    }
+    BloomFilterPolicy auto_policy(bpk, BloomFilterPolicy::kAuto);
+    EXPECT_EQ(estimate, auto_policy.EstimatedFpRate(
+                            kNumKeys, SelectByImpl(/*legacy*/ 4,
+                                                   /*fast local*/ 5)));
+  }
+  ResetPolicy();
+}
+
 namespace {
 inline uint32_t SelectByCacheLineSize(uint32_t for64, uint32_t for128,
                                       uint32_t for256) {
@@ -525,6 +579,33 @@ inline uint32_t SelectByCacheLineSize(uint32_t for64, uint32_t for128,
 TEST_P(FullBloomTest, Schema) {
   char buffer[sizeof(int)];
 
+  if (GetParam() == BloomFilterPolicy::kRibbon) {
+    // 7 result bits (0.78% FP) for the 0.96% FP of a 10 bits/key Bloom
+    ResetPolicy(10);
+    for (int key = 0; key < 1000; key++) {
+      Add(Key(key, buffer));
+    }
+    Build();
+    // 1280 slots of 7 bits
+    EXPECT_EQ(FilterSize(), 1120u + 5u);
+    EXPECT_EQ(static_cast<int8_t>(FilterData()[FilterSize() - 5]), -2);
+    EXPECT_EQ(FilterData()[FilterSize() - 3], 7);
+    EXPECT_EQ("79,135,178,199,295,464,1143,1243", FirstFPs(8));
+
+    // 4 result bits (6.25% FP) for 6 bits/key
+    ResetPolicy(6);
+    for (int key = 0; key < 100; key++) {
+      Add(Key(key, buffer));
+    }
+    Build();
+    EXPECT_EQ(FilterData()[FilterSize() - 3], 4);
+    EXPECT_EQ(uint64_t{4506382845870080U}, PackedMatches());
+    EXPECT_EQ("17,21,23,28,57,93,95,104", FirstFPs(8));
+
+    ResetPolicy();
+    return;
+  }
+
   // Use enough keys so that changing bits / key by 1 is guaranteed to
   // change number of allocated cache lines. So keys > max cache line bits.
 
@@ -896,9 +977,114 @@ TEST_P(FullBloomTest, CorruptFilters) {
   }
 }
 
+TEST(FullRibbonTest, SpaceVsFastLocalBloom) {
+  char buffer[sizeof(int)];
+  const int kNumKeys = 100000;
+  const int kNumQueries = 100000;
+  BlockBasedTableOptions table_options;
+
+  for (double bpk : {6.0, 10.0, 16.0}) {
+    size_t sizes[2];
+    double rates[2];
+    int i = 0;
+    for (auto mode :
+         {BloomFilterPolicy::kFastLocalBloom, BloomFilterPolicy::kRibbon}) {
+      table_options.filter_policy.reset(new BloomFilterPolicy(bpk, mode));
+      std::unique_ptr<FilterBitsBuilder> builder(
+          BloomFilterPolicy::GetBuilderFromContext(
+              FilterBuildingContext(table_options)));
+      for (int j = 0; j < kNumKeys; j++) {
+        builder->AddKey(Key(j, buffer));
+      }
+      std::unique_ptr<const char[]> buf;
+      Slice filter = builder->Finish(&buf);
+      std::unique_ptr<FilterBitsReader> reader(
+          table_options.filter_policy->GetFilterBitsReader(filter));
+      for (int j = 0; j < kNumKeys; j++) {
+        ASSERT_TRUE(reader->MayMatch(Key(j, buffer)));
+      }
+      int fps = 0;
+      for (int j = 0; j < kNumQueries; j++) {
+        if (reader->MayMatch(Key(j + 1000000000, buffer))) {
+          fps++;
+        }
+      }
+      sizes[i] = filter.size();
+      rates[i] = static_cast<double>(fps) / kNumQueries;
+      ++i;
+    }
+    if (kVerbose >= 1) {
+      fprintf(stderr,
+              "%4.1f bits/key: Bloom %7.4f%% at %6.3f bits/key, "
+              "Ribbon %7.4f%% at %6.3f bits/key\n",
+              bpk, rates[0] * 100.0, sizes[0] * 8.0 / kNumKeys,
+              rates[1] * 100.0, sizes[1] * 8.0 / kNumKeys);
+    }
+    // The FP rate of the Ribbon filter is the power of two closest to the
+    // one of the Bloom filter, within a factor of sqrt(2) (+ noise)
+    EXPECT_LE(rates[1], rates[0] * 1.5 + 0.0005);
+    EXPECT_GE(rates[1], rates[0] / 1.5 - 0.0005);
+    // Taking ~25% less space
+    EXPECT_LE(sizes[1], sizes[0] * 0.8);
+  }
+}
+
+TEST(FullRibbonTest, CorruptFilters) {
+  BloomFilterPolicy policy(10, BloomFilterPolicy::kRibbon);
+  RawFilterTester cft;
+  std::unique_ptr<FilterBitsReader> reader;
+  // The metadata after the Ribbon marker, as num_lines of legacy Bloom
+  auto metadata = [](uint32_t seed, uint32_t num_result_bits, uint32_t rest) {
+    return seed | (num_result_bits << 8) | (rest << 16);
+  };
+  const uint32_t kRibbonMarker = 0xfe;
+
+  for (bool fill : {false, true}) {
+    // Good filter bits, whatever the solution, the filter of 1000 keys
+    // matches about 1/128 of the keys
+    reader.reset(policy.GetFilterBitsReader(
+        cft.Reset(1120, metadata(0, 7, 0), kRibbonMarker, fill)));
+    int matches = 0;
+    char buffer[sizeof(int)];
+    for (int i = 0; i < 10000; i++) {
+      if (reader->MayMatch(Key(i, buffer))) {
+        matches++;
+      }
+    }
+    ASSERT_LT(matches, 200);
+
+    // Type 2 trivial filter bits - returns false as if built from zero keys
+    reader.reset(policy.GetFilterBitsReader(
+        cft.Reset(0, metadata(0, 7, 0), kRibbonMarker, fill)));
+    ASSERT_FALSE(reader->MayMatch("hello"));
+    ASSERT_FALSE(reader->MayMatch("world"));
+
+    // Bad or reserved filter bits - returns true for safety
+    for (uint32_t bad_metadata :
+         {metadata(0, 0, 0), metadata(0, 33, 0), metadata(0, 7, 1),
+          metadata(3, 7, 0xffff)}) {
+      reader.reset(policy.GetFilterBitsReader(
+          cft.Reset(1120, bad_metadata, kRibbonMarker, fill)));
+      ASSERT_TRUE(reader->MayMatch("hello"));
+      ASSERT_TRUE(reader->MayMatch("world"));
+    }
+    // Not a whole number of blocks
+    reader.reset(policy.GetFilterBitsReader(
+        cft.Reset(1121, metadata(0, 7, 0), kRibbonMarker, fill)));
+    ASSERT_TRUE(reader->MayMatch("hello"));
+    ASSERT_TRUE(reader->MayMatch("world"));
+    // Fewer than the two blocks of 64 slots of any filter
+    reader.reset(policy.GetFilterBitsReader(
+        cft.Reset(56, metadata(0, 7, 0), kRibbonMarker, fill)));
+    ASSERT_TRUE(reader->MayMatch("hello"));
+    ASSERT_TRUE(reader->MayMatch("world"));
+  }
+}
+
 INSTANTIATE_TEST_CASE_P(Full, FullBloomTest,
                         testing::Values(BloomFilterPolicy::kLegacyBloom,
-                                        BloomFilterPolicy::kFastLocalBloom));
+                                        BloomFilterPolicy::kFastLocalBloom,
+                                        BloomFilterPolicy::kRibbon));
 
 }  // namespace rocksdb
 
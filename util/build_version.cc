@@ -0,0 +1,5 @@
+// Copyright (c) Facebook, Inc. and its affiliates. All Rights Reserved.
+#include "build_version.h"
+const char* rocksdb_build_git_sha = "rocksdb_build_git_sha:8fbd1b3110d75a57075c5ec4082eef63b96e803d";
+const char* rocksdb_build_git_date = "rocksdb_build_git_date:2026-10-18";
+const char* rocksdb_build_compile_date = __DATE__;
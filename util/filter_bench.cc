@@ -68,7 +68,8 @@ DEFINE_bool(new_builder, false,
 
 DEFINE_uint32(impl, 0,
               "Select filter implementation. Without -use_plain_table_bloom:"
-              "0 = full filter, 1 = block-based filter. With "
+              "0 = legacy full filter, 1 = block-based filter, "
+              "2 = fast local full filter, 3 = Ribbon full filter. With "
               "-use_plain_table_bloom: 0 = no locality, 1 = locality.");
 
 DEFINE_bool(net_includes_hashing, false,
@@ -98,6 +99,7 @@ using rocksdb::Arena;
 using rocksdb::BlockContents;
 using rocksdb::BloomFilterPolicy;
 using rocksdb::BloomHash;
+using rocksdb::BuiltinFilterBitsBuilder;
 using rocksdb::CachableEntry;
 using rocksdb::EncodeFixed32;
 using rocksdb::fastrange32;
@@ -275,9 +277,9 @@ void FilterBench::Go() {
       throw std::runtime_error(
           "Block-based filter not currently supported by filter_bench");
     }
-    if (FLAGS_impl > 2) {
+    if (FLAGS_impl > 3) {
       throw std::runtime_error(
-          "-impl must currently be 0 or 2 for Block-based table");
+          "-impl must currently be 0, 2 or 3 for Block-based table");
     }
   }
 
@@ -302,6 +304,7 @@ void FilterBench::Go() {
 
   size_t total_memory_used = 0;
   size_t total_keys_added = 0;
+  double total_estimated_fp_rate = 0.0;
 
   rocksdb::StopWatchNano timer(rocksdb::Env::Default(), true);
 
@@ -332,6 +335,9 @@ void FilterBench::Go() {
         builder->AddKey(kms_[0].Get(filter_id, i));
       }
       info.filter_ = builder->Finish(&info.owner_);
+      total_estimated_fp_rate +=
+          static_cast<BuiltinFilterBitsBuilder *>(builder.get())
+              ->EstimatedFpRate(keys_to_add, info.filter_.size());
       if (FLAGS_new_builder) {
         builder.reset();
       }
@@ -358,6 +364,10 @@ void FilterBench::Go() {
 
   double bpk = total_memory_used * 8.0 / total_keys_added;
   std::cout << "Bits/key actual: " << bpk << std::endl;
+  if (!FLAGS_use_plain_table_bloom) {
+    std::cout << "Estimated FP rate %: "
+              << 100.0 * total_estimated_fp_rate / infos_.size() << std::endl;
+  }
   if (!FLAGS_quick && !FLAGS_best_case) {
     double tolerable_rate = std::pow(2.0, -(bpk - 1.0) / (1.4 + bpk / 50.0));
     std::cout << "Best possible FP rate %: " << 100.0 * std::pow(2.0, -bpk)
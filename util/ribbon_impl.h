@@ -0,0 +1,240 @@
+//  Copyright (c) 2019-present, Facebook, Inc. All rights reserved.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// Implementation details of the Ribbon filter used in RocksDB.
+
+#pragma once
+#include <stddef.h>
+#include <stdint.h>
+#include <algorithm>
+#include <cmath>
+#include <vector>
+
+#ifdef _MSC_VER
+#include <intrin.h>
+#endif
+
+#include "util/coding.h"
+
+namespace rocksdb {
+
+// A Ribbon filter (Dillinger & Walzer, "Ribbon filter: practically smaller
+// than Bloom and Xor") is a static filter which, like an Xor filter, stores
+// the solution to a system of linear equations over GF(2), one equation
+// per key. Each key hashes to a starting slot, a 64-bit coefficient row
+// covering the 64 slots from the starting slot, and an r-bit result. The
+// solution S assigns r bits to each slot, such that for every added key the
+// XOR of the solution bits of the slots selected by its coefficient row
+// equals its result. A query recomputes that XOR and compares it with the
+// result of the queried key, matching by chance with probability 2^-r.
+//
+// As the rows of each key are confined to a 64-slot band, the system can
+// be solved by Gaussian elimination "on the fly" as keys are added, and by
+// back substitution, in time linear in the number of keys. The system is
+// solvable with high probability given about 10-15% more slots than keys
+// (see GetNumSlots), so the filter takes about 1.1 * r to 1.15 * r bits per
+// key for a FP rate of 2^-r, where a cache-local Bloom filter takes about
+// 1.5 * r bits per key for a similar rate. Construction fails with a small
+// probability, in which case it is retried with another seed for the hashes.
+//
+// The solution is stored in "interleaved column-major" layout: for each
+// block of 64 slots, r 64-bit words hold the bits of the r result columns
+// for those slots, so that a query reads r words from at most two adjacent
+// blocks, usually in one or two cache lines.
+class Standard64RibbonImpl {
+ public:
+  static constexpr uint32_t kCoeffBits = 64;
+
+  // The supported numbers of result bits, i.e. FP rates from 50% down to
+  // 2^-32.
+  static constexpr int kMinResultBits = 1;
+  static constexpr int kMaxResultBits = 32;
+
+  // The number of slots for which banding num_keys keys is very likely to
+  // succeed (for over 95% of the seeds), always a non-zero multiple of 64.
+  static uint32_t GetNumSlots(size_t num_keys) {
+    if (num_keys == 0) {
+      return 0;
+    }
+    // The overhead needed grows slowly with the number of keys, and small
+    // numbers of keys need relatively more because of the variance in how
+    // they are spread over the slots.
+    double overhead =
+        std::max(0.05, 0.01 * (std::log2(static_cast<double>(num_keys)) - 7));
+    double slots = num_keys * (1.0 + overhead) +
+                   4.0 * std::sqrt(static_cast<double>(num_keys)) + 64;
+    uint64_t num_blocks = (static_cast<uint64_t>(slots) + 63) / 64;
+    if (num_blocks < 2) {
+      num_blocks = 2;
+    }
+    return static_cast<uint32_t>(num_blocks * 64);
+  }
+
+  // The largest number of keys for which GetNumSlots returns at most
+  // num_slots slots.
+  static size_t GetNumKeys(uint32_t num_slots) {
+    if (num_slots < 128) {
+      return 0;
+    }
+    // Start from an underestimate and search upward
+    size_t num_keys = static_cast<size_t>(
+        (num_slots - 64 - 4.0 * std::sqrt(static_cast<double>(num_slots))) /
+        (1.0 + 0.01 * std::log2(static_cast<double>(num_slots))));
+    while (num_keys > 0 && GetNumSlots(num_keys) > num_slots) {
+      --num_keys;
+    }
+    while (GetNumSlots(num_keys + 1) <= num_slots) {
+      ++num_keys;
+    }
+    return num_keys;
+  }
+
+  // Bytes of the solution for a number of slots and result bits.
+  static size_t GetBytes(uint32_t num_slots, int num_result_bits) {
+    return size_t{num_slots} / 64 * num_result_bits * 8;
+  }
+
+  // Derives the starting slot, coefficient row and result of a key from
+  // its 64-bit hash and the seed of the filter.
+  static inline void GetSlotCoeffResult(uint64_t h, uint32_t seed,
+                                        uint32_t num_starts,
+                                        int num_result_bits,
+                                        uint32_t* start, uint64_t* coeff,
+                                        uint32_t* result) {
+    uint64_t a = h ^ (uint64_t{seed} * 0x9E3779B97F4A7C15U);
+    // Murmur3 finalizer, so that every bit of each output depends on every
+    // bit of the input hash
+    a ^= a >> 33;
+    a *= 0xFF51AFD7ED558CCDU;
+    a ^= a >> 33;
+    a *= 0xC4CEB9FE1A85EC53U;
+    a ^= a >> 33;
+    *start = static_cast<uint32_t>(((a >> 32) * num_starts) >> 32);
+    // The first bit of the row selects the starting slot
+    *coeff = (a * 0x9E3779B97F4A7C13U) | 1;
+    *result = static_cast<uint32_t>((a * 0xD6E8FEB86659FD93U) >> 32) &
+              ResultMask(num_result_bits);
+  }
+
+  // Adds the equation of a hash to the banding storage of num_slots
+  // coefficient rows and results, both initially zero. Returns false if the
+  // equation is inconsistent with the ones added before, in which case the
+  // filter must be rebuilt with another seed.
+  static bool BandingAdd(uint64_t h, uint32_t seed, uint32_t num_slots,
+                         int num_result_bits, uint64_t* coeffs,
+                         uint32_t* results) {
+    uint32_t i;
+    uint64_t c;
+    uint32_t r;
+    GetSlotCoeffResult(h, seed, num_slots - kCoeffBits + 1, num_result_bits,
+                       &i, &c, &r);
+    for (;;) {
+      if (coeffs[i] == 0) {
+        coeffs[i] = c;
+        results[i] = r;
+        return true;
+      }
+      // Eliminate the first coefficient, which is set in the stored row
+      c ^= coeffs[i];
+      r ^= results[i];
+      if (c == 0) {
+        // A redundant equation, e.g. of a duplicate key, or an inconsistent
+        // one
+        return r == 0;
+      }
+      int tz = CountTrailingZeroBits(c);
+      i += tz;
+      c >>= tz;
+    }
+  }
+
+  // Solves the banded equations by back substitution, writing the solution
+  // to data, which must hold GetBytes(num_slots, num_result_bits) bytes.
+  static void BackSubstitute(const uint64_t* coeffs, const uint32_t* results,
+                             uint32_t num_slots, int num_result_bits,
+                             char* data) {
+    // For each result column, the solution bits of the 64 slots from the
+    // current slot, that slot's in the lowest bit
+    std::vector<uint64_t> state(num_result_bits, 0);
+    for (uint32_t i = num_slots; i-- > 0;) {
+      uint64_t cr = coeffs[i];
+      uint32_t rr = results[i];
+      for (int j = 0; j < num_result_bits; ++j) {
+        uint64_t tmp = state[j] << 1;
+        // The solution bit of slot i follows from those of the later slots,
+        // and is zero (arbitrarily) for slots without an equation
+        tmp |= BitParity(tmp & cr) ^ ((rr >> j) & 1);
+        state[j] = tmp;
+      }
+      if (i % 64 == 0) {
+        char* block = data + size_t{i} / 64 * num_result_bits * 8;
+        for (int j = 0; j < num_result_bits; ++j) {
+          EncodeFixed64(block + j * 8, state[j]);
+        }
+      }
+    }
+  }
+
+  static inline bool HashMayMatch(uint64_t h, uint32_t seed,
+                                  uint32_t num_slots, int num_result_bits,
+                                  const char* data) {
+    uint32_t start;
+    uint64_t coeff;
+    uint32_t result;
+    GetSlotCoeffResult(h, seed, num_slots - kCoeffBits + 1, num_result_bits,
+                       &start, &coeff, &result);
+    const char* block = data + size_t{start / 64} * num_result_bits * 8;
+    uint32_t shift = start % 64;
+    for (int j = 0; j < num_result_bits; ++j) {
+      uint64_t val = DecodeFixed64(block + j * 8) >> shift;
+      if (shift != 0) {
+        val |= DecodeFixed64(block + (num_result_bits + j) * 8)
+               << (64 - shift);
+      }
+      if (static_cast<uint32_t>(BitParity(val & coeff)) !=
+          ((result >> j) & 1)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // The FP rate of a filter with the given number of result bits
+  static double EstimatedFpRate(int num_result_bits) {
+    return std::pow(0.5, num_result_bits);
+  }
+
+ private:
+  static inline uint32_t ResultMask(int num_result_bits) {
+    return num_result_bits >= 32 ? 0xFFFFFFFFU
+                                 : (uint32_t{1} << num_result_bits) - 1;
+  }
+
+  static inline int CountTrailingZeroBits(uint64_t v) {
+#ifdef _MSC_VER
+    unsigned long tz;
+    _BitScanForward64(&tz, v);
+    return static_cast<int>(tz);
+#else
+    return __builtin_ctzll(v);
+#endif
+  }
+
+  static inline int BitParity(uint64_t v) {
+#ifdef _MSC_VER
+    v ^= v >> 32;
+    v ^= v >> 16;
+    v ^= v >> 8;
+    v ^= v >> 4;
+    v ^= v >> 2;
+    v ^= v >> 1;
+    return static_cast<int>(v & 1);
+#else
+    return __builtin_parityll(v);
+#endif
+  }
+};
+
+}  // namespace rocksdb
@@ -116,7 +116,8 @@ class BackupEngineImpl : public BackupEngine {
                                restore_options);
   }
 
-  Status VerifyBackup(BackupID backup_id) override;
+  Status VerifyBackup(BackupID backup_id,
+                      bool verify_with_checksum = false) override;
 
   Status Initialize();
 
@@ -395,13 +396,19 @@ class BackupEngineImpl : public BackupEngine {
     std::string dst_path_tmp;
     std::string dst_path;
     std::string dst_relative;
+    // true if the checksum calculated whilst copying must match
+    // expected_checksum_value
+    bool verify_checksum;
+    uint32_t expected_checksum_value;
     BackupAfterCopyOrCreateWorkItem()
       : shared(false),
         needed_to_copy(false),
         backup_env(nullptr),
         dst_path_tmp(""),
         dst_path(""),
-        dst_relative("") {}
+        dst_relative(""),
+        verify_checksum(false),
+        expected_checksum_value(0) {}
 
     BackupAfterCopyOrCreateWorkItem(BackupAfterCopyOrCreateWorkItem&& o)
         ROCKSDB_NOEXCEPT {
@@ -417,6 +424,8 @@ class BackupEngineImpl : public BackupEngine {
       dst_path_tmp = std::move(o.dst_path_tmp);
       dst_path = std::move(o.dst_path);
       dst_relative = std::move(o.dst_relative);
+      verify_checksum = o.verify_checksum;
+      expected_checksum_value = o.expected_checksum_value;
       return *this;
     }
 
@@ -424,14 +433,18 @@ class BackupEngineImpl : public BackupEngine {
                                     bool _shared, bool _needed_to_copy,
                                     Env* _backup_env, std::string _dst_path_tmp,
                                     std::string _dst_path,
-                                    std::string _dst_relative)
+                                    std::string _dst_relative,
+                                    bool _verify_checksum = false,
+                                    uint32_t _expected_checksum_value = 0)
         : result(std::move(_result)),
           shared(_shared),
           needed_to_copy(_needed_to_copy),
           backup_env(_backup_env),
           dst_path_tmp(std::move(_dst_path_tmp)),
           dst_path(std::move(_dst_path)),
-          dst_relative(std::move(_dst_relative)) {}
+          dst_relative(std::move(_dst_relative)),
+          verify_checksum(_verify_checksum),
+          expected_checksum_value(_expected_checksum_value) {}
   };
 
   struct RestoreAfterCopyOrCreateWorkItem {
@@ -740,12 +753,24 @@ Status BackupEngineImpl::Initialize() {
       CopyOrCreateWorkItem work_item;
       while (files_to_copy_or_create_.read(work_item)) {
         CopyOrCreateResult result;
+        const uint64_t start_micros = backup_env_->NowMicros();
         result.status = CopyOrCreateFile(
             work_item.src_path, work_item.dst_path, work_item.contents,
             work_item.src_env, work_item.dst_env, work_item.src_env_options,
             work_item.sync, work_item.rate_limiter, &result.size,
             &result.checksum_value, work_item.size_limit,
             work_item.progress_callback);
+        if (result.status.ok()) {
+          const uint64_t copy_micros =
+              std::max(backup_env_->NowMicros() - start_micros,
+                       static_cast<uint64_t>(1));
+          // speed is in MB/s
+          ROCKS_LOG_INFO(options_.info_log,
+                         "Copied %s: %" PRIu64 " bytes in %" PRIu64
+                         " microseconds, %.3f MB/s",
+                         work_item.dst_path.c_str(), result.size, copy_micros,
+                         result.size / (1.048576 * copy_micros));
+        }
         work_item.result.set_value(std::move(result));
       }
     });
@@ -893,6 +918,14 @@ Status BackupEngineImpl::CreateNewBackupWithMetadata(
     item.result.wait();
     auto result = item.result.get();
     item_status = result.status;
+    if (item_status.ok() && item.verify_checksum &&
+        result.checksum_value != item.expected_checksum_value) {
+      // the file changed between calculating its checksum and copying it
+      item_status = Status::Corruption(
+          "Checksum mismatch whilst copying " + item.dst_relative + ": " +
+          ToString(item.expected_checksum_value) + " vs. " +
+          ToString(result.checksum_value));
+    }
     if (item_status.ok() && item.shared && item.needed_to_copy) {
       item_status = item.backup_env->RenameFile(item.dst_path_tmp,
                                                 item.dst_path);
@@ -1228,7 +1261,8 @@ Status BackupEngineImpl::RestoreDBFromBackup(
   return s;
 }
 
-Status BackupEngineImpl::VerifyBackup(BackupID backup_id) {
+Status BackupEngineImpl::VerifyBackup(BackupID backup_id,
+                                      bool verify_with_checksum) {
   assert(initialized_);
   auto corrupt_itr = corrupt_backups_.find(backup_id);
   if (corrupt_itr != corrupt_backups_.end()) {
@@ -1262,6 +1296,23 @@ Status BackupEngineImpl::VerifyBackup(BackupID backup_id) {
     if (file_info->size != curr_abs_path_to_size[abs_path]) {
       return Status::Corruption("File corrupted: " + abs_path);
     }
+    if (verify_with_checksum) {
+      // verify file checksum
+      uint32_t checksum_value = 0;
+      ROCKS_LOG_INFO(options_.info_log, "Verifying %s checksum...\n",
+                     abs_path.c_str());
+      Status s = CalculateChecksum(abs_path, backup_env_, EnvOptions(),
+                                   0 /* size_limit */, &checksum_value);
+      if (!s.ok()) {
+        return s;
+      }
+      if (file_info->checksum_value != checksum_value) {
+        return Status::Corruption("File corrupted: " + abs_path +
+                                  ", checksum mismatch: " +
+                                  ToString(file_info->checksum_value) +
+                                  " vs. " + ToString(checksum_value));
+      }
+    }
   }
   return Status::OK();
 }
@@ -1467,7 +1518,8 @@ Status BackupEngineImpl::AddBackupFileWorkItem(
         size_limit, progress_callback);
     BackupAfterCopyOrCreateWorkItem after_copy_or_create_work_item(
         copy_or_create_work_item.result.get_future(), shared, need_to_copy,
-        backup_env_, temp_dest_path, final_dest_path, dst_relative);
+        backup_env_, temp_dest_path, final_dest_path, dst_relative,
+        shared && shared_checksum /* verify_checksum */, checksum_value);
     files_to_copy_or_create_.write(std::move(copy_or_create_work_item));
     backup_items_to_finish.push_back(std::move(after_copy_or_create_work_item));
   } else {
@@ -1957,8 +2009,9 @@ class BackupEngineReadOnlyImpl : public BackupEngineReadOnly {
                                                      restore_options);
   }
 
-  Status VerifyBackup(BackupID backup_id) override {
-    return backup_engine_->VerifyBackup(backup_id);
+  Status VerifyBackup(BackupID backup_id,
+                      bool verify_with_checksum = false) override {
+    return backup_engine_->VerifyBackup(backup_id, verify_with_checksum);
   }
 
   Status Initialize() { return backup_engine_->Initialize(); }
@@ -728,6 +728,19 @@ TEST_P(BackupableDBTestWithParam, VerifyBackup) {
 
   // ---------- case 4. - invalid backup -----------
   ASSERT_TRUE(backup_engine_->VerifyBackup(6).IsNotFound());
+
+  // ---------- case 5. - corrupt a file, keeping its size -----------
+  const std::string current_path = backupdir_ + "/private/3/CURRENT";
+  std::string file_contents;
+  ASSERT_OK(
+      ReadFileToString(file_manager_.get(), current_path, &file_contents));
+  file_contents[0] ^= 0x1;
+  ASSERT_OK(file_manager_->DeleteFile(current_path));
+  ASSERT_OK(file_manager_->WriteToFile(current_path, file_contents));
+  ASSERT_OK(backup_engine_->VerifyBackup(3));
+  ASSERT_TRUE(backup_engine_->VerifyBackup(3, true /* verify_with_checksum */)
+                  .IsCorruption());
+  ASSERT_OK(backup_engine_->VerifyBackup(4, true /* verify_with_checksum */));
   CloseDBAndBackupEngine();
 }
 
@@ -43,6 +43,20 @@ Status LoadOptionsFromFile(const std::string& file_name, Env* env,
   return Status::OK();
 }
 
+Status SaveOptionsToFile(const std::string& options_file_name, Env* env,
+                         const DBOptions& db_options,
+                         const std::vector<ColumnFamilyDescriptor>& cf_descs) {
+  std::vector<std::string> cf_names;
+  std::vector<ColumnFamilyOptions> cf_opts;
+  for (const auto& cf_desc : cf_descs) {
+    cf_names.push_back(cf_desc.name);
+    cf_opts.push_back(cf_desc.options);
+  }
+  LegacyFileSystemWrapper fs(env);
+  return PersistRocksDBOptions(db_options, cf_names, cf_opts,
+                               options_file_name, &fs);
+}
+
 Status GetLatestOptionsFileName(const std::string& dbpath,
                                 Env* env, std::string* options_file_name) {
   Status s;
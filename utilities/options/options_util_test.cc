@@ -93,6 +93,39 @@ TEST_F(OptionsUtilTest, SaveAndLoad) {
   }
 }
 
+TEST_F(OptionsUtilTest, SaveOptionsToFile) {
+  DBOptions db_opt;
+  test::RandomInitDBOptions(&db_opt, &rnd_);
+  std::vector<ColumnFamilyDescriptor> cf_descs;
+  cf_descs.emplace_back();
+  cf_descs.back().name = kDefaultColumnFamilyName;
+  test::RandomInitCFOptions(&cf_descs.back().options, db_opt, &rnd_);
+  cf_descs.emplace_back();
+  cf_descs.back().name = "pikachu";
+  test::RandomInitCFOptions(&cf_descs.back().options, db_opt, &rnd_);
+
+  const std::string kFileName = "OPTIONS-654321";
+  ASSERT_OK(SaveOptionsToFile(kFileName, env_.get(), db_opt, cf_descs));
+
+  DBOptions loaded_db_opt;
+  std::vector<ColumnFamilyDescriptor> loaded_cf_descs;
+  ASSERT_OK(LoadOptionsFromFile(kFileName, env_.get(), &loaded_db_opt,
+                                &loaded_cf_descs));
+  ASSERT_OK(RocksDBOptionsParser::VerifyDBOptions(db_opt, loaded_db_opt));
+  ASSERT_EQ(cf_descs.size(), loaded_cf_descs.size());
+  for (size_t i = 0; i < cf_descs.size(); ++i) {
+    ASSERT_EQ(cf_descs[i].name, loaded_cf_descs[i].name);
+    ASSERT_OK(RocksDBOptionsParser::VerifyCFOptions(
+        cf_descs[i].options, loaded_cf_descs[i].options));
+  }
+
+  for (auto& cf_desc : cf_descs) {
+    if (cf_desc.options.compaction_filter) {
+      delete cf_desc.options.compaction_filter;
+    }
+  }
+}
+
 TEST_F(OptionsUtilTest, SaveAndLoadWithCacheCheck) {
   // creating db
   DBOptions db_opt;
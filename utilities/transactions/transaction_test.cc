@@ -148,6 +148,14 @@ TEST_P(TransactionTest, SuccessTest) {
   delete txn;
 }
 
+TEST_P(TransactionTest, CloseBeforeDelete) {
+  ASSERT_OK(db->Put(WriteOptions(), "foo", "bar"));
+  // The DB may be closed before it is deleted, as by RocksJava
+  ASSERT_OK(db->Close());
+  delete db;
+  db = nullptr;
+}
+
 // The test clarifies the contract of do_validate and assume_tracked
 // in GetForUpdate and Put/Merge/Delete
 TEST_P(TransactionTest, AssumeExclusiveTracked) {